@@ -0,0 +1,109 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class BenchmarkData {
+
+  private static final String[] GROUPS = {"alpha", "beta", "delta", "gamma"};
+  private List<BenchmarkData> children;
+  private Integer count;
+  private String group;
+  private String id;
+  private String name;
+  private List<String> tags;
+  private Double value;
+
+  public static List<BenchmarkData> createList(int size, long seed) {
+    Random random = new Random(seed);
+    List<BenchmarkData> list = new ArrayList<>(size);
+    for (int pos = 0; pos < size; pos++) {
+      list.add(create(random, pos, 2));
+    }
+    return list;
+  }
+
+  private static BenchmarkData create(Random random, int pos, int depth) {
+    BenchmarkData data = new BenchmarkData()
+      .setId("id" + pos)
+      .setName("name" + random.nextInt(500))
+      .setGroup(GROUPS[random.nextInt(GROUPS.length)])
+      .setCount(random.nextInt(1000))
+      .setValue(random.nextDouble() * 1000d)
+      .setTags(Arrays.asList("tag" + random.nextInt(10), "tag" + random.nextInt(10)));
+    if (depth > 0) {
+      List<BenchmarkData> children = new ArrayList<>(3);
+      for (int child = 0; child < 3; child++) {
+        children.add(create(random, child, depth - 1));
+      }
+      data.setChildren(children);
+    }
+    return data;
+  }
+
+  public List<BenchmarkData> getChildren() {
+    return children;
+  }
+
+  public BenchmarkData setChildren(List<BenchmarkData> children) {
+    this.children = children;
+    return this;
+  }
+
+  public Integer getCount() {
+    return count;
+  }
+
+  public BenchmarkData setCount(Integer count) {
+    this.count = count;
+    return this;
+  }
+
+  public String getGroup() {
+    return group;
+  }
+
+  public BenchmarkData setGroup(String group) {
+    this.group = group;
+    return this;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public BenchmarkData setId(String id) {
+    this.id = id;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public BenchmarkData setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  public List<String> getTags() {
+    return tags;
+  }
+
+  public BenchmarkData setTags(List<String> tags) {
+    this.tags = tags;
+    return this;
+  }
+
+  public Double getValue() {
+    return value;
+  }
+
+  public BenchmarkData setValue(Double value) {
+    this.value = value;
+    return this;
+  }
+
+}
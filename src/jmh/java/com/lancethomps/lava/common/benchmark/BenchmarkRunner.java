@@ -0,0 +1,37 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+
+  public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdOptions = new CommandLineOptions(args);
+    OptionsBuilder builder = new OptionsBuilder();
+    builder.parent(cmdOptions);
+    if (!cmdOptions.getResultFormat().hasValue()) {
+      builder.resultFormat(ResultFormatType.JSON);
+    }
+    if (!cmdOptions.getResult().hasValue()) {
+      String resultFile = System.getProperty("lava.benchmark.resultFile", DEFAULT_RESULT_FILE);
+      File parent = new File(resultFile).getAbsoluteFile().getParentFile();
+      if ((parent != null) && !parent.isDirectory()) {
+        parent.mkdirs();
+      }
+      builder.result(resultFile);
+    }
+    if (cmdOptions.getIncludes().isEmpty()) {
+      builder.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+    }
+    Options options = builder.build();
+    new Runner(options).run();
+  }
+
+}
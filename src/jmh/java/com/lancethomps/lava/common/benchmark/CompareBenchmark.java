@@ -0,0 +1,66 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.compare.Compare;
+import com.lancethomps.lava.common.compare.CompareConfig;
+import com.lancethomps.lava.common.compare.CompareResult;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class CompareBenchmark {
+
+  private CompareConfig config;
+  private CompareConfig treeConfig;
+  private Map<String, List<BenchmarkData>> original;
+  private Map<String, List<BenchmarkData>> revised;
+  @Param({"10", "1000"})
+  private int size;
+
+  @Setup
+  public void setup() {
+    List<BenchmarkData> revisedList = BenchmarkData.createList(size, 42L);
+    for (int pos = 0; pos < revisedList.size(); pos += 10) {
+      revisedList.get(pos).setValue(revisedList.get(pos).getValue() + 1d);
+    }
+    original = Collections.singletonMap("data", BenchmarkData.createList(size, 42L));
+    revised = Collections.singletonMap("data", revisedList);
+    config = new CompareConfig().setDeep(true);
+    treeConfig = new CompareConfig().setDeep(true).setDirectCompare(false);
+  }
+
+  @Benchmark
+  public CompareResult compare() {
+    return Compare.compare(original, revised, config);
+  }
+
+  @Benchmark
+  public CompareResult compareTree() {
+    return Compare.compare(original, revised, treeConfig);
+  }
+
+  @Benchmark
+  public boolean hasDifferences() {
+    return Compare.hasDifferences(original, revised, config);
+  }
+
+}
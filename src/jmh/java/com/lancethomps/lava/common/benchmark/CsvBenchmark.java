@@ -0,0 +1,66 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.file.FileParser;
+import com.lancethomps.lava.common.file.FileParserOptions;
+import com.lancethomps.lava.common.file.FileParsingException;
+import com.lancethomps.lava.common.ser.OutputParams;
+import com.lancethomps.lava.common.ser.Serializer;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class CsvBenchmark {
+
+  private String csv;
+  private List<BenchmarkData> data;
+  private OutputParams params;
+  @Param({"100", "10000"})
+  private int size;
+
+  @Setup
+  public void setup() {
+    data = BenchmarkData.createList(size, 42L);
+    data.forEach(row -> row.setChildren(null));
+    params = new OutputParams();
+    csv = Serializer.toCsv(data, params);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> parseCsv() throws FileParsingException {
+    return new FileParser<Map<String, Object>>(csv, null, new FileParserOptions()).parseFile().getResultList();
+  }
+
+  @Benchmark
+  public String toCsv() {
+    return Serializer.toCsv(data, params);
+  }
+
+  @Benchmark
+  public int writeCsvStreaming() throws IOException {
+    StringWriter writer = new StringWriter();
+    Serializer.writeCsv(data.iterator(), params, writer);
+    return writer.getBuffer().length();
+  }
+
+}
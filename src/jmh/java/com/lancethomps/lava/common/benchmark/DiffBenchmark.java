@@ -0,0 +1,76 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.diff.DiffMatchPatch;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class DiffBenchmark {
+
+  private DiffMatchPatch dmp;
+  @Param({"100", "2000"})
+  private int lines;
+  private String revised;
+  private String text;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42L);
+    StringBuilder original = new StringBuilder();
+    StringBuilder changed = new StringBuilder();
+    for (int pos = 0; pos < lines; pos++) {
+      String line = "line " + pos + " value " + random.nextInt(1000) + '\n';
+      original.append(line);
+      changed.append(random.nextInt(20) == 0 ? "changed " + line : line);
+    }
+    text = original.toString();
+    revised = changed.toString();
+    dmp = new DiffMatchPatch();
+    dmp.setDiffTimeout(0f);
+  }
+
+  @Benchmark
+  public List<?> diffMain() {
+    return dmp.diffMain(text, revised, false);
+  }
+
+  @Benchmark
+  public List<?> diffMainCheckLines() {
+    return dmp.diffMain(text, revised, true);
+  }
+
+  @Benchmark
+  public List<?> diffMainLines() {
+    return dmp.diffMainLines(text, revised);
+  }
+
+  @Benchmark
+  public List<?> diffMainLinesPatience() {
+    dmp.setDiffLinePatience(true);
+    try {
+      return dmp.diffMainLines(text, revised);
+    } finally {
+      dmp.setDiffLinePatience(false);
+    }
+  }
+
+}
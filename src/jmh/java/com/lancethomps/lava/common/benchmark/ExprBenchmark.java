@@ -0,0 +1,46 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.expr.ExprFactory;
+import com.lancethomps.lava.common.expr.ExprParser;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class ExprBenchmark {
+
+  private Object compiled;
+  @Param({"name + '-' + group", "value * 2 + count"})
+  private String expression;
+  @Param({"OGNL", "SPEL"})
+  private ExprParser parser;
+  private BenchmarkData root;
+
+  @Setup
+  public void setup() {
+    root = BenchmarkData.createList(1, 42L).get(0);
+    compiled = ExprFactory.compileExpr(parser, true, expression);
+  }
+
+  @Benchmark
+  public Object eval() {
+    return ExprFactory.eval(root, compiled, false);
+  }
+
+}
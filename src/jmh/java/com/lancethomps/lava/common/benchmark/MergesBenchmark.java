@@ -0,0 +1,51 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.merge.MergeConfig;
+import com.lancethomps.lava.common.merge.Merges;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class MergesBenchmark {
+
+  private MergeConfig beanConfig;
+  private BenchmarkData src;
+  private BenchmarkData target;
+  private MergeConfig treeConfig;
+
+  @Setup
+  public void setup() {
+    src = BenchmarkData.createList(1, 1L).get(0);
+    target = BenchmarkData.createList(1, 2L).get(0);
+    beanConfig = new MergeConfig().setCreateNewBean(true).setMergeArrayElementsMatchField("id").disableModifications();
+    treeConfig = new MergeConfig().setCreateNewBean(true).setMergeArrayElementsMatchField("id").setTreeMerge(true).disableModifications();
+  }
+
+  @Benchmark
+  public BenchmarkData deepMergeBean() {
+    return Merges.deepMerge(src, target, beanConfig);
+  }
+
+  @Benchmark
+  public BenchmarkData deepMergeTree() {
+    return Merges.deepMerge(src, target, treeConfig);
+  }
+
+}
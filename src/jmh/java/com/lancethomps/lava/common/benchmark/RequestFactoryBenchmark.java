@@ -0,0 +1,47 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.ser.OutputParams;
+import com.lancethomps.lava.common.web.requests.parsers.RequestFactory;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class RequestFactoryBenchmark {
+
+  private Map<String, String[]> params;
+
+  @Setup
+  public void setup() {
+    params = new HashMap<>();
+    params.put("callback", new String[]{"cb"});
+    params.put("csvAlwaysQuote", new String[]{"true"});
+    params.put("csvDelimiter", new String[]{"|"});
+    params.put("csvHeaders", new String[]{"id,name,group,value"});
+    params.put("csvSort", new String[]{"name"});
+  }
+
+  @Benchmark
+  public OutputParams createBeanFromRequest() {
+    return RequestFactory.createBeanFromRequest(OutputParams.class, params, true, false);
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.ser.Serializer;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class SerializerBenchmark {
+
+  private List<BenchmarkData> data;
+  private String json;
+  @Param({"10", "1000"})
+  private int size;
+
+  @Setup
+  public void setup() {
+    data = BenchmarkData.createList(size, 42L);
+    json = Serializer.toJson(data);
+  }
+
+  @Benchmark
+  public BenchmarkData[] fromJson() {
+    return Serializer.fromJson(json, BenchmarkData[].class);
+  }
+
+  @Benchmark
+  public String toJson() {
+    return Serializer.toJson(data);
+  }
+
+}
@@ -0,0 +1,49 @@
+package com.lancethomps.lava.common.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.lancethomps.lava.common.sorting.SortClause;
+import com.lancethomps.lava.common.sorting.SortOrder;
+import com.lancethomps.lava.common.sorting.Sorting;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class SortingBenchmark {
+
+  private List<BenchmarkData> data;
+  @Param({"100", "100000"})
+  private int size;
+  private List<SortClause> sorts;
+
+  @Setup
+  public void setup() {
+    data = BenchmarkData.createList(size, 42L);
+    data.forEach(row -> row.setChildren(null));
+    sorts = Arrays.asList(new SortClause("group", SortOrder.asc), new SortClause("value", SortOrder.desc), new SortClause("name", null));
+  }
+
+  @Benchmark
+  public List<BenchmarkData> sort() {
+    return Sorting.sort(new ArrayList<>(data), sorts);
+  }
+
+}
@@ -10,6 +10,7 @@ import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
@@ -21,11 +22,14 @@ import org.apache.logging.log4j.Logger;
 
 import com.lancethomps.lava.common.logging.Logs;
 
+import net.jpountz.lz4.LZ4Compressor;
 import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4FastDecompressor;
 
 public class CompressionUtil {
 
+  private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+
   private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
 
   private static final Logger LOG = LogManager.getLogger(CompressionUtil.class);
@@ -38,6 +42,13 @@ public class CompressionUtil {
     return newStringUtf8(bytesToBase64(bytes));
   }
 
+  public static byte[] compress(byte[] input) {
+    byte[] output = new byte[COMPRESSOR.maxCompressedLength(input.length) + 4];
+    ByteBuffer.wrap(output, 0, 4).putInt(input.length);
+    int compressedLength = COMPRESSOR.compress(input, 0, input.length, output, 4, output.length - 4);
+    return Arrays.copyOf(output, compressedLength + 4);
+  }
+
   public static byte[] compressGzip(String data) throws IOException {
     byte[] uncompressedData = data.getBytes(StandardCharsets.UTF_8);
     byte[] result = new byte[]{};
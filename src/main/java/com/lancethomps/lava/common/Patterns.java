@@ -125,6 +125,77 @@ public class Patterns {
     return findMatchesAndExtract(regex, input, null, null, replacement);
   }
 
+  @Nullable
+  public static String findRequiredLiteral(@Nonnull String regex) {
+    String longest = null;
+    StringBuilder current = new StringBuilder();
+    int length = regex.length();
+    int pos = 0;
+    while (pos < length) {
+      char ch = regex.charAt(pos);
+      boolean literal = false;
+      int end;
+      switch (ch) {
+        case '|':
+        case ')':
+          return null;
+        case '(':
+          if (((pos + 2) < length) && (regex.charAt(pos + 1) == '?') && (":=!<>".indexOf(regex.charAt(pos + 2)) == -1)) {
+            return null;
+          }
+          end = skipGroup(regex, pos);
+          break;
+        case '[':
+          end = skipCharClass(regex, pos);
+          break;
+        case '.':
+        case '^':
+        case '$':
+          end = pos + 1;
+          break;
+        case '\\':
+          if ((pos + 1) >= length) {
+            return null;
+          }
+          ch = regex.charAt(pos + 1);
+          if (Character.isLetterOrDigit(ch)) {
+            end = skipEscape(regex, pos + 1);
+          } else {
+            literal = true;
+            end = pos + 2;
+          }
+          break;
+        default:
+          literal = true;
+          end = pos + 1;
+          break;
+      }
+      if (end < 0) {
+        return null;
+      }
+      char quantifier = end < length ? regex.charAt(end) : 0;
+      pos = end;
+      if ((quantifier == '*') || (quantifier == '?') || (quantifier == '+')) {
+        pos++;
+      } else if (quantifier == '{') {
+        pos = regex.indexOf('}', end) + 1;
+        if (pos == 0) {
+          return null;
+        }
+      }
+      if ((pos > end) && (pos < length) && ((regex.charAt(pos) == '?') || (regex.charAt(pos) == '+'))) {
+        pos++;
+      }
+      if (literal && ((pos == end) || (quantifier == '+'))) {
+        current.append(ch);
+      }
+      if (!literal || (pos > end)) {
+        longest = longestLiteral(longest, current);
+      }
+    }
+    return longestLiteral(longest, current);
+  }
+
   @Nonnull
   public static Set<String> findSimpleAcronyms(int minLength, @Nonnull String searchString) {
     final Matcher acronymMatcher =
@@ -236,4 +307,100 @@ public class Patterns {
     return matches;
   }
 
+  private static String longestLiteral(String longest, StringBuilder current) {
+    String result = longest;
+    if ((current.length() > 0) && ((longest == null) || (current.length() > longest.length()))) {
+      result = current.toString();
+    }
+    current.setLength(0);
+    return result;
+  }
+
+  private static int skipCharClass(String regex, int start) {
+    int depth = 0;
+    int length = regex.length();
+    int pos = start;
+    while (pos < length) {
+      char ch = regex.charAt(pos);
+      if (ch == '\\') {
+        pos += 2;
+        continue;
+      }
+      if (ch == '[') {
+        depth++;
+        if (((pos + 1) < length) && (regex.charAt(pos + 1) == '^')) {
+          pos++;
+        }
+        if (((pos + 1) < length) && (regex.charAt(pos + 1) == ']')) {
+          pos++;
+        }
+      } else if ((ch == ']') && (--depth == 0)) {
+        return pos + 1;
+      }
+      pos++;
+    }
+    return -1;
+  }
+
+  private static int skipEscape(String regex, int pos) {
+    char ch = regex.charAt(pos);
+    int next = pos + 1;
+    int length = regex.length();
+    switch (ch) {
+      case 'Q':
+        return -1;
+      case 'x':
+        return ((next < length) && (regex.charAt(next) == '{')) ? skipTo(regex, next, '}') : Math.min(length, next + 2);
+      case 'u':
+        return Math.min(length, next + 4);
+      case 'c':
+        return Math.min(length, next + 1);
+      case 'k':
+        return skipTo(regex, next, '>');
+      case 'p':
+      case 'P':
+      case 'N':
+        return ((next < length) && (regex.charAt(next) == '{')) ? skipTo(regex, next, '}') : Math.min(length, next + 1);
+      default:
+        if (Character.isDigit(ch)) {
+          while ((next < length) && Character.isDigit(regex.charAt(next))) {
+            next++;
+          }
+        }
+        return next;
+    }
+  }
+
+  private static int skipGroup(String regex, int start) {
+    int depth = 0;
+    int length = regex.length();
+    int pos = start;
+    while (pos < length) {
+      char ch = regex.charAt(pos);
+      if (ch == '\\') {
+        pos += 2;
+        continue;
+      }
+      if (ch == '[') {
+        pos = skipCharClass(regex, pos);
+        if (pos < 0) {
+          return -1;
+        }
+        continue;
+      }
+      if (ch == '(') {
+        depth++;
+      } else if ((ch == ')') && (--depth == 0)) {
+        return pos + 1;
+      }
+      pos++;
+    }
+    return -1;
+  }
+
+  private static int skipTo(String regex, int start, char close) {
+    int pos = regex.indexOf(close, start);
+    return pos < 0 ? -1 : pos + 1;
+  }
+
 }
@@ -4,6 +4,10 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
@@ -25,6 +29,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -60,6 +66,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.lancethomps.lava.common.collections.FastHashMap;
+import com.lancethomps.lava.common.lambda.ThrowingSupplier;
 import com.lancethomps.lava.common.logging.Logs;
 import com.lancethomps.lava.common.ser.Serializer;
 import com.lancethomps.lava.common.sorting.SortClause;
@@ -73,6 +80,14 @@ public class Reflections {
 
   private static final Map<Pair<Class<?>, Class<?>>, Map<String, Method>> ANNOTATED_CACHE = new FastHashMap<>(true);
 
+  private static final ClassValue<Map<AccessibleObject, Object>> ACCESSOR_CACHE = new ClassValue<Map<AccessibleObject, Object>>() {
+
+    @Override
+    protected Map<AccessibleObject, Object> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   private static final Map<String, AccessibleObject> INFO_CACHE = new FastHashMap<>(true);
 
   private static final Logger LOG = LogManager.getLogger(Reflections.class);
@@ -105,6 +120,11 @@ public class Reflections {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  public static Function<Object, Object> createFieldGetterFunction(@Nonnull Field field) {
+    return (Function<Object, Object>) ACCESSOR_CACHE.get(field.getDeclaringClass()).computeIfAbsent(field, key -> generateFieldGetterFunction(field));
+  }
+
   public static org.reflections.Reflections createFullReflectionsInstance(String... packages) {
     ConfigurationBuilder builder = new ConfigurationBuilder()
       .addScanners(
@@ -128,6 +148,16 @@ public class Reflections {
     return new org.reflections.Reflections(builder);
   }
 
+  @SuppressWarnings("unchecked")
+  public static Function<Object, Object> createGetterFunction(@Nonnull Method getter) {
+    return (Function<Object, Object>) ACCESSOR_CACHE.get(getter.getDeclaringClass()).computeIfAbsent(getter, key -> generateGetterFunction(getter));
+  }
+
+  @SuppressWarnings("unchecked")
+  public static BiConsumer<Object, Object> createSetterFunction(@Nonnull Method setter) {
+    return (BiConsumer<Object, Object>) ACCESSOR_CACHE.get(setter.getDeclaringClass()).computeIfAbsent(setter, key -> generateSetterFunction(setter));
+  }
+
   public static String createToStringWithFields(Class<?> type, Set<String> skipFields, List<String> fieldsOrder) {
     List<String> formatStrings = new ArrayList<>();
     List<String> formatArgs = new ArrayList<>();
@@ -645,4 +675,108 @@ public class Reflections {
     return str;
   }
 
+  private static boolean canGenerateLambda(Method method) {
+    if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+      return false;
+    }
+    Class<?> type = method.getDeclaringClass();
+    for (Class<?> check = type; check != null; check = check.getEnclosingClass()) {
+      if (!Modifier.isPublic(check.getModifiers())) {
+        return false;
+      }
+    }
+    try {
+      return Class.forName(type.getName(), false, Reflections.class.getClassLoader()) == type;
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
+  private static Function<Object, Object> generateFieldGetterFunction(Field field) {
+    try {
+      if (!field.isAccessible()) {
+        field.setAccessible(true);
+      }
+      MethodHandle handle = MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+      return obj -> invokeHandle(handle, obj);
+    } catch (Throwable e) {
+      Logs.logTrace(LOG, "Could not create method handle for field [%s], falling back to reflection: %s", field, e);
+      return obj -> ((ThrowingSupplier<Object>) () -> field.get(obj)).getWithSneakyThrow();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Function<Object, Object> generateGetterFunction(Method getter) {
+    if ((getter.getParameterCount() != 0) || (getter.getReturnType() == void.class)) {
+      return obj -> invokeSafely(getter, obj);
+    }
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      if (canGenerateLambda(getter)) {
+        MethodHandle handle = lookup.unreflect(getter);
+        return (Function<Object, Object>) LambdaMetafactory.metafactory(
+          lookup,
+          "apply",
+          MethodType.methodType(Function.class),
+          MethodType.methodType(Object.class, Object.class),
+          handle,
+          handle.type().wrap()
+        ).getTarget().invoke();
+      }
+      if (!getter.isAccessible()) {
+        getter.setAccessible(true);
+      }
+      MethodHandle handle = lookup.unreflect(getter).asType(MethodType.methodType(Object.class, Object.class));
+      return obj -> invokeHandle(handle, obj);
+    } catch (Throwable e) {
+      Logs.logTrace(LOG, "Could not generate getter function for method [%s], falling back to reflection: %s", getter, e);
+      return obj -> invokeSafely(getter, obj);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BiConsumer<Object, Object> generateSetterFunction(Method setter) {
+    if (setter.getParameterCount() != 1) {
+      return (obj, val) -> invokeSafely(setter, obj, val);
+    }
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      if (canGenerateLambda(setter)) {
+        MethodHandle handle = lookup.unreflect(setter);
+        return (BiConsumer<Object, Object>) LambdaMetafactory.metafactory(
+          lookup,
+          "accept",
+          MethodType.methodType(BiConsumer.class),
+          MethodType.methodType(void.class, Object.class, Object.class),
+          handle,
+          handle.type().wrap().changeReturnType(void.class)
+        ).getTarget().invoke();
+      }
+      if (!setter.isAccessible()) {
+        setter.setAccessible(true);
+      }
+      MethodHandle handle = lookup.unreflect(setter).asType(MethodType.methodType(void.class, Object.class, Object.class));
+      return (obj, val) -> invokeHandle(handle, obj, val);
+    } catch (Throwable e) {
+      Logs.logTrace(LOG, "Could not generate setter function for method [%s], falling back to reflection: %s", setter, e);
+      return (obj, val) -> invokeSafely(setter, obj, val);
+    }
+  }
+
+  private static Object invokeHandle(MethodHandle handle, Object obj) {
+    try {
+      return handle.invokeExact(obj);
+    } catch (Throwable e) {
+      return Exceptions.sneakyThrow(e);
+    }
+  }
+
+  private static void invokeHandle(MethodHandle handle, Object obj, Object value) {
+    try {
+      handle.invokeExact(obj, value);
+    } catch (Throwable e) {
+      Exceptions.sneakyThrow(e);
+    }
+  }
+
 }
@@ -10,6 +10,14 @@ public interface Cache<K, V> {
 
   String getName();
 
+  default CacheStats getStats() {
+    return null;
+  }
+
+  default CacheStatsRecorder getStatsRecorder() {
+    return null;
+  }
+
   void put(K key, V value) throws CacheException;
 
   void put(K key, V value, int timeToLive) throws CacheException;
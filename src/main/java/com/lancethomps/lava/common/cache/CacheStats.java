@@ -0,0 +1,87 @@
+package com.lancethomps.lava.common.cache;
+
+import com.lancethomps.lava.common.ser.Serializer;
+
+public class CacheStats {
+
+  private final long estimatedSize;
+
+  private final long evictionCount;
+
+  private final long hitCount;
+
+  private final long loadFailureCount;
+
+  private final long loadSuccessCount;
+
+  private final long missCount;
+
+  private final long totalLoadTime;
+
+  public CacheStats(
+    long hitCount,
+    long missCount,
+    long evictionCount,
+    long loadSuccessCount,
+    long loadFailureCount,
+    long totalLoadTime,
+    long estimatedSize
+  ) {
+    super();
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.loadSuccessCount = loadSuccessCount;
+    this.loadFailureCount = loadFailureCount;
+    this.totalLoadTime = totalLoadTime;
+    this.estimatedSize = estimatedSize;
+  }
+
+  public double getAverageLoadPenalty() {
+    long loads = loadSuccessCount + loadFailureCount;
+    return loads == 0 ? 0d : ((double) totalLoadTime / (double) loads);
+  }
+
+  public long getEstimatedSize() {
+    return estimatedSize;
+  }
+
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  public double getHitRatio() {
+    long requests = getRequestCount();
+    return requests == 0 ? 0d : ((double) hitCount / (double) requests);
+  }
+
+  public long getLoadFailureCount() {
+    return loadFailureCount;
+  }
+
+  public long getLoadSuccessCount() {
+    return loadSuccessCount;
+  }
+
+  public long getMissCount() {
+    return missCount;
+  }
+
+  public long getRequestCount() {
+    return hitCount + missCount;
+  }
+
+  public long getTotalLoadTime() {
+    return totalLoadTime;
+  }
+
+  @Override
+  public String toString() {
+    return Serializer.toLogString(this);
+  }
+
+}
@@ -0,0 +1,118 @@
+package com.lancethomps.lava.common.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.dropwizard.metrics5.ExponentiallyDecayingReservoir;
+import io.dropwizard.metrics5.Histogram;
+import io.dropwizard.metrics5.Snapshot;
+import io.dropwizard.metrics5.UniformReservoir;
+
+public class CacheStatsRecorder {
+
+  private final LongAdder evictionCount = new LongAdder();
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder loadFailureCount = new LongAdder();
+
+  private final LongAdder loadSuccessCount = new LongAdder();
+
+  private final LoadTimeHistogram loadTimes = new LoadTimeHistogram();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private final LongAdder totalLoadTime = new LongAdder();
+
+  public Histogram getLoadTimes() {
+    return loadTimes;
+  }
+
+  public void recordEviction() {
+    evictionCount.increment();
+  }
+
+  public void recordHit() {
+    hitCount.increment();
+  }
+
+  public void recordLoadFailure(long loadTimeNanos) {
+    loadFailureCount.increment();
+    recordLoadTime(loadTimeNanos);
+  }
+
+  public void recordLoadSuccess(long loadTimeNanos) {
+    loadSuccessCount.increment();
+    recordLoadTime(loadTimeNanos);
+  }
+
+  public void recordMiss() {
+    missCount.increment();
+  }
+
+  public void reset() {
+    evictionCount.reset();
+    hitCount.reset();
+    loadFailureCount.reset();
+    loadSuccessCount.reset();
+    missCount.reset();
+    totalLoadTime.reset();
+    loadTimes.reset();
+  }
+
+  public CacheStats snapshot(long estimatedSize) {
+    return new CacheStats(
+      hitCount.sum(),
+      missCount.sum(),
+      evictionCount.sum(),
+      loadSuccessCount.sum(),
+      loadFailureCount.sum(),
+      totalLoadTime.sum(),
+      estimatedSize
+    );
+  }
+
+  private void recordLoadTime(long loadTimeNanos) {
+    totalLoadTime.add(loadTimeNanos);
+    loadTimes.update(loadTimeNanos);
+  }
+
+  private static final class LoadTimeHistogram extends Histogram {
+
+    private volatile Histogram delegate = new Histogram(new ExponentiallyDecayingReservoir());
+
+    LoadTimeHistogram() {
+      super(new UniformReservoir(1));
+    }
+
+    @Override
+    public long getCount() {
+      return delegate.getCount();
+    }
+
+    @Override
+    public Snapshot getSnapshot() {
+      return delegate.getSnapshot();
+    }
+
+    @Override
+    public long getSum() {
+      return delegate.getSum();
+    }
+
+    @Override
+    public void update(int value) {
+      delegate.update(value);
+    }
+
+    @Override
+    public void update(long value) {
+      delegate.update(value);
+    }
+
+    void reset() {
+      delegate = new Histogram(new ExponentiallyDecayingReservoir());
+    }
+
+  }
+
+}
@@ -0,0 +1,395 @@
+package com.lancethomps.lava.common.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.lancethomps.lava.common.Exceptions;
+import com.lancethomps.lava.common.logging.Logs;
+
+public class ConcurrentCache<K, V> implements Cache<K, V> {
+
+  public static final int DEAD_NODE_SWEEP_MIN = 64;
+  private static final Logger LOG = LogManager.getLogger(ConcurrentCache.class);
+  private final Consumer<V> beforeRemoveConsumer;
+  private final ConcurrentLinkedQueue<Node<K, V>> clock = new ConcurrentLinkedQueue<>();
+  private final ConcurrentHashMap<K, Node<K, V>> data;
+  private final AtomicInteger deadNodes = new AtomicInteger();
+  private final long defaultTimeToLiveNanos;
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final ConcurrentHashMap<K, Loader<V>> loaders = new ConcurrentHashMap<>();
+  private final long maximumWeight;
+  private final String name;
+  private final CacheStatsRecorder stats = new CacheStatsRecorder();
+  private final ToLongBiFunction<? super K, ? super V> weigher;
+  private final AtomicLong weightedSize = new AtomicLong();
+
+  public ConcurrentCache(int capacity) {
+    this(capacity, null);
+  }
+
+  public ConcurrentCache(int capacity, @Nullable Consumer<V> beforeRemoveConsumer) {
+    this(null, capacity, null, 0, beforeRemoveConsumer);
+  }
+
+  public ConcurrentCache(
+    @Nullable String name,
+    long maximumWeight,
+    @Nullable ToLongBiFunction<? super K, ? super V> weigher,
+    int defaultTimeToLive,
+    @Nullable Consumer<V> beforeRemoveConsumer
+  ) {
+    if (maximumWeight <= 0) {
+      throw new IllegalArgumentException("maximumWeight must be greater than 0");
+    }
+    this.name = name == null ? "" : name;
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+    this.defaultTimeToLiveNanos = defaultTimeToLive > 0 ? TimeUnit.SECONDS.toNanos(defaultTimeToLive) : 0L;
+    this.beforeRemoveConsumer = beforeRemoveConsumer;
+    this.data = new ConcurrentHashMap<>(weigher == null ? (int) Math.min(maximumWeight, 1 << 16) : 16);
+  }
+
+  public void cleanUp() {
+    long now = System.nanoTime();
+    data.forEach((key, node) -> {
+      if (node.isExpired(now)) {
+        removeNode(node, true);
+      }
+    });
+    sweepDeadNodes(true);
+  }
+
+  @Override
+  public void clear() throws CacheException {
+    data.forEach((key, node) -> removeNode(node, false));
+    sweepDeadNodes(true);
+  }
+
+  public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+    V value = get(key);
+    if (value != null) {
+      return value;
+    }
+    Loader<V> loader = new Loader<>();
+    Loader<V> existing = loaders.putIfAbsent(key, loader);
+    if (existing != null) {
+      return existing.await();
+    }
+    long start = System.nanoTime();
+    try {
+      value = getIfPresent(key);
+      if (value == null) {
+        value = mappingFunction.apply(key);
+        if (value != null) {
+          putNode(new Node<>(key, value, weigh(key, value), expiresAt(defaultTimeToLiveNanos)));
+        }
+        stats.recordLoadSuccess(System.nanoTime() - start);
+      }
+      loader.complete(value);
+      return value;
+    } catch (Throwable e) {
+      stats.recordLoadFailure(System.nanoTime() - start);
+      loader.completeExceptionally(e);
+      throw e;
+    } finally {
+      loaders.remove(key, loader);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    try {
+      clear();
+    } catch (CacheException e) {
+      Logs.logError(LOG, e, "Error disposing cache [%s]", name);
+    }
+  }
+
+  @Override
+  public V get(K key) {
+    V value = getIfPresent(key);
+    if (value == null) {
+      stats.recordMiss();
+    } else {
+      stats.recordHit();
+    }
+    return value;
+  }
+
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return stats.snapshot(data.size());
+  }
+
+  @Override
+  public CacheStatsRecorder getStatsRecorder() {
+    return stats;
+  }
+
+  public long getWeightedSize() {
+    return weightedSize.get();
+  }
+
+  @Override
+  public void put(K key, V value) throws CacheException {
+    putSafely(key, value);
+  }
+
+  @Override
+  public void put(K key, V value, int timeToLive) throws CacheException {
+    putSafely(key, value, timeToLive);
+  }
+
+  @Override
+  public V putIfAbsent(K key, V value) {
+    if (value == null) {
+      return get(key);
+    }
+    Node<K, V> node = new Node<>(key, value, weigh(key, value), expiresAt(defaultTimeToLiveNanos));
+    while (true) {
+      Node<K, V> existing = data.putIfAbsent(key, node);
+      if (existing == null) {
+        afterAdd(node);
+        return null;
+      }
+      if (!existing.isExpired(System.nanoTime())) {
+        existing.markReferenced();
+        return existing.value;
+      }
+      if (data.replace(key, existing, node)) {
+        retire(existing, true);
+        afterAdd(node);
+        return null;
+      }
+    }
+  }
+
+  @Override
+  public void putSafely(K key, V value) {
+    putSafely(key, value, 0);
+  }
+
+  @Override
+  public void putSafely(K key, V value, int timeToLive) {
+    if (value == null) {
+      removeIgnoreErrors(key);
+      return;
+    }
+    long ttl = timeToLive > 0 ? TimeUnit.SECONDS.toNanos(timeToLive) : defaultTimeToLiveNanos;
+    putNode(new Node<>(key, value, weigh(key, value), expiresAt(ttl)));
+  }
+
+  @Override
+  public void remove(K key) throws CacheException {
+    Node<K, V> node = data.get(key);
+    if (node != null) {
+      removeNode(node, false);
+    }
+  }
+
+  public int size() {
+    return data.size();
+  }
+
+  public Map<K, V> snapshot() {
+    long now = System.nanoTime();
+    Map<K, V> snapshot = new HashMap<>();
+    data.values().stream().filter(node -> !node.isExpired(now)).forEach(node -> snapshot.put(node.key, node.value));
+    return snapshot;
+  }
+
+  private void afterAdd(Node<K, V> node) {
+    clock.offer(node);
+    if (weightedSize.addAndGet(node.weight) > maximumWeight) {
+      evict();
+    }
+    if (deadNodes.get() > Math.max(DEAD_NODE_SWEEP_MIN, data.size())) {
+      sweepDeadNodes(false);
+    }
+  }
+
+  private void evict() {
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      long now = System.nanoTime();
+      int secondChances = clock.size();
+      Node<K, V> node;
+      while ((weightedSize.get() > maximumWeight) && ((node = clock.poll()) != null)) {
+        if (node.isRetired()) {
+          deadNodes.decrementAndGet();
+          continue;
+        }
+        if (!node.isExpired(now) && node.referenced && (secondChances-- > 0)) {
+          node.referenced = false;
+          clock.offer(node);
+          continue;
+        }
+        if (removeNode(node, true)) {
+          stats.recordEviction();
+          Logs.logTrace(LOG, "Evicted cache entry [%s] from [%s]", node.key, name);
+        }
+        deadNodes.decrementAndGet();
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private long expiresAt(long ttlNanos) {
+    if (ttlNanos <= 0) {
+      return 0L;
+    }
+    long expiresAt = System.nanoTime() + ttlNanos;
+    return expiresAt == 0L ? 1L : expiresAt;
+  }
+
+  private V getIfPresent(K key) {
+    Node<K, V> node = data.get(key);
+    if (node == null) {
+      return null;
+    }
+    if (node.isExpired(System.nanoTime())) {
+      removeNode(node, true);
+      return null;
+    }
+    node.markReferenced();
+    return node.value;
+  }
+
+  private void putNode(Node<K, V> node) {
+    Node<K, V> previous = data.put(node.key, node);
+    if (previous != null) {
+      retire(previous, false);
+    }
+    afterAdd(node);
+  }
+
+  private boolean removeNode(Node<K, V> node, boolean notify) {
+    if (data.remove(node.key, node)) {
+      retire(node, notify);
+      return true;
+    }
+    return false;
+  }
+
+  private void retire(Node<K, V> node, boolean notify) {
+    node.retired = true;
+    deadNodes.incrementAndGet();
+    weightedSize.addAndGet(-node.weight);
+    if (notify && (beforeRemoveConsumer != null)) {
+      try {
+        beforeRemoveConsumer.accept(node.value);
+      } catch (Throwable e) {
+        Logs.logError(LOG, e, "Error in remove listener for cache [%s] and key [%s]", name, node.key);
+      }
+    }
+  }
+
+  private void sweepDeadNodes(boolean force) {
+    if (force) {
+      evictionLock.lock();
+    } else if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      clock.removeIf(node -> {
+        if (node.isRetired()) {
+          deadNodes.decrementAndGet();
+          return true;
+        }
+        return false;
+      });
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private long weigh(K key, V value) {
+    if (weigher == null) {
+      return 1L;
+    }
+    long weight = weigher.applyAsLong(key, value);
+    if (weight < 0) {
+      throw new IllegalArgumentException(String.format("Negative weight [%s] for key [%s]", weight, key));
+    }
+    return weight;
+  }
+
+  private static final class Loader<V> extends CompletableFuture<V> {
+
+    private final Thread thread = Thread.currentThread();
+
+    V await() {
+      if (thread == Thread.currentThread()) {
+        throw new IllegalStateException("Recursive load of the same key detected in computeIfAbsent");
+      }
+      try {
+        return join();
+      } catch (CompletionException e) {
+        return Exceptions.sneakyThrow(e.getCause() == null ? e : e.getCause());
+      }
+    }
+
+  }
+
+  private static final class Node<K, V> {
+
+    private final long expiresAt;
+    private final K key;
+    private volatile boolean referenced;
+    private volatile boolean retired;
+    private final V value;
+    private final long weight;
+
+    Node(@Nonnull K key, @Nonnull V value, long weight, long expiresAt) {
+      this.key = key;
+      this.value = value;
+      this.weight = weight;
+      this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+      return (expiresAt != 0L) && ((now - expiresAt) >= 0L);
+    }
+
+    boolean isRetired() {
+      return retired;
+    }
+
+    void markReferenced() {
+      if (!referenced) {
+        referenced = true;
+      }
+    }
+
+  }
+
+}
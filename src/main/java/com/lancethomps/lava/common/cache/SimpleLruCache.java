@@ -15,6 +15,8 @@ public class SimpleLruCache<K, V> implements Cache<K, V> {
 
   private static final Logger LOG = LogManager.getLogger(SimpleLruCache.class);
   private final Consumer<V> beforeRemoveConsumer;
+  private final String name;
+  private final CacheStatsRecorder stats = new CacheStatsRecorder();
   private Map<K, V> cache;
 
   public SimpleLruCache(int capacity) {
@@ -22,7 +24,11 @@ public class SimpleLruCache<K, V> implements Cache<K, V> {
   }
 
   public SimpleLruCache(int capacity, Consumer<V> beforeRemoveConsumer) {
+    this(null, capacity, beforeRemoveConsumer);
+  }
 
+  public SimpleLruCache(String name, int capacity, Consumer<V> beforeRemoveConsumer) {
+    this.name = name == null ? "" : name;
     this.cache = Collections.synchronizedMap(new LruCache(capacity));
     this.beforeRemoveConsumer = beforeRemoveConsumer;
   }
@@ -33,7 +39,25 @@ public class SimpleLruCache<K, V> implements Cache<K, V> {
   }
 
   public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
-    return cache.computeIfAbsent(key, mappingFunction);
+    boolean[] loaded = new boolean[1];
+    V result = cache.computeIfAbsent(key, k -> {
+      loaded[0] = true;
+      long start = System.nanoTime();
+      try {
+        V value = mappingFunction.apply(k);
+        stats.recordLoadSuccess(System.nanoTime() - start);
+        return value;
+      } catch (Throwable e) {
+        stats.recordLoadFailure(System.nanoTime() - start);
+        throw e;
+      }
+    });
+    if (loaded[0]) {
+      stats.recordMiss();
+    } else {
+      stats.recordHit();
+    }
+    return result;
   }
 
   @Override
@@ -43,12 +67,28 @@ public class SimpleLruCache<K, V> implements Cache<K, V> {
 
   @Override
   public V get(K key) {
-    return cache.get(key);
+    V value = cache.get(key);
+    if (value == null) {
+      stats.recordMiss();
+    } else {
+      stats.recordHit();
+    }
+    return value;
   }
 
   @Override
   public String getName() {
-    return "";
+    return name;
+  }
+
+  @Override
+  public CacheStats getStats() {
+    return stats.snapshot(cache.size());
+  }
+
+  @Override
+  public CacheStatsRecorder getStatsRecorder() {
+    return stats;
   }
 
   @Override
@@ -92,6 +132,7 @@ public class SimpleLruCache<K, V> implements Cache<K, V> {
       if (size() > capacity) {
         Logs.logTrace(LOG, "Removing least recently used cache entry [%s]", eldest.getKey());
         remove = true;
+        stats.recordEviction();
         if (beforeRemoveConsumer != null) {
           beforeRemoveConsumer.accept(eldest.getValue());
         }
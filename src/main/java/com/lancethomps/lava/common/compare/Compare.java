@@ -69,16 +69,7 @@ public class Compare {
     @Nullable final CompareConfig config,
     final boolean generateDifferences
   ) {
-    final CompareResult result = getFieldsWithDifferences(
-      original,
-      revised,
-      config == null ? DEFAULT_COMPARE_CONFIG : config,
-      CompareResult.createAndInitialize(),
-      "",
-      generateDifferences,
-      getOrCreateDiffOutputParams(config),
-      null
-    );
+    final CompareResult result = compareRoot(original, revised, config, generateDifferences, false);
     if (original == null) {
       result.setAllNewData(true);
     }
@@ -145,17 +136,7 @@ public class Compare {
   }
 
   public static ObjectNode generateDifferences(final Object original, final Object revised, final CompareConfig config) {
-    return getFieldsWithDifferences(
-      original,
-      revised,
-      config == null ? DEFAULT_COMPARE_CONFIG : config,
-      CompareResult.createAndInitialize(),
-      "",
-      true,
-      getOrCreateDiffOutputParams(config),
-      null
-    )
-      .getDifferences();
+    return compareRoot(original, revised, config, true, false).getDifferences();
   }
 
   public static Set<String> getFieldsWithDifferences(final Object original, final Object revised) {
@@ -163,16 +144,7 @@ public class Compare {
   }
 
   public static Set<String> getFieldsWithDifferences(final Object original, final Object revised, final CompareConfig config) {
-    return getFieldsWithDifferences(
-      original,
-      revised,
-      config == null ? DEFAULT_COMPARE_CONFIG : config,
-      CompareResult.createAndInitialize(),
-      "",
-      false,
-      getOrCreateDiffOutputParams(config),
-      null
-    ).getFieldsWithDifferences();
+    return compareRoot(original, revised, config, false, false).getFieldsWithDifferences();
   }
 
   public static NumericNode getNumericValueDifference(@Nonnull final NumericNode originalVal, @Nonnull final NumericNode revisedVal) {
@@ -224,6 +196,17 @@ public class Compare {
     return revisedVal;
   }
 
+  public static boolean hasDifferences(@Nullable Object original, @Nullable Object revised) {
+    return hasDifferences(original, revised, null);
+  }
+
+  public static boolean hasDifferences(@Nullable Object original, @Nullable Object revised, @Nullable CompareConfig config) {
+    if (original == revised) {
+      return false;
+    }
+    return !compareRoot(original, revised, config, false, true).getFieldsWithDifferences().isEmpty();
+  }
+
   public static boolean hasDifferencesAsJson(Object original, Object revised) {
     return hasDifferencesAsJson(original, revised, null);
   }
@@ -239,6 +222,24 @@ public class Compare {
     return originalJson == null ? !(revisedJson == null) : !originalJson.equals(revisedJson);
   }
 
+  static CompareConfig getFieldConfig(@Nonnull CompareConfig config, @Nonnull String field) {
+    return Optional.ofNullable(config.getFields()).map(fieldConfigs -> Collect.wildcardGet(fieldConfigs, field)).orElse(config);
+  }
+
+  static OutputParams getFieldDiffOutputParams(@Nonnull CompareConfig config, @Nonnull CompareConfig fieldConfig, OutputParams diffOutputParams) {
+    return (fieldConfig == config) || (fieldConfig.getDiffOutputParams() == null) ? diffOutputParams
+      : Merges.deepMerge(fieldConfig.getDiffOutputParams(), DEFAULT_DIFF_AS_JSON_PARAMS.copy(), Merges.OVERWRITE_MERGE_CONFIG);
+  }
+
+  static JsonNode removeFields(@Nonnull JsonNode node, @Nonnull Collection<String> fields) {
+    if (node.isArray()) {
+      node.forEach(child -> removeFields(child, fields));
+    } else if (node.isObject()) {
+      ((ObjectNode) node).remove(fields);
+    }
+    return node;
+  }
+
   private static CompareResult addFieldWithDifference(
     final @Nonnull CompareResult current,
     final @Nullable JsonNode originalVal,
@@ -255,6 +256,36 @@ public class Compare {
     return current;
   }
 
+  @Nonnull
+  private static CompareResult compareRoot(
+    @Nullable final Object original,
+    @Nullable final Object revised,
+    @Nullable final CompareConfig config,
+    final boolean generateDiffObject,
+    final boolean stopOnFirstDifference
+  ) {
+    final CompareConfig resolvedConfig = config == null ? DEFAULT_COMPARE_CONFIG : config;
+    final OutputParams diffOutputParams = getOrCreateDiffOutputParams(config);
+    final ObjectMapper valueToTreeMapper = resolveValueToTreeMapper(diffOutputParams);
+    if (resolvedConfig.testDirectCompare()) {
+      final CompareWalker walker = CompareWalker.create(valueToTreeMapper, generateDiffObject, stopOnFirstDifference);
+      final CompareResult result = walker == null ? null : walker.compare(original, revised, resolvedConfig, diffOutputParams);
+      if (result != null) {
+        return result;
+      }
+    }
+    return getFieldsWithDifferences(
+      original,
+      revised,
+      resolvedConfig,
+      CompareResult.createAndInitialize(),
+      "",
+      generateDiffObject,
+      diffOutputParams,
+      valueToTreeMapper
+    );
+  }
+
   @Nonnull
   private static CompareResult getFieldsWithDifferences(
     final Object original,
@@ -266,22 +297,7 @@ public class Compare {
     final OutputParams diffOutputParams,
     @Nullable final ObjectMapper valueToTreeMapperOpt
   ) {
-    final ObjectMapper valueToTreeMapper;
-    if (valueToTreeMapperOpt != null) {
-      valueToTreeMapper = valueToTreeMapperOpt;
-    } else if (diffOutputParams == null) {
-      valueToTreeMapper = Merges.MERGE_MAPPER;
-    } else if ((diffOutputParams.getJsonSigFigs() != null)) {
-      valueToTreeMapper = SerializerFactory.resolveObjectMapper(
-        new OutputParams()
-          .setObjectMapper(Merges.MERGE_MAPPER)
-          .setObjectMapperCustomCacheKeyId("merge_mapper")
-          .setJsonSigFigs(diffOutputParams.getJsonSigFigs()),
-        true
-      );
-    } else {
-      valueToTreeMapper = Merges.MERGE_MAPPER;
-    }
+    final ObjectMapper valueToTreeMapper = valueToTreeMapperOpt != null ? valueToTreeMapperOpt : resolveValueToTreeMapper(diffOutputParams);
     final ObjectNode originalNode = original == null ? Merges.createNewObjectNode()
       : original instanceof ObjectNode ? (ObjectNode) original : valueToTreeMapper.valueToTree(original);
     final ObjectNode revisedNode = revised == null ? Merges.createNewObjectNode()
@@ -296,10 +312,8 @@ public class Compare {
       fields.removeIf(field -> !Checks.passesWhiteAndBlackListCheck(field, config.getFieldsWhiteList(), config.getFieldsBlackList()).getLeft());
     }
     for (String field : fields) {
-      final CompareConfig fieldConfig =
-        Optional.ofNullable(config.getFields()).map(fieldConfigs -> Collect.wildcardGet(fieldConfigs, field)).orElse(config);
-      final OutputParams fieldDiffOutputParams = (fieldConfig == config) || (fieldConfig.getDiffOutputParams() == null) ? diffOutputParams
-        : Merges.deepMerge(fieldConfig.getDiffOutputParams(), DEFAULT_DIFF_AS_JSON_PARAMS.copy(), Merges.OVERWRITE_MERGE_CONFIG);
+      final CompareConfig fieldConfig = getFieldConfig(config, field);
+      final OutputParams fieldDiffOutputParams = getFieldDiffOutputParams(config, fieldConfig, diffOutputParams);
       final JsonNode originalVal = originalNode.get(field);
       final JsonNode revisedVal = revisedNode.get(field);
       boolean equal = nodesAreEqual(
@@ -490,13 +504,17 @@ public class Compare {
     return !hasDifferencesAsJson(originalVal, revisedVal, diffOutputParams);
   }
 
-  private static JsonNode removeFields(@Nonnull JsonNode node, @Nonnull Collection<String> fields) {
-    if (node.isArray()) {
-      node.forEach(child -> removeFields(child, fields));
-    } else if (node.isObject()) {
-      ((ObjectNode) node).remove(fields);
+  private static ObjectMapper resolveValueToTreeMapper(@Nullable OutputParams diffOutputParams) {
+    if ((diffOutputParams == null) || (diffOutputParams.getJsonSigFigs() == null)) {
+      return Merges.MERGE_MAPPER;
     }
-    return node;
+    return SerializerFactory.resolveObjectMapper(
+      new OutputParams()
+        .setObjectMapper(Merges.MERGE_MAPPER)
+        .setObjectMapperCustomCacheKeyId("merge_mapper")
+        .setJsonSigFigs(diffOutputParams.getJsonSigFigs()),
+      true
+    );
   }
 
 }
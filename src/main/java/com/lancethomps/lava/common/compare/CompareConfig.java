@@ -14,6 +14,10 @@ import com.lancethomps.lava.common.ser.OutputParams;
 @SuppressWarnings("serial")
 public class CompareConfig extends SimpleDomainObject {
 
+  public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+  private String arrayElementsMatchField;
+
   private Boolean calculateNumericValueChange;
 
   private Boolean deep;
@@ -22,6 +26,8 @@ public class CompareConfig extends SimpleDomainObject {
 
   private OutputParams diffOutputParams;
 
+  private Boolean directCompare;
+
   private Map<String, CompareConfig> fields;
 
   private Set<Pattern> fieldsBlackList;
@@ -34,6 +40,10 @@ public class CompareConfig extends SimpleDomainObject {
 
   private String objectFieldNotation;
 
+  private Boolean parallel;
+
+  private Integer parallelThreshold;
+
   public CompareConfig addFieldConfig(String field, CompareConfig config) {
     if (fields == null) {
       fields = new HashMap<>(5);
@@ -52,6 +62,15 @@ public class CompareConfig extends SimpleDomainObject {
     return this;
   }
 
+  public String getArrayElementsMatchField() {
+    return arrayElementsMatchField;
+  }
+
+  public CompareConfig setArrayElementsMatchField(String arrayElementsMatchField) {
+    this.arrayElementsMatchField = arrayElementsMatchField;
+    return this;
+  }
+
   public Boolean getCalculateNumericValueChange() {
     return calculateNumericValueChange;
   }
@@ -88,6 +107,15 @@ public class CompareConfig extends SimpleDomainObject {
     return this;
   }
 
+  public Boolean getDirectCompare() {
+    return directCompare;
+  }
+
+  public CompareConfig setDirectCompare(Boolean directCompare) {
+    this.directCompare = directCompare;
+    return this;
+  }
+
   public Map<String, CompareConfig> getFields() {
     return fields;
   }
@@ -142,6 +170,28 @@ public class CompareConfig extends SimpleDomainObject {
     return this;
   }
 
+  public Boolean getParallel() {
+    return parallel;
+  }
+
+  public CompareConfig setParallel(Boolean parallel) {
+    this.parallel = parallel;
+    return this;
+  }
+
+  public Integer getParallelThreshold() {
+    return parallelThreshold;
+  }
+
+  public CompareConfig setParallelThreshold(Integer parallelThreshold) {
+    this.parallelThreshold = parallelThreshold;
+    return this;
+  }
+
+  public int resolveParallelThreshold() {
+    return (parallelThreshold == null) || (parallelThreshold <= 0) ? DEFAULT_PARALLEL_THRESHOLD : parallelThreshold;
+  }
+
   public boolean testCalculateNumericValueChange() {
     return (calculateNumericValueChange != null) && calculateNumericValueChange.booleanValue();
   }
@@ -154,8 +204,16 @@ public class CompareConfig extends SimpleDomainObject {
     return (deepWhenNullContainer != null) && deepWhenNullContainer;
   }
 
+  public boolean testDirectCompare() {
+    return (directCompare == null) || directCompare;
+  }
+
   public boolean testNumericNullsEqualZero() {
     return (numericNullsEqualZero != null) && numericNullsEqualZero.booleanValue();
   }
 
+  public boolean testParallel() {
+    return (parallel != null) && parallel;
+  }
+
 }
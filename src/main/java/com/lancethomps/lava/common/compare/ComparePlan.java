@@ -0,0 +1,251 @@
+package com.lancethomps.lava.common.compare;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.lancethomps.lava.common.Exceptions;
+import com.lancethomps.lava.common.cache.ConcurrentCache;
+import com.lancethomps.lava.common.merge.BeanMergePlan;
+
+public final class ComparePlan {
+
+  private static final Map<ObjectMapper, MapperPlans> MAPPER_PLANS = Collections.synchronizedMap(new WeakHashMap<>());
+  private static final int MAX_CACHED_TYPES = 1000;
+  private final DeclaredType declaredType;
+  private final Kind kind;
+  private final CompareProperty[] properties;
+  private final Map<String, CompareProperty> propertiesByName;
+  private final Class<?> type;
+
+  private ComparePlan(Class<?> type, Kind kind, DeclaredType declaredType, List<CompareProperty> properties) {
+    super();
+    this.type = type;
+    this.kind = kind;
+    this.declaredType = declaredType;
+    properties.sort(Comparator.comparing(CompareProperty::getName));
+    this.properties = properties.toArray(new CompareProperty[properties.size()]);
+    this.propertiesByName = new HashMap<>(properties.size() * 2);
+    properties.forEach(property -> propertiesByName.put(property.getName(), property));
+  }
+
+  public static void clearCache() {
+    MAPPER_PLANS.clear();
+  }
+
+  public static ComparePlan forClass(@Nonnull ObjectMapper mapper, @Nonnull Class<?> type) {
+    return getMapperPlans(mapper).forClass(mapper, type);
+  }
+
+  public static boolean isSupported(@Nonnull ObjectMapper mapper) {
+    return getMapperPlans(mapper).isSupported();
+  }
+
+  static MapperPlans getMapperPlans(@Nonnull ObjectMapper mapper) {
+    MapperPlans plans = MAPPER_PLANS.get(mapper);
+    if (plans == null) {
+      plans = MAPPER_PLANS.computeIfAbsent(mapper, key -> new MapperPlans(checkSupported(key)));
+    }
+    return plans;
+  }
+
+  @SuppressWarnings("deprecation")
+  private static boolean checkSupported(ObjectMapper mapper) {
+    if (mapper.isEnabled(MapperFeature.USE_ANNOTATIONS) || !mapper.isEnabled(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS)) {
+      return false;
+    }
+    Include inclusion = mapper.getSerializationConfig().getDefaultPropertyInclusion().getValueInclusion();
+    return (inclusion == Include.ALWAYS) || (inclusion == Include.NON_NULL) || (inclusion == Include.NON_ABSENT) ||
+      (inclusion == Include.USE_DEFAULTS);
+  }
+
+  private static ComparePlan create(MapperPlans plans, ObjectMapper mapper, Class<?> type) {
+    DeclaredType declaredType = plans.forType(mapper, mapper.constructType(type));
+    List<CompareProperty> properties = new ArrayList<>();
+    if (Map.class.isAssignableFrom(type)) {
+      return new ComparePlan(type, Kind.MAP, declaredType, properties);
+    } else if (Collection.class.isAssignableFrom(type)) {
+      return new ComparePlan(type, Kind.COLLECTION, declaredType, properties);
+    } else if (type.isArray() && !type.getComponentType().isPrimitive()) {
+      return new ComparePlan(type, Kind.ARRAY, declaredType, properties);
+    } else if (type.isArray() || BeanMergePlan.isValueType(type) || JsonNode.class.isAssignableFrom(type)) {
+      return new ComparePlan(type, Kind.OTHER, declaredType, properties);
+    }
+    try {
+      JsonSerializer<Object> serializer = mapper.getSerializerProviderInstance().findValueSerializer(type);
+      if ((serializer == null) || (serializer.getClass() != BeanSerializer.class)) {
+        return new ComparePlan(type, Kind.OTHER, declaredType, properties);
+      }
+      Iterator<PropertyWriter> iter = serializer.properties();
+      while (iter.hasNext()) {
+        PropertyWriter writer = iter.next();
+        if (!(writer instanceof BeanPropertyWriter) || ((BeanPropertyWriter) writer).isUnwrapping()) {
+          return new ComparePlan(type, Kind.OTHER, declaredType, new ArrayList<>());
+        }
+        properties.add(new CompareProperty((BeanPropertyWriter) writer, plans.forType(mapper, ((BeanPropertyWriter) writer).getType())));
+      }
+    } catch (JsonMappingException e) {
+      return new ComparePlan(type, Kind.OTHER, declaredType, new ArrayList<>());
+    }
+    return new ComparePlan(type, Kind.BEAN, declaredType, properties);
+  }
+
+  public DeclaredType getDeclaredType() {
+    return declaredType;
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  public CompareProperty[] getProperties() {
+    return properties;
+  }
+
+  @Nullable
+  public CompareProperty getProperty(@Nonnull String name) {
+    return propertiesByName.get(name);
+  }
+
+  public Class<?> getType() {
+    return type;
+  }
+
+  public enum Kind {
+    ARRAY,
+    BEAN,
+    COLLECTION,
+    MAP,
+    OTHER
+  }
+
+  public static final class CompareProperty {
+
+    private final DeclaredType declaredType;
+    private final String name;
+    private final BeanPropertyWriter writer;
+
+    CompareProperty(BeanPropertyWriter writer, DeclaredType declaredType) {
+      this.writer = writer;
+      this.name = writer.getName();
+      this.declaredType = declaredType;
+    }
+
+    public Object get(Object bean) {
+      try {
+        return writer.get(bean);
+      } catch (Exception e) {
+        return Exceptions.sneakyThrow(e);
+      }
+    }
+
+    public DeclaredType getDeclaredType() {
+      return declaredType;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+  }
+
+  public static final class DeclaredType {
+
+    private final boolean resolved;
+    private final JavaType type;
+    private final TypeSerializer typeSerializer;
+
+    DeclaredType(JavaType type, TypeSerializer typeSerializer, boolean resolved) {
+      this.type = type;
+      this.typeSerializer = typeSerializer;
+      this.resolved = resolved;
+    }
+
+    public JavaType getType() {
+      return type;
+    }
+
+    @Nullable
+    public TypeSerializer getTypeSerializer() {
+      return typeSerializer;
+    }
+
+    public boolean isResolved() {
+      return resolved;
+    }
+
+  }
+
+  static final class MapperPlans {
+
+    private final ConcurrentCache<Class<?>, ComparePlan> plans = new ConcurrentCache<>(MAX_CACHED_TYPES);
+    private final boolean supported;
+    private final ConcurrentCache<JavaType, DeclaredType> types = new ConcurrentCache<>(MAX_CACHED_TYPES);
+    private final ConcurrentCache<Pair<JavaType, Class<?>>, JavaType> valueTypes = new ConcurrentCache<>(MAX_CACHED_TYPES);
+
+    MapperPlans(boolean supported) {
+      this.supported = supported;
+    }
+
+    ComparePlan forClass(ObjectMapper mapper, Class<?> type) {
+      return plans.computeIfAbsent(type, key -> create(this, mapper, key));
+    }
+
+    DeclaredType forType(ObjectMapper mapper, JavaType type) {
+      return types.computeIfAbsent(type, key -> createDeclaredType(mapper, key));
+    }
+
+    JavaType forValueType(ObjectMapper mapper, DeclaredType declaredType, ComparePlan plan) {
+      JavaType type = declaredType.getType();
+      if ((declaredType == plan.getDeclaredType()) || !type.hasGenericTypes()) {
+        return plan.getDeclaredType().getType();
+      } else if (type.getRawClass() == plan.getType()) {
+        return type;
+      }
+      return valueTypes.computeIfAbsent(Pair.of(type, plan.getType()), key -> {
+        try {
+          return mapper.getTypeFactory().constructSpecializedType(key.getLeft(), key.getRight());
+        } catch (IllegalArgumentException e) {
+          return plan.getDeclaredType().getType();
+        }
+      });
+    }
+
+    boolean isSupported() {
+      return supported;
+    }
+
+    private DeclaredType createDeclaredType(ObjectMapper mapper, JavaType type) {
+      try {
+        return new DeclaredType(type, mapper.getSerializerFactory().createTypeSerializer(mapper.getSerializationConfig(), type), true);
+      } catch (JsonMappingException e) {
+        return new DeclaredType(type, null, false);
+      }
+    }
+
+  }
+
+}
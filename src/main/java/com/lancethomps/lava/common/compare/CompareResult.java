@@ -55,6 +55,14 @@ public class CompareResult extends SimpleDomainObject {
     return addAddedFields(Arrays.asList(fields));
   }
 
+  public CompareResult addAllFields(@Nonnull CompareResult other) {
+    addAllFields(other.getAddedFields(), this::getAddedFields, this::setAddedFields);
+    addAllFields(other.getRemovedFields(), this::getRemovedFields, this::setRemovedFields);
+    addAllFields(other.getUpdatedFields(), this::getUpdatedFields, this::setUpdatedFields);
+    addAllFields(other.getFieldsWithDifferences(), this::getFieldsWithDifferences, this::setFieldsWithDifferences);
+    return this;
+  }
+
   public CompareResult addRemovedFields(@Nonnull Collection<String> fields) {
     return addToFieldsWithDifferences(fields, this::getRemovedFields, this::setRemovedFields);
   }
@@ -129,6 +137,16 @@ public class CompareResult extends SimpleDomainObject {
     return (allNewData != null) && allNewData.booleanValue();
   }
 
+  private void addAllFields(Set<String> fields, @Nonnull Supplier<Set<String>> getter, @Nonnull Consumer<Set<String>> setter) {
+    if ((fields == null) || fields.isEmpty()) {
+      return;
+    }
+    if (getter.get() == null) {
+      setter.accept(new LinkedHashSet<>());
+    }
+    getter.get().addAll(fields);
+  }
+
   private CompareResult addToFieldsWithDifferences(
     @Nonnull Collection<String> fields,
     @Nonnull Supplier<Set<String>> getter,
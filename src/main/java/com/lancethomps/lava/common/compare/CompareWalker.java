@@ -0,0 +1,801 @@
+package com.lancethomps.lava.common.compare;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.collections4.CollectionUtils;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.google.common.collect.Sets;
+import com.lancethomps.lava.common.Checks;
+import com.lancethomps.lava.common.Exceptions;
+import com.lancethomps.lava.common.compare.ComparePlan.CompareProperty;
+import com.lancethomps.lava.common.compare.ComparePlan.DeclaredType;
+import com.lancethomps.lava.common.compare.ComparePlan.Kind;
+import com.lancethomps.lava.common.compare.ComparePlan.MapperPlans;
+import com.lancethomps.lava.common.merge.Merges;
+import com.lancethomps.lava.common.ser.OutputParams;
+
+final class CompareWalker {
+
+  private static final Set<Class<?>> SCALAR_TYPES = Sets.newHashSet(
+    String.class,
+    Boolean.class,
+    Character.class,
+    Byte.class,
+    Short.class,
+    Integer.class,
+    Long.class,
+    Float.class,
+    Double.class,
+    BigDecimal.class,
+    BigInteger.class,
+    UUID.class
+  );
+  private final AtomicBoolean differenceFound;
+  private final boolean generateDiffObject;
+  private final ObjectMapper mapper;
+  private final MapperPlans plans;
+  private final SerializerProvider provider;
+  private final boolean stopOnFirstDifference;
+
+  private CompareWalker(
+    ObjectMapper mapper,
+    MapperPlans plans,
+    boolean generateDiffObject,
+    boolean stopOnFirstDifference,
+    AtomicBoolean differenceFound
+  ) {
+    super();
+    this.mapper = mapper;
+    this.plans = plans;
+    this.provider = mapper.getSerializerProviderInstance();
+    this.generateDiffObject = generateDiffObject;
+    this.stopOnFirstDifference = stopOnFirstDifference;
+    this.differenceFound = differenceFound;
+  }
+
+  @Nullable
+  static CompareWalker create(@Nonnull ObjectMapper mapper, boolean generateDiffObject, boolean stopOnFirstDifference) {
+    MapperPlans plans = ComparePlan.getMapperPlans(mapper);
+    return plans.isSupported() ? new CompareWalker(mapper, plans, generateDiffObject, stopOnFirstDifference, new AtomicBoolean()) : null;
+  }
+
+  private static void addFieldWithDifference(CompareResult current, Object originalVal, Object revisedVal, String fieldKey) {
+    if (originalVal == null) {
+      current.addAddedFields(fieldKey);
+    } else if (revisedVal == null) {
+      current.addRemovedFields(fieldKey);
+    } else {
+      current.addUpdatedFields(fieldKey);
+    }
+  }
+
+  private static void addFieldNames(Object value, Set<String> fields) {
+    if (value instanceof ObjectNode) {
+      CollectionUtils.addAll(fields, ((ObjectNode) value).fieldNames());
+    } else if (value instanceof ObjectView) {
+      ObjectView view = (ObjectView) value;
+      if (view.plan == null) {
+        for (Object key : ((Map<?, ?>) view.value).keySet()) {
+          fields.add((String) key);
+        }
+      } else {
+        for (CompareProperty property : view.plan.getProperties()) {
+          fields.add(property.getName());
+        }
+        if (view.typeProperty != null) {
+          fields.add(view.typeProperty);
+        }
+      }
+    }
+  }
+
+  private static boolean hasStringKeys(Map<?, ?> map) {
+    for (Object key : map.keySet()) {
+      if (!(key instanceof String)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isArray(Object value) {
+    return (value instanceof ArrayView) || (value instanceof ArrayNode);
+  }
+
+  private static boolean isFieldIncluded(String field, CompareConfig config) {
+    if ((config.getIgnoreFields() != null) && config.getIgnoreFields().contains(field)) {
+      return false;
+    }
+    return ((config.getFieldsBlackList() == null) && (config.getFieldsWhiteList() == null)) ||
+      Checks.passesWhiteAndBlackListCheck(field, config.getFieldsWhiteList(), config.getFieldsBlackList()).getLeft();
+  }
+
+  private static boolean isObject(Object value) {
+    return (value instanceof ObjectView) || (value instanceof ObjectNode);
+  }
+
+  private static boolean isScalar(Object value) {
+    return SCALAR_TYPES.contains(value.getClass()) || (value instanceof Enum);
+  }
+
+  private static Object raw(Object value) {
+    if (value instanceof ObjectView) {
+      return ((ObjectView) value).value;
+    } else if (value instanceof ArrayView) {
+      return ((ArrayView) value).value;
+    }
+    return value;
+  }
+
+  private static int size(Object value) {
+    return value instanceof ArrayView ? ((ArrayView) value).values.size() : ((ArrayNode) value).size();
+  }
+
+  private static Object toMatchKey(Object matchVal) {
+    if (matchVal instanceof JsonNode) {
+      JsonNode node = (JsonNode) matchVal;
+      if (!node.isValueNode() || node.isNull()) {
+        return null;
+      } else if (node.isTextual()) {
+        return node.textValue();
+      } else if (node.isBoolean()) {
+        return node.booleanValue();
+      }
+      return toMatchKey(node.numberValue());
+    }
+    if ((matchVal == null) || (matchVal instanceof ObjectView) || (matchVal instanceof ArrayView)) {
+      return null;
+    }
+    if ((matchVal instanceof Integer) || (matchVal instanceof Long) || (matchVal instanceof Short) || (matchVal instanceof Byte)) {
+      return ((Number) matchVal).longValue();
+    }
+    return matchVal;
+  }
+
+  @Nullable
+  CompareResult compare(Object original, Object revised, @Nonnull CompareConfig config, OutputParams diffOutputParams) {
+    Object originalVal = normalize(original, null);
+    Object revisedVal = normalize(revised, null);
+    if (((originalVal != null) && !isObject(originalVal)) || ((revisedVal != null) && !isObject(revisedVal))) {
+      return null;
+    }
+    CompareResult result = CompareResult.createAndInitialize();
+    if (raw(originalVal) != raw(revisedVal)) {
+      compareObjects(originalVal, revisedVal, config, result, "", diffOutputParams);
+    }
+    return result;
+  }
+
+  private void compareArrays(
+    Object original,
+    Object revised,
+    CompareConfig config,
+    CompareResult current,
+    String field,
+    String fullPrefix,
+    OutputParams diffOutputParams,
+    String objectFieldNotation
+  ) {
+    final ArrayNode fieldNode = generateDiffObject ? Merges.createNewArrayNode() : null;
+    if (generateDiffObject) {
+      current.getDifferences().set(field, fieldNode);
+    }
+    final List<MatchedElements> matched = Checks.isBlank(config.getArrayElementsMatchField()) ? null
+      : matchElements(original, revised, config.getArrayElementsMatchField());
+    if (matched != null) {
+      compareRange(
+        matched.size(),
+        config,
+        current,
+        fieldNode,
+        (walker, index, result, elements) -> walker.compareMatchedElements(
+          matched.get(index),
+          config,
+          result,
+          elements,
+          fullPrefix + field,
+          diffOutputParams,
+          objectFieldNotation
+        )
+      );
+    } else {
+      final int originalSize = size(original);
+      final int revisedSize = size(revised);
+      compareRange(
+        Math.max(originalSize, revisedSize),
+        config,
+        current,
+        fieldNode,
+        (walker, index, result, elements) -> walker.compareElements(
+          original,
+          revised,
+          index,
+          originalSize,
+          revisedSize,
+          config,
+          result,
+          elements,
+          fullPrefix + field,
+          diffOutputParams,
+          objectFieldNotation
+        )
+      );
+    }
+    if (generateDiffObject && fieldNode.isEmpty(null)) {
+      current.getDifferences().remove(field);
+    }
+  }
+
+  private void compareChildObjects(
+    Object original,
+    Object revised,
+    CompareConfig config,
+    CompareResult current,
+    String field,
+    String fieldPrefix,
+    OutputParams diffOutputParams
+  ) {
+    if (!generateDiffObject) {
+      compareObjects(original, revised, config, current, fieldPrefix, diffOutputParams);
+      return;
+    }
+    ObjectNode fieldNode = Merges.createNewObjectNode();
+    current.getDifferences().set(field, fieldNode);
+    compareObjects(original, revised, config, CompareResult.createWithNewNode(current, fieldNode), fieldPrefix, diffOutputParams);
+    if (fieldNode.isEmpty(null)) {
+      current.getDifferences().remove(field);
+    }
+  }
+
+  private void compareElements(
+    Object original,
+    Object revised,
+    int index,
+    int originalSize,
+    int revisedSize,
+    CompareConfig config,
+    CompareResult current,
+    ArrayNode elements,
+    String fieldPath,
+    OutputParams diffOutputParams,
+    String objectFieldNotation
+  ) {
+    final String fullPrefixWithPos = fieldPath + '[' + index + ']';
+    final boolean revisedIsSmaller = revisedSize <= index;
+    if (revisedIsSmaller || (originalSize <= index)) {
+      if (generateDiffObject) {
+        elements.add(revisedIsSmaller ? NullNode.getInstance() : toNode(getElement(revised, index)));
+      }
+      current.addUpdatedFields(fullPrefixWithPos);
+      return;
+    }
+    final Object originalArrayVal = getElement(original, index);
+    final Object revisedArrayVal = getElement(revised, index);
+    if (isObject(originalArrayVal) && isObject(revisedArrayVal)) {
+      if (raw(originalArrayVal) == raw(revisedArrayVal)) {
+        return;
+      }
+      ObjectNode arrayNodeObj = generateDiffObject ? Merges.createNewObjectNode() : null;
+      compareObjects(
+        originalArrayVal,
+        revisedArrayVal,
+        config,
+        generateDiffObject ? CompareResult.createWithNewNode(current, arrayNodeObj) : current,
+        fullPrefixWithPos + objectFieldNotation,
+        diffOutputParams
+      );
+      if (generateDiffObject && !arrayNodeObj.isEmpty(null)) {
+        elements.add(arrayNodeObj);
+      }
+    } else if (!valuesAreEqual(originalArrayVal, revisedArrayVal, config, current, "", fullPrefixWithPos, diffOutputParams)) {
+      if (generateDiffObject) {
+        final JsonNode valDiff = Compare.getValueDifference(toNode(originalArrayVal), toNode(revisedArrayVal), config);
+        if (valDiff != null) {
+          elements.add(valDiff);
+        }
+      }
+      current.addUpdatedFields(fullPrefixWithPos);
+    }
+  }
+
+  private void compareField(
+    String field,
+    Object originalVal,
+    Object revisedVal,
+    CompareConfig config,
+    CompareResult current,
+    String fieldPrefix,
+    OutputParams diffOutputParams
+  ) {
+    final CompareConfig fieldConfig = Compare.getFieldConfig(config, field);
+    final OutputParams fieldDiffOutputParams = Compare.getFieldDiffOutputParams(config, fieldConfig, diffOutputParams);
+    if (!valuesAreEqual(originalVal, revisedVal, fieldConfig, current, field, fieldPrefix, fieldDiffOutputParams)) {
+      addFieldWithDifference(current, originalVal, revisedVal, fieldPrefix + field);
+      if (generateDiffObject) {
+        final JsonNode valDiff = Compare.getValueDifference(toNode(originalVal), toNode(revisedVal), fieldConfig);
+        if (valDiff != null) {
+          current.getDifferences().set(field, valDiff);
+        }
+      }
+    }
+  }
+
+  private void compareMatchedElements(
+    MatchedElements matched,
+    CompareConfig config,
+    CompareResult current,
+    ArrayNode elements,
+    String fieldPath,
+    OutputParams diffOutputParams,
+    String objectFieldNotation
+  ) {
+    final String matchField = config.getArrayElementsMatchField();
+    final String fullPrefixWithId = fieldPath + '[' + matchField + '=' + matched.id + ']';
+    if (matched.original == null) {
+      current.addAddedFields(fullPrefixWithId);
+      if (generateDiffObject) {
+        elements.add(toNode(matched.revised));
+      }
+      return;
+    } else if (matched.revised == null) {
+      current.addRemovedFields(fullPrefixWithId);
+      return;
+    } else if (raw(matched.original) == raw(matched.revised)) {
+      return;
+    }
+    ObjectNode arrayNodeObj = generateDiffObject ? Merges.createNewObjectNode() : null;
+    compareObjects(
+      matched.original,
+      matched.revised,
+      config,
+      generateDiffObject ? CompareResult.createWithNewNode(current, arrayNodeObj) : current,
+      fullPrefixWithId + objectFieldNotation,
+      diffOutputParams
+    );
+    if (generateDiffObject && !arrayNodeObj.isEmpty(null)) {
+      ObjectNode withId = Merges.createNewObjectNode();
+      withId.set(matchField, toNode(getField(matched.revised, matchField)));
+      withId.setAll(arrayNodeObj);
+      elements.add(withId);
+    }
+  }
+
+  private void compareObjects(
+    Object original,
+    Object revised,
+    CompareConfig config,
+    CompareResult current,
+    String fieldPrefix,
+    OutputParams diffOutputParams
+  ) {
+    if ((original instanceof ObjectView) && (revised instanceof ObjectView) && ((ObjectView) original).hasSameShape((ObjectView) revised)) {
+      Object originalBean = ((ObjectView) original).value;
+      Object revisedBean = ((ObjectView) revised).value;
+      for (CompareProperty property : ((ObjectView) original).plan.getProperties()) {
+        if (isDone(current)) {
+          return;
+        }
+        if (isFieldIncluded(property.getName(), config)) {
+          compareField(
+            property.getName(),
+            normalize(property.get(originalBean), property.getDeclaredType()),
+            normalize(property.get(revisedBean), property.getDeclaredType()),
+            config,
+            current,
+            fieldPrefix,
+            diffOutputParams
+          );
+        }
+      }
+      return;
+    }
+    final Set<String> fieldNames = new TreeSet<>();
+    addFieldNames(original, fieldNames);
+    addFieldNames(revised, fieldNames);
+    final List<String> fields = new ArrayList<>(fieldNames.size());
+    for (String field : fieldNames) {
+      if (isFieldIncluded(field, config)) {
+        fields.add(field);
+      }
+    }
+    compareRange(fields.size(), config, current, null, (walker, index, result, elements) -> {
+      String field = fields.get(index);
+      walker.compareField(field, walker.getField(original, field), walker.getField(revised, field), config, result, fieldPrefix, diffOutputParams);
+    });
+  }
+
+  private void compareRange(int count, CompareConfig config, CompareResult current, ArrayNode elements, ElementComparer comparer) {
+    final int threshold = config.resolveParallelThreshold();
+    if (!config.testParallel() || (count <= threshold)) {
+      for (int index = 0; (index < count) && !isDone(current); index++) {
+        comparer.compare(this, index, current, elements);
+      }
+      return;
+    }
+    CompareChunk task = new CompareChunk(this, comparer, 0, count, threshold);
+    CompareChunk result = ForkJoinTask.inForkJoinPool() ? task.invoke() : ForkJoinPool.commonPool().invoke(task);
+    current.addAllFields(result.result);
+    if (result.result.getDifferences().size() > 0) {
+      current.getDifferences().setAll(result.result.getDifferences());
+    }
+    if (elements != null) {
+      elements.addAll(result.elements);
+    }
+  }
+
+  private JsonNode convert(Object value, @Nullable JavaType valueType, @Nullable TypeSerializer typeSerializer) {
+    try {
+      TokenBuffer buffer = new TokenBuffer(mapper, false);
+      JsonSerializer<Object> serializer = valueType == null ? provider.findValueSerializer(value.getClass(), null)
+        : provider.findValueSerializer(valueType, null);
+      if (typeSerializer == null) {
+        serializer.serialize(value, buffer, provider);
+      } else {
+        serializer.serializeWithType(value, buffer, provider, typeSerializer);
+      }
+      return mapper.readTree(buffer.asParser());
+    } catch (IOException e) {
+      return Exceptions.sneakyThrow(e);
+    }
+  }
+
+  private Object getElement(Object value, int index) {
+    if (value instanceof ArrayView) {
+      ArrayView view = (ArrayView) value;
+      return normalize(view.values.get(index), view.content);
+    }
+    return normalize(((ArrayNode) value).get(index), null);
+  }
+
+  private Object getField(Object value, String field) {
+    if (value instanceof ObjectNode) {
+      return normalize(((ObjectNode) value).get(field), null);
+    } else if (!(value instanceof ObjectView)) {
+      return null;
+    }
+    ObjectView view = (ObjectView) value;
+    if (view.plan == null) {
+      return normalize(((Map<?, ?>) view.value).get(field), view.content);
+    } else if (field.equals(view.typeProperty)) {
+      return view.typeId;
+    }
+    CompareProperty property = view.plan.getProperty(field);
+    return property == null ? null : normalize(property.get(view.value), property.getDeclaredType());
+  }
+
+  private DeclaredType getContentType(JavaType valueType) {
+    JavaType contentType = valueType.getContentType();
+    return plans.forType(mapper, contentType == null ? mapper.constructType(Object.class) : contentType);
+  }
+
+  private boolean isDone(CompareResult current) {
+    if (!stopOnFirstDifference) {
+      return false;
+    } else if (differenceFound.get()) {
+      return true;
+    } else if (!current.getFieldsWithDifferences().isEmpty()) {
+      differenceFound.set(true);
+      return true;
+    }
+    return false;
+  }
+
+  @Nullable
+  private Map<Object, Object> indexByField(Object value, String matchField) {
+    final int size = size(value);
+    final Map<Object, Object> index = new LinkedHashMap<>(size * 2);
+    for (int pos = 0; pos < size; pos++) {
+      final Object element = getElement(value, pos);
+      final Object id = isObject(element) ? toMatchKey(getField(element, matchField)) : null;
+      if ((id == null) || (index.put(id, element) != null)) {
+        return null;
+      }
+    }
+    return index;
+  }
+
+  @Nullable
+  private List<MatchedElements> matchElements(Object original, Object revised, String matchField) {
+    final Map<Object, Object> originalIndex = indexByField(original, matchField);
+    final Map<Object, Object> revisedIndex = originalIndex == null ? null : indexByField(revised, matchField);
+    if (revisedIndex == null) {
+      return null;
+    }
+    final List<MatchedElements> matched = new ArrayList<>(Math.max(originalIndex.size(), revisedIndex.size()));
+    originalIndex.forEach((id, element) -> matched.add(new MatchedElements(id, element, revisedIndex.get(id))));
+    revisedIndex.forEach((id, element) -> {
+      if (!originalIndex.containsKey(id)) {
+        matched.add(new MatchedElements(id, null, element));
+      }
+    });
+    return matched;
+  }
+
+  private CompareWalker newChunkWalker() {
+    return new CompareWalker(mapper, plans, generateDiffObject, stopOnFirstDifference, differenceFound);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object normalize(Object value, @Nullable DeclaredType declaredType) {
+    if (value == null) {
+      return null;
+    } else if (value instanceof JsonNode) {
+      return ((JsonNode) value).isNull() || ((JsonNode) value).isMissingNode() ? null : value;
+    } else if (isScalar(value)) {
+      return value;
+    }
+    final ComparePlan plan = plans.forClass(mapper, value.getClass());
+    final DeclaredType resolved = declaredType == null ? plan.getDeclaredType() : declaredType;
+    if (!resolved.isResolved()) {
+      JsonNode node = mapper.valueToTree(value);
+      return (node == null) || node.isNull() ? null : node;
+    }
+    final TypeSerializer typeSerializer = resolved.getTypeSerializer();
+    final JavaType valueType = plan.getKind() == Kind.BEAN ? null : plans.forValueType(mapper, resolved, plan);
+    switch (plan.getKind()) {
+      case MAP:
+        if ((typeSerializer == null) && hasStringKeys((Map<?, ?>) value)) {
+          return new ObjectView(value, valueType, null, getContentType(valueType), null, null, null);
+        }
+        break;
+      case COLLECTION:
+        if (typeSerializer == null) {
+          List<Object> values = value instanceof List ? (List<Object>) value : new ArrayList<>((Collection<Object>) value);
+          return new ArrayView(value, valueType, values, getContentType(valueType));
+        }
+        break;
+      case ARRAY:
+        if (typeSerializer == null) {
+          return new ArrayView(value, valueType, Arrays.asList((Object[]) value), getContentType(valueType));
+        }
+        break;
+      case BEAN:
+        if (typeSerializer == null) {
+          return new ObjectView(value, null, plan, null, null, null, null);
+        } else if (typeSerializer.getTypeInclusion() == JsonTypeInfo.As.PROPERTY) {
+          return new ObjectView(
+            value,
+            null,
+            plan,
+            null,
+            typeSerializer,
+            typeSerializer.getPropertyName(),
+            typeSerializer.getTypeIdResolver().idFromValue(value)
+          );
+        }
+        break;
+      default:
+        break;
+    }
+    JsonNode node = convert(value, valueType, typeSerializer);
+    return (node == null) || node.isNull() || node.isMissingNode() ? null : node;
+  }
+
+  private JsonNode toNode(Object value) {
+    if (value == null) {
+      return null;
+    } else if (value instanceof JsonNode) {
+      return (JsonNode) value;
+    } else if (value instanceof ObjectView) {
+      ObjectView view = (ObjectView) value;
+      return convert(view.value, view.valueType, view.typeSerializer);
+    } else if (value instanceof ArrayView) {
+      return convert(((ArrayView) value).value, ((ArrayView) value).valueType, null);
+    }
+    return convert(value, null, null);
+  }
+
+  private boolean valuesAreEqual(
+    final Object originalVal,
+    final Object revisedVal,
+    final CompareConfig config,
+    final CompareResult current,
+    final String field,
+    final String fullPrefix,
+    final OutputParams diffOutputParams
+  ) {
+    String objectFieldNotation = Checks.defaultIfBlank(config.getObjectFieldNotation(), ".");
+    if (originalVal == null) {
+      if (revisedVal == null) {
+        return true;
+      }
+      if (config.testDeepWhenNullContainer() && isObject(revisedVal)) {
+        compareChildObjects(null, revisedVal, config, current, field, fullPrefix + field + objectFieldNotation, diffOutputParams);
+        return true;
+      }
+      return false;
+    } else if (revisedVal == null) {
+      if (config.testDeepWhenNullContainer() && isObject(originalVal)) {
+        compareChildObjects(originalVal, null, config, current, field, fullPrefix + field + objectFieldNotation, diffOutputParams);
+        return true;
+      }
+      return false;
+    } else if (raw(originalVal) == raw(revisedVal)) {
+      return true;
+    }
+
+    if (config.testDeep()) {
+      if (isObject(originalVal)) {
+        if (isObject(revisedVal)) {
+          compareChildObjects(originalVal, revisedVal, config, current, field, fullPrefix + field + objectFieldNotation, diffOutputParams);
+          return true;
+        }
+        return false;
+      } else if (isObject(revisedVal)) {
+        return false;
+      }
+      if (isArray(originalVal)) {
+        if (!isArray(revisedVal)) {
+          return false;
+        }
+        compareArrays(originalVal, revisedVal, config, current, field, fullPrefix, diffOutputParams, objectFieldNotation);
+        return true;
+      } else if (isArray(revisedVal)) {
+        return false;
+      }
+    } else if ((isObject(originalVal) || isArray(originalVal)) && (isObject(revisedVal) || isArray(revisedVal)) &&
+      (diffOutputParams.getSkipFields() != null)) {
+      return !Compare.hasDifferencesAsJson(
+        Compare.removeFields(toNode(originalVal), diffOutputParams.getSkipFields()),
+        Compare.removeFields(toNode(revisedVal), diffOutputParams.getSkipFields()),
+        diffOutputParams
+      );
+    }
+
+    if ((originalVal.getClass() == revisedVal.getClass()) && !(originalVal instanceof ObjectView) && !(originalVal instanceof ArrayView) &&
+      (originalVal.hashCode() == revisedVal.hashCode()) && originalVal.equals(revisedVal)) {
+      return true;
+    }
+    return !Compare.hasDifferencesAsJson(toNode(originalVal), toNode(revisedVal), diffOutputParams);
+  }
+
+  @FunctionalInterface
+  private interface ElementComparer {
+
+    void compare(CompareWalker walker, int index, CompareResult current, ArrayNode elements);
+
+  }
+
+  private static final class ArrayView {
+
+    private final DeclaredType content;
+    private final Object value;
+    private final List<Object> values;
+    private final JavaType valueType;
+
+    ArrayView(Object value, JavaType valueType, List<Object> values, DeclaredType content) {
+      this.value = value;
+      this.valueType = valueType;
+      this.values = values;
+      this.content = content;
+    }
+
+  }
+
+  private static final class CompareChunk extends RecursiveTask<CompareChunk> {
+
+    private static final long serialVersionUID = 1L;
+    private final ElementComparer comparer;
+    private ArrayNode elements;
+    private final int end;
+    private CompareResult result;
+    private final int start;
+    private final int threshold;
+    private final CompareWalker walker;
+
+    CompareChunk(CompareWalker walker, ElementComparer comparer, int start, int end, int threshold) {
+      this.walker = walker;
+      this.comparer = comparer;
+      this.start = start;
+      this.end = end;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected CompareChunk compute() {
+      if ((end - start) <= threshold) {
+        CompareWalker chunkWalker = walker.newChunkWalker();
+        result = CompareResult.createAndInitialize();
+        elements = Merges.createNewArrayNode();
+        for (int index = start; (index < end) && !chunkWalker.isDone(result); index++) {
+          comparer.compare(chunkWalker, index, result, elements);
+        }
+        return this;
+      }
+      int mid = (start + end) >>> 1;
+      CompareChunk left = new CompareChunk(walker, comparer, start, mid, threshold);
+      CompareChunk right = new CompareChunk(walker, comparer, mid, end, threshold);
+      invokeAll(left, right);
+      return left.join().merge(right.join());
+    }
+
+    private CompareChunk merge(CompareChunk other) {
+      result.addAllFields(other.result);
+      if (other.result.getDifferences().size() > 0) {
+        result.getDifferences().setAll(other.result.getDifferences());
+      }
+      elements.addAll(other.elements);
+      return this;
+    }
+
+  }
+
+  private static final class MatchedElements {
+
+    private final Object id;
+    private final Object original;
+    private final Object revised;
+
+    MatchedElements(Object id, Object original, Object revised) {
+      this.id = id;
+      this.original = original;
+      this.revised = revised;
+    }
+
+  }
+
+  private static final class ObjectView {
+
+    private final DeclaredType content;
+    private final ComparePlan plan;
+    private final String typeId;
+    private final String typeProperty;
+    private final TypeSerializer typeSerializer;
+    private final Object value;
+    private final JavaType valueType;
+
+    ObjectView(
+      Object value,
+      JavaType valueType,
+      ComparePlan plan,
+      DeclaredType content,
+      TypeSerializer typeSerializer,
+      String typeProperty,
+      String typeId
+    ) {
+      this.value = value;
+      this.valueType = valueType;
+      this.plan = plan;
+      this.content = content;
+      this.typeSerializer = typeSerializer;
+      this.typeProperty = typeProperty;
+      this.typeId = typeId;
+    }
+
+    boolean hasSameShape(ObjectView other) {
+      return (plan != null) && (plan == other.plan) && Objects.equals(typeProperty, other.typeProperty) && Objects.equals(typeId, other.typeId);
+    }
+
+  }
+
+}
@@ -0,0 +1,149 @@
+package com.lancethomps.lava.common.concurrent;
+
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+public class AdmissionLimitConfig {
+
+  private double backoffRatio = 0.9d;
+
+  private boolean fair = true;
+
+  private int initialLimit = 10;
+
+  private long latencyThresholdMillis;
+
+  private int maxLimit = 200;
+
+  private int maxQueueSize = 100;
+
+  private long maxWaitMillis = 1000L;
+
+  private int minLimit = 1;
+
+  private AdmissionLimitMode mode = AdmissionLimitMode.FIXED;
+
+  private int probeInterval = 1000;
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof AdmissionLimitConfig)) {
+      return false;
+    }
+    AdmissionLimitConfig other = (AdmissionLimitConfig) obj;
+    return (Double.compare(backoffRatio, other.backoffRatio) == 0) && (fair == other.fair) && (initialLimit == other.initialLimit) &&
+      (latencyThresholdMillis == other.latencyThresholdMillis) && (maxLimit == other.maxLimit) && (maxQueueSize == other.maxQueueSize) &&
+      (maxWaitMillis == other.maxWaitMillis) && (minLimit == other.minLimit) && (mode == other.mode) && (probeInterval == other.probeInterval);
+  }
+
+  public double getBackoffRatio() {
+    return backoffRatio;
+  }
+
+  public AdmissionLimitConfig setBackoffRatio(double backoffRatio) {
+    this.backoffRatio = backoffRatio;
+    return this;
+  }
+
+  public int getInitialLimit() {
+    return initialLimit;
+  }
+
+  public AdmissionLimitConfig setInitialLimit(int initialLimit) {
+    this.initialLimit = initialLimit;
+    return this;
+  }
+
+  public long getLatencyThresholdMillis() {
+    return latencyThresholdMillis;
+  }
+
+  public AdmissionLimitConfig setLatencyThresholdMillis(long latencyThresholdMillis) {
+    this.latencyThresholdMillis = latencyThresholdMillis;
+    return this;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  public AdmissionLimitConfig setMaxLimit(int maxLimit) {
+    this.maxLimit = maxLimit;
+    return this;
+  }
+
+  public int getMaxQueueSize() {
+    return maxQueueSize;
+  }
+
+  public AdmissionLimitConfig setMaxQueueSize(int maxQueueSize) {
+    this.maxQueueSize = maxQueueSize;
+    return this;
+  }
+
+  public long getMaxWaitMillis() {
+    return maxWaitMillis;
+  }
+
+  public AdmissionLimitConfig setMaxWaitMillis(long maxWaitMillis) {
+    this.maxWaitMillis = maxWaitMillis;
+    return this;
+  }
+
+  public int getMinLimit() {
+    return minLimit;
+  }
+
+  public AdmissionLimitConfig setMinLimit(int minLimit) {
+    this.minLimit = minLimit;
+    return this;
+  }
+
+  public AdmissionLimitMode getMode() {
+    return mode;
+  }
+
+  public AdmissionLimitConfig setMode(@Nonnull AdmissionLimitMode mode) {
+    this.mode = mode;
+    return this;
+  }
+
+  public int getProbeInterval() {
+    return probeInterval;
+  }
+
+  public AdmissionLimitConfig setProbeInterval(int probeInterval) {
+    this.probeInterval = probeInterval;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+      backoffRatio,
+      fair,
+      initialLimit,
+      latencyThresholdMillis,
+      maxLimit,
+      maxQueueSize,
+      maxWaitMillis,
+      minLimit,
+      mode,
+      probeInterval
+    );
+  }
+
+  public boolean isFair() {
+    return fair;
+  }
+
+  public AdmissionLimitConfig setFair(boolean fair) {
+    this.fair = fair;
+    return this;
+  }
+
+}
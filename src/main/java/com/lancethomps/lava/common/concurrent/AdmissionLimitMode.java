@@ -0,0 +1,21 @@
+package com.lancethomps.lava.common.concurrent;
+
+import com.lancethomps.lava.common.Enums;
+
+public enum AdmissionLimitMode {
+
+  AIMD,
+
+  FIXED,
+
+  VEGAS;
+
+  static {
+    Enums.createStringToTypeMap(AdmissionLimitMode.class);
+  }
+
+  public static AdmissionLimitMode fromString(String val) {
+    return Enums.fromString(AdmissionLimitMode.class, val);
+  }
+
+}
@@ -0,0 +1,311 @@
+package com.lancethomps.lava.common.concurrent;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nonnull;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.lancethomps.lava.common.lambda.ThrowingSupplier;
+import com.lancethomps.lava.common.logging.Logs;
+import com.lancethomps.lava.common.metrics.StatusMonitor;
+import com.lancethomps.lava.common.ser.Serializer;
+
+import io.dropwizard.metrics5.Gauge;
+import io.dropwizard.metrics5.MetricName;
+import io.dropwizard.metrics5.MetricRegistry;
+import io.dropwizard.metrics5.Timer;
+
+public class AdmissionLimiter {
+
+  public static final String METRIC_REGISTRY = "admissionControl";
+  private static final Logger LOG = LogManager.getLogger(AdmissionLimiter.class);
+  private final AdmissionLimitConfig config;
+  private final AtomicBoolean configMismatchWarned = new AtomicBoolean();
+  private final LongAdder droppedCount = new LongAdder();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+  private final ReentrantLock limitLock = new ReentrantLock();
+  private volatile long minLatencyNanos = Long.MAX_VALUE;
+  private final String name;
+  private final LimitSemaphore permits;
+  private long probeMinLatencyNanos = Long.MAX_VALUE;
+  private final AtomicInteger queued = new AtomicInteger();
+  private final LongAdder rejectedCount = new LongAdder();
+  private long samples;
+  private final LongAdder timeoutCount = new LongAdder();
+  private final Timer waitTimer;
+
+  public AdmissionLimiter(@Nonnull String name, @Nonnull AdmissionLimitConfig config) {
+    super();
+    this.name = name;
+    this.config = config;
+    limit = clampLimit(config.getInitialLimit());
+    permits = new LimitSemaphore(limit, config.isFair());
+    waitTimer = StatusMonitor.timer(METRIC_REGISTRY, name, "wait");
+    MetricRegistry metrics = StatusMonitor.registry(METRIC_REGISTRY);
+    MetricName metricName = MetricRegistry.name(name);
+    metrics.remove(metricName);
+    metrics.register(metricName, (Gauge<Map<String, Object>>) this::getStats);
+  }
+
+  public Permit acquire() throws InterruptedException {
+    long start = System.nanoTime();
+    try {
+      if (!permits.tryAcquire(0L, TimeUnit.NANOSECONDS)) {
+        awaitPermit();
+      }
+    } finally {
+      waitTimer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+    return new Permit(this, inFlight.incrementAndGet(), System.nanoTime());
+  }
+
+  public <T> T exec(@Nonnull ThrowingSupplier<T> supplier) throws Exception {
+    try (Permit permit = acquire()) {
+      try {
+        return supplier.get();
+      } catch (RejectedExecutionException | TimeoutException e) {
+        permit.drop();
+        throw e;
+      } catch (Exception e) {
+        permit.ignore();
+        throw e;
+      }
+    }
+  }
+
+  public AdmissionLimitConfig getConfig() {
+    return config;
+  }
+
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getQueueDepth() {
+    return queued.get();
+  }
+
+  public long getRejectedCount() {
+    return rejectedCount.sum();
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new TreeMap<>();
+    long minLatency = minLatencyNanos;
+    stats.put("available_permits", permits.availablePermits());
+    stats.put("dropped_count", droppedCount.sum());
+    stats.put("in_flight", inFlight.get());
+    stats.put("limit", limit);
+    stats.put("min_latency_ms", minLatency == Long.MAX_VALUE ? 0d : minLatency / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    stats.put("mode", config.getMode());
+    stats.put("queue_depth", queued.get());
+    stats.put("rejected_count", rejectedCount.sum());
+    stats.put("timeout_count", timeoutCount.sum());
+    return stats;
+  }
+
+  public long getTimeoutCount() {
+    return timeoutCount.sum();
+  }
+
+  public AdmissionLimiter setLimit(int newLimit) {
+    limitLock.lock();
+    try {
+      int next = clampLimit(newLimit);
+      int delta = next - limit;
+      if (delta > 0) {
+        permits.release(delta);
+      } else if (delta < 0) {
+        permits.reducePermits(-delta);
+      }
+      if (delta != 0) {
+        Logs.logDebug(LOG, "Admission limit for [%s] changed from [%s] to [%s].", name, limit, next);
+        limit = next;
+      }
+    } finally {
+      limitLock.unlock();
+    }
+    return this;
+  }
+
+  void unregisterMetrics() {
+    MetricRegistry metrics = StatusMonitor.registry(METRIC_REGISTRY);
+    metrics.remove(MetricRegistry.name(name));
+    metrics.remove(MetricRegistry.name(name, "wait"));
+  }
+
+  boolean warnConfigMismatch(@Nonnull AdmissionLimitConfig requested) {
+    if ((requested == config) || requested.equals(config) || !configMismatchWarned.compareAndSet(false, true)) {
+      return false;
+    }
+    Logs.logWarn(
+      LOG,
+      "Admission limiter [%s] already exists with a different config; ignoring the requested config. existing=%s requested=%s",
+      name,
+      Serializer.toJson(config),
+      Serializer.toJson(requested)
+    );
+    return true;
+  }
+
+  private void awaitPermit() throws InterruptedException {
+    int depth = queued.incrementAndGet();
+    try {
+      if ((depth > config.getMaxQueueSize()) || (config.getMaxWaitMillis() <= 0L)) {
+        rejectedCount.increment();
+        throw new RejectedExecutionException(String.format(
+          "Admission rejected for [%s]: limit=%s inFlight=%s queued=%s maxQueueSize=%s",
+          name,
+          limit,
+          inFlight.get(),
+          depth - 1,
+          config.getMaxQueueSize()
+        ));
+      }
+      if (!permits.tryAcquire(config.getMaxWaitMillis(), TimeUnit.MILLISECONDS)) {
+        timeoutCount.increment();
+        throw new RejectedExecutionException(String.format(
+          "Timed out after %sms waiting for admission to [%s]: limit=%s",
+          config.getMaxWaitMillis(),
+          name,
+          limit
+        ));
+      }
+    } finally {
+      queued.decrementAndGet();
+    }
+  }
+
+  private int clampLimit(int value) {
+    return Math.max(Math.max(1, config.getMinLimit()), Math.min(Math.max(config.getMinLimit(), config.getMaxLimit()), value));
+  }
+
+  private void release(Permit permit, boolean sample) {
+    long latency = System.nanoTime() - permit.startNanos;
+    inFlight.decrementAndGet();
+    permits.release();
+    if (permit.dropped) {
+      droppedCount.increment();
+    }
+    if (sample && (config.getMode() != AdmissionLimitMode.FIXED) && limitLock.tryLock()) {
+      try {
+        updateLimit(latency, permit.inFlight, permit.dropped);
+      } finally {
+        limitLock.unlock();
+      }
+    }
+  }
+
+  private void updateLimit(long latency, int inFlightAtStart, boolean dropped) {
+    int current = limit;
+    long threshold = TimeUnit.MILLISECONDS.toNanos(config.getLatencyThresholdMillis());
+    boolean overloaded = dropped || ((threshold > 0L) && (latency > threshold));
+    if (overloaded) {
+      setLimit((int) (current * config.getBackoffRatio()));
+      return;
+    }
+    boolean utilized = (inFlightAtStart * 2) >= current;
+    if (config.getMode() == AdmissionLimitMode.AIMD) {
+      if (utilized) {
+        setLimit(current + 1);
+      }
+      return;
+    }
+    samples++;
+    long minLatency = minLatencyNanos;
+    probeMinLatencyNanos = Math.min(probeMinLatencyNanos, latency);
+    boolean probe = (config.getProbeInterval() > 0) && ((samples % config.getProbeInterval()) == 0L);
+    if ((minLatency == Long.MAX_VALUE) || (latency < minLatency)) {
+      minLatency = Math.max(1L, latency);
+      minLatencyNanos = minLatency;
+    } else if (probe) {
+      minLatency = Math.max(1L, probeMinLatencyNanos);
+      minLatencyNanos = minLatency;
+    }
+    if (probe) {
+      probeMinLatencyNanos = Long.MAX_VALUE;
+    }
+    double queueSize = current * (1d - (minLatency / (double) Math.max(latency, minLatency)));
+    double step = Math.max(1d, Math.log10(current));
+    if ((queueSize <= (3d * step)) && utilized) {
+      setLimit(current + (int) step);
+    } else if (queueSize >= (6d * step)) {
+      setLimit(current - (int) step);
+    }
+  }
+
+  public static final class Permit implements AutoCloseable {
+
+    private volatile boolean dropped;
+    private final int inFlight;
+    private final AdmissionLimiter limiter;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile boolean sample = true;
+    private final long startNanos;
+
+    Permit(AdmissionLimiter limiter, int inFlight, long startNanos) {
+      super();
+      this.limiter = limiter;
+      this.inFlight = inFlight;
+      this.startNanos = startNanos;
+    }
+
+    @Override
+    public void close() {
+      if (released.compareAndSet(false, true)) {
+        limiter.release(this, sample);
+      }
+    }
+
+    public Permit drop() {
+      dropped = true;
+      return this;
+    }
+
+    public Permit ignore() {
+      sample = false;
+      return this;
+    }
+
+  }
+
+  private static final class LimitSemaphore extends Semaphore {
+
+    private static final long serialVersionUID = 3516425012741867920L;
+
+    LimitSemaphore(int permits, boolean fair) {
+      super(permits, fair);
+    }
+
+    @Override
+    protected void reducePermits(int reduction) {
+      super.reducePermits(reduction);
+    }
+
+  }
+
+}
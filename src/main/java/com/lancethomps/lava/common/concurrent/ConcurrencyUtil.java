@@ -3,10 +3,13 @@ package com.lancethomps.lava.common.concurrent;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -19,8 +22,15 @@ import com.lancethomps.lava.common.logging.Logs;
 
 public class ConcurrencyUtil {
 
+  private static final Map<String, AdmissionLimiter> ADMISSION_LIMITERS = new ConcurrentHashMap<>();
   private static final Logger LOG = LogManager.getLogger(ConcurrencyUtil.class);
 
+  public static <T> T execWithAdmissionLimit(@Nonnull String key, @Nonnull AdmissionLimitConfig config, @Nonnull ThrowingSupplier<T> supplier)
+    throws Exception {
+    return getAdmissionLimiter(key, config).exec(supplier);
+  }
+
+  @Deprecated
   public static <T, K, V> T execWithMax(
     Map<K, Object> synchObjects,
     K key,
@@ -52,9 +62,39 @@ public class ConcurrencyUtil {
     }
   }
 
+  @Nullable
+  public static AdmissionLimiter getAdmissionLimiter(@Nonnull String key) {
+    return ADMISSION_LIMITERS.get(key);
+  }
+
+  @Nonnull
+  public static AdmissionLimiter getAdmissionLimiter(@Nonnull String key, @Nonnull AdmissionLimitConfig config) {
+    AdmissionLimiter limiter = ADMISSION_LIMITERS.get(key);
+    if (limiter == null) {
+      return ADMISSION_LIMITERS.computeIfAbsent(key, k -> new AdmissionLimiter(k, config));
+    }
+    limiter.warnConfigMismatch(config);
+    return limiter;
+  }
+
+  public static Map<String, Map<String, Object>> getAdmissionLimiterStats() {
+    Map<String, Map<String, Object>> stats = new TreeMap<>();
+    ADMISSION_LIMITERS.forEach((key, limiter) -> stats.put(key, limiter.getStats()));
+    return stats;
+  }
+
   public static <T> void parallelStreamWithLimit(@Nonnull List<T> list, int limit, @Nonnull Consumer<Stream<T>> streamConsumer) {
     List<List<T>> brokenUpLists = Collect.breakUpListByTotalSubLists(list, limit);
     brokenUpLists.parallelStream().map(Collection::stream).forEach(streamConsumer);
   }
 
+  @Nullable
+  public static AdmissionLimiter removeAdmissionLimiter(@Nonnull String key) {
+    AdmissionLimiter limiter = ADMISSION_LIMITERS.remove(key);
+    if (limiter != null) {
+      limiter.unregisterMetrics();
+    }
+    return limiter;
+  }
+
 }
@@ -3,24 +3,40 @@ package com.lancethomps.lava.common.concurrent;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
 
+import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.lancethomps.lava.common.logging.Logs;
 import com.lancethomps.lava.common.ser.Serializer;
 
 public class ExecutorFactory {
 
-  private static final ConcurrentHashMap<String, ThreadPoolExecutor> EXECUTORS = new ConcurrentHashMap<>();
+  private static final ConcurrentHashMap<String, ExecutorService> EXECUTORS = new ConcurrentHashMap<>();
+
+  private static final Logger LOG = LogManager.getLogger(ExecutorFactory.class);
 
   private static final AtomicInteger POOL_COUNT = new AtomicInteger(0);
 
+  private static final ThreadFactoryCreator VIRTUAL_THREAD_FACTORY_CREATOR = createVirtualThreadFactoryCreator();
+
   public static CachedAndQueuedThreadPoolExecutor getCachedThreadPool(int minSpareThreads, int maxThreads, String threadNamePrefix) {
     final TaskQueue queue = new TaskQueue(Integer.MAX_VALUE);
     final String execName = defaultIfBlank(threadNamePrefix, "pool-" + POOL_COUNT.incrementAndGet());
@@ -43,13 +59,30 @@ public class ExecutorFactory {
 
   public static Map<String, Object> getInitializedExecutorsStats(String prefix) {
     return EXECUTORS.entrySet().stream().flatMap(e -> {
-      ThreadPoolExecutor exec = e.getValue();
+      ExecutorService exec = e.getValue();
       Map<String, Object> stats = Serializer.createJsonMap();
       addExecutorStat(prefix, e.getKey(), stats, null, exec.toString());
-      addExecutorStat(prefix, e.getKey(), stats, "poolSize", exec.getPoolSize());
-      addExecutorStat(prefix, e.getKey(), stats, "activeThreads", exec.getActiveCount());
-      addExecutorStat(prefix, e.getKey(), stats, "queuedTasks", exec.getQueue().size());
-      addExecutorStat(prefix, e.getKey(), stats, "completedTasks", exec.getCompletedTaskCount());
+      if (exec instanceof ThreadPoolExecutor) {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) exec;
+        addExecutorStat(prefix, e.getKey(), stats, "poolSize", pool.getPoolSize());
+        addExecutorStat(prefix, e.getKey(), stats, "activeThreads", pool.getActiveCount());
+        addExecutorStat(prefix, e.getKey(), stats, "queuedTasks", pool.getQueue().size());
+        addExecutorStat(prefix, e.getKey(), stats, "completedTasks", pool.getCompletedTaskCount());
+      } else if (exec instanceof ForkJoinPool) {
+        ForkJoinPool pool = (ForkJoinPool) exec;
+        addExecutorStat(prefix, e.getKey(), stats, "poolSize", pool.getPoolSize());
+        addExecutorStat(prefix, e.getKey(), stats, "activeThreads", pool.getActiveThreadCount());
+        addExecutorStat(prefix, e.getKey(), stats, "runningThreads", pool.getRunningThreadCount());
+        addExecutorStat(prefix, e.getKey(), stats, "parallelism", pool.getParallelism());
+        addExecutorStat(prefix, e.getKey(), stats, "queuedTasks", pool.getQueuedTaskCount());
+        addExecutorStat(prefix, e.getKey(), stats, "queuedSubmissions", pool.getQueuedSubmissionCount());
+        addExecutorStat(prefix, e.getKey(), stats, "stealCount", pool.getStealCount());
+      } else if (exec instanceof VirtualThreadPerTaskExecutor) {
+        VirtualThreadPerTaskExecutor virtual = (VirtualThreadPerTaskExecutor) exec;
+        addExecutorStat(prefix, e.getKey(), stats, "activeThreads", virtual.getActiveCount());
+        addExecutorStat(prefix, e.getKey(), stats, "submittedTasks", virtual.getSubmittedCount());
+        addExecutorStat(prefix, e.getKey(), stats, "completedTasks", virtual.getCompletedTaskCount());
+      }
       return stats.entrySet().stream();
     }).collect(Collectors.toMap(Entry::getKey, Entry::getValue));
   }
@@ -63,8 +96,80 @@ public class ExecutorFactory {
     return exec;
   }
 
+  @Nullable
+  public static VirtualThreadPerTaskExecutor getVirtualThreadPerTaskExecutor(String threadNamePrefix) {
+    if (VIRTUAL_THREAD_FACTORY_CREATOR == null) {
+      return null;
+    }
+    final String execName = defaultIfBlank(threadNamePrefix, "pool-" + POOL_COUNT.incrementAndGet());
+    try {
+      final ExecutorService delegate = (ExecutorService) Executors.class
+        .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+        .invoke(null, VIRTUAL_THREAD_FACTORY_CREATOR.create(execName + '-'));
+      final VirtualThreadPerTaskExecutor exec = new VirtualThreadPerTaskExecutor(execName, delegate);
+      EXECUTORS.put(execName, exec);
+      return exec;
+    } catch (Throwable e) {
+      Logs.logError(LOG, e, "Could not create virtual thread executor [%s]", execName);
+      return null;
+    }
+  }
+
+  public static ExecutorService getVirtualThreadPerTaskExecutorOrCachedThreadPool(int maxThreads, String threadNamePrefix) {
+    ExecutorService exec = getVirtualThreadPerTaskExecutor(threadNamePrefix);
+    return exec != null ? exec : getCachedThreadPool(0, maxThreads, threadNamePrefix);
+  }
+
+  public static WorkStealingPool getWorkStealingPool(String threadNamePrefix) {
+    return getWorkStealingPool(Runtime.getRuntime().availableProcessors(), threadNamePrefix);
+  }
+
+  public static WorkStealingPool getWorkStealingPool(int parallelism, String threadNamePrefix) {
+    final String execName = defaultIfBlank(threadNamePrefix, "pool-" + POOL_COUNT.incrementAndGet());
+    final AtomicInteger threadCount = new AtomicInteger(0);
+    final WorkStealingPool exec = new WorkStealingPool(
+      parallelism,
+      pool -> {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName(execName + '-' + threadCount.incrementAndGet());
+        return thread;
+      },
+      null,
+      true
+    );
+    EXECUTORS.put(execName, exec);
+    return exec;
+  }
+
+  public static boolean isVirtualThreadsSupported() {
+    return VIRTUAL_THREAD_FACTORY_CREATOR != null;
+  }
+
   private static void addExecutorStat(String prefix, String name, Map<String, Object> stats, String key, Object val) {
     stats.put(prefix + name + (key != null ? ("_" + key) : ""), val);
   }
 
+  private static ThreadFactoryCreator createVirtualThreadFactoryCreator() {
+    try {
+      final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+      final Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      final Method name = builderType.getMethod("name", String.class, long.class);
+      final Method factory = builderType.getMethod("factory");
+      Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      ThreadFactoryCreator creator = prefix -> (ThreadFactory) factory.invoke(name.invoke(ofVirtual.invoke(null), prefix, 1L));
+      creator.create("virtual-check-");
+      return creator;
+    } catch (Throwable e) {
+      Logs.logDebug(LOG, "Virtual threads are not supported on this runtime: %s", e.toString());
+      return null;
+    }
+  }
+
+  @FunctionalInterface
+  private interface ThreadFactoryCreator {
+
+    ThreadFactory create(String prefix) throws Exception;
+
+  }
+
 }
@@ -0,0 +1,110 @@
+package com.lancethomps.lava.common.concurrent;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+public class VirtualThreadPerTaskExecutor extends AbstractExecutorService {
+
+  private final AtomicInteger activeCount = new AtomicInteger(0);
+
+  private final LongAdder completedCount = new LongAdder();
+
+  private final ExecutorService delegate;
+
+  private final String name;
+
+  private final LongAdder submittedCount = new LongAdder();
+
+  private boolean useCurrentThreadNameSuffix = true;
+
+  public VirtualThreadPerTaskExecutor(@Nonnull String name, @Nonnull ExecutorService delegate) {
+    super();
+    this.name = name;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    Runnable task = useCurrentThreadNameSuffix && !(command instanceof WrappedCommandWithOriginalThreadName)
+      ? new WrappedCommandWithOriginalThreadName<>(command)
+      : command;
+    submittedCount.increment();
+    try {
+      delegate.execute(() -> {
+        activeCount.incrementAndGet();
+        try {
+          task.run();
+        } finally {
+          activeCount.decrementAndGet();
+          completedCount.increment();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      submittedCount.decrement();
+      throw e;
+    }
+  }
+
+  public int getActiveCount() {
+    return activeCount.get();
+  }
+
+  public long getCompletedTaskCount() {
+    return completedCount.sum();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getSubmittedCount() {
+    return submittedCount.sum();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  public boolean isUseCurrentThreadNameSuffix() {
+    return useCurrentThreadNameSuffix;
+  }
+
+  public void setUseCurrentThreadNameSuffix(boolean useCurrentThreadNameSuffix) {
+    this.useCurrentThreadNameSuffix = useCurrentThreadNameSuffix;
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return delegate.shutdownNow();
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + "[" + name + ", active threads = " + activeCount.get() + ", submitted tasks = " + submittedCount.sum()
+      + ", completed tasks = " + completedCount.sum() + ", shutdown = " + delegate.isShutdown() + ']';
+  }
+
+}
@@ -0,0 +1,89 @@
+package com.lancethomps.lava.common.concurrent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+public class WorkStealingPool extends ForkJoinPool {
+
+  private boolean useCurrentThreadNameSuffix = true;
+
+  public WorkStealingPool(int parallelism, ForkJoinWorkerThreadFactory factory, Thread.UncaughtExceptionHandler handler, boolean asyncMode) {
+    super(parallelism, factory, handler, asyncMode);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    super.execute(wrap(task));
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) {
+    return super.invokeAll(wrapAll(tasks));
+  }
+
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit) throws InterruptedException {
+    return super.invokeAll(wrapAll(tasks), timeout, unit);
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+    return super.invokeAny(wrapAll(tasks));
+  }
+
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+    throws InterruptedException, ExecutionException, TimeoutException {
+    return super.invokeAny(wrapAll(tasks), timeout, unit);
+  }
+
+  public boolean isUseCurrentThreadNameSuffix() {
+    return useCurrentThreadNameSuffix;
+  }
+
+  public void setUseCurrentThreadNameSuffix(boolean useCurrentThreadNameSuffix) {
+    this.useCurrentThreadNameSuffix = useCurrentThreadNameSuffix;
+  }
+
+  @Override
+  public <T> ForkJoinTask<T> submit(Callable<T> task) {
+    return super.submit(wrap(task));
+  }
+
+  @Override
+  public ForkJoinTask<?> submit(Runnable task) {
+    return super.submit(wrap(task));
+  }
+
+  @Override
+  public <T> ForkJoinTask<T> submit(Runnable task, T result) {
+    return super.submit(wrap(task), result);
+  }
+
+  private <T> Callable<T> wrap(Callable<T> task) {
+    if (useCurrentThreadNameSuffix && !(task instanceof WrappedCommandWithOriginalThreadName)) {
+      return new WrappedCommandWithOriginalThreadName<>(task);
+    }
+    return task;
+  }
+
+  private Runnable wrap(Runnable task) {
+    if (useCurrentThreadNameSuffix && !(task instanceof ForkJoinTask) && !(task instanceof WrappedCommandWithOriginalThreadName)) {
+      return new WrappedCommandWithOriginalThreadName<>(task);
+    }
+    return task;
+  }
+
+  private <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+    return tasks.stream().map(this::wrap).collect(Collectors.toList());
+  }
+
+}
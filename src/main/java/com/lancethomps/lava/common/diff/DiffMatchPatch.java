@@ -46,6 +46,7 @@ public class DiffMatchPatch {
     }
   }
 
+  public static final int DEFAULT_LINE_PARALLEL_THRESHOLD = 4096;
   private static final Pattern BLANK_LINE_END = Pattern.compile("\\n\\r?\\n\\Z", Pattern.DOTALL);
   private static final Pattern BLANK_LINE_START = Pattern.compile("\\A\\r?\\n\\r?\\n", Pattern.DOTALL);
   private static final String TAG_REGEX = "<(\"[^\"]*\"|'[^']*'|[^'\">])*>";
@@ -53,6 +54,8 @@ public class DiffMatchPatch {
   private static final String WORD_SEPARATOR_REGEX = "[ :;?!]|" + TAG_REGEX;
   private static final Pattern WORD_SEPARATOR_PATTERN = Pattern.compile(WORD_SEPARATOR_REGEX);
   private short diffEditCost = 4;
+  private int diffLineParallelThreshold = DEFAULT_LINE_PARALLEL_THRESHOLD;
+  private boolean diffLinePatience;
   private DiffMode diffMode = DiffMode.LINE_LEVEL;
   private float diffTimeout = 1.0f;
   private int matchDistance = 1000;
@@ -585,6 +588,10 @@ public class DiffMatchPatch {
     return diffs;
   }
 
+  public List<Diff> diffMainLines(final String text1, final String text2) {
+    return new LineDiff(diffLinePatience, diffLineParallelThreshold).diff(text1, text2);
+  }
+
   public String diffPrettyHtml(final List<Diff> diffs) {
     StringBuilder html = new StringBuilder();
     for (Diff aDiff : diffs) {
@@ -657,6 +664,61 @@ public class DiffMatchPatch {
     return delta;
   }
 
+  public String diffToUnified(final List<Diff> diffs, final String name1, final String name2, final int contextSize) {
+    List<DiffOperation> ops = new ArrayList<>();
+    List<String> lines = new ArrayList<>();
+    for (Diff aDiff : diffs) {
+      String text = aDiff.getText();
+      int start = 0;
+      while (start < text.length()) {
+        int end = text.indexOf('\n', start);
+        end = end == -1 ? text.length() : end + 1;
+        ops.add(aDiff.getOperation());
+        lines.add(text.substring(start, end).replaceFirst("\\r?\\n$", ""));
+        start = end;
+      }
+    }
+    int size = lines.size();
+    int[] oldNumbers = new int[size + 1];
+    int[] newNumbers = new int[size + 1];
+    oldNumbers[0] = 1;
+    newNumbers[0] = 1;
+    for (int i = 0; i < size; i++) {
+      oldNumbers[i + 1] = oldNumbers[i] + (ops.get(i) == DiffOperation.INSERT ? 0 : 1);
+      newNumbers[i + 1] = newNumbers[i] + (ops.get(i) == DiffOperation.DELETE ? 0 : 1);
+    }
+    StringBuilder text = new StringBuilder();
+    text.append("--- ").append(name1).append('\n').append("+++ ").append(name2).append('\n');
+    int pos = 0;
+    while (pos < size) {
+      int change = pos;
+      while ((change < size) && (ops.get(change) == DiffOperation.EQUAL)) {
+        change++;
+      }
+      if (change == size) {
+        break;
+      }
+      int start = Math.max(pos, change - contextSize);
+      int lastChange = change;
+      for (int i = change + 1; (i < size) && (i <= (lastChange + (2 * contextSize) + 1)); i++) {
+        if (ops.get(i) != DiffOperation.EQUAL) {
+          lastChange = i;
+        }
+      }
+      int end = Math.min(size, lastChange + contextSize + 1);
+      int oldCount = oldNumbers[end] - oldNumbers[start];
+      int newCount = newNumbers[end] - newNumbers[start];
+      text.append("@@ -").append(oldCount == 0 ? oldNumbers[start] - 1 : oldNumbers[start]).append(',').append(oldCount)
+        .append(" +").append(newCount == 0 ? newNumbers[start] - 1 : newNumbers[start]).append(',').append(newCount).append(" @@\n");
+      for (int i = start; i < end; i++) {
+        DiffOperation op = ops.get(i);
+        text.append(op == DiffOperation.INSERT ? '+' : op == DiffOperation.DELETE ? '-' : ' ').append(lines.get(i)).append('\n');
+      }
+      pos = end;
+    }
+    return text.toString();
+  }
+
   // CHECKSTYLE.OFF: MethodNameCase
   public int diffXIndex(final List<Diff> diffs, final int loc) {
     int chars1 = 0;
@@ -697,6 +759,22 @@ public class DiffMatchPatch {
     this.diffEditCost = diffEditCost;
   }
 
+  public int getDiffLineParallelThreshold() {
+    return diffLineParallelThreshold;
+  }
+
+  public void setDiffLineParallelThreshold(final int diffLineParallelThreshold) {
+    this.diffLineParallelThreshold = diffLineParallelThreshold;
+  }
+
+  public boolean isDiffLinePatience() {
+    return diffLinePatience;
+  }
+
+  public void setDiffLinePatience(final boolean diffLinePatience) {
+    this.diffLinePatience = diffLinePatience;
+  }
+
   public float getDiffTimeout() {
     return diffTimeout;
   }
@@ -1675,14 +1753,7 @@ public class DiffMatchPatch {
 
   private List<Diff> diffLineMode(final String text1, final String text2, final long deadline) {
 
-    LinesOrWordsToCharsResult b = diffLinesOrWordsToChars(text1, text2);
-    String resultText1 = b.chars1;
-    String resultText2 = b.chars2;
-    List<String> linearray = b.lineArray;
-
-    LinkedList<Diff> diffs = (LinkedList<Diff>) diffMain(resultText1, resultText2, false, deadline);
-
-    diffCharsToLines(diffs, linearray);
+    LinkedList<Diff> diffs = (LinkedList<Diff>) diffMainLines(text1, text2);
 
     diffCleanupSemantic(diffs);
 
@@ -15,16 +15,22 @@ import static org.apache.commons.lang3.StringUtils.join;
 import static org.apache.commons.lang3.math.NumberUtils.toInt;
 import static org.apache.commons.lang3.tuple.Pair.of;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -40,6 +46,7 @@ import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
 import com.google.common.collect.Lists;
 import com.lancethomps.lava.common.CommonConstants;
+import com.lancethomps.lava.common.Exceptions;
 import com.lancethomps.lava.common.collections.MapUtil;
 import com.lancethomps.lava.common.diff.DiffMatchPatch.DiffOperation;
 import com.lancethomps.lava.common.diff.domain.DiffBlock;
@@ -52,6 +59,7 @@ import com.lancethomps.lava.common.diff.domain.DiffLineType;
 import com.lancethomps.lava.common.diff.domain.DiffOutputDestination;
 import com.lancethomps.lava.common.diff.domain.DiffOutputFormat;
 import com.lancethomps.lava.common.file.FileUtil;
+import com.lancethomps.lava.common.lambda.ThrowingSupplier;
 import com.lancethomps.lava.common.logging.Logs;
 import com.lancethomps.lava.common.os.OsUtil;
 import com.lancethomps.lava.common.ser.Serializer;
@@ -59,6 +67,10 @@ import com.lancethomps.lava.common.string.StringUtil;
 
 public class DiffToHtml {
 
+  public static final int DEFAULT_MAX_LINE_LENGTH_FOR_HIGHLIGHT = 10000;
+
+  public static final int DEFAULT_MAX_WORD_HIGHLIGHTS_PER_LINE = 100;
+
   public static final DiffMatchPatch DMP = new DiffMatchPatch();
 
   public static final Map<String, String> LINE_TYPE = Collections
@@ -95,6 +107,7 @@ public class DiffToHtml {
   private static final Pattern NEW_FILE_MODE = Pattern.compile("^new file mode (\\d{6})");
   private static final Pattern NEW_MODE = Pattern.compile("^new mode (\\d{6})");
   private static final Pattern NON_COMBINED_REGEX = Pattern.compile("^@@ -(\\d+)(?:,\\d+)? \\+(\\d+)(?:,\\d+)? @@.*");
+  private static final String NO_NEWLINE_PREFIX = "\\ No newline at end of file";
   private static final Pattern NO_NEWLINE_REGEX = Pattern.compile("\\\\? No newline at end of file\\n?");
   private static final Pattern OLD_MODE = Pattern.compile("^old mode (\\d{6})");
   private static final Pattern RENAME_FROM = Pattern.compile("^rename from \"?(.+)\"?");
@@ -122,6 +135,8 @@ public class DiffToHtml {
 
   private DiffOutputFormat diffOutputFormat = DiffOutputFormat.HTML;
 
+  private Consumer<DiffFile> fileConsumer;
+
   private String html;
 
   private String htmlTitle;
@@ -132,7 +147,9 @@ public class DiffToHtml {
 
   private String matching;
 
-  private int maxLineLengthForHighlight = Integer.MAX_VALUE;
+  private int maxLineLengthForHighlight = DEFAULT_MAX_LINE_LENGTH_FOR_HIGHLIGHT;
+
+  private int maxWordHighlightsPerLine = DEFAULT_MAX_WORD_HIGHLIGHTS_PER_LINE;
 
   private AtomicInteger newLine;
 
@@ -183,33 +200,50 @@ public class DiffToHtml {
     List<String> fileListHtml = Lists.newArrayList();
     List<String> diffHtml = Lists.newArrayList();
     for (DiffFile file : diffFiles) {
-      Map<String, Object> templateData = getTemplateDataForFile(file);
-      fileListHtml.add(renderTemplate("file-summary", "line", templateData));
-
-      DiffFileHtml fileHtml = null;
-      if (isNotEmpty(file.getBlocks())) {
-        fileHtml = generateSideBySideFileHtml(file);
-      } else {
-        fileHtml = generateEmptyDiff();
-      }
-      templateData.put("diffs", fileHtml);
-      diffHtml.add(renderTemplate("side-by-side", "file-diff", templateData));
+      diffHtml.add(generateFileHtml(file, fileListHtml));
     }
     String filesContent = StringUtils.join(fileListHtml, System.lineSeparator());
     String diffOutput = StringUtils.join(diffHtml, System.lineSeparator());
     String rawHtml = renderTemplate("file-summary", "wrapper", of("filesNumber", diffFiles.size()), of("files", filesContent)) +
       renderTemplate("generic", "wrapper", of("content", diffOutput));
-    String css = getResourceFile("diff2html.css");
-    String js = StringUtils.replace(getResourceFile("diff2html.js"), "</script", "</scr\\ipt");
-    html = renderTemplate(
-      "diff2html",
-      unwrappedHtml ? "unwrapped" : null,
-      of("pageTitle", defaultIfBlank(htmlTitle, "Diff to HTML")),
-      of("diff", rawHtml),
-      of("d2hCss", css),
-      of("d2hJs", js)
-    );
+    html = generatePageHtml(rawHtml);
+
+    return this;
+  }
 
+  public DiffToHtml generateHtml(Reader reader, Writer writer) throws Exception {
+    String[] parts = splitStreamingTemplates();
+    writer.write(parts[0]);
+    writer.write(parts[1]);
+    List<String> fileListHtml = writeFileDiffs(reader, writer);
+    writer.write(parts[2]);
+    writeFileSummary(writer, fileListHtml);
+    writer.write(parts[3]);
+    writer.flush();
+    return this;
+  }
+
+  public DiffToHtml generateHtml(ThrowingSupplier<? extends Reader> source, Writer writer) throws Exception {
+    List<String> fileListHtml = Lists.newArrayList();
+    try (Reader reader = source.get()) {
+      parseDiff(reader, file -> {
+        try {
+          fileListHtml.add(renderTemplate("file-summary", "line", getTemplateDataForFile(file)));
+        } catch (Exception e) {
+          Exceptions.sneakyThrow(e);
+        }
+      });
+    }
+    String[] parts = splitStreamingTemplates();
+    writer.write(parts[0]);
+    writeFileSummary(writer, fileListHtml);
+    writer.write(parts[1]);
+    try (Reader reader = source.get()) {
+      writeFileDiffs(reader, writer);
+    }
+    writer.write(parts[2]);
+    writer.write(parts[3]);
+    writer.flush();
     return this;
   }
 
@@ -226,6 +260,10 @@ public class DiffToHtml {
     return this;
   }
 
+  public DiffToHtml setDiffInput(List<DiffMatchPatch.Diff> diffs, String originalName, String revisedName) {
+    return setDiffInput(DMP.diffToUnified(diffs, originalName, revisedName, 3));
+  }
+
   public DiffOutputDestination getDiffOutputDestination() {
     return diffOutputDestination;
   }
@@ -275,6 +313,24 @@ public class DiffToHtml {
     return this;
   }
 
+  public int getMaxLineLengthForHighlight() {
+    return maxLineLengthForHighlight;
+  }
+
+  public DiffToHtml setMaxLineLengthForHighlight(int maxLineLengthForHighlight) {
+    this.maxLineLengthForHighlight = maxLineLengthForHighlight;
+    return this;
+  }
+
+  public int getMaxWordHighlightsPerLine() {
+    return maxWordHighlightsPerLine;
+  }
+
+  public DiffToHtml setMaxWordHighlightsPerLine(int maxWordHighlightsPerLine) {
+    this.maxWordHighlightsPerLine = maxWordHighlightsPerLine;
+    return this;
+  }
+
   public String getSingleLineContextHtml() {
     if (singleLineContextHtml == null) {
       singleLineContextHtml = renderTemplate(
@@ -350,88 +406,7 @@ public class DiffToHtml {
   public DiffToHtml parseDiff() throws Exception {
     List<String> diffLines = StringUtil.splitLines(NO_NEWLINE_REGEX.matcher(diffInput).replaceAll(""));
     for (String line : diffLines) {
-      if (StringUtils.isBlank(line) || line.startsWith("*")) {
-        continue;
-      }
-      if (line.startsWith("diff") || (currentFile == null)
-        || (((currentFile != null) && (isNotBlank(currentFile.getOldName()) && line.startsWith(SRC_FILE_PREFIX)))
-        || (isNotBlank(currentFile.getNewName()) && line.startsWith(DEST_FILE_PREFIX)))) {
-        startFile();
-      }
-      if ((currentFile != null) && (currentFile.getOldName() == null) && line.startsWith(SRC_FILE_PREFIX) &&
-        (getFilename(SRC_FILE_PREFIX, line, SRC_FILE_PREFIXES) != null)) {
-        currentFile.setOldName(getFilename(SRC_FILE_PREFIX, line, SRC_FILE_PREFIXES));
-        currentFile.setLanguage(defaultIfBlank(getExtension(currentFile.getOldName()), currentFile.getLanguage()));
-        continue;
-      }
-
-      if ((currentFile != null) && (currentFile.getNewName() == null) && line.startsWith(DEST_FILE_PREFIX) &&
-        (getFilename(DEST_FILE_PREFIX, line, DEST_FILE_PREFIXES) != null)) {
-        currentFile.setNewName(getFilename(DEST_FILE_PREFIX, line, DEST_FILE_PREFIXES));
-        currentFile.setLanguage(defaultIfBlank(getExtension(currentFile.getNewName()), currentFile.getLanguage()));
-        continue;
-      }
-
-      if ((currentFile != null) && line.startsWith("@")) {
-        startBlock(line);
-        continue;
-      }
-
-      if ((currentBlock != null) && (line.startsWith("+") || line.startsWith("-") || line.startsWith(" "))) {
-        createLine(line);
-        continue;
-      }
-
-      if (((currentFile != null) && isNotEmpty(currentFile.getBlocks())) || ((currentBlock != null) && isNotEmpty(currentBlock.getLines()))) {
-        startFile();
-      }
-
-      Matcher matcher = null;
-      if ((matcher = OLD_MODE.matcher(line)).find()) {
-        currentFile.setOldMode(matcher.group(1));
-      } else if ((matcher = NEW_MODE.matcher(line)).find()) {
-        currentFile.setNewMode(matcher.group(1));
-      } else if ((matcher = DELETED_FILE_MODE.matcher(line)).find()) {
-        currentFile.setDeletedFileMode(matcher.group(1));
-        currentFile.setDeleted(true);
-      } else if ((matcher = NEW_FILE_MODE.matcher(line)).find()) {
-        currentFile.setNewFileMode(matcher.group(1));
-        currentFile.setNewFile(true);
-      } else if ((matcher = COPY_FROM.matcher(line)).find()) {
-        currentFile.setOldName(matcher.group(1));
-        currentFile.setCopy(true);
-      } else if ((matcher = COPY_TO.matcher(line)).find()) {
-        currentFile.setNewName(matcher.group(1));
-        currentFile.setCopy(true);
-      } else if ((matcher = RENAME_FROM.matcher(line)).find()) {
-        currentFile.setOldName(matcher.group(1));
-        currentFile.setRename(true);
-      } else if ((matcher = RENAME_TO.matcher(line)).find()) {
-        currentFile.setNewName(matcher.group(1));
-        currentFile.setRename(true);
-      } else if ((matcher = SIMILARITY_INDEX.matcher(line)).find()) {
-        currentFile.setUnchangedPercentage(matcher.group(1));
-      } else if ((matcher = DISSIMILARITY_INDEX.matcher(line)).find()) {
-        currentFile.setChangedPercentage(matcher.group(1));
-      } else if ((matcher = INDEX.matcher(line)).find()) {
-        currentFile.setChecksumBefore(matcher.group(1));
-        currentFile.setChecksumAfter(matcher.group(2));
-        if (matcher.group(3) != null) {
-          currentFile.setMode(matcher.group(3));
-        }
-      } else if ((matcher = COMBINED_INDEX.matcher(line)).find()) {
-        currentFile.setChecksumBefore(matcher.group(2) + ',' + matcher.group(3));
-        currentFile.setChecksumAfter(matcher.group(1));
-      } else if ((matcher = COMBINED_MODE.matcher(line)).find()) {
-        currentFile.setOldMode(matcher.group(2) + ',' + matcher.group(3));
-        currentFile.setNewMode(matcher.group(1));
-      } else if ((matcher = COMBINED_NEW_FILE.matcher(line)).find()) {
-        currentFile.setNewFileMode(matcher.group(1));
-        currentFile.setNewFile(true);
-      } else if ((matcher = COMBINED_DELETED_FILE.matcher(line)).find()) {
-        currentFile.setDeletedFileMode(matcher.group(1));
-        currentFile.setDeleted(true);
-      }
+      parseLine(line);
     }
     saveBlock();
     saveFile();
@@ -439,6 +414,26 @@ public class DiffToHtml {
     return this;
   }
 
+  public DiffToHtml parseDiff(Reader reader, Consumer<DiffFile> consumer) throws IOException {
+    BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    fileConsumer = consumer;
+    try {
+      String line;
+      while ((line = lines.readLine()) != null) {
+        if (!line.startsWith(NO_NEWLINE_PREFIX)) {
+          parseLine(line);
+        }
+      }
+      saveBlock();
+      saveFile();
+    } finally {
+      fileConsumer = null;
+      currentBlock = null;
+      currentFile = null;
+    }
+    return this;
+  }
+
   public void run() {
     try {
       parseDiff();
@@ -467,14 +462,12 @@ public class DiffToHtml {
     DiffLine currentLine = new DiffLine();
     currentLine.setContent(line);
 
-    List<String> newLinePrefixes = !currentFile.isCombined() ? Lists.newArrayList("+") : Lists.newArrayList("+", " +");
-    List<String> delLinePrefixes = !currentFile.isCombined() ? Lists.newArrayList("-") : Lists.newArrayList("-", " -");
-
-    if (newLinePrefixes.stream().anyMatch(line::startsWith)) {
+    boolean combinedFile = currentFile.isCombined();
+    if (line.startsWith("+") || (combinedFile && line.startsWith(" +"))) {
       currentBlock.getAddedLines().incrementAndGet();
       currentFile.getAddedLines().incrementAndGet();
       currentLine.setType(DiffLineType.INSERTS).setOldNumber(null).setNewNumber(newLine.getAndIncrement());
-    } else if (delLinePrefixes.stream().anyMatch(line::startsWith)) {
+    } else if (line.startsWith("-") || (combinedFile && line.startsWith(" -"))) {
       currentBlock.getDeletedLines().incrementAndGet();
       currentFile.getDeletedLines().incrementAndGet();
       currentLine.setType(DiffLineType.DELETES).setOldNumber(oldLine.getAndIncrement()).setNewNumber(null);
@@ -498,11 +491,18 @@ public class DiffToHtml {
       if ((maxLineLengthForHighlight > 0) &&
         ((unprefixedLine1.length() > maxLineLengthForHighlight) || (unprefixedLine2.length() > maxLineLengthForHighlight))) {
         return new DiffHighlight(
-          new DiffHighlightBlock(linePrefix1, unprefixedLine1),
-          new DiffHighlightBlock(linePrefix2, unprefixedLine2)
+          new DiffHighlightBlock(linePrefix1, escapeHtml(unprefixedLine1)),
+          new DiffHighlightBlock(linePrefix2, escapeHtml(unprefixedLine2))
         );
       }
       List<DiffMatchPatch.Diff> diff = DMP.diffMainAtWordLevel(unprefixedLine1, unprefixedLine2);
+      if ((maxWordHighlightsPerLine > 0) &&
+        (diff.stream().filter(part -> part.getOperation() != DiffOperation.EQUAL).count() > maxWordHighlightsPerLine)) {
+        return new DiffHighlight(
+          new DiffHighlightBlock(linePrefix1, escapeHtml(unprefixedLine1)),
+          new DiffHighlightBlock(linePrefix2, escapeHtml(unprefixedLine2))
+        );
+      }
       StringBuilder highlightedLine = new StringBuilder();
       StringBuilder nonIns = new StringBuilder();
       StringBuilder nonDel = new StringBuilder();
@@ -576,6 +576,33 @@ public class DiffToHtml {
     return fileHtml;
   }
 
+  private String generateFileHtml(DiffFile file, List<String> fileListHtml) throws Exception {
+    Map<String, Object> templateData = getTemplateDataForFile(file);
+    fileListHtml.add(renderTemplate("file-summary", "line", templateData));
+
+    DiffFileHtml fileHtml = null;
+    if (isNotEmpty(file.getBlocks())) {
+      fileHtml = generateSideBySideFileHtml(file);
+    } else {
+      fileHtml = generateEmptyDiff();
+    }
+    templateData.put("diffs", fileHtml);
+    return renderTemplate("side-by-side", "file-diff", templateData);
+  }
+
+  private String generatePageHtml(String rawHtml) {
+    String css = getResourceFile("diff2html.css");
+    String js = StringUtils.replace(getResourceFile("diff2html.js"), "</script", "</scr\\ipt");
+    return renderTemplate(
+      "diff2html",
+      unwrappedHtml ? "unwrapped" : null,
+      of("pageTitle", defaultIfBlank(htmlTitle, "Diff to HTML")),
+      of("diff", rawHtml),
+      of("d2hCss", css),
+      of("d2hJs", js)
+    );
+  }
+
   private DiffFileHtml generateSideBySideFileHtml(DiffFile file) {
     DiffFileHtml fileHtml = new DiffFileHtml();
     StringBuilder left = new StringBuilder();
@@ -718,11 +745,17 @@ public class DiffToHtml {
   }
 
   private String getFilename(String linePrefix, String line, List<String> prefixes) {
-    Pattern regex = Pattern.compile('^' + Pattern.quote(linePrefix) + " \"?(.+?)\"?$");
     String filename = null;
-    Matcher matcher = regex.matcher(line);
-    if (matcher.find() && (matcher.group(1) != null)) {
-      String filenameMatch = matcher.group(1);
+    if ((line.length() > (linePrefix.length() + 1)) && line.startsWith(linePrefix) && (line.charAt(linePrefix.length()) == ' ')) {
+      int start = linePrefix.length() + 1;
+      int end = line.length();
+      if ((line.charAt(start) == '"') && ((end - start) > 1)) {
+        start++;
+      }
+      if ((line.charAt(end - 1) == '"') && ((end - start) > 1)) {
+        end--;
+      }
+      String filenameMatch = line.substring(start, end);
       filename = prefixes
         .stream()
         .filter(filenameMatch::startsWith)
@@ -780,6 +813,118 @@ public class DiffToHtml {
     return templateData;
   }
 
+  private void parseHeaderLine(String line) {
+    Matcher matcher = null;
+    if (line.startsWith("old mode ")) {
+      if ((matcher = OLD_MODE.matcher(line)).find()) {
+        currentFile.setOldMode(matcher.group(1));
+      }
+    } else if (line.startsWith("new mode ")) {
+      if ((matcher = NEW_MODE.matcher(line)).find()) {
+        currentFile.setNewMode(matcher.group(1));
+      }
+    } else if (line.startsWith("deleted file mode ")) {
+      if ((matcher = DELETED_FILE_MODE.matcher(line)).find() || (matcher = COMBINED_DELETED_FILE.matcher(line)).find()) {
+        currentFile.setDeletedFileMode(matcher.group(1));
+        currentFile.setDeleted(true);
+      }
+    } else if (line.startsWith("new file mode ")) {
+      if ((matcher = NEW_FILE_MODE.matcher(line)).find() || (matcher = COMBINED_NEW_FILE.matcher(line)).find()) {
+        currentFile.setNewFileMode(matcher.group(1));
+        currentFile.setNewFile(true);
+      }
+    } else if (line.startsWith("copy ")) {
+      if ((matcher = COPY_FROM.matcher(line)).find()) {
+        currentFile.setOldName(matcher.group(1));
+        currentFile.setCopy(true);
+      } else if ((matcher = COPY_TO.matcher(line)).find()) {
+        currentFile.setNewName(matcher.group(1));
+        currentFile.setCopy(true);
+      }
+    } else if (line.startsWith("rename ")) {
+      if ((matcher = RENAME_FROM.matcher(line)).find()) {
+        currentFile.setOldName(matcher.group(1));
+        currentFile.setRename(true);
+      } else if ((matcher = RENAME_TO.matcher(line)).find()) {
+        currentFile.setNewName(matcher.group(1));
+        currentFile.setRename(true);
+      }
+    } else if (line.startsWith("similarity index ")) {
+      if ((matcher = SIMILARITY_INDEX.matcher(line)).find()) {
+        currentFile.setUnchangedPercentage(matcher.group(1));
+      }
+    } else if (line.startsWith("dissimilarity index ")) {
+      if ((matcher = DISSIMILARITY_INDEX.matcher(line)).find()) {
+        currentFile.setChangedPercentage(matcher.group(1));
+      }
+    } else if (line.startsWith("index ")) {
+      if ((matcher = INDEX.matcher(line)).find()) {
+        currentFile.setChecksumBefore(matcher.group(1));
+        currentFile.setChecksumAfter(matcher.group(2));
+        if (matcher.group(3) != null) {
+          currentFile.setMode(matcher.group(3));
+        }
+      } else if ((matcher = COMBINED_INDEX.matcher(line)).find()) {
+        currentFile.setChecksumBefore(matcher.group(2) + ',' + matcher.group(3));
+        currentFile.setChecksumAfter(matcher.group(1));
+      }
+    } else if (line.startsWith("mode ")) {
+      if ((matcher = COMBINED_MODE.matcher(line)).find()) {
+        currentFile.setOldMode(matcher.group(2) + ',' + matcher.group(3));
+        currentFile.setNewMode(matcher.group(1));
+      }
+    }
+  }
+
+  private void parseLine(String line) {
+    if (StringUtils.isBlank(line) || line.startsWith("*")) {
+      return;
+    }
+    char first = line.charAt(0);
+    if ((currentFile != null) && (currentBlock != null) && ((first == '+') || (first == '-') || (first == ' ')) &&
+      !line.startsWith(SRC_FILE_PREFIX) && !line.startsWith(DEST_FILE_PREFIX)) {
+      createLine(line);
+      return;
+    }
+    if (line.startsWith("diff") || (currentFile == null)
+      || (isNotBlank(currentFile.getOldName()) && line.startsWith(SRC_FILE_PREFIX))
+      || (isNotBlank(currentFile.getNewName()) && line.startsWith(DEST_FILE_PREFIX))) {
+      startFile();
+    }
+    if ((currentFile.getOldName() == null) && line.startsWith(SRC_FILE_PREFIX)) {
+      String filename = getFilename(SRC_FILE_PREFIX, line, SRC_FILE_PREFIXES);
+      if (filename != null) {
+        currentFile.setOldName(filename);
+        currentFile.setLanguage(defaultIfBlank(getExtension(filename), currentFile.getLanguage()));
+        return;
+      }
+    }
+
+    if ((currentFile.getNewName() == null) && line.startsWith(DEST_FILE_PREFIX)) {
+      String filename = getFilename(DEST_FILE_PREFIX, line, DEST_FILE_PREFIXES);
+      if (filename != null) {
+        currentFile.setNewName(filename);
+        currentFile.setLanguage(defaultIfBlank(getExtension(filename), currentFile.getLanguage()));
+        return;
+      }
+    }
+
+    if (first == '@') {
+      startBlock(line);
+      return;
+    }
+
+    if ((currentBlock != null) && ((first == '+') || (first == '-') || (first == ' '))) {
+      createLine(line);
+      return;
+    }
+
+    if (isNotEmpty(currentFile.getBlocks()) || ((currentBlock != null) && isNotEmpty(currentBlock.getLines()))) {
+      startFile();
+    }
+    parseHeaderLine(line);
+  }
+
   private void processChangeBlock(DiffFile file, StringBuilder left, StringBuilder right, List<DiffLine> oldLines, List<DiffLine> newLines) {
     List<List<List<DiffLine>>> matches;
     String insertType;
@@ -921,11 +1066,30 @@ public class DiffToHtml {
 
   private void saveFile() {
     if ((currentFile != null) && (currentFile.getNewName() != null)) {
-      diffFiles.add(currentFile);
+      if (fileConsumer != null) {
+        fileConsumer.accept(currentFile);
+      } else {
+        diffFiles.add(currentFile);
+      }
       currentFile = null;
     }
   }
 
+  private String[] splitAtPlaceholder(String rendered, String placeholder) {
+    int index = rendered.indexOf(placeholder);
+    if (index < 0) {
+      throw new IllegalStateException(String.format("Template output does not contain the streaming placeholder [%s]", placeholder));
+    }
+    return new String[]{rendered.substring(0, index), rendered.substring(index + placeholder.length())};
+  }
+
+  private String[] splitStreamingTemplates() {
+    String placeholder = "d2hStream" + UUID.randomUUID().toString().replace("-", "");
+    String[] page = splitAtPlaceholder(generatePageHtml(placeholder), placeholder);
+    String[] content = splitAtPlaceholder(renderTemplate("generic", "wrapper", of("content", placeholder)), placeholder);
+    return new String[]{page[0], content[0], content[1], page[1]};
+  }
+
   private void startBlock(String line) {
     saveBlock();
 
@@ -957,4 +1121,30 @@ public class DiffToHtml {
     currentFile = new DiffFile();
   }
 
+  private List<String> writeFileDiffs(Reader reader, Writer writer) throws IOException {
+    List<String> fileListHtml = Lists.newArrayList();
+    parseDiff(reader, file -> {
+      try {
+        if (!fileListHtml.isEmpty()) {
+          writer.write(System.lineSeparator());
+        }
+        writer.write(generateFileHtml(file, fileListHtml));
+      } catch (Exception e) {
+        Exceptions.sneakyThrow(e);
+      }
+    });
+    return fileListHtml;
+  }
+
+  private void writeFileSummary(Writer writer, List<String> fileListHtml) throws IOException {
+    writer.write(
+      renderTemplate(
+        "file-summary",
+        "wrapper",
+        of("filesNumber", fileListHtml.size()),
+        of("files", StringUtils.join(fileListHtml, System.lineSeparator()))
+      )
+    );
+  }
+
 }
@@ -0,0 +1,402 @@
+package com.lancethomps.lava.common.diff;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.lancethomps.lava.common.diff.DiffMatchPatch.Diff;
+import com.lancethomps.lava.common.diff.DiffMatchPatch.DiffOperation;
+
+final class LineDiff {
+
+  private final int parallelThreshold;
+  private final boolean patience;
+
+  LineDiff(boolean patience, int parallelThreshold) {
+    super();
+    this.patience = patience;
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  private static void bisect(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd, Marks marks, Buffers buffers) {
+    final int len1 = aEnd - aStart;
+    final int len2 = bEnd - bStart;
+    final int maxD = (len1 + len2 + 1) / 2;
+    final int vOffset = maxD;
+    final int vLength = 2 * maxD;
+    final int[] v1 = buffers.forward(vLength);
+    final int[] v2 = buffers.backward(vLength);
+    v1[vOffset + 1] = 0;
+    v2[vOffset + 1] = 0;
+    final int delta = len1 - len2;
+    final boolean front = (delta % 2) != 0;
+    int k1start = 0;
+    int k1end = 0;
+    int k2start = 0;
+    int k2end = 0;
+    for (int d = 0; d < maxD; d++) {
+      for (int k1 = -d + k1start; k1 <= (d - k1end); k1 += 2) {
+        final int k1Offset = vOffset + k1;
+        int x1 = (k1 == -d) || ((k1 != d) && (v1[k1Offset - 1] < v1[k1Offset + 1])) ? v1[k1Offset + 1] : v1[k1Offset - 1] + 1;
+        int y1 = x1 - k1;
+        while ((x1 < len1) && (y1 < len2) && (a[aStart + x1] == b[bStart + y1])) {
+          x1++;
+          y1++;
+        }
+        v1[k1Offset] = x1;
+        if (x1 > len1) {
+          k1end += 2;
+        } else if (y1 > len2) {
+          k1start += 2;
+        } else if (front) {
+          final int k2Offset = (vOffset + delta) - k1;
+          if ((k2Offset >= 0) && (k2Offset < vLength) && (v2[k2Offset] != -1) && (x1 >= (len1 - v2[k2Offset]))) {
+            diffRange(a, aStart, aStart + x1, b, bStart, bStart + y1, marks, buffers);
+            diffRange(a, aStart + x1, aEnd, b, bStart + y1, bEnd, marks, buffers);
+            return;
+          }
+        }
+      }
+      for (int k2 = -d + k2start; k2 <= (d - k2end); k2 += 2) {
+        final int k2Offset = vOffset + k2;
+        int x2 = (k2 == -d) || ((k2 != d) && (v2[k2Offset - 1] < v2[k2Offset + 1])) ? v2[k2Offset + 1] : v2[k2Offset - 1] + 1;
+        int y2 = x2 - k2;
+        while ((x2 < len1) && (y2 < len2) && (a[(aEnd - x2) - 1] == b[(bEnd - y2) - 1])) {
+          x2++;
+          y2++;
+        }
+        v2[k2Offset] = x2;
+        if (x2 > len1) {
+          k2end += 2;
+        } else if (y2 > len2) {
+          k2start += 2;
+        } else if (!front) {
+          final int k1Offset = (vOffset + delta) - k2;
+          if ((k1Offset >= 0) && (k1Offset < vLength) && (v1[k1Offset] != -1)) {
+            final int x1 = v1[k1Offset];
+            final int y1 = (vOffset + x1) - k1Offset;
+            if (x1 >= (len1 - x2)) {
+              diffRange(a, aStart, aStart + x1, b, bStart, bStart + y1, marks, buffers);
+              diffRange(a, aStart + x1, aEnd, b, bStart + y1, bEnd, marks, buffers);
+              return;
+            }
+          }
+        }
+      }
+    }
+    marks.remove(aStart, aEnd);
+    marks.add(bStart, bEnd);
+  }
+
+  private static void diffRange(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd, Marks marks, Buffers buffers) {
+    while ((aStart < aEnd) && (bStart < bEnd) && (a[aStart] == b[bStart])) {
+      aStart++;
+      bStart++;
+    }
+    while ((aStart < aEnd) && (bStart < bEnd) && (a[aEnd - 1] == b[bEnd - 1])) {
+      aEnd--;
+      bEnd--;
+    }
+    if (aStart == aEnd) {
+      marks.add(bStart, bEnd);
+    } else if (bStart == bEnd) {
+      marks.remove(aStart, aEnd);
+    } else if (((aEnd - aStart) == 1) && ((bEnd - bStart) == 1)) {
+      marks.remove(aStart, aEnd);
+      marks.add(bStart, bEnd);
+    } else {
+      bisect(a, aStart, aEnd, b, bStart, bEnd, marks, buffers);
+    }
+  }
+
+  private static int[] findAnchors(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd, int lineCount) {
+    final int[] countA = new int[lineCount];
+    final int[] countB = new int[lineCount];
+    final int[] posB = new int[lineCount];
+    for (int i = aStart; i < aEnd; i++) {
+      countA[a[i]]++;
+    }
+    for (int j = bStart; j < bEnd; j++) {
+      countB[b[j]]++;
+      posB[b[j]] = j;
+    }
+    final int[] candidatesA = new int[Math.min(aEnd - aStart, bEnd - bStart)];
+    final int[] candidatesB = new int[candidatesA.length];
+    int count = 0;
+    for (int i = aStart; i < aEnd; i++) {
+      final int id = a[i];
+      if ((countA[id] == 1) && (countB[id] == 1)) {
+        candidatesA[count] = i;
+        candidatesB[count++] = posB[id];
+      }
+    }
+    final int[] tails = new int[count];
+    final int[] previous = new int[count];
+    int length = 0;
+    for (int pos = 0; pos < count; pos++) {
+      int low = 0;
+      int high = length;
+      while (low < high) {
+        final int mid = (low + high) >>> 1;
+        if (candidatesB[tails[mid]] < candidatesB[pos]) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      previous[pos] = low > 0 ? tails[low - 1] : -1;
+      tails[low] = pos;
+      if (low == length) {
+        length++;
+      }
+    }
+    final int[] anchors = new int[length * 2];
+    for (int pos = length > 0 ? tails[length - 1] : -1, idx = length - 1; pos >= 0; pos = previous[pos], idx--) {
+      anchors[idx * 2] = candidatesA[pos];
+      anchors[(idx * 2) + 1] = candidatesB[pos];
+    }
+    return anchors;
+  }
+
+  private static List<Diff> toDiffs(Lines lines1, Lines lines2, Marks marks) {
+    final LinkedList<Diff> diffs = new LinkedList<>();
+    final int n = lines1.ids.length;
+    final int m = lines2.ids.length;
+    int i = 0;
+    int j = 0;
+    while ((i < n) || (j < m)) {
+      if ((i < n) && marks.removed[i]) {
+        final int start = i;
+        while ((i < n) && marks.removed[i]) {
+          i++;
+        }
+        diffs.add(new Diff(DiffOperation.DELETE, lines1.text(start, i)));
+      } else if ((j < m) && marks.added[j]) {
+        final int start = j;
+        while ((j < m) && marks.added[j]) {
+          j++;
+        }
+        diffs.add(new Diff(DiffOperation.INSERT, lines2.text(start, j)));
+      } else {
+        final int start = i;
+        while ((i < n) && (j < m) && !marks.removed[i] && !marks.added[j]) {
+          i++;
+          j++;
+        }
+        if (start == i) {
+          throw new IllegalStateException("Inconsistent line diff marks. (toDiffs)");
+        }
+        diffs.add(new Diff(DiffOperation.EQUAL, lines1.text(start, i)));
+      }
+    }
+    return diffs;
+  }
+
+  List<Diff> diff(final String text1, final String text2) {
+    if ((text1 == null) || (text2 == null)) {
+      throw new IllegalArgumentException("Null inputs. (diffMainLines)");
+    }
+    final LineInterner interner = new LineInterner();
+    final Lines lines1 = interner.split(text1);
+    final Lines lines2 = interner.split(text2);
+    final int[] a = lines1.ids;
+    final int[] b = lines2.ids;
+    int aStart = 0;
+    int bStart = 0;
+    int aEnd = a.length;
+    int bEnd = b.length;
+    while ((aStart < aEnd) && (bStart < bEnd) && (a[aStart] == b[bStart])) {
+      aStart++;
+      bStart++;
+    }
+    while ((aStart < aEnd) && (bStart < bEnd) && (a[aEnd - 1] == b[bEnd - 1])) {
+      aEnd--;
+      bEnd--;
+    }
+    final Marks marks = new Marks(a.length, b.length);
+    if (patience && (aStart < aEnd) && (bStart < bEnd)) {
+      diffPatience(a, aStart, aEnd, b, bStart, bEnd, marks, interner.size());
+    } else {
+      diffRange(a, aStart, aEnd, b, bStart, bEnd, marks, new Buffers());
+    }
+    return toDiffs(lines1, lines2, marks);
+  }
+
+  private void diffPatience(int[] a, int aStart, int aEnd, int[] b, int bStart, int bEnd, Marks marks, int lineCount) {
+    final int[] anchors = findAnchors(a, aStart, aEnd, b, bStart, bEnd, lineCount);
+    final int gaps = (anchors.length / 2) + 1;
+    final int[] ranges = new int[gaps * 4];
+    int prevA = aStart;
+    int prevB = bStart;
+    for (int gap = 0; gap < gaps; gap++) {
+      final boolean last = gap == (gaps - 1);
+      ranges[gap * 4] = prevA;
+      ranges[(gap * 4) + 1] = last ? aEnd : anchors[gap * 2];
+      ranges[(gap * 4) + 2] = prevB;
+      ranges[(gap * 4) + 3] = last ? bEnd : anchors[(gap * 2) + 1];
+      if (!last) {
+        prevA = anchors[gap * 2] + 1;
+        prevB = anchors[(gap * 2) + 1] + 1;
+      }
+    }
+    if ((parallelThreshold > 0) && (gaps > 1) && (((aEnd - aStart) + (bEnd - bStart)) >= parallelThreshold)) {
+      IntStream.range(0, gaps).parallel().forEach(
+        gap -> diffRange(a, ranges[gap * 4], ranges[(gap * 4) + 1], b, ranges[(gap * 4) + 2], ranges[(gap * 4) + 3], marks, new Buffers())
+      );
+    } else {
+      final Buffers buffers = new Buffers();
+      for (int gap = 0; gap < gaps; gap++) {
+        diffRange(a, ranges[gap * 4], ranges[(gap * 4) + 1], b, ranges[(gap * 4) + 2], ranges[(gap * 4) + 3], marks, buffers);
+      }
+    }
+  }
+
+  private static final class Buffers {
+
+    private int[] backward = new int[0];
+    private int[] forward = new int[0];
+
+    int[] backward(int length) {
+      backward = reset(backward, length);
+      return backward;
+    }
+
+    int[] forward(int length) {
+      forward = reset(forward, length);
+      return forward;
+    }
+
+    private int[] reset(int[] buffer, int length) {
+      int[] result = buffer.length < length ? new int[Math.max(length, buffer.length * 2)] : buffer;
+      Arrays.fill(result, 0, length, -1);
+      return result;
+    }
+
+  }
+
+  private static final class LineInterner {
+
+    private int[] hashes = new int[64];
+    private int[] lengths = new int[64];
+    private int size;
+    private int[] slots = new int[128];
+    private int[] starts = new int[64];
+    private String[] texts = new String[64];
+
+    int size() {
+      return size;
+    }
+
+    Lines split(String text) {
+      int count = 0;
+      int[] ids = new int[16];
+      int[] starts = new int[17];
+      int start = 0;
+      final int length = text.length();
+      while (start < length) {
+        int end = text.indexOf('\n', start);
+        end = end == -1 ? length : end + 1;
+        if (count == ids.length) {
+          ids = Arrays.copyOf(ids, count * 2);
+          starts = Arrays.copyOf(starts, (count * 2) + 1);
+        }
+        starts[count] = start;
+        ids[count++] = intern(text, start, end);
+        start = end;
+      }
+      starts[count] = length;
+      return new Lines(text, Arrays.copyOf(ids, count), Arrays.copyOf(starts, count + 1));
+    }
+
+    private int hash(String text, int start, int end) {
+      int hash = 0;
+      for (int pos = start; pos < end; pos++) {
+        hash = (31 * hash) + text.charAt(pos);
+      }
+      return hash ^ (hash >>> 16);
+    }
+
+    private int intern(String text, int start, int end) {
+      final int hash = hash(text, start, end);
+      final int length = end - start;
+      int mask = slots.length - 1;
+      int slot = hash & mask;
+      while (slots[slot] != 0) {
+        final int id = slots[slot] - 1;
+        if ((hashes[id] == hash) && (lengths[id] == length) && texts[id].regionMatches(starts[id], text, start, length)) {
+          return id;
+        }
+        slot = (slot + 1) & mask;
+      }
+      final int id = size++;
+      if (id == hashes.length) {
+        hashes = Arrays.copyOf(hashes, id * 2);
+        lengths = Arrays.copyOf(lengths, id * 2);
+        starts = Arrays.copyOf(starts, id * 2);
+        texts = Arrays.copyOf(texts, id * 2);
+      }
+      hashes[id] = hash;
+      lengths[id] = length;
+      starts[id] = start;
+      texts[id] = text;
+      slots[slot] = id + 1;
+      if ((size * 2) > slots.length) {
+        rehash();
+      }
+      return id;
+    }
+
+    private void rehash() {
+      slots = new int[slots.length * 2];
+      final int mask = slots.length - 1;
+      for (int id = 0; id < size; id++) {
+        int slot = hashes[id] & mask;
+        while (slots[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        slots[slot] = id + 1;
+      }
+    }
+
+  }
+
+  private static final class Lines {
+
+    private final int[] ids;
+    private final int[] offsets;
+    private final String text;
+
+    Lines(String text, int[] ids, int[] offsets) {
+      this.text = text;
+      this.ids = ids;
+      this.offsets = offsets;
+    }
+
+    String text(int start, int end) {
+      return text.substring(offsets[start], offsets[end]);
+    }
+
+  }
+
+  private static final class Marks {
+
+    private final boolean[] added;
+    private final boolean[] removed;
+
+    Marks(int length1, int length2) {
+      this.removed = new boolean[length1];
+      this.added = new boolean[length2];
+    }
+
+    void add(int start, int end) {
+      Arrays.fill(added, start, end, true);
+    }
+
+    void remove(int start, int end) {
+      Arrays.fill(removed, start, end, true);
+    }
+
+  }
+
+}
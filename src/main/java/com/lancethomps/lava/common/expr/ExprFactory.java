@@ -10,6 +10,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.script.ScriptException;
 
 import org.apache.commons.lang3.StringUtils;
@@ -32,8 +34,10 @@ import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.support.StandardTypeLocator;
 
 import com.lancethomps.lava.common.Checks;
+import com.lancethomps.lava.common.Enums;
 import com.lancethomps.lava.common.cache.CacheException;
-import com.lancethomps.lava.common.cache.SimpleLruCache;
+import com.lancethomps.lava.common.cache.ConcurrentCache;
+import com.lancethomps.lava.common.expr.spel.CompilingSpelExpression;
 import com.lancethomps.lava.common.expr.spel.NonSandboxedSpelTypeLocator;
 import com.lancethomps.lava.common.expr.spel.SandboxedContextConfig;
 import com.lancethomps.lava.common.expr.spel.SandboxedSpelConstructorResolver;
@@ -41,8 +45,10 @@ import com.lancethomps.lava.common.expr.spel.SandboxedSpelEvaluationContext;
 import com.lancethomps.lava.common.expr.spel.SandboxedSpelMethodResolver;
 import com.lancethomps.lava.common.expr.spel.SandboxedSpelPropertyAccessor;
 import com.lancethomps.lava.common.expr.spel.SandboxedSpelTypeLocator;
+import com.lancethomps.lava.common.expr.spel.SpelCompileMode;
 import com.lancethomps.lava.common.lambda.ThrowingBiFunction;
 import com.lancethomps.lava.common.logging.Logs;
+import com.lancethomps.lava.common.metrics.CacheMetricSet;
 import com.lancethomps.lava.common.metrics.StatusMonitor;
 import com.lancethomps.lava.common.properties.PropertyParser;
 import com.lancethomps.lava.common.ser.MissingRequiredFieldException;
@@ -62,10 +68,11 @@ public class ExprFactory {
   public static final String METRIC_REGISTRY = "expressions";
   public static final String METRIC_REGISTRY_COMPILE = "compile";
   public static final String METRIC_REGISTRY_EVAL = "eval";
-  public static final SpelExpressionParser SPEL_PARSER =
-    new SpelExpressionParser(new SpelParserConfiguration(null, null, true, true, Integer.MAX_VALUE));
+  public static final SpelParserConfiguration SPEL_PARSER_CONFIGURATION = new SpelParserConfiguration(null, null, true, true, Integer.MAX_VALUE);
+  public static final SpelExpressionParser SPEL_PARSER = new SpelExpressionParser(SPEL_PARSER_CONFIGURATION);
   public static final Pattern SPEL_REGEX = Pattern.compile("#\\{(.*)\\}$");
-  private static final SimpleLruCache<String, Object> CACHED_EXPRESSIONS = new SimpleLruCache<>(250);
+  private static final ConcurrentCache<String, Object> CACHED_EXPRESSIONS =
+    CacheMetricSet.register(new ConcurrentCache<>("expressions", 250, null, 0, null));
   private static final Logger LOG = LogManager.getLogger(ExprFactory.class);
   private static final StandardEvaluationContext NON_SANDBOXED_CONTEXT;
   private static final StandardTypeLocator NON_SANDBOXED_SPEL_TYPE_LOCATOR = registerImports(
@@ -97,25 +104,15 @@ public class ExprFactory {
     SANDBOXED_CONTEXT = createSpelSandboxedContext();
   }
 
-  private static final ThrowingBiFunction<String, Boolean, SpelExpression> SPEL_CREATOR = (p, sandbox) -> {
-    Stopwatch watch = Stopwatch.createAndStart();
-    try {
-      SpelExpression expr = (SpelExpression) SPEL_PARSER.parseExpression(p);
-      if (sandbox) {
-        expr.setEvaluationContext(SANDBOXED_CONTEXT);
-      } else {
-        expr.setEvaluationContext(NON_SANDBOXED_CONTEXT);
-      }
-      return expr;
-    } finally {
-      logCreateTimer(watch, ExprParser.SPEL);
-    }
-  };
+  private static final ThrowingBiFunction<String, Boolean, SpelExpression> SPEL_CREATOR =
+    (p, sandbox) -> createSpelExpression(p, sandbox, getSpelCompileMode());
   private static final Timer SPEL_EVAL_TIMER =
     StatusMonitor.timer(ExprFactory.METRIC_REGISTRY, ExprParser.SPEL.name(), ExprFactory.METRIC_REGISTRY_EVAL);
   private static ExprParser defaultExprParser = ExprParser.SPEL;
   private static boolean logMissingOgnlProperties;
   private static boolean sandboxDefault = Serializer.parseBoolean(System.getenv("EXPR_SANDBOX_DEFAULT"), true);
+  private static SpelCompileMode spelCompileMode =
+    Enums.fromString(SpelCompileMode.class, System.getenv("EXPR_SPEL_COMPILE_MODE"), SpelCompileMode.OFF);
 
   public static final StandardEvaluationContext createSpelNonSandboxedContext() {
     StandardEvaluationContext context = registerSpelDefaultFunctions(new StandardEvaluationContext());
@@ -302,9 +299,20 @@ public class ExprFactory {
     return compileExpr(type, sandbox, expr, creator, true);
   }
 
-  @SuppressWarnings("unchecked")
   public static <T> T compileExpr(ExprParser type, boolean sandbox, String expr, ThrowingBiFunction<String, Boolean, T> creator, boolean verbose) {
-    return (T) CACHED_EXPRESSIONS.computeIfAbsent(type.name() + '@' + sandbox + '@' + expr, k -> {
+    return compileExpr(type.name() + '@' + sandbox + '@' + expr, type, sandbox, expr, creator, verbose);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T compileExpr(
+    String cacheKey,
+    ExprParser type,
+    boolean sandbox,
+    String expr,
+    ThrowingBiFunction<String, Boolean, T> creator,
+    boolean verbose
+  ) {
+    return (T) CACHED_EXPRESSIONS.computeIfAbsent(cacheKey, k -> {
       try (Timer.Context watch = StatusMonitor.timerStart(METRIC_REGISTRY, type.name(), METRIC_REGISTRY_COMPILE)) {
         return creator.apply(expr, sandbox);
       } catch (Exception e) {
@@ -327,8 +335,9 @@ public class ExprFactory {
         creator = OGNL_CREATOR;
         break;
       case SPEL:
+        SpelCompileMode compileMode = (config != null) && (config.getSpelCompileMode() != null) ? config.getSpelCompileMode() : getSpelCompileMode();
         if ((config != null) && Checks.isNotEmpty(config.getGlobalVariablesResolved())) {
-          SpelExpression compiled = (SpelExpression) SPEL_PARSER.parseExpression(expr);
+          SpelExpression compiled = parseSpelExpression(expr, compileMode);
           if (sandbox) {
             SandboxedSpelEvaluationContext context = createSpelSandboxedContext();
             context.setVariables(config.getGlobalVariablesResolved());
@@ -339,6 +348,8 @@ public class ExprFactory {
             compiled.setEvaluationContext(context);
           }
           return (T) compiled;
+        } else if (compileMode != getSpelCompileMode()) {
+          return (T) getSpelExpression(expr, sandbox, verbose, compileMode);
         }
         creator = SPEL_CREATOR;
         break;
@@ -602,6 +613,17 @@ public class ExprFactory {
     return created;
   }
 
+  public static List<Map<String, Object>> evaluateOutputExpressionsBatch(
+    List<OutputExpression> expressions,
+    @Nonnull List<?> rows,
+    boolean sandboxDefault,
+    Map<String, Object> context,
+    @Nonnull ExprParser defaultType,
+    @Nullable Executor executor
+  ) {
+    return new OutputExpressionBatch(expressions, sandboxDefault, context, defaultType).evaluate(rows, executor);
+  }
+
   public static Map<String, Object> evaluateOutputExpressionsWithCustomRoot(List<OutputExpression> expressions, Object root) {
     return evaluateOutputExpressionsWithCustomRoot(expressions, root, true);
   }
@@ -660,6 +682,21 @@ public class ExprFactory {
     ExprFactory.defaultExprParser = defaultExprParser;
   }
 
+  public static SpelCompileMode getSpelCompileMode() {
+    return spelCompileMode;
+  }
+
+  public static void setSpelCompileMode(@Nonnull SpelCompileMode spelCompileMode) {
+    if (ExprFactory.spelCompileMode != spelCompileMode) {
+      ExprFactory.spelCompileMode = spelCompileMode;
+      clearCache();
+    }
+  }
+
+  public static Map<String, Boolean> getSpelCompileResults() {
+    return CompilingSpelExpression.getCompileResults();
+  }
+
   public static SpelExpression getSpelExpression(String path) {
     return getSpelExpression(path, true);
   }
@@ -672,6 +709,20 @@ public class ExprFactory {
     return compileExpr(ExprParser.SPEL, sandbox, path, SPEL_CREATOR, verbose);
   }
 
+  public static SpelExpression getSpelExpression(String path, boolean sandbox, boolean verbose, SpelCompileMode compileMode) {
+    if ((compileMode == null) || (compileMode == getSpelCompileMode())) {
+      return getSpelExpression(path, sandbox, verbose);
+    }
+    return compileExpr(
+      ExprParser.SPEL.name() + '@' + sandbox + '@' + compileMode + '@' + path,
+      ExprParser.SPEL,
+      sandbox,
+      path,
+      (p, sb) -> createSpelExpression(p, sb, compileMode),
+      verbose
+    );
+  }
+
   public static <T extends Object> T getValueFromPath(Object parent, String path) {
     return getValueFromPath(parent, path, true);
   }
@@ -784,4 +835,36 @@ public class ExprFactory {
     SANDBOXED_CONTEXT.getTypeLocator().setConfig(sandboxedSpelTypeLocatorConfig);
   }
 
+  public static Stream<Map<String, Object>> streamOutputExpressions(
+    List<OutputExpression> expressions,
+    @Nonnull Stream<?> rows,
+    boolean sandboxDefault,
+    Map<String, Object> context
+  ) {
+    return new OutputExpressionBatch(expressions, sandboxDefault, context).stream(rows);
+  }
+
+  private static SpelExpression createSpelExpression(String path, boolean sandbox, SpelCompileMode compileMode) {
+    Stopwatch watch = Stopwatch.createAndStart();
+    try {
+      SpelExpression expr = parseSpelExpression(path, compileMode);
+      if (sandbox) {
+        expr.setEvaluationContext(SANDBOXED_CONTEXT);
+      } else {
+        expr.setEvaluationContext(NON_SANDBOXED_CONTEXT);
+      }
+      return expr;
+    } finally {
+      logCreateTimer(watch, ExprParser.SPEL);
+    }
+  }
+
+  private static SpelExpression parseSpelExpression(String path, SpelCompileMode compileMode) {
+    SpelExpression expr = (SpelExpression) SPEL_PARSER.parseExpression(path);
+    if ((compileMode == null) || (compileMode == SpelCompileMode.OFF)) {
+      return expr;
+    }
+    return new CompilingSpelExpression(expr, SPEL_PARSER_CONFIGURATION, compileMode);
+  }
+
 }
@@ -0,0 +1,169 @@
+package com.lancethomps.lava.common.expr;
+
+import static org.apache.commons.lang3.StringUtils.contains;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.lancethomps.lava.common.Collect;
+import com.lancethomps.lava.common.Exceptions;
+import com.lancethomps.lava.common.ser.OutputExpression;
+import com.lancethomps.lava.common.ser.OutputExpressionRoot;
+import com.lancethomps.lava.common.ser.Serializer;
+
+public class OutputExpressionBatch {
+
+  public static final int DEFAULT_CHUNK_SIZE = 1024;
+  private final Map<String, Object> context;
+  private final PathKeyPlan[] plans;
+  private final ThreadLocal<OutputExpressionRoot> roots;
+
+  public OutputExpressionBatch(@Nullable List<OutputExpression> expressions, boolean sandboxDefault, @Nullable Map<String, Object> context) {
+    this(expressions, sandboxDefault, context, ExprFactory.getDefaultExprParser());
+  }
+
+  public OutputExpressionBatch(
+    @Nullable List<OutputExpression> expressions,
+    boolean sandboxDefault,
+    @Nullable Map<String, Object> context,
+    @Nonnull ExprParser defaultType
+  ) {
+    super();
+    this.context = context;
+    List<OutputExpression> compiled = ExprFactory.compileCreateExpressions(expressions, sandboxDefault, true, true, defaultType);
+    this.plans = compiled == null ? new PathKeyPlan[0] : compiled
+      .stream()
+      .filter(expr -> expr.getCompiledExpression() != null)
+      .map(PathKeyPlan::new)
+      .toArray(PathKeyPlan[]::new);
+    this.roots = ThreadLocal.withInitial(() -> new OutputExpressionRoot(null, null, context));
+  }
+
+  public Map<String, Object> evaluate(Object rootObject) {
+    return evaluate(roots.get(), rootObject);
+  }
+
+  public List<Map<String, Object>> evaluate(@Nonnull List<?> rows) {
+    List<Map<String, Object>> results = new ArrayList<>(rows.size());
+    OutputExpressionRoot root = roots.get();
+    for (Object row : rows) {
+      results.add(evaluate(root, row));
+    }
+    return results;
+  }
+
+  @SuppressWarnings("unchecked")
+  public List<Map<String, Object>> evaluate(@Nonnull List<?> rows, @Nullable Executor executor, int chunkSize) {
+    if ((executor == null) || (rows.size() <= chunkSize)) {
+      return evaluate(rows);
+    }
+    Map<String, Object>[] results = new Map[rows.size()];
+    List<CompletableFuture<Void>> futures = new ArrayList<>((rows.size() / chunkSize) + 1);
+    for (int start = 0; start < rows.size(); start += chunkSize) {
+      final int chunkStart = start;
+      final int chunkEnd = Math.min(rows.size(), start + chunkSize);
+      futures.add(CompletableFuture.runAsync(() -> {
+        OutputExpressionRoot root = new OutputExpressionRoot(null, null, context);
+        for (int pos = chunkStart; pos < chunkEnd; pos++) {
+          results[pos] = evaluate(root, rows.get(pos));
+        }
+      }, executor));
+    }
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).join();
+    } catch (CompletionException e) {
+      return Exceptions.sneakyThrow(e.getCause() == null ? e : e.getCause());
+    }
+    return Arrays.asList(results);
+  }
+
+  public List<Map<String, Object>> evaluate(@Nonnull List<?> rows, @Nullable Executor executor) {
+    return evaluate(rows, executor, DEFAULT_CHUNK_SIZE);
+  }
+
+  public int getExpressionsCount() {
+    return plans.length;
+  }
+
+  public Stream<Map<String, Object>> stream(@Nonnull Stream<?> rows) {
+    return rows.map(this::evaluate);
+  }
+
+  private Map<String, Object> evaluate(OutputExpressionRoot root, Object rootObject) {
+    Map<String, Object> created = new LinkedHashMap<>();
+    root.setData(rootObject);
+    root.setResult(created);
+    try {
+      for (PathKeyPlan plan : plans) {
+        plan.apply(created, ExprFactory.eval(root, plan.compiled, false));
+      }
+    } finally {
+      root.setData(null);
+      root.setResult(null);
+    }
+    return created;
+  }
+
+  private static final class PathKeyPlan {
+
+    private final Object compiled;
+    private final String key;
+    private final String[] keyParts;
+    private final boolean returnsPathKeyMap;
+
+    PathKeyPlan(OutputExpression expr) {
+      this.compiled = expr.getCompiledExpression();
+      this.key = expr.getPath();
+      this.returnsPathKeyMap = expr.testReturnsPathKeyMap();
+      this.keyParts = createKeyParts(key);
+    }
+
+    private static String[] createKeyParts(String key) {
+      if (key.startsWith("\"") && key.endsWith("\"")) {
+        return new String[]{StringUtils.removeStart(StringUtils.removeEnd(key, "\""), "\"")};
+      } else if (!contains(key, ".") && !contains(key, "[")) {
+        return new String[]{key};
+      }
+      List<String> parts = Collect.splitCsvAsList(key, '.');
+      for (String part : parts) {
+        if (Serializer.LIST_KEY_REGEX.matcher(part).find()) {
+          return null;
+        }
+      }
+      return parts.toArray(new String[parts.size()]);
+    }
+
+    @SuppressWarnings("unchecked")
+    void apply(Map<String, Object> created, Object val) {
+      if ((val != null) && returnsPathKeyMap) {
+        (val instanceof Map ? ((Map<?, ?>) val) : Serializer.toMap(val, false)).forEach((mapKey, mapVal) -> {
+          Serializer.addPathKeyToMap(created, mapKey.toString(), mapVal);
+        });
+      } else if (keyParts == null) {
+        Serializer.addPathKeyToMap(created, key, val);
+      } else {
+        Map<String, Object> previous = created;
+        int last = keyParts.length - 1;
+        for (int i = 0; i < last; i++) {
+          previous = (Map<String, Object>) previous.computeIfAbsent(keyParts[i], k -> new TreeMap<String, Object>());
+        }
+        previous.put(keyParts[last], val);
+      }
+    }
+
+  }
+
+}
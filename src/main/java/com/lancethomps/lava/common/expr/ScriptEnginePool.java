@@ -0,0 +1,354 @@
+package com.lancethomps.lava.common.expr;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.lancethomps.lava.common.collections.MapUtil;
+import com.lancethomps.lava.common.logging.Logs;
+import com.lancethomps.lava.common.metrics.StatusMonitor;
+
+import io.dropwizard.metrics5.Counter;
+import io.dropwizard.metrics5.Gauge;
+import io.dropwizard.metrics5.MetricName;
+import io.dropwizard.metrics5.MetricRegistry;
+import io.dropwizard.metrics5.Timer;
+
+public class ScriptEnginePool {
+
+  public static final int DEFAULT_MAX_COMPILED_SCRIPTS = 256;
+  public static final String DEFAULT_POOL_NAME = "default";
+  public static final String METRIC_POOL = "pool";
+  private static final Logger LOG = LogManager.getLogger(ScriptEnginePool.class);
+  private final Condition available;
+  private final AtomicInteger created = new AtomicInteger();
+  private final Supplier<ScriptEngine> creator;
+  private final Counter evictedCounter;
+  private final AtomicInteger generation = new AtomicInteger();
+  private final LinkedBlockingDeque<PooledScriptEngine> idle = new LinkedBlockingDeque<>();
+  private volatile long idleTimeoutMillis = TimeUnit.MINUTES.toMillis(10);
+  private final AtomicInteger inUse = new AtomicInteger();
+  private volatile long lastEvictionCheck = System.currentTimeMillis();
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile int maxCompiledScripts = DEFAULT_MAX_COMPILED_SCRIPTS;
+  private volatile int maxSize;
+  private volatile long maxWaitMillis = 1000;
+  private volatile int minIdle;
+  private final String name;
+  private final Counter overflowCounter;
+  private volatile boolean overflowOnTimeout = true;
+  private final ExprParser type;
+  private final Timer waitTimer;
+
+  public ScriptEnginePool(@Nonnull ExprParser type, int maxSize, @Nonnull Supplier<ScriptEngine> creator) {
+    this(DEFAULT_POOL_NAME, type, maxSize, creator);
+  }
+
+  public ScriptEnginePool(@Nonnull String name, @Nonnull ExprParser type, int maxSize, @Nonnull Supplier<ScriptEngine> creator) {
+    super();
+    this.name = name;
+    this.type = type;
+    this.maxSize = maxSize;
+    this.creator = creator;
+    this.available = lock.newCondition();
+    this.evictedCounter = StatusMonitor.counter(ExprFactory.METRIC_REGISTRY, type.name(), METRIC_POOL, name, "evicted");
+    this.overflowCounter = StatusMonitor.counter(ExprFactory.METRIC_REGISTRY, type.name(), METRIC_POOL, name, "overflow");
+    this.waitTimer = StatusMonitor.timer(ExprFactory.METRIC_REGISTRY, type.name(), METRIC_POOL, name, "wait");
+    MetricRegistry metrics = StatusMonitor.registry(ExprFactory.METRIC_REGISTRY);
+    MetricName statsName = MetricRegistry.name(type.name(), METRIC_POOL, name);
+    metrics.remove(statsName);
+    metrics.register(statsName, (Gauge<Map<String, Object>>) this::getStats);
+  }
+
+  public PooledScriptEngine acquire() throws ScriptException {
+    evictIdle();
+    PooledScriptEngine engine = idle.pollFirst();
+    if (engine == null) {
+      engine = createIfBelowMax();
+    }
+    if (engine == null) {
+      try (Timer.Context watch = waitTimer.time()) {
+        engine = awaitEngine();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ScriptException(String.format("Interrupted while waiting for a %s script engine.", type));
+      }
+    }
+    if (engine == null) {
+      if (!overflowOnTimeout) {
+        throw new ScriptException(String.format("Timed out after %sms waiting for a %s script engine: max=%s", maxWaitMillis, type, maxSize));
+      }
+      overflowCounter.inc();
+      Logs.logWarn(LOG, "No %s script engine available after %sms (max=%s), creating an unpooled engine.", type, maxWaitMillis, maxSize);
+      engine = new PooledScriptEngine(creator.get(), false, maxCompiledScripts, -1);
+    }
+    inUse.incrementAndGet();
+    return engine;
+  }
+
+  public void clear() {
+    generation.incrementAndGet();
+    idle.clear();
+    created.set(0);
+    signalAvailable(true);
+  }
+
+  public int getCreatedCount() {
+    return created.get();
+  }
+
+  public int getIdleCount() {
+    return idle.size();
+  }
+
+  public long getIdleTimeoutMillis() {
+    return idleTimeoutMillis;
+  }
+
+  public ScriptEnginePool setIdleTimeoutMillis(long idleTimeoutMillis) {
+    this.idleTimeoutMillis = idleTimeoutMillis;
+    return this;
+  }
+
+  public int getInUseCount() {
+    return inUse.get();
+  }
+
+  public int getMaxCompiledScripts() {
+    return maxCompiledScripts;
+  }
+
+  public ScriptEnginePool setMaxCompiledScripts(int maxCompiledScripts) {
+    this.maxCompiledScripts = maxCompiledScripts;
+    return this;
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public ScriptEnginePool setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+    signalAvailable(true);
+    return this;
+  }
+
+  public long getMaxWaitMillis() {
+    return maxWaitMillis;
+  }
+
+  public ScriptEnginePool setMaxWaitMillis(long maxWaitMillis) {
+    this.maxWaitMillis = maxWaitMillis;
+    return this;
+  }
+
+  public int getMinIdle() {
+    return minIdle;
+  }
+
+  public ScriptEnginePool setMinIdle(int minIdle) {
+    this.minIdle = minIdle;
+    return this;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new TreeMap<>();
+    int size = maxSize;
+    stats.put("created", created.get());
+    stats.put("evicted", evictedCounter.getCount());
+    stats.put("idle", idle.size());
+    stats.put("in_use", inUse.get());
+    stats.put("max_size", size);
+    stats.put("overflow", overflowCounter.getCount());
+    stats.put("utilization", size <= 0 ? 0d : (double) inUse.get() / size);
+    return stats;
+  }
+
+  public ExprParser getType() {
+    return type;
+  }
+
+  public boolean isOverflowOnTimeout() {
+    return overflowOnTimeout;
+  }
+
+  public ScriptEnginePool setOverflowOnTimeout(boolean overflowOnTimeout) {
+    this.overflowOnTimeout = overflowOnTimeout;
+    return this;
+  }
+
+  public int prewarm() {
+    return prewarm(minIdle - idle.size());
+  }
+
+  public int prewarm(int count) {
+    int warmed = 0;
+    while (warmed < count) {
+      PooledScriptEngine engine = createIfBelowMax();
+      if (engine == null) {
+        break;
+      }
+      idle.offerLast(engine);
+      warmed++;
+    }
+    return warmed;
+  }
+
+  public void release(PooledScriptEngine engine) {
+    if (engine == null) {
+      return;
+    }
+    inUse.decrementAndGet();
+    if (!engine.isPooled() || (engine.generation != generation.get())) {
+      return;
+    }
+    if (created.get() <= maxSize) {
+      engine.lastUsed = System.currentTimeMillis();
+      idle.offerFirst(engine);
+    } else {
+      created.decrementAndGet();
+    }
+    signalAvailable(false);
+  }
+
+  private PooledScriptEngine awaitEngine() throws InterruptedException {
+    long remaining = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    lock.lockInterruptibly();
+    try {
+      while (true) {
+        PooledScriptEngine engine = idle.pollFirst();
+        if (engine != null) {
+          return engine;
+        } else if (reserveBelowMax()) {
+          break;
+        } else if (remaining <= 0L) {
+          return null;
+        }
+        remaining = available.awaitNanos(remaining);
+      }
+    } finally {
+      lock.unlock();
+    }
+    return createReserved();
+  }
+
+  private PooledScriptEngine createIfBelowMax() {
+    return reserveBelowMax() ? createReserved() : null;
+  }
+
+  private PooledScriptEngine createReserved() {
+    try {
+      return new PooledScriptEngine(creator.get(), true, maxCompiledScripts, generation.get());
+    } catch (RuntimeException e) {
+      created.decrementAndGet();
+      signalAvailable(false);
+      throw e;
+    }
+  }
+
+  private void evictIdle() {
+    long now = System.currentTimeMillis();
+    long timeout = idleTimeoutMillis;
+    if ((timeout <= 0) || ((now - lastEvictionCheck) < (timeout / 2))) {
+      return;
+    }
+    lastEvictionCheck = now;
+    boolean evicted = false;
+    Iterator<PooledScriptEngine> iter = idle.descendingIterator();
+    while (iter.hasNext() && (idle.size() > minIdle)) {
+      PooledScriptEngine engine = iter.next();
+      if (((now - engine.lastUsed) >= timeout) && idle.removeLastOccurrence(engine)) {
+        created.decrementAndGet();
+        evictedCounter.inc();
+        evicted = true;
+      }
+    }
+    if (evicted) {
+      signalAvailable(true);
+    }
+  }
+
+  private boolean reserveBelowMax() {
+    int current = created.get();
+    while (current < maxSize) {
+      if (created.compareAndSet(current, current + 1)) {
+        return true;
+      }
+      current = created.get();
+    }
+    return false;
+  }
+
+  private void signalAvailable(boolean all) {
+    lock.lock();
+    try {
+      if (all) {
+        available.signalAll();
+      } else {
+        available.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public static class PooledScriptEngine {
+
+    private final Map<String, CompiledScript> compiledScripts;
+    private final ScriptEngine engine;
+    private final int generation;
+    private volatile long lastUsed = System.currentTimeMillis();
+    private final boolean pooled;
+
+    PooledScriptEngine(ScriptEngine engine, boolean pooled, int maxCompiledScripts, int generation) {
+      this.engine = engine;
+      this.generation = generation;
+      this.pooled = pooled;
+      this.compiledScripts = pooled && (engine instanceof Compilable) && (maxCompiledScripts > 0)
+        ? Collections.synchronizedMap(MapUtil.createLruMap(maxCompiledScripts))
+        : null;
+    }
+
+    public CompiledScript getCompiledScript(String script) throws ScriptException {
+      if (compiledScripts == null) {
+        return null;
+      }
+      CompiledScript compiled = compiledScripts.get(script);
+      if (compiled == null) {
+        compiled = ((Compilable) engine).compile(script);
+        compiledScripts.put(script, compiled);
+      }
+      return compiled;
+    }
+
+    public ScriptEngine getEngine() {
+      return engine;
+    }
+
+    public boolean isPooled() {
+      return pooled;
+    }
+
+  }
+
+}
@@ -6,11 +6,7 @@ import static com.lancethomps.lava.common.expr.ExprParser.PY;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -26,8 +22,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Sets;
 import com.lancethomps.lava.common.Checks;
+import com.lancethomps.lava.common.expr.ScriptEnginePool.PooledScriptEngine;
 import com.lancethomps.lava.common.logging.Logs;
 import com.lancethomps.lava.common.metrics.StatusMonitor;
 import com.lancethomps.lava.common.ser.OutputExpression;
@@ -37,10 +33,7 @@ import io.dropwizard.metrics5.Timer;
 
 public class ScriptEngines {
 
-  private static final Map<ExprParser, AtomicInteger> CURRENT_NUM_ENGINES = new HashMap<>(ImmutableMap.of(
-    JS, new AtomicInteger(0),
-    PY, new AtomicInteger(0)
-  ));
+  public static final int DEFAULT_MAX_ENGINES = 4;
   private static final Map<ExprParser, Function<ScriptEngineManager, ScriptEngine>> CUSTOM_ENGINE_INITIALIZERS = new ConcurrentHashMap<>();
   private static final Timer JS_COMPILE_TIMER =
     StatusMonitor.timer(ExprFactory.METRIC_REGISTRY, ExprParser.JS.name(), ExprFactory.METRIC_REGISTRY_COMPILE);
@@ -49,17 +42,14 @@ public class ScriptEngines {
   private static final Timer PY_COMPILE_TIMER =
     StatusMonitor.timer(ExprFactory.METRIC_REGISTRY, ExprParser.PY.name(), ExprFactory.METRIC_REGISTRY_COMPILE);
   private static final Timer PY_EVAL_TIMER = StatusMonitor.timer(ExprFactory.METRIC_REGISTRY, ExprParser.PY.name(), ExprFactory.METRIC_REGISTRY_EVAL);
-  private static final Map<ExprParser, ConcurrentLinkedQueue<ScriptEngine>> SCRIPT_ENGINES = new HashMap<>(ImmutableMap.of(
-    JS, new ConcurrentLinkedQueue<>(),
-    PY, new ConcurrentLinkedQueue<>()
-  ));
-  private static final Map<ExprParser, Set<ScriptEngine>> SHARED_ENGINES_SET = new HashMap<>(ImmutableMap.of(
-    JS, Sets.newConcurrentHashSet(),
-    PY, Sets.newConcurrentHashSet()
+  private static final Map<ExprParser, ScriptEnginePool> SCRIPT_ENGINE_POOLS = new HashMap<>(ImmutableMap.of(
+    JS, new ScriptEnginePool(JS, DEFAULT_MAX_ENGINES, () -> getNewScriptEngine(JS)),
+    PY, new ScriptEnginePool(PY, DEFAULT_MAX_ENGINES, () -> getNewScriptEngine(PY))
   ));
   private static boolean allowSandboxed;
-  private static ScriptEngineManager engineManager;
-  private static int maxEngines = 4;
+  private static boolean cacheCompiledScripts = true;
+  private static volatile ScriptEngineManager engineManager;
+  private static int maxEngines = DEFAULT_MAX_ENGINES;
 
   static {
     if (Checks.isBlank(System.getProperty("nashorn.args"))) {
@@ -69,9 +59,7 @@ public class ScriptEngines {
 
   public static void addCustomEngineInitializer(ExprParser type, Function<ScriptEngineManager, ScriptEngine> function) {
     CUSTOM_ENGINE_INITIALIZERS.put(type, function);
-    SHARED_ENGINES_SET.get(type).clear();
-    SCRIPT_ENGINES.get(type).clear();
-    CURRENT_NUM_ENGINES.get(type).set(0);
+    SCRIPT_ENGINE_POOLS.get(type).clear();
   }
 
   public static CompiledScript compileJsScript(String script, boolean sandbox, boolean verbose) {
@@ -156,12 +144,21 @@ public class ScriptEngines {
     return evalExpressionWithException(PY, val, expr, verbose, "result");
   }
 
+  public static ScriptEnginePool getEnginePool(ExprParser type) {
+    ScriptEnginePool pool = SCRIPT_ENGINE_POOLS.get(type);
+    if (pool == null) {
+      throw new IllegalArgumentException(String.format("Expression type %s is not supported.", type));
+    }
+    return pool;
+  }
+
   public static int getMaxEngines() {
     return maxEngines;
   }
 
   public static void setMaxEngines(int maxEngines) {
     ScriptEngines.maxEngines = maxEngines;
+    SCRIPT_ENGINE_POOLS.values().forEach(pool -> pool.setMaxSize(maxEngines));
   }
 
   public static boolean isAllowSandboxed() {
@@ -172,14 +169,27 @@ public class ScriptEngines {
     ScriptEngines.allowSandboxed = allowSandboxed;
   }
 
-  public static void resetEngines() {
-    SHARED_ENGINES_SET.values().forEach(Set::clear);
-    for (Entry<ExprParser, ConcurrentLinkedQueue<ScriptEngine>> enginesEntry : SCRIPT_ENGINES.entrySet()) {
-      enginesEntry.getValue().clear();
-      CURRENT_NUM_ENGINES.get(enginesEntry.getKey()).set(0);
+  public static boolean isCacheCompiledScripts() {
+    return cacheCompiledScripts;
+  }
+
+  public static void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+    ScriptEngines.cacheCompiledScripts = cacheCompiledScripts;
+  }
+
+  public static int prewarmEngines(ExprParser type, int count) {
+    Stopwatch watch = Stopwatch.createAndStart();
+    try {
+      return getEnginePool(type).prewarm(count);
+    } finally {
+      Logs.logTimer(LOG, watch, String.format("ScriptEngine Prewarm - %s", type));
     }
   }
 
+  public static void resetEngines() {
+    SCRIPT_ENGINE_POOLS.values().forEach(ScriptEnginePool::clear);
+  }
+
   private static CompiledScript compileScript(ExprParser type, String script, boolean sandbox, boolean verbose) {
     try {
       return compileScriptWithException(type, script, sandbox, verbose);
@@ -197,19 +207,20 @@ public class ScriptEngines {
   }
 
   private static CompiledScript compileScriptWithException(ExprParser type, String script, boolean sandbox, boolean verbose) throws ScriptException {
-    ScriptEngine engine = null;
+    PooledScriptEngine pooled = null;
     try (Timer.Context watch = getCompileTimer(type).time()) {
       if (sandbox && !allowSandboxed) {
         throw new SecurityException("Sandboxed script engine expressions not allowed.");
       }
-      engine = getInitializedEngine(type);
+      pooled = getInitializedEngine(type);
+      ScriptEngine engine = pooled.getEngine();
       if (engine instanceof Compilable) {
         CompiledScript compiledScript = ((Compilable) engine).compile(script);
         return compiledScript;
       }
       return null;
     } finally {
-      releaseEngine(type, engine);
+      releaseEngine(type, pooled);
     }
   }
 
@@ -251,13 +262,14 @@ public class ScriptEngines {
     String resultVariable
   )
     throws ExpressionEvalException {
-    ScriptEngine engine = null;
+    PooledScriptEngine pooled = null;
     try (Timer.Context watch = getEvalTimer(type).time()) {
       if (expr.isSandbox() && !allowSandboxed) {
         throw new SecurityException("Sandboxed script engine expressions not allowed.");
       }
 
-      engine = getInitializedEngine(type);
+      pooled = getInitializedEngine(type);
+      ScriptEngine engine = pooled.getEngine();
       Bindings bindings = engine.createBindings();
       if (expr.getGlobalVariables() != null) {
         bindings.putAll(expr.getGlobalVariables());
@@ -267,15 +279,20 @@ public class ScriptEngines {
         return (T) expr.getCompiled().eval(bindings);
       }
 
+      CompiledScript compiled = cacheCompiledScripts ? pooled.getCompiledScript(expr.getExpression()) : null;
       if (resultVariable == null) {
-        return (T) engine.eval(expr.getExpression(), bindings);
+        return (T) (compiled == null ? engine.eval(expr.getExpression(), bindings) : compiled.eval(bindings));
+      }
+      if (compiled == null) {
+        engine.eval(expr.getExpression(), bindings);
+      } else {
+        compiled.eval(bindings);
       }
-      engine.eval(expr.getExpression(), bindings);
       return (T) bindings.get(resultVariable);
     } catch (Throwable e) {
       throw new ExpressionEvalException(type, e);
     } finally {
-      releaseEngine(type, engine);
+      releaseEngine(type, pooled);
     }
   }
 
@@ -301,23 +318,17 @@ public class ScriptEngines {
     }
   }
 
-  private static ScriptEngine getInitializedEngine(ExprParser type) {
-    ScriptEngine engine = SCRIPT_ENGINES.get(type).poll();
-    if (engine == null) {
-      AtomicInteger currentNumEngines = CURRENT_NUM_ENGINES.get(type);
-      if (currentNumEngines.get() >= maxEngines) {
-        return getNewScriptEngine(type);
-      }
-      engine = getNewScriptEngine(type);
-      SHARED_ENGINES_SET.get(type).add(engine);
-      currentNumEngines.incrementAndGet();
-    }
-    return engine;
+  private static PooledScriptEngine getInitializedEngine(ExprParser type) throws ScriptException {
+    return getEnginePool(type).acquire();
   }
 
   private static ScriptEngine getNewScriptEngine(ExprParser type) {
     if (engineManager == null) {
-      engineManager = initScriptEngineManager(new ScriptEngineManager());
+      synchronized (ScriptEngines.class) {
+        if (engineManager == null) {
+          engineManager = initScriptEngineManager(new ScriptEngineManager());
+        }
+      }
     }
     Stopwatch watch = Stopwatch.createAndStart();
     try {
@@ -348,11 +359,9 @@ public class ScriptEngines {
     }
   }
 
-  private static void releaseEngine(ExprParser type, ScriptEngine engine) {
+  private static void releaseEngine(ExprParser type, PooledScriptEngine engine) {
     if (engine != null) {
-      if (SHARED_ENGINES_SET.get(type).contains(engine)) {
-        SCRIPT_ENGINES.get(type).add(engine);
-      }
+      getEnginePool(type).release(engine);
     }
   }
 
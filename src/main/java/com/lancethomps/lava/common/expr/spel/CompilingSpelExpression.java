@@ -0,0 +1,161 @@
+package com.lancethomps.lava.common.expr.spel;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.EvaluationException;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.ast.SpelNodeImpl;
+import org.springframework.expression.spel.standard.SpelExpression;
+
+import com.lancethomps.lava.common.cache.ConcurrentCache;
+import com.lancethomps.lava.common.expr.ExprFactory;
+import com.lancethomps.lava.common.expr.ExprParser;
+import com.lancethomps.lava.common.logging.Logs;
+import com.lancethomps.lava.common.metrics.CacheMetricSet;
+import com.lancethomps.lava.common.metrics.StatusMonitor;
+
+import io.dropwizard.metrics5.Counter;
+
+public class CompilingSpelExpression extends SpelExpression {
+
+  public static final int FAILED_ATTEMPTS_THRESHOLD = 100;
+  public static final int INTERPRETED_COUNT_THRESHOLD = 100;
+  private static final Counter COMPILE_FALLBACK_COUNTER =
+    StatusMonitor.counter(ExprFactory.METRIC_REGISTRY, ExprParser.SPEL.name(), ExprFactory.METRIC_REGISTRY_COMPILE, "fallback");
+  private static final ConcurrentCache<String, Boolean> COMPILE_RESULTS = CacheMetricSet.register(new ConcurrentCache<>(
+    "spelCompileResults",
+    NumberUtils.toInt(System.getProperty("wtp.spelCompileResultsCacheSize"), 1000),
+    null,
+    0,
+    null
+  ));
+  private static final Counter COMPILE_SUCCESS_COUNTER =
+    StatusMonitor.counter(ExprFactory.METRIC_REGISTRY, ExprParser.SPEL.name(), ExprFactory.METRIC_REGISTRY_COMPILE, "success");
+  private static final Logger LOG = LogManager.getLogger(CompilingSpelExpression.class);
+  private volatile boolean compiled;
+  private final AtomicInteger failedAttempts = new AtomicInteger();
+  private final AtomicInteger interpretedCount = new AtomicInteger();
+  private final SpelCompileMode mode;
+
+  public CompilingSpelExpression(@Nonnull SpelExpression parsed, @Nonnull SpelParserConfiguration configuration, @Nonnull SpelCompileMode mode) {
+    super(parsed.getExpressionString(), (SpelNodeImpl) parsed.getAST(), configuration);
+    this.mode = mode;
+    if (parsed.getEvaluationContext() != null) {
+      setEvaluationContext(parsed.getEvaluationContext());
+    }
+  }
+
+  public static void clearCompileResults() {
+    COMPILE_RESULTS.dispose();
+  }
+
+  public static long getCompileFallbackCount() {
+    return COMPILE_FALLBACK_COUNTER.getCount();
+  }
+
+  public static Map<String, Boolean> getCompileResults() {
+    return Collections.unmodifiableMap(COMPILE_RESULTS.snapshot());
+  }
+
+  public static long getCompileSuccessCount() {
+    return COMPILE_SUCCESS_COUNTER.getCount();
+  }
+
+  @Override
+  public boolean compileExpression() {
+    if (compiled) {
+      return true;
+    }
+    boolean success;
+    try {
+      success = super.compileExpression();
+    } catch (Throwable e) {
+      Logs.logTrace(LOG, "Could not compile SpEL expression [%s]: %s", getExpressionString(), e);
+      success = false;
+    }
+    synchronized (this) {
+      if (success && !compiled) {
+        compiled = true;
+        COMPILE_SUCCESS_COUNTER.inc();
+        COMPILE_RESULTS.putSafely(getExpressionString(), true);
+      } else if (!success) {
+        interpretedCount.set(0);
+        recordFailedAttempt();
+      }
+    }
+    return success;
+  }
+
+  public SpelCompileMode getMode() {
+    return mode;
+  }
+
+  @Override
+  public Object getValue(EvaluationContext context, Object rootObject) throws EvaluationException {
+    return evaluate(() -> super.getValue(context, rootObject));
+  }
+
+  @Override
+  public Object getValue(Object rootObject) throws EvaluationException {
+    return evaluate(() -> super.getValue(rootObject));
+  }
+
+  public boolean isCompiled() {
+    return compiled;
+  }
+
+  @Override
+  public void revertToInterpreted() {
+    synchronized (this) {
+      super.revertToInterpreted();
+      compiled = false;
+      interpretedCount.set(0);
+    }
+  }
+
+  private void checkCompile() {
+    if ((mode == SpelCompileMode.OFF) || compiled || (failedAttempts.get() > FAILED_ATTEMPTS_THRESHOLD)) {
+      return;
+    }
+    if ((interpretedCount.incrementAndGet() > INTERPRETED_COUNT_THRESHOLD) || (mode == SpelCompileMode.IMMEDIATE)) {
+      compileExpression();
+    }
+  }
+
+  private Object evaluate(Supplier<Object> evaluator) {
+    if (compiled) {
+      try {
+        return evaluator.get();
+      } catch (SpelEvaluationException e) {
+        if ((mode != SpelCompileMode.MIXED) || (e.getMessageCode() != SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION)) {
+          throw e;
+        }
+        Logs.logTrace(LOG, "Compiled SpEL expression [%s] failed, reverting to interpreted mode: %s", getExpressionString(), e);
+        revertToInterpreted();
+        recordFailedAttempt();
+      }
+    }
+    Object result = evaluator.get();
+    checkCompile();
+    return result;
+  }
+
+  private void recordFailedAttempt() {
+    if (failedAttempts.incrementAndGet() == (FAILED_ATTEMPTS_THRESHOLD + 1)) {
+      COMPILE_FALLBACK_COUNTER.inc();
+    }
+    COMPILE_RESULTS.putSafely(getExpressionString(), false);
+  }
+
+}
@@ -0,0 +1,21 @@
+package com.lancethomps.lava.common.expr.spel;
+
+import com.lancethomps.lava.common.Enums;
+
+public enum SpelCompileMode {
+
+  IMMEDIATE,
+
+  MIXED,
+
+  OFF;
+
+  static {
+    Enums.createStringToTypeMap(SpelCompileMode.class);
+  }
+
+  public static SpelCompileMode fromString(String val) {
+    return Enums.fromString(SpelCompileMode.class, val);
+  }
+
+}
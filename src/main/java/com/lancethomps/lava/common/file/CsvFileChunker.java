@@ -0,0 +1,176 @@
+package com.lancethomps.lava.common.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.lancethomps.lava.common.Checks;
+
+public class CsvFileChunker {
+
+  public static final int DEFAULT_CHUNK_SIZE = 8 * 1024 * 1024;
+  private static final long WINDOW_SIZE = 256L * 1024 * 1024;
+  private final FileChannel channel;
+  private final Charset charset;
+  private final byte escape;
+  private final byte quote;
+  private final long size;
+  private final byte[][] skipPrefixes;
+  private MappedByteBuffer window;
+  private long windowEnd;
+  private long windowStart;
+
+  public CsvFileChunker(
+    @Nonnull FileChannel channel,
+    @Nonnull Charset charset,
+    char quote,
+    char escape,
+    @Nullable Collection<String> removeLinesWithPrefixes
+  ) throws IOException {
+    super();
+    this.channel = channel;
+    this.charset = charset;
+    this.quote = (byte) quote;
+    this.escape = (byte) escape;
+    this.size = channel.size();
+    this.skipPrefixes = Checks.isEmpty(removeLinesWithPrefixes) ? new byte[0][] :
+      removeLinesWithPrefixes.stream().map(prefix -> prefix.getBytes(charset)).toArray(byte[][]::new);
+  }
+
+  public static boolean isSupportedCharset(@Nonnull Charset charset) {
+    return StandardCharsets.UTF_8.equals(charset) || (charset.newEncoder().maxBytesPerChar() == 1f);
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return (b == ' ') || ((b >= 9) && (b <= 13)) || ((b >= 0x1C) && (b <= 0x1F));
+  }
+
+  public String decode(long start, long end) throws IOException {
+    if (end - start > Integer.MAX_VALUE) {
+      throw new IOException(String.format("CSV chunk is too large to map: start=%s end=%s", start, end));
+    }
+    return charset.decode(channel.map(MapMode.READ_ONLY, start, end - start)).toString();
+  }
+
+  public long getSize() {
+    return size;
+  }
+
+  public long nextLineStart(long pos) throws IOException {
+    while (pos < size) {
+      if (get(pos++) == '\n') {
+        break;
+      }
+    }
+    return pos;
+  }
+
+  public String readLine(long pos) throws IOException {
+    if (pos >= size) {
+      return null;
+    }
+    ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    while (pos < size) {
+      byte b = get(pos++);
+      if (b == '\n') {
+        break;
+      }
+      line.write(b);
+    }
+    String decoded = new String(line.toByteArray(), charset);
+    return decoded.endsWith("\r") ? decoded.substring(0, decoded.length() - 1) : decoded;
+  }
+
+  public List<long[]> split(long start, int chunkSize) throws IOException {
+    List<long[]> chunks = new ArrayList<>();
+    long end = size;
+    long chunkStart = start;
+    long lineStart = start;
+    long pos = start;
+    boolean inQuotes = false;
+    boolean lineBlank = true;
+    boolean lineStartedInQuotes = false;
+    boolean skipLine = startsWithSkipPrefix(start);
+    while (pos < size) {
+      byte b = get(pos++);
+      if (b == '\n') {
+        if (!lineStartedInQuotes && lineBlank) {
+          end = lineStart;
+          break;
+        }
+        lineStart = pos;
+        lineBlank = true;
+        lineStartedInQuotes = inQuotes;
+        if (!inQuotes) {
+          if ((pos - chunkStart) >= chunkSize) {
+            chunks.add(new long[]{chunkStart, pos});
+            chunkStart = pos;
+          }
+          skipLine = startsWithSkipPrefix(pos);
+        }
+        continue;
+      }
+      if (lineBlank && !isWhitespace(b)) {
+        lineBlank = false;
+      }
+      if (skipLine) {
+        continue;
+      }
+      if ((b == escape) && (pos < size)) {
+        byte next = get(pos);
+        if ((next == quote) || (next == escape)) {
+          pos++;
+          continue;
+        }
+      }
+      if (b == quote) {
+        inQuotes = !inQuotes;
+      }
+    }
+    if ((pos >= size) && !lineStartedInQuotes && lineBlank) {
+      end = lineStart;
+    }
+    if (end > chunkStart) {
+      chunks.add(new long[]{chunkStart, end});
+    }
+    return chunks;
+  }
+
+  private byte get(long pos) throws IOException {
+    if ((window == null) || (pos < windowStart) || (pos >= windowEnd)) {
+      windowStart = pos;
+      windowEnd = Math.min(size, pos + WINDOW_SIZE);
+      window = channel.map(MapMode.READ_ONLY, windowStart, windowEnd - windowStart);
+    }
+    return window.get((int) (pos - windowStart));
+  }
+
+  private boolean startsWithSkipPrefix(long pos) throws IOException {
+    for (byte[] prefix : skipPrefixes) {
+      if (prefix.length == 0) {
+        return true;
+      }
+      if ((pos + prefix.length) <= size) {
+        boolean matches = true;
+        for (int i = 0; matches && (i < prefix.length); i++) {
+          matches = get(pos + i) == prefix[i];
+        }
+        if (matches) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+}
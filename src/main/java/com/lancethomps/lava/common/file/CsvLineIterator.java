@@ -0,0 +1,99 @@
+// CHECKSTYLE.OFF: OpenCSV
+package com.lancethomps.lava.common.file;
+
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import com.lancethomps.lava.common.ser.Serializer;
+import com.opencsv.CSVParser;
+
+public class CsvLineIterator implements Iterator<String[]> {
+
+  private int count;
+  private boolean done;
+  private String line;
+  private String[] next;
+  private final Pattern onlySepsRegex;
+  private final FileParserOptions options;
+  private final CSVParser parser;
+  private final LineNumberReader reader;
+
+  public CsvLineIterator(
+    @Nonnull FileParserOptions options,
+    @Nonnull LineNumberReader reader,
+    @Nonnull CSVParser parser,
+    String currentLine
+  ) throws IOException {
+    super();
+    this.options = options;
+    this.reader = reader;
+    this.parser = parser;
+    this.onlySepsRegex = Pattern.compile("^" + Pattern.quote(String.valueOf(parser.getSeparator())) + "+$");
+    this.line = currentLine == null ? reader.readLine() : currentLine;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if ((next == null) && !done) {
+      try {
+        advance();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public String[] next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    String[] data = next;
+    next = null;
+    return data;
+  }
+
+  private void advance() throws IOException {
+    String[] pendingData = null;
+    while ((line != null) && (parser.isPending() || isNotBlank(line)) && ((options.getMaxLines() == null) || (count < options.getMaxLines()))) {
+      if (!parser.isPending() && (Serializer.shouldSkipCsvLine(line, options) || (!options.testAllowBlanks() && onlySepsRegex.matcher(line).matches()))) {
+        line = reader.readLine();
+        continue;
+      }
+      count++;
+      String[] data = parser.parseLineMulti(line);
+      line = reader.readLine();
+      if (parser.isPending()) {
+        if ((pendingData == null) || (pendingData.length == 0)) {
+          pendingData = data;
+        } else if ((data != null) && (data.length > 0)) {
+          pendingData = ArrayUtils.addAll(pendingData, data);
+        }
+        continue;
+      } else if (pendingData != null) {
+        if ((pendingData.length > 0) && (data != null) && (data.length > 0)) {
+          data = ArrayUtils.addAll(pendingData, data);
+        }
+      }
+      next = data;
+      return;
+    }
+    done = true;
+  }
+
+}
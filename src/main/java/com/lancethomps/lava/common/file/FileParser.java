@@ -9,19 +9,33 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -30,7 +44,9 @@ import org.apache.logging.log4j.Logger;
 import com.google.common.collect.Lists;
 import com.lancethomps.lava.common.Checks;
 import com.lancethomps.lava.common.Collect;
+import com.lancethomps.lava.common.Exceptions;
 import com.lancethomps.lava.common.expr.ExpressionsMatchResult;
+import com.lancethomps.lava.common.lambda.ThrowingConsumer;
 import com.lancethomps.lava.common.logging.Logs;
 import com.lancethomps.lava.common.ser.Serializer;
 import com.lancethomps.lava.common.string.StringUtil;
@@ -84,6 +100,11 @@ public class FileParser<T> {
     this.contents = contents;
   }
 
+  public boolean canParseInParallel() {
+    return (file != null) && !file.getPath().endsWith(".gz") && !options.testTranspose() && (options.getMaxLines() == null)
+      && CsvFileChunker.isSupportedCharset(Charset.defaultCharset());
+  }
+
   public String getContents() {
     return contents;
   }
@@ -97,58 +118,22 @@ public class FileParser<T> {
     return (List<Map<String, Object>>) resultList;
   }
 
-  @SuppressWarnings("unchecked")
   public FileParser<T> parseFile() throws FileParsingException {
+    if (options.testParallel() && canParseInParallel()) {
+      return parseFileParallel(null);
+    }
     isListOfPojos = type != null;
     resultList = new ArrayList<>();
     try (LineNumberReader br = initializeReader()) {
-      if ((options.getFirstRowNum() != null) && (options.getFirstRowNum() > 1)) {
-        for (int idx = 1; idx < options.getFirstRowNum(); idx++) {
-          br.readLine();
-        }
+      Iterator<String[]> rows = openRows(br);
+      if (rows == null) {
+        return null;
       }
-      String line = br.readLine();
-      final boolean keysAsPaths = options.testKeysAsPaths();
-      char sepChar = (options.getSepChar() != null) ? options.getSepChar() : FileUtil.getSeparationChar(line);
-      if (Checks.isEmpty(headers)) {
-        if (Checks.isNotEmpty(options.getRemoveLinesWithPrefixes())) {
-          while ((line != null) && StringUtil.startsWith(line, options.getRemoveLinesWithPrefixes())) {
-            line = br.readLine();
-          }
-          if (line == null) {
-            return null;
-          }
+      while (rows.hasNext()) {
+        T result = convertLine(rows.next());
+        if (result != null) {
+          resultList.add(result);
         }
-        if (!options.testTranspose()) {
-          headers = getConvertedHeaders(FileUtil.getHeaderPositionsPreserveCase(line, sepChar));
-          line = br.readLine();
-        }
-      }
-      CSVParser parser = Collect.getCsvParser(sepChar);
-      if ((options.getMaxLines() != null)) {
-        int totalLines = file != null ? FileUtil.countLines(file.getPath()) : Collect.splitCsv(contents, '\n').length;
-        int startPos = Math.max(br.getLineNumber(), totalLines - options.getMaxLines());
-        if (startPos != br.getLineNumber()) {
-          FileUtil.goToLine(br, startPos);
-        }
-      }
-      if (options.testTranspose()) {
-        List<String[]> allData = new ArrayList<>();
-        Serializer.parseCsvLines(options, br, parser, line, allData::add);
-        List<String[]> transposedLines = Stream.of(Collect.transpose(allData.toArray(new String[][]{}))).collect(Collectors.toList());
-        String[] headersLine = transposedLines.remove(0);
-        headers = new HashMap<>();
-        int i = 0;
-        for (String header : headersLine) {
-          headers.put(header, i);
-          i++;
-        }
-        headers = getConvertedHeaders(headers);
-        for (String[] data : transposedLines) {
-          consumeLine(data);
-        }
-      } else {
-        Serializer.parseCsvLines(options, br, parser, line, this::consumeLine);
       }
     } catch (FileParsingException e) {
       throw e;
@@ -158,6 +143,49 @@ public class FileParser<T> {
     return this;
   }
 
+  public int parseFile(@Nonnull ThrowingConsumer<? super T> consumer) throws FileParsingException {
+    isListOfPojos = type != null;
+    int count = 0;
+    try (LineNumberReader br = initializeReader()) {
+      Iterator<String[]> rows = openRows(br);
+      while ((rows != null) && rows.hasNext()) {
+        T result = convertLine(rows.next());
+        if (result != null) {
+          consumer.acceptWithSneakyThrow(result);
+          count++;
+        }
+      }
+    } catch (FileParsingException e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new FileParsingException(String.format("Issue streaming data from file [%s]: %s", file, e.getMessage()), e);
+    }
+    return count;
+  }
+
+  public FileParser<T> parseFileParallel(@Nullable ForkJoinPool pool) throws FileParsingException {
+    boolean ordered = options.testParallelOrdered();
+    List<T> results = new ArrayList<>();
+    int count = parseChunksInParallel(pool, ordered, ordered ? results::addAll : rows -> {
+      synchronized (results) {
+        results.addAll(rows);
+      }
+    });
+    resultList = results;
+    return count < 0 ? null : this;
+  }
+
+  public int parseFileParallel(@Nullable ForkJoinPool pool, @Nonnull ThrowingConsumer<? super T> consumer) throws FileParsingException {
+    Object lock = new Object();
+    return Math.max(0, parseChunksInParallel(pool, options.testParallelOrdered(), rows -> {
+      synchronized (lock) {
+        for (T row : rows) {
+          consumer.acceptWithSneakyThrow(row);
+        }
+      }
+    }));
+  }
+
   public FileParser<T> parseFileToList() {
     try (LineNumberReader br = file != null ? FileUtil.getFileReader(file) : new LineNumberReader(new StringReader(contents))) {
       int count = 0;
@@ -187,7 +215,35 @@ public class FileParser<T> {
     return this;
   }
 
-  private void consumeLine(String[] data) throws FileParsingException {
+  public Stream<T> stream() throws FileParsingException {
+    isListOfPojos = type != null;
+    LineNumberReader br = null;
+    try {
+      br = initializeReader();
+      Iterator<String[]> rows = openRows(br);
+      final LineNumberReader reader = br;
+      return StreamSupport
+        .stream(Spliterators.spliteratorUnknownSize(new ResultIterator(rows), Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(() -> IOUtils.closeQuietly(reader));
+    } catch (FileParsingException e) {
+      IOUtils.closeQuietly(br);
+      throw e;
+    } catch (Throwable e) {
+      IOUtils.closeQuietly(br);
+      throw new FileParsingException(String.format("Issue streaming data from file [%s]: %s", file, e.getMessage()), e);
+    }
+  }
+
+  private int completeChunk(ForkJoinTask<List<T>> task, boolean ordered, ThrowingConsumer<List<T>> chunkConsumer) throws Exception {
+    List<T> rows = task.join();
+    if (ordered) {
+      chunkConsumer.accept(rows);
+    }
+    return rows.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private T convertLine(String[] data) throws FileParsingException {
     Map<String, Object> dataMap = new TreeMap<>();
     if (options.getRowConstants() != null) {
       dataMap.putAll(options.getRowConstants());
@@ -207,7 +263,7 @@ public class FileParser<T> {
               value = options.getFieldConverter().convertObject(value, key);
             } catch (Exception e) {
               Logs.logError(LOG, e, "Error creating %s object from map [%s].", type, dataMap);
-              return;
+              return null;
             }
           }
           if (options.testKeysAsPaths()) {
@@ -261,11 +317,12 @@ public class FileParser<T> {
             throw new FileParsingException(message);
           }
           Logs.logWarn(LOG, message);
-          return;
+          return null;
         }
       }
-      resultList.add(result);
+      return result;
     }
+    return null;
   }
 
   private Map<String, Integer> getConvertedHeaders(Map<String, Integer> headers) throws Exception {
@@ -322,6 +379,138 @@ public class FileParser<T> {
     return new LineNumberReader(new StringReader(contents));
   }
 
+  private Iterator<String[]> openRows(LineNumberReader br) throws Exception {
+    if ((options.getFirstRowNum() != null) && (options.getFirstRowNum() > 1)) {
+      for (int idx = 1; idx < options.getFirstRowNum(); idx++) {
+        br.readLine();
+      }
+    }
+    String line = br.readLine();
+    char sepChar = (options.getSepChar() != null) ? options.getSepChar() : FileUtil.getSeparationChar(line);
+    if (Checks.isEmpty(headers)) {
+      if (Checks.isNotEmpty(options.getRemoveLinesWithPrefixes())) {
+        while ((line != null) && StringUtil.startsWith(line, options.getRemoveLinesWithPrefixes())) {
+          line = br.readLine();
+        }
+        if (line == null) {
+          return null;
+        }
+      }
+      if (!options.testTranspose()) {
+        headers = getConvertedHeaders(FileUtil.getHeaderPositionsPreserveCase(line, sepChar));
+        line = br.readLine();
+      }
+    }
+    CSVParser parser = Collect.getCsvParser(sepChar);
+    if ((options.getMaxLines() != null) && ((file != null) || (contents != null))) {
+      int totalLines = file != null ? FileUtil.countLines(file.getPath()) : Collect.splitCsv(contents, '\n').length;
+      int startPos = Math.max(br.getLineNumber(), totalLines - options.getMaxLines());
+      if (startPos != br.getLineNumber()) {
+        FileUtil.goToLine(br, startPos);
+      }
+    }
+    CsvLineIterator lines = new CsvLineIterator(options, br, parser, line);
+    if (!options.testTranspose()) {
+      return lines;
+    }
+    List<String[]> allData = new ArrayList<>();
+    lines.forEachRemaining(allData::add);
+    List<String[]> transposedLines = Stream.of(Collect.transpose(allData.toArray(new String[][]{}))).collect(Collectors.toList());
+    String[] headersLine = transposedLines.remove(0);
+    headers = new HashMap<>();
+    int i = 0;
+    for (String header : headersLine) {
+      headers.put(header, i);
+      i++;
+    }
+    headers = getConvertedHeaders(headers);
+    return transposedLines.iterator();
+  }
+
+  private List<T> parseChunk(CsvFileChunker chunker, long[] chunk, char sepChar) throws Exception {
+    List<T> rows = new ArrayList<>();
+    try (LineNumberReader reader = new LineNumberReader(new StringReader(chunker.decode(chunk[0], chunk[1])))) {
+      CsvLineIterator lines = new CsvLineIterator(options, reader, Collect.getCsvParser(sepChar), null);
+      while (lines.hasNext()) {
+        T result = convertLine(lines.next());
+        if (result != null) {
+          rows.add(result);
+        }
+      }
+    }
+    return rows;
+  }
+
+  private int parseChunksInParallel(@Nullable ForkJoinPool pool, boolean ordered, ThrowingConsumer<List<T>> chunkConsumer)
+    throws FileParsingException {
+    if (!canParseInParallel()) {
+      throw new FileParsingException(String.format("File [%s] cannot be parsed in parallel with options [%s]", file, options));
+    }
+    isListOfPojos = type != null;
+    ForkJoinPool executor = pool == null ? ForkJoinPool.commonPool() : pool;
+    Deque<ForkJoinTask<List<T>>> pending = new ArrayDeque<>();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      CsvFileChunker chunker = new CsvFileChunker(
+        channel,
+        Charset.defaultCharset(),
+        Collect.DEFAULT_QUOTE,
+        Collect.DEFAULT_ESC,
+        options.getRemoveLinesWithPrefixes()
+      );
+      long pos = 0;
+      if ((options.getFirstRowNum() != null) && (options.getFirstRowNum() > 1)) {
+        for (int idx = 1; idx < options.getFirstRowNum(); idx++) {
+          pos = chunker.nextLineStart(pos);
+        }
+      }
+      String line = chunker.readLine(pos);
+      if (line == null) {
+        return -1;
+      }
+      final char sepChar = (options.getSepChar() != null) ? options.getSepChar() : FileUtil.getSeparationChar(line);
+      if (Checks.isEmpty(headers)) {
+        if (Checks.isNotEmpty(options.getRemoveLinesWithPrefixes())) {
+          while ((line != null) && StringUtil.startsWith(line, options.getRemoveLinesWithPrefixes())) {
+            pos = chunker.nextLineStart(pos);
+            line = chunker.readLine(pos);
+          }
+          if (line == null) {
+            return -1;
+          }
+        }
+        headers = getConvertedHeaders(FileUtil.getHeaderPositionsPreserveCase(line, sepChar));
+        pos = chunker.nextLineStart(pos);
+      }
+      int chunkSize = options.getParallelChunkSize() != null ? options.getParallelChunkSize() : CsvFileChunker.DEFAULT_CHUNK_SIZE;
+      int window = Math.max(2, executor.getParallelism() * 2);
+      int count = 0;
+      for (long[] chunk : chunker.split(pos, Math.max(1, chunkSize))) {
+        pending.add(executor.submit(() -> {
+          List<T> rows = parseChunk(chunker, chunk, sepChar);
+          if (!ordered) {
+            chunkConsumer.acceptWithSneakyThrow(rows);
+          }
+          return rows;
+        }));
+        if (pending.size() >= window) {
+          count += completeChunk(pending.poll(), ordered, chunkConsumer);
+        }
+      }
+      while (!pending.isEmpty()) {
+        count += completeChunk(pending.poll(), ordered, chunkConsumer);
+      }
+      return count;
+    } catch (Throwable e) {
+      pending.forEach(task -> task.cancel(true));
+      for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+        if (cause instanceof FileParsingException) {
+          throw (FileParsingException) cause;
+        }
+      }
+      throw new FileParsingException(String.format("Issue parsing file [%s] in parallel: %s", file, e.getMessage()), e);
+    }
+  }
+
   private boolean shouldUseFieldValue(String key, String value) throws FileParsingException {
     Set<Pattern> whiteList = Checks.defaultIfNull(
       options.getFieldValuesWhiteListByColumn() != null ? options.getFieldValuesWhiteListByColumn().get(key) : null,
@@ -346,4 +535,37 @@ public class FileParser<T> {
     return true;
   }
 
+  private final class ResultIterator implements Iterator<T> {
+
+    private T next;
+    private final Iterator<String[]> rows;
+
+    ResultIterator(Iterator<String[]> rows) {
+      this.rows = rows;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while ((next == null) && (rows != null) && rows.hasNext()) {
+        try {
+          next = convertLine(rows.next());
+        } catch (FileParsingException e) {
+          Exceptions.sneakyThrow(e);
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T result = next;
+      next = null;
+      return result;
+    }
+
+  }
+
 }
@@ -74,6 +74,15 @@ public class FileParserOptions extends ExternalizableBean {
   @RequestField
   private Set<String> onlySheets;
 
+  @RequestField
+  private Boolean parallel;
+
+  @RequestField
+  private Integer parallelChunkSize;
+
+  @RequestField
+  private Boolean parallelOrdered;
+
   private FileParserPostProcessor postProcessor;
 
   @RequestField
@@ -329,6 +338,36 @@ public class FileParserOptions extends ExternalizableBean {
     return this;
   }
 
+  public Boolean getParallel() {
+    return parallel;
+  }
+
+  public FileParserOptions setParallel(Boolean parallel) {
+    checkModificationsDisabled();
+    this.parallel = parallel;
+    return this;
+  }
+
+  public Integer getParallelChunkSize() {
+    return parallelChunkSize;
+  }
+
+  public FileParserOptions setParallelChunkSize(Integer parallelChunkSize) {
+    checkModificationsDisabled();
+    this.parallelChunkSize = parallelChunkSize;
+    return this;
+  }
+
+  public Boolean getParallelOrdered() {
+    return parallelOrdered;
+  }
+
+  public FileParserOptions setParallelOrdered(Boolean parallelOrdered) {
+    checkModificationsDisabled();
+    this.parallelOrdered = parallelOrdered;
+    return this;
+  }
+
   public FileParserPostProcessor getPostProcessor() {
     return postProcessor;
   }
@@ -461,6 +500,14 @@ public class FileParserOptions extends ExternalizableBean {
     return (keysAsPaths == null) || keysAsPaths;
   }
 
+  public boolean testParallel() {
+    return (parallel != null) && parallel.booleanValue();
+  }
+
+  public boolean testParallelOrdered() {
+    return (parallelOrdered == null) || parallelOrdered.booleanValue();
+  }
+
   public boolean testStrict() {
     return (strict != null) && strict.booleanValue();
   }
@@ -12,4 +12,8 @@ public class FileParsingException extends Exception {
     super(message);
   }
 
+  public FileParsingException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
 }
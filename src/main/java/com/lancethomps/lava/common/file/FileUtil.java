@@ -1329,6 +1329,10 @@ public class FileUtil {
     setPermsRecursive(fileOrDir, PosixFilePermissions.fromString(permsPosix));
   }
 
+  public static <T> Stream<T> streamCsv(File file, Class<T> type, FileParserOptions options) throws FileParsingException {
+    return new FileParser<>(file, type, options).stream();
+  }
+
   @SuppressWarnings("resource")
   public static void unzip(final File srcFile, final File destDir) {
     if (srcFile == null) {
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -73,7 +74,7 @@ public final class Logs {
 
   private static final InheritableThreadLocal<Boolean> DISABLE_SAVED_ERRORS = new InheritableThreadLocal<>();
 
-  private static final List<SavedErrorMessage> ERROR_MESSAGES = new ArrayList<>();
+  private static final SavedErrorMessageBuffer ERROR_MESSAGES = new SavedErrorMessageBuffer(MAX_ERROR_MESSAGES);
 
   private static final List<Pair<NotificationEmitter, NotificationListener>> GC_MONITORS = new ArrayList<>();
   private static final Logger LOG = LogManager.getLogger(Logs.class);
@@ -91,15 +92,33 @@ public final class Logs {
   private static Level tempAllLogLevel;
 
   public static void addErrorMessage(SavedErrorMessage savedError) {
-    synchronized (ERROR_MESSAGES) {
-      ERROR_MESSAGES.add(savedError);
-    }
+    offerErrorMessage(savedError);
   }
 
   public static double asPctNumber(long numerator, long denominator) {
     return (double) (numerator * 100) / (double) denominator;
   }
 
+  public static String createErrorFingerprint(@Nullable Throwable t, @Nullable String messageTemplate) {
+    String template = defaultIfBlank(messageTemplate, EMPTY);
+    StringBuilder fingerprint = new StringBuilder(template.length() + 64);
+    fingerprint.append(t == null ? EMPTY : findRootCause(t).getClass().getName()).append('|');
+    boolean digits = false;
+    for (int pos = 0; pos < template.length(); pos++) {
+      char ch = template.charAt(pos);
+      if (Character.isDigit(ch)) {
+        if (!digits) {
+          fingerprint.append('#');
+        }
+        digits = true;
+      } else {
+        fingerprint.append(ch);
+        digits = false;
+      }
+    }
+    return fingerprint.toString();
+  }
+
   public static PrintStream createLoggingProxy(final PrintStream realPrintStream, final Logger logger, final Level level) {
     return new PrintStream(realPrintStream) {
 
@@ -131,6 +150,10 @@ public final class Logs {
     return skipErrorsPatterns.stream().anyMatch(p -> p.matcher(msg.toString()).matches());
   }
 
+  public static int drainErrorMessages(@Nonnull Consumer<SavedErrorMessage> consumer) {
+    return ERROR_MESSAGES.drain(consumer);
+  }
+
   public static void enableThreadSavedErrors() {
     DISABLE_SAVED_ERRORS.remove();
   }
@@ -167,11 +190,15 @@ public final class Logs {
   }
 
   public static List<SavedErrorMessage> getErrorMessages() {
-    List<SavedErrorMessage> messages = new ArrayList<>(ERROR_MESSAGES);
-    synchronized (ERROR_MESSAGES) {
-      ERROR_MESSAGES.clear();
-    }
-    return messages;
+    return ERROR_MESSAGES.drain();
+  }
+
+  public static long getErrorMessagesDroppedCount() {
+    return ERROR_MESSAGES.getDroppedCount();
+  }
+
+  public static long getErrorMessagesDuplicateCount() {
+    return ERROR_MESSAGES.getDuplicateCount();
   }
 
   public static Function<SavedErrorMessage, Boolean> getSavedErrorMessageHandler() {
@@ -375,7 +402,7 @@ public final class Logs {
   ) {
     String errorMessage = Formatting.getMessage(message, formatArgs);
     logger.error(errorMessage, t);
-    saveErrorIfNeeded(logger, severity, t, errorMessage);
+    saveErrorIfNeeded(logger, severity, t, message, errorMessage);
   }
 
   public static void logError(final Logger logger, final Throwable t, final String message, final Object... formatArgs) {
@@ -402,13 +429,13 @@ public final class Logs {
   public static void logErrorWithoutSavedErrorHandler(final Logger logger, final Throwable t, final String message, final Object... formatArgs) {
     String errorMessage = Formatting.getMessage(message, formatArgs);
     logger.error(errorMessage, t);
-    saveErrorIfNeeded(logger, SavedErrorMessageSeverity.HIGH, t, errorMessage, false);
+    saveErrorIfNeeded(logger, SavedErrorMessageSeverity.HIGH, t, message, errorMessage, false);
   }
 
   public static void logFatal(final Logger logger, final Throwable t, final String message, final Object... formatArgs) {
     String errorMessage = Formatting.getMessage(message, formatArgs);
     logger.fatal(errorMessage, t);
-    saveErrorIfNeeded(logger, SavedErrorMessageSeverity.HIGH, t, errorMessage);
+    saveErrorIfNeeded(logger, SavedErrorMessageSeverity.HIGH, t, message, errorMessage);
   }
 
   public static void logForSplunk(
@@ -664,6 +691,10 @@ public final class Logs {
     logger.warn(Formatting.getMessage(message, formatArgs), t);
   }
 
+  public static boolean offerErrorMessage(SavedErrorMessage savedError) {
+    return ERROR_MESSAGES.add(savedError);
+  }
+
   // CHECKSTYLE.OFF: SystemOutLogging
   public static void printPercentComplete(final Object message, final double pct, final Object... formatArgs) {
     String progress = String.join("", Collections.nCopies((int) Math.floor(pct * 20), "#"));
@@ -767,27 +798,32 @@ public final class Logs {
     }
   }
 
-  private static void saveErrorIfNeeded(final Logger logger, final SavedErrorMessageSeverity severity, final Throwable t, final String errorMessage) {
+  private static void saveErrorIfNeeded(
+    final Logger logger,
+    final SavedErrorMessageSeverity severity,
+    final Throwable t,
+    final String messageTemplate,
+    final String errorMessage
+  ) {
     Boolean allowHandler = DISABLE_CUSTOM_SAVED_ERROR_HANDLER.get();
-    saveErrorIfNeeded(logger, severity, t, errorMessage, allowHandler == null || !allowHandler);
+    saveErrorIfNeeded(logger, severity, t, messageTemplate, errorMessage, allowHandler == null || !allowHandler);
   }
 
   private static void saveErrorIfNeeded(
     final Logger logger,
     final SavedErrorMessageSeverity severity,
     final Throwable t,
+    final String messageTemplate,
     final String errorMessage,
     final boolean allowSavedErrorHandler
   ) {
-    if ((DISABLE_SAVED_ERRORS.get() != null) && DISABLE_SAVED_ERRORS.get().booleanValue()) {
+    if (!keepErrorMessages || ((DISABLE_SAVED_ERRORS.get() != null) && DISABLE_SAVED_ERRORS.get().booleanValue())) {
       return;
     }
     SavedErrorMessage savedError =
       new SavedErrorMessage(severity, t, errorMessage, substringAfterLast(logger.getName(), "."), logger.getName(), currentThread().getName());
-    boolean keepErrors = ((savedErrorMessageHandler != null) && allowSavedErrorHandler && keepErrorMessages) ||
-      (keepErrorMessages && (ERROR_MESSAGES.size() < MAX_ERROR_MESSAGES));
-    if (keepErrors &&
-      ((savedError.getLogger() == null) || (skipErrorsForLoggers == null) || !skipErrorsForLoggers.contains(savedError.getLogger())) &&
+    savedError.setFingerprint(createErrorFingerprint(t, messageTemplate));
+    if (((savedError.getLogger() == null) || (skipErrorsForLoggers == null) || !skipErrorsForLoggers.contains(savedError.getLogger())) &&
       !doesSkipErrorsPatternMatch(
         savedError
       )) {
@@ -6,6 +6,7 @@ import static org.apache.commons.lang3.StringUtils.substringAfterLast;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.Logger;
 
@@ -17,10 +18,14 @@ public class SavedErrorMessage {
 
   private Throwable e;
 
+  private String fingerprint;
+
   private String logger;
 
   private String message;
 
+  private final AtomicInteger occurrences = new AtomicInteger(1);
+
   private SavedErrorMessageSeverity severity;
 
   private String thread;
@@ -74,6 +79,14 @@ public class SavedErrorMessage {
     this.e = e;
   }
 
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  public void setFingerprint(String fingerprint) {
+    this.fingerprint = fingerprint;
+  }
+
   public String getLogger() {
     return logger;
   }
@@ -90,6 +103,14 @@ public class SavedErrorMessage {
     this.message = message;
   }
 
+  public int getOccurrences() {
+    return occurrences.get();
+  }
+
+  public void setOccurrences(int occurrences) {
+    this.occurrences.set(occurrences);
+  }
+
   public SavedErrorMessageSeverity getSeverity() {
     return severity;
   }
@@ -114,6 +135,18 @@ public class SavedErrorMessage {
     this.time = time;
   }
 
+  public int incrementOccurrences() {
+    return occurrences.incrementAndGet();
+  }
+
+  int incrementOccurrences(SavedErrorMessage latest) {
+    e = latest.getE();
+    message = latest.getMessage();
+    thread = latest.getThread();
+    time = latest.getTime();
+    return occurrences.incrementAndGet();
+  }
+
   @Override
   public String toString() {
     return String.format(
@@ -0,0 +1,144 @@
+package com.lancethomps.lava.common.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+
+public final class SavedErrorMessageBuffer {
+
+  private final int capacity;
+  private final LongAdder droppedCount = new LongAdder();
+  private final LongAdder duplicateCount = new LongAdder();
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicReferenceArray<SavedErrorMessage> messages;
+  private final ConcurrentHashMap<String, SavedErrorMessage> pending = new ConcurrentHashMap<>();
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+
+  public SavedErrorMessageBuffer(int capacity) {
+    super();
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be greater than zero: " + capacity);
+    }
+    this.capacity = capacity;
+    messages = new AtomicReferenceArray<>(capacity);
+    sequences = new AtomicLongArray(capacity);
+    for (int pos = 0; pos < capacity; pos++) {
+      sequences.set(pos, pos);
+    }
+  }
+
+  public boolean add(@Nonnull SavedErrorMessage message) {
+    if (message.getFingerprint() == null) {
+      message.setFingerprint(Logs.createErrorFingerprint(message.getE(), message.getMessage()));
+    }
+    SavedErrorMessage current = pending.compute(message.getFingerprint(), (fingerprint, existing) -> {
+      if (existing != null) {
+        existing.incrementOccurrences(message);
+        return existing;
+      }
+      return offer(message) ? message : null;
+    });
+    if (current == null) {
+      droppedCount.increment();
+      return false;
+    } else if (current != message) {
+      duplicateCount.increment();
+    }
+    return true;
+  }
+
+  public void clear() {
+    drain(message -> {
+    });
+  }
+
+  public List<SavedErrorMessage> drain() {
+    List<SavedErrorMessage> drained = new ArrayList<>();
+    drain(drained::add);
+    return drained;
+  }
+
+  public int drain(@Nonnull Consumer<SavedErrorMessage> consumer) {
+    long end = tail.get();
+    int count = 0;
+    SavedErrorMessage message;
+    while ((head.get() < end) && ((message = poll()) != null)) {
+      consumer.accept(message);
+      count++;
+    }
+    return count;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public long getDroppedCount() {
+    return droppedCount.sum();
+  }
+
+  public long getDuplicateCount() {
+    return duplicateCount.sum();
+  }
+
+  public int getSize() {
+    return (int) Math.max(0L, Math.min(capacity, tail.get() - head.get()));
+  }
+
+  public boolean isFull() {
+    return getSize() >= capacity;
+  }
+
+  public void resetCounters() {
+    droppedCount.reset();
+    duplicateCount.reset();
+  }
+
+  private boolean offer(SavedErrorMessage message) {
+    while (true) {
+      long pos = tail.get();
+      int index = (int) (pos % capacity);
+      long diff = sequences.get(index) - pos;
+      if (diff == 0L) {
+        if (tail.compareAndSet(pos, pos + 1)) {
+          messages.lazySet(index, message);
+          sequences.lazySet(index, pos + 1);
+          return true;
+        }
+      } else if (diff < 0L) {
+        if ((pos - head.get()) >= capacity) {
+          return false;
+        }
+        Thread.yield();
+      }
+    }
+  }
+
+  private SavedErrorMessage poll() {
+    while (true) {
+      long pos = head.get();
+      int index = (int) (pos % capacity);
+      long diff = sequences.get(index) - (pos + 1);
+      if (diff == 0L) {
+        if (head.compareAndSet(pos, pos + 1)) {
+          SavedErrorMessage message = messages.get(index);
+          messages.lazySet(index, null);
+          sequences.lazySet(index, pos + capacity);
+          pending.remove(message.getFingerprint(), message);
+          return message;
+        }
+      } else if (diff < 0L) {
+        return null;
+      }
+    }
+  }
+
+}
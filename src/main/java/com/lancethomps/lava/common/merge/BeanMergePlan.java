@@ -0,0 +1,242 @@
+package com.lancethomps.lava.common.merge;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.lancethomps.lava.common.Checks;
+import com.lancethomps.lava.common.Exceptions;
+import com.lancethomps.lava.common.Reflections;
+
+public final class BeanMergePlan {
+
+  private static volatile ClassValue<BeanMergePlan> plans = createPlanCache();
+  private final boolean bean;
+  private final Constructor<?> constructor;
+  private final BeanProperty[] properties;
+  private final Map<String, BeanProperty> propertiesByName;
+  private final boolean supported;
+  private final Class<?> type;
+
+  private BeanMergePlan(Class<?> type, boolean bean, boolean supported, Constructor<?> constructor, List<BeanProperty> properties) {
+    super();
+    this.type = type;
+    this.bean = bean;
+    this.supported = supported;
+    this.constructor = constructor;
+    this.properties = properties.toArray(new BeanProperty[properties.size()]);
+    this.propertiesByName = new HashMap<>(properties.size() * 2);
+    properties.forEach(property -> propertiesByName.put(property.getName(), property));
+  }
+
+  public static void clearCache() {
+    plans = createPlanCache();
+  }
+
+  public static BeanMergePlan forClass(@Nonnull Class<?> type) {
+    return plans.get(type);
+  }
+
+  public static boolean isValueType(@Nonnull Class<?> type) {
+    return type.isPrimitive() || CharSequence.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type) ||
+      (type == Boolean.class) || (type == Character.class) || Date.class.isAssignableFrom(type) || Temporal.class.isAssignableFrom(type) ||
+      (type == UUID.class) || (type == Class.class) || (type == Pattern.class) || (type == Locale.class) || TimeZone.class.isAssignableFrom(type) ||
+      (type == URI.class) || (type == URL.class) || (type == File.class) || Path.class.isAssignableFrom(type) || Enum.class.isAssignableFrom(type);
+  }
+
+  private static BeanMergePlan create(Class<?> type) {
+    List<BeanProperty> properties = new ArrayList<>();
+    if (isValueType(type) || type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers()) || Map.class.isAssignableFrom(type) ||
+      Collection.class.isAssignableFrom(type) || JsonNode.class.isAssignableFrom(type) || Merges.isIgnoredType(type)) {
+      return new BeanMergePlan(type, false, false, null, properties);
+    }
+    Set<String> treeMergeProperties = getTreeMergeProperties(type);
+    boolean supported = treeMergeProperties != null;
+    Set<String> names = new HashSet<>();
+    for (Field field : Reflections.getFields(type)) {
+      if (!names.add(field.getName()) || ((treeMergeProperties != null) && !treeMergeProperties.contains(field.getName()))) {
+        continue;
+      }
+      Method getter = Reflections.getGetterForField(type, field.getName());
+      Method setter = Reflections.getSetterForField(type, field.getName());
+      if ((getter == null) || (setter == null) || (getter.getParameterCount() != 0) || (setter.getParameterCount() != 1) ||
+        Modifier.isStatic(getter.getModifiers()) || Modifier.isStatic(setter.getModifiers())) {
+        continue;
+      }
+      Class<?> propertyType = setter.getParameterTypes()[0];
+      if (Merges.isIgnoredType(propertyType)) {
+        continue;
+      }
+      if (propertyType.isArray()) {
+        supported = false;
+      }
+      properties.add(new BeanProperty(
+        field.getName(),
+        propertyType,
+        Reflections.createGetterFunction(getter),
+        Reflections.createSetterFunction(setter)
+      ));
+    }
+    if (properties.isEmpty()) {
+      return new BeanMergePlan(type, false, false, null, properties);
+    } else if (supported && (properties.size() < treeMergeProperties.size())) {
+      supported = false;
+    }
+    return new BeanMergePlan(type, true, supported, findConstructor(type), properties);
+  }
+
+  private static ClassValue<BeanMergePlan> createPlanCache() {
+    return new ClassValue<BeanMergePlan>() {
+
+      @Override
+      protected BeanMergePlan computeValue(Class<?> type) {
+        return create(type);
+      }
+    };
+  }
+
+  private static Constructor<?> findConstructor(Class<?> type) {
+    try {
+      Constructor<?> constructor = type.getDeclaredConstructor();
+      if (!constructor.isAccessible()) {
+        constructor.setAccessible(true);
+      }
+      return constructor;
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private static Set<String> getTreeMergeProperties(Class<?> type) {
+    try {
+      Set<String> names = new HashSet<>();
+      BeanDescription description = Merges.MERGE_MAPPER.getDeserializationConfig().introspect(Merges.MERGE_MAPPER.constructType(type));
+      for (BeanPropertyDefinition property : description.findProperties()) {
+        if (property.couldSerialize() && property.couldDeserialize() && !Merges.isIgnoredType(property.getRawPrimaryType())) {
+          names.add(property.getName());
+        }
+      }
+      return names;
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  public boolean canCreateInstance() {
+    return constructor != null;
+  }
+
+  public BeanProperty[] getProperties() {
+    return properties;
+  }
+
+  @Nullable
+  public BeanProperty getProperty(@Nonnull String name) {
+    return propertiesByName.get(name);
+  }
+
+  public Class<?> getType() {
+    return type;
+  }
+
+  public boolean isBean() {
+    return bean;
+  }
+
+  public boolean isSupported() {
+    return supported;
+  }
+
+  public Object newInstance() {
+    try {
+      return constructor.newInstance();
+    } catch (Throwable e) {
+      return Exceptions.sneakyThrow(e);
+    }
+  }
+
+  MergeConfig[] getFieldConfigs(@Nonnull MergeConfig config) {
+    if (!config.testModificationsDisabled()) {
+      return resolveFieldConfigs(config);
+    }
+    return config.getResolvedFieldConfigs().computeIfAbsent(this, key -> resolveFieldConfigs(config));
+  }
+
+  private MergeConfig[] resolveFieldConfigs(MergeConfig config) {
+    MergeConfig[] fieldConfigs = new MergeConfig[properties.length];
+    for (int i = 0; i < properties.length; i++) {
+      String name = properties[i].getName();
+      if ((config.getIgnoreFields() != null) && config.getIgnoreFields().contains(name)) {
+        continue;
+      } else if ((config.getIgnoreFieldsPatterns() != null) && Checks.regexMatch(name, config.getIgnoreFieldsPatterns())) {
+        continue;
+      }
+      MergeFieldConfig fieldConfig = config.getField(name, true);
+      fieldConfigs[i] = fieldConfig == null ? config : fieldConfig;
+    }
+    return fieldConfigs;
+  }
+
+  public static final class BeanProperty {
+
+    private final Function<Object, Object> getter;
+    private final String name;
+    private final BiConsumer<Object, Object> setter;
+    private final Class<?> type;
+
+    BeanProperty(String name, Class<?> type, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+      this.name = name;
+      this.type = type;
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    public Object get(Object bean) {
+      return getter.apply(bean);
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Class<?> getType() {
+      return type;
+    }
+
+    public void set(Object bean, Object value) {
+      if ((value == null) && type.isPrimitive()) {
+        return;
+      }
+      setter.accept(bean, value);
+    }
+
+  }
+
+}
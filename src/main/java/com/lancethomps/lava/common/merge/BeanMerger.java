@@ -0,0 +1,311 @@
+package com.lancethomps.lava.common.merge;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.lancethomps.lava.common.Checks;
+import com.lancethomps.lava.common.merge.BeanMergePlan.BeanProperty;
+import com.lancethomps.lava.common.ser.Serializer;
+
+public class BeanMerger {
+
+  public static boolean canMerge(@Nullable Object src, @Nullable Object target) {
+    if ((src == null) || (target == null) || (src.getClass() != target.getClass())) {
+      return false;
+    }
+    BeanMergePlan plan = BeanMergePlan.forClass(target.getClass());
+    return plan.isBean() && plan.isSupported();
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> T copy(@Nullable T value) {
+    if (value == null) {
+      return null;
+    }
+    if (value instanceof Date) {
+      return (T) ((Date) value).clone();
+    } else if (value instanceof Collection) {
+      Collection<Object> copy = newCollection((Collection<Object>) value);
+      for (Object element : (Collection<Object>) value) {
+        copy.add(copy(element));
+      }
+      return (T) copy;
+    } else if (value instanceof Map) {
+      Map<Object, Object> copy = newMap((Map<Object, Object>) value);
+      for (Entry<Object, Object> entry : ((Map<Object, Object>) value).entrySet()) {
+        copy.put(entry.getKey(), copy(entry.getValue()));
+      }
+      return (T) copy;
+    } else if (value.getClass().isArray()) {
+      int length = Array.getLength(value);
+      Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+      System.arraycopy(value, 0, copy, 0, length);
+      return (T) copy;
+    } else if (value instanceof JsonNode) {
+      return (T) ((JsonNode) value).deepCopy();
+    }
+    BeanMergePlan plan = BeanMergePlan.forClass(value.getClass());
+    if (!plan.isBean()) {
+      return value;
+    }
+    if (!plan.isSupported() || !plan.canCreateInstance()) {
+      return Serializer.clone(Merges.MERGE_MAPPER, value);
+    }
+    Object copy = plan.newInstance();
+    for (BeanProperty property : plan.getProperties()) {
+      property.set(copy, copy(property.get(value)));
+    }
+    return (T) copy;
+  }
+
+  public static <T> T merge(@Nonnull T src, @Nonnull T target, @Nonnull MergeConfig config, boolean firstObject) {
+    T result = firstObject && config.testCreateNewBean() ? copy(target) : target;
+    mergeBean(BeanMergePlan.forClass(result.getClass()), src, result, config);
+    return result;
+  }
+
+  private static Map<Object, Object> indexByField(Collection<Object> values, String field) {
+    Map<Object, Object> index = new LinkedHashMap<>();
+    for (Object value : values) {
+      if ((value == null) || !isObject(value)) {
+        continue;
+      }
+      Object matchVal;
+      if (value instanceof Map) {
+        matchVal = ((Map<?, ?>) value).get(field);
+      } else if (value instanceof JsonNode) {
+        matchVal = ((JsonNode) value).get(field);
+      } else {
+        BeanProperty property = BeanMergePlan.forClass(value.getClass()).getProperty(field);
+        matchVal = property == null ? null : property.get(value);
+      }
+      Object key = toMatchKey(matchVal);
+      if (key != null) {
+        index.put(key, value);
+      }
+    }
+    return index;
+  }
+
+  private static boolean isArray(Object value) {
+    return (value instanceof Collection) || value.getClass().isArray();
+  }
+
+  private static boolean isObject(Object value) {
+    return (value instanceof Map) || (value instanceof JsonNode ? ((JsonNode) value).isObject() : BeanMergePlan.forClass(value.getClass()).isBean());
+  }
+
+  private static void mergeBean(BeanMergePlan plan, Object src, Object target, MergeConfig config) {
+    if (config.getRemoveFields() != null) {
+      for (String fieldName : config.getRemoveFields()) {
+        BeanProperty property = plan.getProperty(fieldName);
+        if ((property != null) && (property.get(target) != null)) {
+          property.set(target, null);
+        }
+      }
+    }
+    BeanProperty[] properties = plan.getProperties();
+    MergeConfig[] fieldConfigs = plan.getFieldConfigs(config);
+    for (int i = 0; i < properties.length; i++) {
+      MergeConfig fieldConfig = fieldConfigs[i];
+      if (fieldConfig == null) {
+        continue;
+      }
+      BeanProperty property = properties[i];
+      Object srcVal = property.get(src);
+      if (srcVal == null) {
+        if (fieldConfig.testOverwriteExisting() && fieldConfig.testOverwriteWithNull()) {
+          property.set(target, null);
+        }
+        continue;
+      }
+      Object targetVal = property.get(target);
+      if (targetVal == null) {
+        property.set(target, copy(srcVal));
+        continue;
+      }
+      Object merged = mergeValue(srcVal, targetVal, fieldConfig);
+      if (merged != targetVal) {
+        property.set(target, merged);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Collection<Object> mergeCollections(Collection<Object> srcVal, Collection<Object> targetVal, MergeConfig fieldConfig) {
+    Collection<Object> result = newCollection(targetVal);
+    result.addAll(targetVal);
+    if (fieldConfig.testRemoveFromTargetArray() || fieldConfig.testRemoveDuplicatesFromTargetArray()) {
+      for (Object srcElement : srcVal) {
+        if ((srcElement instanceof Number) || (srcElement instanceof String)) {
+          result.removeIf(targetElement -> (targetElement != null) && (targetElement.getClass() == srcElement.getClass()) &&
+            Objects.equals(srcElement, targetElement));
+        }
+      }
+      if (fieldConfig.testRemoveFromTargetArray()) {
+        return result;
+      }
+    }
+    final boolean mergeArrayElements = fieldConfig.getMergeArrayElements() != null ? fieldConfig.getMergeArrayElements()
+      : Checks.isNotBlank(fieldConfig.getMergeArrayElementsMatchField());
+    if (!mergeArrayElements) {
+      if (fieldConfig.testAddToTargetArray()) {
+        srcVal.forEach(srcElement -> result.add(copy(srcElement)));
+      }
+      return result;
+    }
+    if (Checks.isNotBlank(fieldConfig.getMergeArrayElementsMatchField())) {
+      Map<Object, Object> targetMap = indexByField(result, fieldConfig.getMergeArrayElementsMatchField());
+      Map<Object, Object> mergedElements = new IdentityHashMap<>();
+      List<Object> added = new ArrayList<>();
+      indexByField(srcVal, fieldConfig.getMergeArrayElementsMatchField()).forEach((id, srcElement) -> {
+        Object targetElement = targetMap.get(id);
+        if (targetElement != null) {
+          mergedElements.put(targetElement, mergeObjects(srcElement, targetElement, fieldConfig));
+        } else if (!fieldConfig.testMergeArrayElementsSkipNonMatching()) {
+          added.add(copy(srcElement));
+        }
+      });
+      Collection<Object> keyed = newCollection(targetVal);
+      result.forEach(targetElement -> keyed.add(mergedElements.getOrDefault(targetElement, targetElement)));
+      keyed.addAll(added);
+      return keyed;
+    }
+    if (!(result instanceof List)) {
+      srcVal.stream().filter(srcElement -> (srcElement != null) && !result.contains(srcElement)).forEach(srcElement -> result.add(copy(srcElement)));
+      return result;
+    }
+    List<Object> targetList = (List<Object>) result;
+    int pos = 0;
+    for (Object srcElement : srcVal) {
+      int current = pos++;
+      if (srcElement == null) {
+        continue;
+      }
+      if (targetList.size() <= current) {
+        targetList.add(copy(srcElement));
+        continue;
+      }
+      Object targetElement = targetList.get(current);
+      if (targetElement == null) {
+        targetList.set(current, copy(srcElement));
+      } else if (isObject(srcElement) && isObject(targetElement)) {
+        Object merged = mergeObjects(srcElement, targetElement, fieldConfig);
+        if (merged != targetElement) {
+          targetList.set(current, merged);
+        }
+      } else if (fieldConfig.testOverwriteExisting()) {
+        targetList.set(current, copy(srcElement));
+      }
+    }
+    return result;
+  }
+
+  private static Object mergeObjects(Object srcVal, Object targetVal, MergeConfig fieldConfig) {
+    if (canMerge(srcVal, targetVal)) {
+      BeanMergePlan plan = BeanMergePlan.forClass(targetVal.getClass());
+      Object result = plan.canCreateInstance() ? shallowCopy(plan, targetVal) : copy(targetVal);
+      mergeBean(plan, srcVal, result, fieldConfig);
+      return result;
+    }
+    Object merged = Merges.deepMergeTree(srcVal, targetVal, fieldConfig, false);
+    return merged == null ? targetVal : merged;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Object mergeValue(Object srcVal, Object targetVal, MergeConfig fieldConfig) {
+    if (isObject(srcVal)) {
+      if (isObject(targetVal)) {
+        return mergeObjects(srcVal, targetVal, fieldConfig);
+      } else if (fieldConfig.testOverwriteWithNonMatchingNodeType()) {
+        return copy(srcVal);
+      }
+    } else if (isArray(srcVal)) {
+      if (isArray(targetVal)) {
+        if (fieldConfig.testOverwriteArrayNodes() || !(srcVal instanceof Collection) || !(targetVal instanceof Collection)) {
+          return fieldConfig.testOverwriteArrayNodes() ? copy(srcVal) : targetVal;
+        }
+        return mergeCollections((Collection<Object>) srcVal, (Collection<Object>) targetVal, fieldConfig);
+      } else if (fieldConfig.testOverwriteWithNonMatchingNodeType()) {
+        return copy(srcVal);
+      }
+    } else if (fieldConfig.testOverwriteExisting()) {
+      return copy(srcVal);
+    }
+    return targetVal;
+  }
+
+  private static Collection<Object> newCollection(Collection<Object> value) {
+    if (value instanceof SortedSet) {
+      return new TreeSet<>(((SortedSet<Object>) value).comparator());
+    } else if (value instanceof LinkedHashSet) {
+      return new LinkedHashSet<>(value.size());
+    } else if (value instanceof Set) {
+      return value instanceof HashSet ? new HashSet<>(value.size()) : new LinkedHashSet<>(value.size());
+    } else if (value instanceof LinkedList) {
+      return new LinkedList<>();
+    }
+    return new ArrayList<>(value.size());
+  }
+
+  private static Map<Object, Object> newMap(Map<Object, Object> value) {
+    if (value instanceof SortedMap) {
+      return new TreeMap<>(((SortedMap<Object, Object>) value).comparator());
+    } else if (value instanceof ConcurrentMap) {
+      return new ConcurrentHashMap<>(value.size());
+    }
+    return new LinkedHashMap<>(value.size());
+  }
+
+  private static Object shallowCopy(BeanMergePlan plan, Object value) {
+    Object copy = plan.newInstance();
+    for (BeanProperty property : plan.getProperties()) {
+      property.set(copy, property.get(value));
+    }
+    return copy;
+  }
+
+  private static Object toMatchKey(Object matchVal) {
+    if (matchVal instanceof JsonNode) {
+      JsonNode node = (JsonNode) matchVal;
+      if (!node.isValueNode() || node.isNull()) {
+        return null;
+      } else if (node.isTextual()) {
+        return node.textValue();
+      } else if (node.isBoolean()) {
+        return node.booleanValue();
+      }
+      return toMatchKey(node.numberValue());
+    }
+    if ((matchVal == null) || isObject(matchVal) || isArray(matchVal)) {
+      return null;
+    }
+    if ((matchVal instanceof Integer) || (matchVal instanceof Long) || (matchVal instanceof Short) || (matchVal instanceof Byte)) {
+      return ((Number) matchVal).longValue();
+    }
+    return matchVal;
+  }
+
+}
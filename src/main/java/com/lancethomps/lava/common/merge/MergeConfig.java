@@ -1,11 +1,13 @@
 package com.lancethomps.lava.common.merge;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -53,8 +55,12 @@ public class MergeConfig extends SimpleDomainObject {
 
   private Boolean removeFromTargetArray;
 
+  private transient volatile Map<BeanMergePlan, MergeConfig[]> resolvedFieldConfigs;
+
   private JavaType rootType;
 
+  private Boolean treeMerge;
+
   public <T extends MergeConfig> T addField(String name, MergeFieldConfig field) {
     checkModificationsDisabled();
     if ((name != null) && (field != null)) {
@@ -285,6 +291,16 @@ public class MergeConfig extends SimpleDomainObject {
     return (T) this;
   }
 
+  public Boolean getTreeMerge() {
+    return treeMerge;
+  }
+
+  public <T extends MergeConfig> T setTreeMerge(Boolean treeMerge) {
+    checkModificationsDisabled();
+    this.treeMerge = treeMerge;
+    return (T) this;
+  }
+
   public boolean testAddToTargetArray() {
     return (addToTargetArray == null) || addToTargetArray;
   }
@@ -329,10 +345,25 @@ public class MergeConfig extends SimpleDomainObject {
     return (removeFromTargetArray != null) && removeFromTargetArray;
   }
 
+  public boolean testTreeMerge() {
+    return (treeMerge != null) && treeMerge;
+  }
+
   protected void checkModificationsDisabled() {
     if (testModificationsDisabled()) {
       throw new UnsupportedOperationException("Modifications have been disabled for this instance!");
     }
   }
 
+  Map<BeanMergePlan, MergeConfig[]> getResolvedFieldConfigs() {
+    if (resolvedFieldConfigs == null) {
+      synchronized (this) {
+        if (resolvedFieldConfigs == null) {
+          resolvedFieldConfigs = Collections.synchronizedMap(new WeakHashMap<>());
+        }
+      }
+    }
+    return resolvedFieldConfigs;
+  }
+
 }
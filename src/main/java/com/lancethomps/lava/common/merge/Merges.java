@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -40,6 +42,7 @@ public class Merges {
   public static final MergeConfig NO_OVERWRITE_MERGE_CONFIG_WITH_ARRAY_SKIPPING = getNoOverwriteMergeConfigWithArraySkipping().disableModifications();
   public static final MergeConfig OVERWRITE_MERGE_CONFIG = getOverwriteMergeConfig().disableModifications();
   private static final MergeConfig DEFAULT_MERGE_CONFIG = getDefaultMergeConfig().disableModifications();
+  private static final Set<Class<?>> IGNORED_TYPES = ConcurrentHashMap.newKeySet();
   private static final Logger LOG = LogManager.getLogger(Merges.class);
 
   static {
@@ -189,8 +192,14 @@ public class Merges {
     synchronized (MERGE_MAPPER) {
       for (Class<?> type : types) {
         MERGE_MAPPER.configOverride(type).setIsIgnoredType(true);
+        IGNORED_TYPES.add(type);
       }
     }
+    BeanMergePlan.clearCache();
+  }
+
+  public static boolean isIgnoredType(Class<?> type) {
+    return IGNORED_TYPES.contains(type);
   }
 
   public static void mergeArrayNodes(ArrayNode srcVal, ArrayNode targetVal, MergeConfig config, MergeConfig fieldConfig) {
@@ -352,6 +361,18 @@ public class Merges {
     if (config == null) {
       config = DEFAULT_MERGE_CONFIG;
     }
+    if (!config.testTreeMerge() && BeanMerger.canMerge(src, target)) {
+      try {
+        return BeanMerger.merge(src, target, config, firstObject);
+      } catch (Throwable e) {
+        Logs.logError(LOG, e, "Issue merging beans of type [%s]", target.getClass());
+        return null;
+      }
+    }
+    return deepMergeTree(src, target, config, firstObject);
+  }
+
+  static <T> T deepMergeTree(T src, T target, MergeConfig config, boolean firstObject) {
     if (firstObject && config.testCreateNewBean()) {
       target = Serializer.clone(MERGE_MAPPER, target);
     }
@@ -0,0 +1,103 @@
+package com.lancethomps.lava.common.metrics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.lancethomps.lava.common.Checks;
+import com.lancethomps.lava.common.cache.Cache;
+import com.lancethomps.lava.common.cache.CacheStats;
+import com.lancethomps.lava.common.logging.Logs;
+
+import io.dropwizard.metrics5.Gauge;
+import io.dropwizard.metrics5.Metric;
+import io.dropwizard.metrics5.MetricName;
+import io.dropwizard.metrics5.MetricRegistry;
+import io.dropwizard.metrics5.MetricSet;
+
+public class CacheMetricSet implements MetricSet {
+
+  public static final String LOAD_TIME_SUFFIX = "load_time";
+  public static final String METRIC_REGISTRY = "caches";
+  private static final Logger LOG = LogManager.getLogger(CacheMetricSet.class);
+  private final Collection<Cache<?, ?>> caches;
+
+  public CacheMetricSet(@Nonnull Cache<?, ?>... caches) {
+    this(Arrays.asList(caches));
+  }
+
+  public CacheMetricSet(@Nonnull Collection<Cache<?, ?>> caches) {
+    super();
+    this.caches = caches;
+  }
+
+  public static <C extends Cache<?, ?>> C register(@Nonnull C cache) {
+    return register(METRIC_REGISTRY, cache);
+  }
+
+  public static <C extends Cache<?, ?>> C register(@Nullable String registry, @Nonnull C cache) {
+    if (Checks.isBlank(cache.getName())) {
+      Logs.logWarn(LOG, "Cannot register metrics for a cache without a name: %s", cache);
+      return cache;
+    }
+    MetricRegistry metrics = StatusMonitor.registry(registry);
+    new CacheMetricSet(cache).getMetrics().forEach((name, metric) -> {
+      metrics.remove(name);
+      metrics.register(name, metric);
+    });
+    return cache;
+  }
+
+  @Override
+  public Map<MetricName, Metric> getMetrics() {
+    Map<MetricName, Metric> metrics = new HashMap<>(caches.size() * 2);
+    for (Cache<?, ?> cache : caches) {
+      if (Checks.isBlank(cache.getName()) || (cache.getStatsRecorder() == null)) {
+        continue;
+      }
+      MetricName name = MetricName.build(cache.getName());
+      metrics.put(name, new CacheMetrics(cache));
+      metrics.put(name.resolve(LOAD_TIME_SUFFIX), cache.getStatsRecorder().getLoadTimes());
+    }
+    return Collections.unmodifiableMap(metrics);
+  }
+
+  public static class CacheMetrics implements Gauge<Map<String, Object>> {
+
+    private final Cache<?, ?> cache;
+
+    public CacheMetrics(@Nonnull Cache<?, ?> cache) {
+      super();
+      this.cache = cache;
+    }
+
+    @Override
+    public Map<String, Object> getValue() {
+      Map<String, Object> value = new TreeMap<>();
+      CacheStats stats = cache.getStats();
+      if (stats != null) {
+        value.put("average_load_time_ms", stats.getAverageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1));
+        value.put("cache_size", stats.getEstimatedSize());
+        value.put("eviction_count", stats.getEvictionCount());
+        value.put("hit_count", stats.getHitCount());
+        value.put("hit_ratio", stats.getHitRatio());
+        value.put("load_failure_count", stats.getLoadFailureCount());
+        value.put("load_success_count", stats.getLoadSuccessCount());
+        value.put("miss_count", stats.getMissCount());
+      }
+      return value;
+    }
+
+  }
+
+}
@@ -12,6 +12,12 @@ public class CsvParams extends ExternalizableBean {
   @RequestField
   private Boolean skipMapConversion;
 
+  @RequestField
+  private Boolean xlsxCompressTempFiles;
+
+  @RequestField
+  private Integer xlsxRowWindow;
+
   public Set<String> getAlwaysIncludeHeaders() {
     return alwaysIncludeHeaders;
   }
@@ -30,4 +36,22 @@ public class CsvParams extends ExternalizableBean {
     return this;
   }
 
+  public Boolean getXlsxCompressTempFiles() {
+    return xlsxCompressTempFiles;
+  }
+
+  public CsvParams setXlsxCompressTempFiles(Boolean xlsxCompressTempFiles) {
+    this.xlsxCompressTempFiles = xlsxCompressTempFiles;
+    return this;
+  }
+
+  public Integer getXlsxRowWindow() {
+    return xlsxRowWindow;
+  }
+
+  public CsvParams setXlsxRowWindow(Integer xlsxRowWindow) {
+    this.xlsxRowWindow = xlsxRowWindow;
+    return this;
+  }
+
 }
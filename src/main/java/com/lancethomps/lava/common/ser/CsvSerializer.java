@@ -14,12 +14,22 @@ import static org.apache.commons.lang3.StringUtils.join;
 import static org.apache.commons.lang3.StringUtils.removeStart;
 import static org.apache.commons.text.StringEscapeUtils.escapeCsv;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,6 +37,9 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.Nonnull;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -36,6 +49,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.expression.spel.standard.SpelExpression;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -55,12 +69,20 @@ public class CsvSerializer {
 
   public static final String DEFAULT_DELIMITER = ",";
 
+  public static final int DEFAULT_FLUSH_INTERVAL = 1000;
+
+  public static final int DEFAULT_HEADER_SAMPLE_SIZE = 100;
+
   public static final Set<String> DEFAULT_SKIP_PROPS = new HashSet<>(Arrays.asList("@type"));
 
   public static final String KEY_PREFIX_LIST_SHELL = "%s[%s]";
 
   public static final String TABLE = "<table class=\"%s\"><thead>%s</thead><tbody>%s</tbody></table>";
 
+  public static final String TABLE_END = "</tbody></table>";
+
+  public static final String TABLE_START = "<table class=\"%s\">";
+
   public static final String TD = "<td class=\"%s\">%s</td>";
 
   public static final String TH = "<th class=\"%s\">%s</th>";
@@ -89,8 +111,12 @@ public class CsvSerializer {
 
   private boolean expandJsonFieldsInner = true;
 
+  private int flushInterval = DEFAULT_FLUSH_INTERVAL;
+
   private boolean hasSkipPatterns;
 
+  private int headerSampleSize = DEFAULT_HEADER_SAMPLE_SIZE;
+
   private Set<String> headers;
 
   private List<String> headersOrder;
@@ -139,6 +165,10 @@ public class CsvSerializer {
 
   private boolean useChainingListSep = true;
 
+  private boolean xlsxCompressTempFiles = true;
+
+  private int xlsxRowWindow = ExcelFactory.DEFAULT_STREAMING_ROW_WINDOW;
+
   public CsvSerializer(Object obj) {
     this(obj, false);
   }
@@ -177,6 +207,10 @@ public class CsvSerializer {
   }
 
   public Workbook getBook() {
+    if ((book == null) && ((outputFormat == xls) || (outputFormat == xlsx))) {
+      book = outputFormat == xls ? ExcelFactory.createNewXls() : ExcelFactory.createNewXlsx();
+      sheet = ExcelFactory.createOrGetFirstSheet(book);
+    }
     return book;
   }
 
@@ -198,6 +232,24 @@ public class CsvSerializer {
     return this;
   }
 
+  public int getFlushInterval() {
+    return flushInterval;
+  }
+
+  public CsvSerializer setFlushInterval(int flushInterval) {
+    this.flushInterval = flushInterval;
+    return this;
+  }
+
+  public int getHeaderSampleSize() {
+    return headerSampleSize;
+  }
+
+  public CsvSerializer setHeaderSampleSize(int headerSampleSize) {
+    this.headerSampleSize = headerSampleSize;
+    return this;
+  }
+
   public List<String> getHeadersOrder() {
     return headersOrder;
   }
@@ -343,6 +395,15 @@ public class CsvSerializer {
     return this;
   }
 
+  public int getXlsxRowWindow() {
+    return xlsxRowWindow;
+  }
+
+  public CsvSerializer setXlsxRowWindow(int xlsxRowWindow) {
+    this.xlsxRowWindow = xlsxRowWindow;
+    return this;
+  }
+
   public boolean isAsFlattenedObjects() {
     return asFlattenedObjects;
   }
@@ -352,6 +413,15 @@ public class CsvSerializer {
     return this;
   }
 
+  public boolean isAsHtml() {
+    return asHtml;
+  }
+
+  public CsvSerializer setAsHtml(boolean asHtml) {
+    this.asHtml = asHtml;
+    return this;
+  }
+
   public boolean isAsHtmlEmail() {
     return asHtmlEmail;
   }
@@ -406,41 +476,27 @@ public class CsvSerializer {
     return this;
   }
 
+  public boolean isXlsxCompressTempFiles() {
+    return xlsxCompressTempFiles;
+  }
+
+  public CsvSerializer setXlsxCompressTempFiles(boolean xlsxCompressTempFiles) {
+    this.xlsxCompressTempFiles = xlsxCompressTempFiles;
+    return this;
+  }
+
   @SuppressWarnings("unchecked")
   public void parse() {
     checkInit();
     Logs.logTrace(LOG, "Parsing CSV...");
     data = Lists.newArrayList();
-    headers = new HashSet<>();
-    if ((params.getCsvParams() != null) && (params.getCsvParams().getAlwaysIncludeHeaders() != null)) {
-      headers.addAll(params.getCsvParams().getAlwaysIncludeHeaders());
-    }
-    if (asHtml) {
-      skipProperties.add("@type");
-    }
-    boolean skipMapConversion =
-      (params.getCsvParams() != null) && (params.getCsvParams().getSkipMapConversion() != null) && params.getCsvParams().getSkipMapConversion();
+    boolean skipMapConversion = initHeaders();
     (Reflections.isListType(obj.getClass()) ? (Collection<Object>) obj : Lists.newArrayList(obj))
       .stream()
       .filter(this::shouldProcessRow)
-      .forEach(bean -> {
-        Map<String, String> beanData = new HashMap<>();
-        Map<String, Object> map =
-          Reflections.isMapType(bean.getClass()) ? (skipMapConversion ? (Map<String, Object>) bean : convertMapToJsonMap((Map<?, ?>) bean))
-            : Serializer.toMapViaJson(objectMapper, bean);
-        if (isNotEmpty(includeProperties)) {
-          Sets.newHashSet(map.keySet()).stream().filter(key -> !includeProperties.contains(key)).forEach(map::remove);
-        }
-        Lambdas.consumeIfTrue(expandJsonFields, map, m -> MapUtil.expandJsonFields(m, expandJsonFieldsInner, skipProperties));
-        for (Entry<String, Object> ent : map.entrySet()) {
-          if (!skipProperties.contains(ent.getKey())) {
-            addData(beanData, ent.getKey(), ent.getKey(), ent.getValue());
-          }
-        }
-        if (isNotEmpty(beanData)) {
-          data.add(beanData);
-        }
-      });
+      .map(bean -> convertRow(bean, skipMapConversion))
+      .filter(beanData -> isNotEmpty(beanData))
+      .forEach(data::add);
     if (isNotBlank(sort)) {
       Sorting.sortListOfMaps(data, sort, true, (Class<? extends Comparable<?>>) sortAsType);
     }
@@ -453,6 +509,9 @@ public class CsvSerializer {
 
   public String toCsv() {
     checkInit();
+    if (isWorkbook) {
+      getBook();
+    }
     if ((obj != null) && ((headers == null) || (data == null))) {
       parse();
     }
@@ -467,7 +526,8 @@ public class CsvSerializer {
     }
     String thead = null;
     String tbody = null;
-    List<String> sortedHeaders = getSortedHeaders();
+    List<String> sortedKeys = getSortedHeaderKeys();
+    List<String> sortedHeaders = sortedKeys.stream().map(this::escapeHeader).collect(Collectors.toList());
     lines = Lists.newArrayList();
     if (asHtml) {
       thead = format(
@@ -486,20 +546,8 @@ public class CsvSerializer {
     int rowNum = 1;
     for (Map<String, String> dataMap : data) {
       List<String> rowData = Lists.newArrayList();
-      for (String header : sortedHeaders) {
-        String cell = dataMap.get(header);
-        if (cell == null) {
-          cell = asHtml ? "&nbsp;" : "";
-        } else if (asHtml) {
-          cell = StringEscapeUtils.escapeXml11(cell);
-        } else if (!cell.startsWith("=")) {
-          if (params.testCsvAlwaysQuote()) {
-            cell = "\"" + StringUtils.replace(cell, "\"", "\"\"") + "\"";
-          } else if (!params.testCsvNeverQuote()) {
-            cell = escapeCsv(cell);
-          }
-        }
-        rowData.add(cell);
+      for (String header : sortedKeys) {
+        rowData.add(formatCell(dataMap.get(header)));
       }
       if (asHtml) {
         tbody +=
@@ -532,6 +580,59 @@ public class CsvSerializer {
     return csv.toString();
   }
 
+  public long write(@Nonnull Iterator<?> rows, @Nonnull OutputStream os) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+    long count = write(rows, writer);
+    writer.flush();
+    return count;
+  }
+
+  public long write(@Nonnull Iterator<?> rows, @Nonnull Writer writer) throws IOException {
+    checkInit();
+    if (isWorkbook) {
+      throw new IllegalStateException(format("Output format [%s] cannot be streamed to a writer - use writeXlsx instead.", outputFormat));
+    }
+    if (asFlattenedObjects || transposeData) {
+      obj = Lists.newArrayList(rows);
+      headers = null;
+      data = null;
+      writer.write(toCsv());
+      writer.flush();
+      return data == null ? 0 : data.size();
+    }
+    return writeRows(rows, new CsvRowWriter(writer));
+  }
+
+  public long write(@Nonnull Stream<?> rows, @Nonnull OutputStream os) throws IOException {
+    return write(rows.iterator(), os);
+  }
+
+  public long write(@Nonnull Stream<?> rows, @Nonnull Writer writer) throws IOException {
+    return write(rows.iterator(), writer);
+  }
+
+  public long writeXlsx(@Nonnull Iterator<?> rows, @Nonnull OutputStream os) throws IOException {
+    checkInit();
+    SXSSFWorkbook streamingBook = ExcelFactory.createStreamingXlsx(xlsxRowWindow, xlsxCompressTempFiles);
+    try {
+      long count = writeRows(rows, new XlsxRowWriter(ExcelFactory.createOrGetFirstSheet(streamingBook)));
+      streamingBook.write(os);
+      os.flush();
+      return count;
+    } finally {
+      ExcelFactory.dispose(streamingBook);
+    }
+  }
+
+  public long writeXlsx(@Nonnull OutputStream os) throws IOException {
+    Collection<?> rows = obj == null ? Collections.emptyList() : Reflections.isListType(obj.getClass()) ? (Collection<?>) obj : Lists.newArrayList(obj);
+    return writeXlsx(rows.iterator(), os);
+  }
+
+  public long writeXlsx(@Nonnull Stream<?> rows, @Nonnull OutputStream os) throws IOException {
+    return writeXlsx(rows.iterator(), os);
+  }
+
   @Override
   protected void finalize() throws Throwable {
     if (book != null) {
@@ -632,29 +733,86 @@ public class CsvSerializer {
       resolvedSkipRowsExpression = ExprFactory.getSpelExpression(skipRowsExpression, sandbox);
     }
     isWorkbook = (outputFormat != null) && ((outputFormat == xls) || (outputFormat == xlsx));
-    if (isWorkbook) {
-      book = outputFormat == xls ? ExcelFactory.createNewXls() : ExcelFactory.createNewXlsx();
-      sheet = ExcelFactory.createOrGetFirstSheet(book);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, String> convertRow(Object bean, boolean skipMapConversion) {
+    Map<String, String> beanData = new HashMap<>();
+    Map<String, Object> map =
+      Reflections.isMapType(bean.getClass()) ? (skipMapConversion ? (Map<String, Object>) bean : convertMapToJsonMap((Map<?, ?>) bean))
+        : Serializer.toMapViaJson(objectMapper, bean);
+    if (isNotEmpty(includeProperties)) {
+      Sets.newHashSet(map.keySet()).stream().filter(key -> !includeProperties.contains(key)).forEach(map::remove);
+    }
+    Lambdas.consumeIfTrue(expandJsonFields, map, m -> MapUtil.expandJsonFields(m, expandJsonFieldsInner, skipProperties));
+    for (Entry<String, Object> ent : map.entrySet()) {
+      if (!skipProperties.contains(ent.getKey())) {
+        addData(beanData, ent.getKey(), ent.getKey(), ent.getValue());
+      }
     }
+    return beanData;
   }
 
-  private List<String> getSortedHeaders() {
-    List<String> sortedHeaders = headers
-      .stream()
-      .map((asFlattenedObjects || params.testCsvNeverQuote()) ? Function.identity() : asHtml ? StringEscapeUtils::escapeXml11 : StringEscapeUtils::escapeCsv)
-      .sorted()
-      .collect(Collectors.toList());
+  private String escapeHeader(String header) {
+    if (asFlattenedObjects || params.testCsvNeverQuote()) {
+      return header;
+    }
+    return asHtml ? StringEscapeUtils.escapeXml11(header) : StringEscapeUtils.escapeCsv(header);
+  }
+
+  private String formatCell(String cell) {
+    if (cell == null) {
+      return asHtml ? "&nbsp;" : "";
+    } else if (asHtml) {
+      return StringEscapeUtils.escapeXml11(cell);
+    } else if (!cell.startsWith("=")) {
+      if (params.testCsvAlwaysQuote()) {
+        return "\"" + StringUtils.replace(cell, "\"", "\"\"") + "\"";
+      } else if (!params.testCsvNeverQuote()) {
+        return escapeCsv(cell);
+      }
+    }
+    return cell;
+  }
+
+  private List<String> getSortedHeaderKeys() {
+    Map<String, String> labels = headers.stream().collect(Collectors.toMap(Function.identity(), this::escapeHeader));
+    List<String> sortedHeaders = headers.stream().sorted(Comparator.comparing(labels::get)).collect(Collectors.toList());
     if (CollectionUtils.isNotEmpty(headersOrder)) {
       Lists.reverse(headersOrder).forEach(h -> {
-        if (sortedHeaders.contains(h)) {
-          sortedHeaders.remove(h);
-          sortedHeaders.add(0, h);
+        String key = sortedHeaders.contains(h) ? h : sortedHeaders.stream().filter(k -> h.equals(labels.get(k))).findFirst().orElse(null);
+        if (key != null) {
+          sortedHeaders.remove(key);
+          sortedHeaders.add(0, key);
         }
       });
     }
     return sortedHeaders;
   }
 
+  private List<String> getSortedHeaders() {
+    return getSortedHeaderKeys().stream().map(this::escapeHeader).collect(Collectors.toList());
+  }
+
+  private boolean initHeaders() {
+    headers = new HashSet<>();
+    if ((params.getCsvParams() != null) && (params.getCsvParams().getAlwaysIncludeHeaders() != null)) {
+      headers.addAll(params.getCsvParams().getAlwaysIncludeHeaders());
+    }
+    if (asHtml) {
+      skipProperties.add("@type");
+    }
+    return (params.getCsvParams() != null) && (params.getCsvParams().getSkipMapConversion() != null) && params.getCsvParams().getSkipMapConversion();
+  }
+
+  private Map<String, String> nextRow(Object bean, boolean skipMapConversion) {
+    if ((bean == null) || !shouldProcessRow(bean)) {
+      return null;
+    }
+    Map<String, String> beanData = convertRow(bean, skipMapConversion);
+    return isNotEmpty(beanData) ? beanData : null;
+  }
+
   private boolean shouldProcessRow(Object bean) {
     if (resolvedSkipRowsExpression != null) {
       Object skip = ExprFactory.evalSpel(bean, resolvedSkipRowsExpression);
@@ -665,12 +823,12 @@ public class CsvSerializer {
 
   private void transpose() {
     List<Map<String, String>> transposed = Lists.newArrayList();
-    List<String> origHeaders = getSortedHeaders();
+    List<String> origHeaders = getSortedHeaderKeys();
     Set<String> transposedHeaders = Sets.newLinkedHashSet();
     boolean first = true;
     for (String header : origHeaders) {
       Map<String, String> transposedData = Maps.newHashMap();
-      transposedData.put("header", header);
+      transposedData.put("header", escapeHeader(header));
       if (first) {
         transposedHeaders.add("header");
       }
@@ -690,4 +848,146 @@ public class CsvSerializer {
     data = transposed;
   }
 
+  private long writeRows(Iterator<?> rows, RowWriter rowWriter) throws IOException {
+    boolean skipMapConversion = initHeaders();
+    List<Map<String, String>> buffered = new ArrayList<>();
+    List<String> sortedHeaders;
+    boolean includeHeaderRow = true;
+    if (transposeData || isNotBlank(sort)) {
+      obj = Lists.newArrayList(rows);
+      rows = Collections.emptyIterator();
+      parse();
+      if (transposeData) {
+        transpose();
+        includeHeaderRow = false;
+        sortedHeaders = new ArrayList<>(headers);
+      } else {
+        sortedHeaders = isNotEmpty(params.getCsvHeaders()) ? params.getCsvHeaders() : getSortedHeaderKeys();
+      }
+      buffered = data;
+    } else if (isNotEmpty(params.getCsvHeaders())) {
+      sortedHeaders = params.getCsvHeaders();
+    } else {
+      while (rows.hasNext() && (buffered.size() < headerSampleSize)) {
+        Map<String, String> beanData = nextRow(rows.next(), skipMapConversion);
+        if (beanData != null) {
+          buffered.add(beanData);
+        }
+      }
+      sortedHeaders = getSortedHeaderKeys();
+    }
+    if (includeHeaderRow) {
+      rowWriter.writeHeaders(sortedHeaders);
+    }
+    long count = 0;
+    for (Map<String, String> beanData : buffered) {
+      rowWriter.writeRow(sortedHeaders, beanData, ++count);
+    }
+    buffered = null;
+    while (rows.hasNext()) {
+      Map<String, String> beanData = nextRow(rows.next(), skipMapConversion);
+      if (beanData != null) {
+        rowWriter.writeRow(sortedHeaders, beanData, ++count);
+      }
+    }
+    rowWriter.finish();
+    Logs.logTrace(LOG, "Streamed [%s] rows with [%s] headers.", count, sortedHeaders.size());
+    return count;
+  }
+
+  private interface RowWriter {
+
+    void finish() throws IOException;
+
+    void writeHeaders(List<String> sortedHeaders) throws IOException;
+
+    void writeRow(List<String> sortedHeaders, Map<String, String> beanData, long rowNum) throws IOException;
+
+  }
+
+  private class CsvRowWriter implements RowWriter {
+
+    private final Writer writer;
+
+    CsvRowWriter(Writer writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    public void finish() throws IOException {
+      if (asHtml) {
+        writer.write(TABLE_END);
+      }
+      writer.flush();
+    }
+
+    @Override
+    public void writeHeaders(List<String> sortedHeaders) throws IOException {
+      if (asHtml) {
+        String headerRow = format(
+          TR,
+          htmlHeaderRowClass,
+          sortedHeaders.stream().map(h -> format(asHtmlEmail ? TD : TH, htmlHeaderClass, escapeHeader(h))).collect(Collectors.joining())
+        );
+        writer.write(format(TABLE_START, htmlTableClass));
+        writer.write(asHtmlEmail ? "<tbody>" + headerRow : "<thead>" + headerRow + "</thead><tbody>");
+      } else {
+        writer.write(sortedHeaders.stream().map(CsvSerializer.this::escapeHeader).collect(Collectors.joining(csvDelimiter)));
+        writer.write(System.lineSeparator());
+      }
+    }
+
+    @Override
+    public void writeRow(List<String> sortedHeaders, Map<String, String> beanData, long rowNum) throws IOException {
+      if (asHtml) {
+        writer.write(format(
+          TR,
+          htmlRowClass,
+          sortedHeaders.stream().map(h -> format(TD, htmlCellClass, formatCell(beanData.get(h)))).collect(Collectors.joining())
+        ));
+      } else {
+        writer.write(sortedHeaders.stream().map(h -> formatCell(beanData.get(h))).collect(Collectors.joining(csvDelimiter)));
+      }
+      writer.write(System.lineSeparator());
+      if ((flushInterval > 0) && ((rowNum % flushInterval) == 0)) {
+        writer.flush();
+      }
+    }
+
+  }
+
+  private static class XlsxRowWriter implements RowWriter {
+
+    private int nextRow;
+    private final Sheet sheet;
+
+    XlsxRowWriter(Sheet sheet) {
+      this.sheet = sheet;
+    }
+
+    @Override
+    public void finish() {
+    }
+
+    @Override
+    public void writeHeaders(List<String> sortedHeaders) {
+      Row row = sheet.createRow(nextRow++);
+      for (int cellNum = 0; cellNum < sortedHeaders.size(); cellNum++) {
+        ExcelFactory.createCell(row, cellNum, sortedHeaders.get(cellNum));
+      }
+    }
+
+    @Override
+    public void writeRow(List<String> sortedHeaders, Map<String, String> beanData, long rowNum) {
+      Row row = sheet.createRow(nextRow++);
+      for (int cellNum = 0; cellNum < sortedHeaders.size(); cellNum++) {
+        String cell = beanData.get(sortedHeaders.get(cellNum));
+        if (cell != null) {
+          ExcelFactory.createCell(row, cellNum, cell);
+        }
+      }
+    }
+
+  }
+
 }
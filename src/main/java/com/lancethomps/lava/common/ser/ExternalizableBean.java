@@ -23,7 +23,11 @@ public abstract class ExternalizableBean extends PostConstructor implements Exte
 
   @Override
   public void writeExternal(ObjectOutput out) throws IOException {
-    Serializer.writeExternal(out, this);
+    Serializer.writeExternal(out, this, externalizableFormat());
+  }
+
+  protected ExternalizableFormat externalizableFormat() {
+    return Serializer.getExternalizableFormat();
   }
 
   @Override
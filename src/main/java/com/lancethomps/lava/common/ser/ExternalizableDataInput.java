@@ -0,0 +1,121 @@
+package com.lancethomps.lava.common.ser;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+final class ExternalizableDataInput implements DataInput {
+
+  private final DataInput in;
+
+  private int pending;
+
+  ExternalizableDataInput(DataInput in, int firstByte) {
+    super();
+    this.in = in;
+    pending = firstByte;
+  }
+
+  @Override
+  public boolean readBoolean() throws IOException {
+    return readUnsignedByte() != 0;
+  }
+
+  @Override
+  public byte readByte() throws IOException {
+    return (byte) readUnsignedByte();
+  }
+
+  @Override
+  public char readChar() throws IOException {
+    return (char) readUnsignedShort();
+  }
+
+  @Override
+  public double readDouble() throws IOException {
+    return Double.longBitsToDouble(readLong());
+  }
+
+  @Override
+  public float readFloat() throws IOException {
+    return Float.intBitsToFloat(readInt());
+  }
+
+  @Override
+  public void readFully(byte[] b) throws IOException {
+    readFully(b, 0, b.length);
+  }
+
+  @Override
+  public void readFully(byte[] b, int off, int len) throws IOException {
+    int offset = off;
+    int length = len;
+    if ((length > 0) && (pending >= 0)) {
+      b[offset++] = (byte) pending;
+      pending = -1;
+      length--;
+    }
+    in.readFully(b, offset, length);
+  }
+
+  @Override
+  public int readInt() throws IOException {
+    if (pending < 0) {
+      return in.readInt();
+    }
+    return (readUnsignedByte() << 24) | (readUnsignedByte() << 16) | (readUnsignedByte() << 8) | readUnsignedByte();
+  }
+
+  @Override
+  public String readLine() throws IOException {
+    if (pending < 0) {
+      return in.readLine();
+    }
+    char first = (char) readUnsignedByte();
+    if ((first == '\n') || (first == '\r')) {
+      return "";
+    }
+    String rest = in.readLine();
+    return rest == null ? String.valueOf(first) : first + rest;
+  }
+
+  @Override
+  public long readLong() throws IOException {
+    return ((long) readInt() << 32) | (readInt() & 0xFFFFFFFFL);
+  }
+
+  @Override
+  public short readShort() throws IOException {
+    return (short) readUnsignedShort();
+  }
+
+  @Override
+  public int readUnsignedByte() throws IOException {
+    if (pending >= 0) {
+      int b = pending;
+      pending = -1;
+      return b;
+    }
+    return in.readUnsignedByte();
+  }
+
+  @Override
+  public int readUnsignedShort() throws IOException {
+    return (readUnsignedByte() << 8) | readUnsignedByte();
+  }
+
+  @Override
+  public String readUTF() throws IOException {
+    return pending < 0 ? in.readUTF() : DataInputStream.readUTF(this);
+  }
+
+  @Override
+  public int skipBytes(int n) throws IOException {
+    if ((n > 0) && (pending >= 0)) {
+      pending = -1;
+      return 1 + in.skipBytes(n - 1);
+    }
+    return in.skipBytes(n);
+  }
+
+}
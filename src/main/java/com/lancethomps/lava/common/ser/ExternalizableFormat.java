@@ -0,0 +1,37 @@
+package com.lancethomps.lava.common.ser;
+
+public enum ExternalizableFormat {
+
+  JSON((byte) 0, false),
+
+  SMILE((byte) 1, true),
+
+  SMILE_LZ4((byte) 2, true);
+
+  private final boolean binary;
+
+  private final byte header;
+
+  ExternalizableFormat(byte header, boolean binary) {
+    this.header = header;
+    this.binary = binary;
+  }
+
+  public static ExternalizableFormat fromHeader(int header) {
+    for (ExternalizableFormat format : values()) {
+      if (format.binary && (format.header == header)) {
+        return format;
+      }
+    }
+    return null;
+  }
+
+  public byte getHeader() {
+    return header;
+  }
+
+  public boolean isBinary() {
+    return binary;
+  }
+
+}
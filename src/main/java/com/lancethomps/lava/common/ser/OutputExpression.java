@@ -6,6 +6,7 @@ import java.util.Map;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.lancethomps.lava.common.SimpleDomainObject;
 import com.lancethomps.lava.common.expr.ExprParser;
+import com.lancethomps.lava.common.expr.spel.SpelCompileMode;
 
 @SuppressWarnings("serial")
 public class OutputExpression extends SimpleDomainObject {
@@ -28,6 +29,8 @@ public class OutputExpression extends SimpleDomainObject {
 
   private Boolean returnsPathKeyMap;
 
+  private SpelCompileMode spelCompileMode;
+
   private ExprParser type;
 
   public Boolean getCompile() {
@@ -102,6 +105,15 @@ public class OutputExpression extends SimpleDomainObject {
     return this;
   }
 
+  public SpelCompileMode getSpelCompileMode() {
+    return spelCompileMode;
+  }
+
+  public OutputExpression setSpelCompileMode(SpelCompileMode spelCompileMode) {
+    this.spelCompileMode = spelCompileMode;
+    return this;
+  }
+
   public ExprParser getType() {
     return type;
   }
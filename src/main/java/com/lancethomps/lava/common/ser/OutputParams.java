@@ -114,6 +114,9 @@ public class OutputParams extends ExternalizableBean {
   @JsonIgnore
   private ObjectMapper objectMapper;
 
+  @JsonIgnore
+  private transient String objectMapperCacheKey;
+
   private String objectMapperCustomCacheKeyId;
 
   @RequestField(additionalParameterNames = {"out.ognl"})
@@ -232,11 +235,13 @@ public class OutputParams extends ExternalizableBean {
   public OutputParams copy() {
     OutputParams copied = Serializer.copy(this);
     copied.modificationsDisabled = false;
+    copied.objectMapperCacheKey = null;
     return copied;
   }
 
   public OutputParams disableModifications() {
     modificationsDisabled = true;
+    objectMapperCacheKey = null;
     return this;
   }
 
@@ -626,6 +631,7 @@ public class OutputParams extends ExternalizableBean {
 
   public OutputParams setQuoteFieldNames(Boolean quoteFieldNames) {
     this.quoteFieldNames = quoteFieldNames;
+    objectMapperCacheKey = null;
     return this;
   }
 
@@ -760,7 +766,32 @@ public class OutputParams extends ExternalizableBean {
   }
 
   public String toObjectMapperCacheKey() {
-    final StringBuilder builder = new StringBuilder()
+    String cacheKey = objectMapperCacheKey;
+    if (cacheKey == null) {
+      cacheKey = createObjectMapperCacheKey();
+      if (modificationsDisabled && !hasObjectMapperCacheKeyCollections()) {
+        objectMapperCacheKey = cacheKey;
+      }
+    }
+    return cacheKey;
+  }
+
+  public OutputParams updateOutputFormatIfAllowed(OutputFormat outputFormat) {
+    if (modificationsDisabled) {
+      return this;
+    }
+    this.outputFormat = outputFormat;
+    return this;
+  }
+
+  private void checkModificationsDisabled() {
+    if (modificationsDisabled) {
+      throw new UnsupportedOperationException("Modifications have been disabled for this instance!");
+    }
+  }
+
+  private String createObjectMapperCacheKey() {
+    final StringBuilder builder = new StringBuilder(512)
       .append("csvAsFlatObjs=")
       .append(csvAsFlatObjs)
       .append(" csvChainingSep=")
@@ -840,18 +871,9 @@ public class OutputParams extends ExternalizableBean {
     return builder.toString();
   }
 
-  public OutputParams updateOutputFormatIfAllowed(OutputFormat outputFormat) {
-    if (modificationsDisabled) {
-      return this;
-    }
-    this.outputFormat = outputFormat;
-    return this;
-  }
-
-  private void checkModificationsDisabled() {
-    if (modificationsDisabled) {
-      throw new UnsupportedOperationException("Modifications have been disabled for this instance!");
-    }
+  private boolean hasObjectMapperCacheKeyCollections() {
+    return (csvHeaders != null) || (csvIncludeProperties != null) || (csvWrapFieldsInFunction != null) || (fieldsBlackList != null) ||
+      (fieldsWhiteList != null) || (onlyFields != null) || (skipFields != null) || (skipFieldsByType != null);
   }
 
 }
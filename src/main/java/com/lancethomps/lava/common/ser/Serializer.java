@@ -30,7 +30,9 @@ import java.io.InputStream;
 import java.io.LineNumberReader;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.io.OutputStream;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
@@ -73,7 +75,6 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IteratorUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -129,6 +130,7 @@ import com.lancethomps.lava.common.env.EnvSpecificConfig;
 import com.lancethomps.lava.common.env.EnvSpecificConfigWrapper;
 import com.lancethomps.lava.common.expr.ExprFactory;
 import com.lancethomps.lava.common.file.Content;
+import com.lancethomps.lava.common.file.CsvLineIterator;
 import com.lancethomps.lava.common.file.FileParser;
 import com.lancethomps.lava.common.file.FileParserOptions;
 import com.lancethomps.lava.common.file.FileParsingException;
@@ -181,6 +183,8 @@ public class Serializer {
   public static final ObjectMapper YAML_MAPPER = SerializerFactory.getYamlMapper(true, true);
   public static final ObjectMapper YAML_NO_TYPE_MAPPER = SerializerFactory.addNoopTyping(SerializerFactory.getYamlMapper(false, false));
   private static final Set<Class<?>> SIMPLE_OUTPUT_CLASSES = Sets.newHashSet(Boolean.class, String.class);
+  private static ExternalizableFormat externalizableFormat =
+    Enums.fromString(ExternalizableFormat.class, System.getenv("LAVA_EXTERNALIZABLE_FORMAT"), ExternalizableFormat.JSON);
   private static boolean logMissingProperties = true;
 
   static {
@@ -188,6 +192,15 @@ public class Serializer {
   }
 
   public static CsvSerializer addParamsToCsvSerializer(CsvSerializer csvSer, OutputParams outputParams) {
+    CsvParams csvParams = outputParams.getCsvParams();
+    if (csvParams != null) {
+      if (csvParams.getXlsxCompressTempFiles() != null) {
+        csvSer.setXlsxCompressTempFiles(csvParams.getXlsxCompressTempFiles());
+      }
+      if (csvParams.getXlsxRowWindow() != null) {
+        csvSer.setXlsxRowWindow(csvParams.getXlsxRowWindow());
+      }
+    }
     return csvSer
       .setOutputFormat(outputParams.getOutputFormat() == null ? csv : outputParams.getOutputFormat())
       .setSkipProperties(
@@ -1406,6 +1419,14 @@ public class Serializer {
     return existingNames;
   }
 
+  public static ExternalizableFormat getExternalizableFormat() {
+    return externalizableFormat;
+  }
+
+  public static void setExternalizableFormat(@Nonnull ExternalizableFormat externalizableFormat) {
+    Serializer.externalizableFormat = externalizableFormat;
+  }
+
   public static Map<String, Object> getFailureMap() {
     return getFailureMap(null);
   }
@@ -1740,35 +1761,11 @@ public class Serializer {
     String currentLine,
     ThrowingConsumer<String[]> lineConsumer
   ) throws IOException {
-    int count = 0;
-    String[] pendingData = null;
-    Pattern onlySepsRegex = Pattern.compile("^" + Pattern.quote(String.valueOf(parser.getSeparator())) + "+$");
-    String line = currentLine == null ? br.readLine() : currentLine;
-    while ((line != null) && (parser.isPending() || isNotBlank(line)) && ((options.getMaxLines() == null) || (count < options.getMaxLines()))) {
-      if (!parser.isPending() && (shouldSkipCsvLine(line, options) || (!options.testAllowBlanks() && onlySepsRegex.matcher(line).matches()))) {
-        line = br.readLine();
-        continue;
-      }
-      count++;
-      String[] data = parser.parseLineMulti(line);
-      if (parser.isPending()) {
-        if ((pendingData == null) || (pendingData.length == 0)) {
-          pendingData = data;
-        } else if ((data != null) && (data.length > 0)) {
-          pendingData = ArrayUtils.addAll(pendingData, data);
-        }
-        line = br.readLine();
-        continue;
-      } else if (pendingData != null) {
-        if ((pendingData.length > 0) && (data != null) && (data.length > 0)) {
-          data = ArrayUtils.addAll(pendingData, data);
-        }
-        pendingData = null;
-      }
-      lineConsumer.acceptWithSneakyThrow(data);
-      line = br.readLine();
+    CsvLineIterator lines = new CsvLineIterator(options, br, parser, currentLine);
+    while (lines.hasNext()) {
+      lineConsumer.acceptWithSneakyThrow(lines.next());
     }
-    return count;
+    return lines.getCount();
   }
 
   @SuppressWarnings({"unchecked", "rawtypes"})
@@ -1801,10 +1798,32 @@ public class Serializer {
   }
 
   public static void readExternal(ObjectInput in, Object obj) {
+    ExternalizableFormat format = null;
     try {
-      JSON_MAPPER.readerForUpdating(obj).readValue(in);
+      int header = in.read();
+      if (header == -1) {
+        return;
+      }
+      format = ExternalizableFormat.fromHeader(header);
+      if (format == null) {
+        JSON_MAPPER.readerForUpdating(obj).readValue(new ExternalizableDataInput(in, header));
+      } else {
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        if (format == ExternalizableFormat.SMILE_LZ4) {
+          data = CompressionUtil.decompress(data);
+        }
+        SMILE_MAPPER.readerForUpdating(obj).readValue(data);
+      }
     } catch (Throwable e) {
-      Logs.logError(LOG, e, "Issue reading object input using JSON: type=%s current=%s", obj == null ? null : obj.getClass().getName(), toJson(obj));
+      Logs.logError(
+        LOG,
+        e,
+        "Issue reading object input: format=%s type=%s current=%s",
+        format == null ? ExternalizableFormat.JSON : format,
+        obj == null ? null : obj.getClass().getName(),
+        toJson(obj)
+      );
     }
   }
 
@@ -2584,9 +2603,15 @@ public class Serializer {
       outputParams.setOutputFormat(xlsx);
     }
     CsvSerializer csv = getCsvSerializer(obj, outputParams);
-    try (Workbook workbook = csv.toBook()) {
-      ByteArrayOutputStream baos = new ByteArrayOutputStream();
-      workbook.write(baos);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try {
+      if (outputParams.getOutputFormat() == xlsx) {
+        csv.writeXlsx(baos);
+      } else {
+        try (Workbook workbook = csv.toBook()) {
+          workbook.write(baos);
+        }
+      }
       return baos.toByteArray();
     } catch (Throwable e) {
       Logs.logError(LOG, e, "Error writing object to XLSX: type=%s", obj == null ? null : obj.getClass());
@@ -2673,12 +2698,40 @@ public class Serializer {
     return toCsv(csv);
   }
 
+  public static long writeCsv(Iterator<?> rows, OutputParams outputParams, Writer writer) throws IOException {
+    return createStreamingCsvSerializer(outputParams).write(rows, writer);
+  }
+
+  public static long writeCsv(Stream<?> rows, OutputParams outputParams, OutputStream os) throws IOException {
+    return createStreamingCsvSerializer(outputParams).write(rows, os);
+  }
+
   public static void writeExternal(ObjectOutput out, Object obj) {
-    try {
+    writeExternal(out, obj, externalizableFormat);
+  }
 
-      JSON_MAPPER.writeValue(out, obj);
+  public static void writeExternal(ObjectOutput out, Object obj, ExternalizableFormat format) {
+    try {
+      if ((format == null) || !format.isBinary()) {
+        JSON_MAPPER.writeValue(out, obj);
+      } else {
+        byte[] data = SMILE_MAPPER.writeValueAsBytes(obj);
+        if (format == ExternalizableFormat.SMILE_LZ4) {
+          data = CompressionUtil.compress(data);
+        }
+        out.writeByte(format.getHeader());
+        out.writeInt(data.length);
+        out.write(data);
+      }
     } catch (Throwable e) {
-      Logs.logError(LOG, e, "Issue writing object output using JSON: type=%s json=%s", obj == null ? null : obj.getClass().getName(), toJson(obj));
+      Logs.logError(
+        LOG,
+        e,
+        "Issue writing object output: format=%s type=%s json=%s",
+        format,
+        obj == null ? null : obj.getClass().getName(),
+        toJson(obj)
+      );
     }
   }
 
@@ -2703,6 +2756,10 @@ public class Serializer {
     }
   }
 
+  public static long writeXlsx(Stream<?> rows, OutputParams outputParams, OutputStream os) throws IOException {
+    return createStreamingCsvSerializer(outputParams).writeXlsx(rows, os);
+  }
+
   private static void addJsonNodeToPathKeyConsumer(
     @Nonnull BiConsumer<String, Object> consumer,
     @Nonnull JsonNode node,
@@ -2726,4 +2783,9 @@ public class Serializer {
     }
   }
 
+  private static CsvSerializer createStreamingCsvSerializer(OutputParams outputParams) {
+    OutputParams params = outputParams == null ? new OutputParams() : outputParams;
+    return addParamsToCsvSerializer(new CsvSerializer(null, params), params);
+  }
+
 }
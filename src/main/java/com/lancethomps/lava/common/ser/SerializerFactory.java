@@ -89,12 +89,14 @@ import com.fasterxml.jackson.datatype.jsr310.deser.key.DurationKeyDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.DurationSerializer;
 import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
 import com.lancethomps.lava.common.Checks;
-import com.lancethomps.lava.common.collections.FastHashMap;
+import com.lancethomps.lava.common.cache.CacheStats;
+import com.lancethomps.lava.common.cache.ConcurrentCache;
 import com.lancethomps.lava.common.date.Dates;
 import com.lancethomps.lava.common.lambda.Lambdas;
 import com.lancethomps.lava.common.logging.Logs;
 import com.lancethomps.lava.common.logging.SplunkMessageIdCommon;
 import com.lancethomps.lava.common.math.Numbers;
+import com.lancethomps.lava.common.metrics.CacheMetricSet;
 import com.lancethomps.lava.common.ser.csv.CsvAnnotationIntrospector;
 import com.lancethomps.lava.common.ser.csv.CsvPropertyFilter;
 import com.lancethomps.lava.common.ser.jackson.CustomBeanDeserializerModifier;
@@ -140,7 +142,13 @@ public class SerializerFactory {
 
   public static final String DATE_MODULE_ID = "WTPDateModule";
   private static final Logger LOG = LogManager.getLogger(SerializerFactory.class);
-  private static final FastHashMap<String, ObjectMapper> OBJECT_MAPPER_CACHE = new FastHashMap<>();
+  private static final ConcurrentCache<String, ObjectMapper> OBJECT_MAPPER_CACHE = CacheMetricSet.register(new ConcurrentCache<>(
+    "objectMappers",
+    NumberUtils.toInt(System.getProperty("wtp.objectMapperCacheSize"), 500),
+    null,
+    0,
+    null
+  ));
   private static final List<ObjectMapper> REGISTERED_MAPPERS = new ArrayList<>();
   private static final List<Consumer<ObjectMapper>> REGISTERED_MODIFIERS = new ArrayList<>();
   private static final List<Module> REGISTERED_MODULES = new ArrayList<>();
@@ -322,7 +330,7 @@ public class SerializerFactory {
 
   public static int clearObjectMapperCache() {
     int currentSize = OBJECT_MAPPER_CACHE.size();
-    OBJECT_MAPPER_CACHE.clear();
+    OBJECT_MAPPER_CACHE.dispose();
     return currentSize;
   }
 
@@ -517,6 +525,10 @@ public class SerializerFactory {
     return addModules(configureObjectMapper(new LimitedObjectMapper().setLimit(jsonCharLimit), useBespokeTyping, shortenedTypeOverride));
   }
 
+  public static CacheStats getObjectMapperCacheStats() {
+    return OBJECT_MAPPER_CACHE.getStats();
+  }
+
   public static PrettyPrinter getPrettyPrinter() {
     CustomPrettyPrinter pp = new CustomPrettyPrinter();
     DefaultIndenter indenter = new DefaultIndenter("  ", DefaultIndenter.SYS_LF);
@@ -594,6 +606,20 @@ public class SerializerFactory {
     SerializerFactory.useObjectMapperCache = useObjectMapperCache;
   }
 
+  public static int preWarmObjectMappers(@Nonnull Collection<OutputParams> paramsList) {
+    int warmed = 0;
+    for (OutputParams params : paramsList) {
+      if ((params != null) && params.canCacheResolvedObjectMapper() && (resolveObjectMapper(params) != null)) {
+        warmed++;
+      }
+    }
+    return warmed;
+  }
+
+  public static int preWarmObjectMappers(@Nonnull OutputParams... paramsList) {
+    return preWarmObjectMappers(Arrays.asList(paramsList));
+  }
+
   public static <T extends ObjectMapper> T registerMapper(T mapper) {
     if (mapper != null) {
       synchronized (REGISTERED_MAPPERS) {
@@ -756,7 +782,10 @@ public class SerializerFactory {
         copied = true;
       }
       if (canCache) {
-        OBJECT_MAPPER_CACHE.put(cacheKey, mapper);
+        ObjectMapper existing = OBJECT_MAPPER_CACHE.putIfAbsent(cacheKey, mapper);
+        if (existing != null) {
+          mapper = existing;
+        }
       }
       if (watch != null) {
         Logs.logTimer(LOG, watch, "resolve_object_mapper", cacheKey);
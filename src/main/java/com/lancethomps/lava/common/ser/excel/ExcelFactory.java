@@ -26,6 +26,7 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.util.PackageHelper;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 
 import com.lancethomps.lava.common.Collect;
@@ -35,6 +36,7 @@ import com.opencsv.CSVParser;
 
 public class ExcelFactory {
 
+  public static final int DEFAULT_STREAMING_ROW_WINDOW = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
   private static final String DEFAULT_SHEET_NAME = "data";
   private static final Logger LOG = LogManager.getLogger(ExcelFactory.class);
   private static final int MAX_CELL_CHARS = 32767;
@@ -108,6 +110,28 @@ public class ExcelFactory {
     }
   }
 
+  public static SXSSFWorkbook createStreamingXlsx() {
+    return createStreamingXlsx(DEFAULT_STREAMING_ROW_WINDOW, true);
+  }
+
+  public static SXSSFWorkbook createStreamingXlsx(int rowWindow, boolean compressTempFiles) {
+    return new SXSSFWorkbook(createNewXlsx(), rowWindow, compressTempFiles);
+  }
+
+  public static void dispose(SXSSFWorkbook book) {
+    if (book == null) {
+      return;
+    }
+    try {
+      if (!book.dispose()) {
+        Logs.logWarn(LOG, "Could not delete all temp files for streaming workbook.");
+      }
+      book.close();
+    } catch (Throwable e) {
+      Logs.logError(LOG, e, "Issue disposing streaming workbook!");
+    }
+  }
+
   public static void quoteAllCsvValues(File file) throws Exception {
     Pattern pattern = Pattern.compile("(^|\n|,)(.*?)(?=$|,|\r|\n)");
     Matcher matcher = pattern.matcher(FileUtil.readFile(file));
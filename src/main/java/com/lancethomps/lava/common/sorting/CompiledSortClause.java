@@ -0,0 +1,210 @@
+package com.lancethomps.lava.common.sorting;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.lancethomps.lava.common.Reflections;
+import com.lancethomps.lava.common.ser.Serializer;
+
+public final class CompiledSortClause {
+
+  private final Map<Class<?>, Function<Object, Object>> accessors = new ConcurrentHashMap<>(4);
+  private final boolean ascending;
+  private final Class<?> beanType;
+  private final Class<? extends Comparable<?>> defaultSortAsType;
+  private final String field;
+  private final Function<Object, Object> fieldFunction;
+  private volatile AccessorEntry lastAccessor;
+  private final Map<Object, Integer> predefinedOrderIndex;
+  private final boolean predefinedOrderMissingLast;
+  private final Class<? extends Comparable<?>> sortAsType;
+
+  @SuppressWarnings("unchecked")
+  public CompiledSortClause(
+    @Nonnull SortClause clause,
+    boolean defaultAscending,
+    @Nullable Class<? extends Comparable<?>> defaultSortAsType,
+    @Nullable Class<?> beanType
+  ) {
+    super();
+    this.ascending = (clause.getOrder() != null ? clause.getOrder() : defaultAscending ? SortOrder.asc : SortOrder.desc) == SortOrder.asc;
+    this.beanType = beanType;
+    this.defaultSortAsType = defaultSortAsType;
+    this.field = clause.getField();
+    this.fieldFunction = (Function<Object, Object>) clause.getSortFieldFunction();
+    this.predefinedOrderIndex = createPredefinedOrderIndex(clause.getPredefinedOrder());
+    this.predefinedOrderMissingLast = clause.testPredefinedOrderMissingLast();
+    this.sortAsType = clause.getSortAsType() == null ? defaultSortAsType : clause.getSortAsType();
+  }
+
+  public static CompiledSortClause[] compile(
+    @Nonnull List<SortClause> sorts,
+    boolean defaultAscending,
+    @Nullable Class<? extends Comparable<?>> defaultSortAsType,
+    @Nullable Class<?> beanType
+  ) {
+    CompiledSortClause[] compiled = new CompiledSortClause[sorts.size()];
+    for (int i = 0; i < compiled.length; i++) {
+      compiled[i] = new CompiledSortClause(sorts.get(i), defaultAscending, defaultSortAsType, beanType);
+    }
+    return compiled;
+  }
+
+  public static int compareKeys(@Nonnull CompiledSortClause[] clauses, @Nonnull Object[] keys1, @Nonnull Object[] keys2) {
+    for (int i = 0; i < clauses.length; i++) {
+      int c = clauses[i].compareKeys(keys1[i], keys2[i]);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return 0;
+  }
+
+  public static Object[] createKeys(@Nonnull CompiledSortClause[] clauses, Object element) {
+    Object[] keys = new Object[clauses.length];
+    for (int i = 0; i < clauses.length; i++) {
+      keys[i] = clauses[i].createKey(element);
+    }
+    return keys;
+  }
+
+  private static Map<Object, Integer> createPredefinedOrderIndex(List<Object> predefinedOrder) {
+    if (predefinedOrder == null) {
+      return null;
+    }
+    Map<Object, Integer> index = new HashMap<>(predefinedOrder.size() * 2);
+    for (int i = 0; i < predefinedOrder.size(); i++) {
+      Object val = predefinedOrder.get(i);
+      if (val != null) {
+        index.putIfAbsent(val, i);
+      }
+    }
+    return index;
+  }
+
+  public int compare(Object m1, Object m2) {
+    return compareKeys(createKey(m1), createKey(m2));
+  }
+
+  @SuppressWarnings("unchecked")
+  public int compareKeys(Object key1, Object key2) {
+    if ((key1 == null) && (key2 == null)) {
+      return 0;
+    } else if (key1 == null) {
+      return 1;
+    } else if (key2 == null) {
+      return -1;
+    }
+    boolean predefined1 = key1 instanceof PredefinedOrderKey;
+    boolean predefined2 = key2 instanceof PredefinedOrderKey;
+    if (predefined1) {
+      if (predefined2) {
+        return ((PredefinedOrderKey) key1).index - ((PredefinedOrderKey) key2).index;
+      }
+      return predefinedOrderMissingLast ? -1 : 1;
+    } else if (predefined2) {
+      return predefinedOrderMissingLast ? 1 : -1;
+    } else if ((key1 instanceof Comparable) && (key2 instanceof Comparable)) {
+      return ascending ? ((Comparable<Object>) key1).compareTo(key2) : ((Comparable<Object>) key2).compareTo(key1);
+    }
+    return 0;
+  }
+
+  public Object createKey(Object element) {
+    Object value = extract(element);
+    if (value == null) {
+      return null;
+    }
+    if (predefinedOrderIndex != null) {
+      Integer index = predefinedOrderIndex.get(value);
+      if (index != null) {
+        return new PredefinedOrderKey(index);
+      }
+    }
+    if (sortAsType != null) {
+      return value.getClass() == defaultSortAsType ? value : Serializer.parseString(value.toString(), sortAsType);
+    }
+    return value;
+  }
+
+  @SuppressWarnings("rawtypes")
+  public Object extract(Object element) {
+    if (fieldFunction != null) {
+      return fieldFunction.apply(element);
+    }
+    if (element == null) {
+      return null;
+    }
+    if (element instanceof Map) {
+      return ((Map) element).get(field);
+    }
+    return getAccessor(element.getClass()).apply(element);
+  }
+
+  public String getField() {
+    return field;
+  }
+
+  public boolean isAscending() {
+    return ascending;
+  }
+
+  private Function<Object, Object> getAccessor(Class<?> elementType) {
+    AccessorEntry entry = lastAccessor;
+    if ((entry != null) && (entry.type == elementType)) {
+      return entry.accessor;
+    }
+    Function<Object, Object> accessor = accessors.computeIfAbsent(elementType, this::resolveAccessor);
+    lastAccessor = new AccessorEntry(elementType, accessor);
+    return accessor;
+  }
+
+  private Function<Object, Object> resolveAccessor(Class<?> elementType) {
+    Class<?> getterType = (beanType != null) && beanType.isAssignableFrom(elementType) ? beanType : elementType;
+    Method getter = Reflections.getGetterForField(getterType, field);
+    if (getter != null) {
+      return Reflections.createGetterFunction(getter);
+    }
+    Field publicField = Reflections.getField(elementType, field);
+    if ((publicField == null) || !Modifier.isPublic(publicField.getModifiers())) {
+      throw new IllegalArgumentException(String.format(
+        "SortClause.field is invalid - must exist and be public or have a getter method: field=%s type=%s",
+        field,
+        elementType
+      ));
+    }
+    return Reflections.createFieldGetterFunction(publicField);
+  }
+
+  private static final class AccessorEntry {
+
+    private final Function<Object, Object> accessor;
+    private final Class<?> type;
+
+    AccessorEntry(Class<?> type, Function<Object, Object> accessor) {
+      this.type = type;
+      this.accessor = accessor;
+    }
+
+  }
+
+  private static final class PredefinedOrderKey {
+
+    private final int index;
+
+    PredefinedOrderKey(int index) {
+      this.index = index;
+    }
+
+  }
+
+}
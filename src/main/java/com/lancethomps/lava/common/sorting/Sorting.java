@@ -1,14 +1,12 @@
 package com.lancethomps.lava.common.sorting;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -18,10 +16,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.lancethomps.lava.common.Checks;
-import com.lancethomps.lava.common.Reflections;
 import com.lancethomps.lava.common.expr.ExprFactory;
-import com.lancethomps.lava.common.lambda.ThrowingSupplier;
-import com.lancethomps.lava.common.ser.Serializer;
 
 public class Sorting {
 
@@ -59,94 +54,21 @@ public class Sorting {
     return createComparator(sorts, true, null, null);
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
   public static <T> Comparator<T> createComparator(
       final List<SortClause> sorts,
       final boolean defaultAscending,
       final Class<? extends Comparable<?>> defaultSortAsType,
     final Class<?> type
   ) {
+    final CompiledSortClause[] clauses = CompiledSortClause.compile(sorts, defaultAscending, defaultSortAsType, type);
     return (T m1, T m2) -> {
-      int c = 0;
-      for (SortClause clause : sorts) {
-        Class<? extends Comparable<?>> sortAsType = clause.getSortAsType() == null ? defaultSortAsType : clause.getSortAsType();
-        boolean ascending = (clause.getOrder() != null ? clause.getOrder() : defaultAscending ? SortOrder.asc : SortOrder.desc) == SortOrder.asc;
-        Object o1;
-        Object o2;
-        if (clause.getSortFieldFunction() != null) {
-          o1 = ((Function<Object, Object>) clause.getSortFieldFunction()).apply(m1);
-          o2 = ((Function<Object, Object>) clause.getSortFieldFunction()).apply(m2);
-        } else if (((m1 == null) || (m1 instanceof Map)) && ((m2 == null) || (m2 instanceof Map))) {
-          o1 = m1 == null ? null : ((Map) m1).get(clause.getField());
-          o2 = m2 == null ? null : ((Map) m2).get(clause.getField());
-        } else {
-          Method getter = Reflections.getGetterForField(type, clause.getField());
-          if (getter == null) {
-            if (m1 == null && m2 == null) {
-              o1 = null;
-              o2 = null;
-            } else {
-              Class<?> elementType = (m1 == null ? m2 : m1).getClass();
-              Field field = Reflections.getField(elementType, clause.getField());
-              if (field == null || !Modifier.isPublic(field.getModifiers())) {
-                throw new IllegalArgumentException(String.format(
-                    "SortClause.field is invalid - must exist and be public or have a getter method: field=%s type=%s",
-                    clause.getField(),
-                    elementType
-                ));
-              }
-              o1 = m1 == null ? null : ((ThrowingSupplier) () -> field.get(m1)).getWithSneakyThrow();
-              o2 = m2 == null ? null : ((ThrowingSupplier) () -> field.get(m2)).getWithSneakyThrow();
-            }
-          } else {
-            o1 = Reflections.invokeSafely(getter, m1);
-            o2 = Reflections.invokeSafely(getter, m2);
-          }
-        }
-        int index1 = (clause.getPredefinedOrder() != null) && (o1 != null) ? clause.getPredefinedOrder().indexOf(o1) : -1;
-        int index2 = (clause.getPredefinedOrder() != null) && (o2 != null) ? clause.getPredefinedOrder().indexOf(o2) : -1;
-        if ((o1 == null) && (o2 == null)) {
-          c = 0;
-        } else if (o1 == null) {
-          c = 1;
-        } else if (o2 == null) {
-          c = -1;
-        } else if (index1 != -1) {
-          if (index2 != -1) {
-            c = index1 - index2;
-          } else if (clause.testPredefinedOrderMissingLast()) {
-            c = -1;
-          } else {
-            c = 1;
-          }
-        } else if (index2 != -1) {
-          if (index1 != -1) {
-            c = index1 - index2;
-          } else if (clause.testPredefinedOrderMissingLast()) {
-            c = 1;
-          } else {
-            c = -1;
-          }
-        } else if (sortAsType != null) {
-          Comparable<?> u1 = o1.getClass() == defaultSortAsType ? (Comparable<?>) o1 : Serializer.parseString(o1.toString(), sortAsType);
-          Comparable<?> u2 = o2.getClass() == defaultSortAsType ? (Comparable<?>) o2 : Serializer.parseString(o2.toString(), sortAsType);
-          if (ascending) {
-            c = ((Comparable<Object>) u1).compareTo(u2);
-          } else {
-            c = ((Comparable<Object>) u2).compareTo(u1);
-          }
-        } else if ((o1 instanceof Comparable) && (o2 instanceof Comparable)) {
-          if (ascending) {
-            c = ((Comparable<Object>) o1).compareTo(o2);
-          } else {
-            c = ((Comparable<Object>) o2).compareTo(o1);
-          }
-        }
+      for (CompiledSortClause clause : clauses) {
+        int c = clause.compare(m1, m2);
         if (c != 0) {
-          break;
+          return c;
         }
       }
-      return c;
+      return 0;
     };
   }
 
@@ -168,6 +90,16 @@ public class Sorting {
     return list;
   }
 
+  public static <T> List<T> sort(
+    List<T> list,
+    final List<SortClause> sorts,
+    final boolean defaultAscending,
+    final Class<? extends Comparable<?>> defaultSortAsType,
+    final boolean decorate
+  ) {
+    return decorate ? sortDecorated(list, sorts, defaultAscending, defaultSortAsType) : sort(list, sorts, defaultAscending, defaultSortAsType);
+  }
+
   public static <T> List<T> sort(List<T> list, final SortClause... sorts) {
     return sort(list, Checks.isEmpty(sorts) ? Collections.emptyList() : Arrays.asList(sorts));
   }
@@ -222,6 +154,39 @@ public class Sorting {
     return list;
   }
 
+  public static <T> List<T> sortDecorated(List<T> list, final List<SortClause> sorts) {
+    return sortDecorated(list, sorts, true, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <T> List<T> sortDecorated(
+    List<T> list,
+    final List<SortClause> sorts,
+    final boolean defaultAscending,
+    final Class<? extends Comparable<?>> defaultSortAsType
+  ) {
+    if (Checks.isEmpty(list)) {
+      return list;
+    }
+    Class<?> type = list.get(0) == null ? null : list.get(0).getClass();
+    CompiledSortClause[] clauses = CompiledSortClause.compile(sorts, defaultAscending, defaultSortAsType, type);
+    Object[] elements = list.toArray();
+    Object[][] decorated = new Object[elements.length][];
+    for (int i = 0; i < elements.length; i++) {
+      Object[] keys = CompiledSortClause.createKeys(clauses, elements[i]);
+      Object[] row = Arrays.copyOf(keys, keys.length + 1);
+      row[keys.length] = elements[i];
+      decorated[i] = row;
+    }
+    Arrays.sort(decorated, (row1, row2) -> CompiledSortClause.compareKeys(clauses, row1, row2));
+    ListIterator<T> iter = list.listIterator();
+    for (Object[] row : decorated) {
+      iter.next();
+      iter.set((T) row[clauses.length]);
+    }
+    return list;
+  }
+
   public static <T> List<Map<String, T>> sortListOfMaps(
     List<Map<String, T>> list,
     final List<SortClause> sorts,
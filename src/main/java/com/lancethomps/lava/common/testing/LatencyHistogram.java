@@ -0,0 +1,100 @@
+package com.lancethomps.lava.common.testing;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 8;
+  private static final int SUB_BUCKET_HALF_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+  private static final int SUB_BUCKET_MASK = (1 << SUB_BUCKET_BITS) - 1;
+  private static final int BUCKETS_LENGTH = ((64 - SUB_BUCKET_BITS) + 2) * SUB_BUCKET_HALF_COUNT;
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS_LENGTH);
+  private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+  private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+  private final DoubleAdder sumOfSquares = new DoubleAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAdder totalCount = new LongAdder();
+
+  static int indexFor(long value) {
+    int shift = (63 - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK)) - (SUB_BUCKET_BITS - 1);
+    return (shift * SUB_BUCKET_HALF_COUNT) + (int) (value >>> shift);
+  }
+
+  static long highestEquivalentValue(int index) {
+    int shift = Math.max(0, (index / SUB_BUCKET_HALF_COUNT) - 1);
+    long lowest = (long) (index - (shift * SUB_BUCKET_HALF_COUNT)) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  public long getCount() {
+    return totalCount.sum();
+  }
+
+  public long getMax() {
+    return getCount() == 0 ? 0 : max.get();
+  }
+
+  public double getMean() {
+    long count = getCount();
+    return count == 0 ? 0d : (double) total.sum() / count;
+  }
+
+  public long getMin() {
+    return getCount() == 0 ? 0 : min.get();
+  }
+
+  public double getStdDev() {
+    long count = getCount();
+    if (count < 2) {
+      return 0d;
+    }
+    double mean = getMean();
+    double variance = (sumOfSquares.sum() - (count * mean * mean)) / (count - 1);
+    return variance <= 0d ? 0d : Math.sqrt(variance);
+  }
+
+  public long getTotal() {
+    return total.sum();
+  }
+
+  public void record(long value) {
+    long recorded = Math.max(0L, value);
+    counts.incrementAndGet(indexFor(recorded));
+    total.add(recorded);
+    totalCount.increment();
+    sumOfSquares.add((double) recorded * recorded);
+    min.accumulateAndGet(recorded, Math::min);
+    max.accumulateAndGet(recorded, Math::max);
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKETS_LENGTH; i++) {
+      counts.set(i, 0);
+    }
+    max.set(Long.MIN_VALUE);
+    min.set(Long.MAX_VALUE);
+    sumOfSquares.reset();
+    total.reset();
+    totalCount.reset();
+  }
+
+  public long valueAtPercentile(double percentile) {
+    long count = getCount();
+    if (count == 0) {
+      return 0;
+    }
+    long countAtPercentile = Math.max(1L, (long) Math.ceil((Math.min(100d, Math.max(0d, percentile)) / 100d) * count));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS_LENGTH; i++) {
+      seen += counts.get(i);
+      if (seen >= countAtPercentile) {
+        return Math.max(getMin(), Math.min(getMax(), highestEquivalentValue(i)));
+      }
+    }
+    return getMax();
+  }
+
+}
@@ -2,13 +2,15 @@ package com.lancethomps.lava.common.testing;
 
 import static com.lancethomps.lava.common.logging.Logs.println;
 
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -18,6 +20,7 @@ import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -29,16 +32,16 @@ import com.lancethomps.lava.common.lambda.ThrowingIntConsumer;
 import com.lancethomps.lava.common.lambda.ThrowingRunnable;
 import com.lancethomps.lava.common.logging.LogIntervalData;
 import com.lancethomps.lava.common.logging.Logs;
-import com.lancethomps.lava.common.math.MathUtil;
 import com.lancethomps.lava.common.sorting.SortClause;
 import com.lancethomps.lava.common.sorting.SortOrder;
 import com.lancethomps.lava.common.sorting.Sorting;
 import com.lancethomps.lava.common.string.StringUtil;
-import com.lancethomps.lava.common.time.Stopwatch;
 import com.lancethomps.lava.common.time.Timing;
 
 public class SpeedTest {
 
+  public static final int WARMUP_BATCHES = 10;
+  public static final int WARMUP_STABLE_BATCHES = 2;
   @JsonIgnore
   private final List<SpeedTestFunction> functions = new ArrayList<>();
   @JsonIgnore
@@ -51,7 +54,9 @@ public class SpeedTest {
   private Map<String, Map<String, Object>> results;
   private boolean reverse;
   private List<String> speedRanking;
+  private boolean stopWarmupWhenConverged;
   private long warmup = 10000;
+  private double warmupConvergenceThreshold = 0.05d;
 
   public SpeedTest addTest(@Nullable String id, @Nonnull ThrowingFunction<Integer, Long> test) {
     return addTests(new SpeedTestFunction(id != null ? id : getNextId(), test));
@@ -155,6 +160,15 @@ public class SpeedTest {
     return this;
   }
 
+  public double getWarmupConvergenceThreshold() {
+    return warmupConvergenceThreshold;
+  }
+
+  public SpeedTest setWarmupConvergenceThreshold(double warmupConvergenceThreshold) {
+    this.warmupConvergenceThreshold = warmupConvergenceThreshold;
+    return this;
+  }
+
   public boolean isParallel() {
     return parallel;
   }
@@ -173,6 +187,15 @@ public class SpeedTest {
     return this;
   }
 
+  public boolean isStopWarmupWhenConverged() {
+    return stopWarmupWhenConverged;
+  }
+
+  public SpeedTest setStopWarmupWhenConverged(boolean stopWarmupWhenConverged) {
+    this.stopWarmupWhenConverged = stopWarmupWhenConverged;
+    return this;
+  }
+
   public SpeedTest run() throws Exception {
     final List<SpeedTestFunction> functions = new ArrayList<>(this.functions);
     String totalKey = "total";
@@ -186,7 +209,8 @@ public class SpeedTest {
       });
     }
     Logger logger = LogManager.getLogger(SpeedTest.class);
-    results = new TreeMap<>();
+    String gcScope = parallel ? "jvm-wide, includes concurrently running functions" : "jvm-wide";
+    results = new ConcurrentSkipListMap<>();
     final IntStream funcStream = createIntStream(functions.size());
     if (parallel) {
       funcStream.parallel();
@@ -194,44 +218,49 @@ public class SpeedTest {
     funcStream.forEach(funcIdx -> {
       final int functionPos = reverse ? (functions.size() - 1 - funcIdx) : funcIdx;
       SpeedTestFunction testFunction = functions.get(functionPos);
-      if (warmup > 0) {
-        createIntStream(warmup).forEach(idx -> testFunction.getFunction().applyWithSneakyThrow(idx));
-      }
-      List<Double> timers = new ArrayList<>((int) iterations);
+      LatencyHistogram histogram = new LatencyHistogram();
+      Pair<Long, Boolean> warmupResult = runWarmup(testFunction, histogram);
+      histogram.reset();
       LogIntervalData interval = new LogIntervalData(iterations, "speed_test-" + testFunction.getId());
+      long threadId = Thread.currentThread().getId();
+      long allocatedStart = getThreadAllocatedBytes(threadId);
+      long[] gcStart = getGcCountAndTime();
       createIntStream(iterations).forEach(idx -> {
-        final Stopwatch watch = Stopwatch.createAndStart();
-        Long customTimer = testFunction.getFunction().applyWithSneakyThrow(idx);
-        watch.suspend();
-        if (customTimer != null) {
-          timers.add(customTimer.doubleValue());
-        } else {
-          timers.add((double) watch.getNanoTime() / (double) Timing.NANO_2_MILLIS);
-        }
+        recordIteration(testFunction, idx, histogram);
         if (interval.getWatch().getTime() > 10000) {
           Logs.logInterval(logger, interval, 1);
         } else {
           interval.getCount().incrementAndGet();
         }
       });
-      Collections.sort(timers);
-      DoubleSummaryStatistics stats = timers.stream().mapToDouble(Double::doubleValue).summaryStatistics();
-      BigDecimal totalTime = BigDecimal.valueOf(stats.getSum());
-      BigDecimal mean = BigDecimal.valueOf(stats.getAverage());
-      BigDecimal median = BigDecimal.valueOf(
-        (timers.get((int) Math.floor((timers.size() - 1) / 2)) / 2.0) + (timers.get((int) Math.ceil((timers.size() - 1) / 2)) / 2.0));
-      BigDecimal min = BigDecimal.valueOf(stats.getMin());
-      BigDecimal max = BigDecimal.valueOf(stats.getMax());
-      BigDecimal stdDev = MathUtil.calculateStandardDeviation(timers);
+      long allocatedEnd = getThreadAllocatedBytes(threadId);
+      long[] gcEnd = getGcCountAndTime();
+      BigDecimal totalTime = toMillis(histogram.getTotal());
+      BigDecimal mean = toMillis(histogram.getMean());
+      BigDecimal median = toMillis(histogram.valueAtPercentile(50d));
+      BigDecimal min = toMillis(histogram.getMin());
+      BigDecimal max = toMillis(histogram.getMax());
+      BigDecimal stdDev = toMillis(histogram.getStdDev());
+      BigDecimal p90 = toMillis(histogram.valueAtPercentile(90d));
+      BigDecimal p99 = toMillis(histogram.valueAtPercentile(99d));
+      BigDecimal p999 = toMillis(histogram.valueAtPercentile(99.9d));
+      Long allocatedBytes = (allocatedStart < 0) || (allocatedEnd < 0) ? null : allocatedEnd - allocatedStart;
       println(
-        "TIMING_STATS: id=%s pos=%s total=%s avg=%s min=%s max=%s stdDev=%s",
+        "TIMING_STATS: id=%s pos=%s total=%s avg=%s min=%s max=%s stdDev=%s p50=%s p90=%s p99=%s p99.9=%s allocatedBytes=%s gcCount=%s gcScope=%s",
         testFunction.getId(),
         functionPos,
         totalTime.toPlainString(),
         mean.toPlainString(),
         min.toPlainString(),
         max.toPlainString(),
-        stdDev.toPlainString()
+        stdDev.toPlainString(),
+        median.toPlainString(),
+        p90.toPlainString(),
+        p99.toPlainString(),
+        p999.toPlainString(),
+        allocatedBytes,
+        gcEnd[0] - gcStart[0],
+        gcScope
       );
       Map<String, Object> details = Maps.newLinkedHashMap();
       details.put("id", testFunction.getId());
@@ -242,6 +271,17 @@ public class SpeedTest {
       details.put("min", min);
       details.put("max", max);
       details.put("stdDev", stdDev);
+      details.put("p50", median);
+      details.put("p90", p90);
+      details.put("p99", p99);
+      details.put("p99.9", p999);
+      details.put("allocatedBytes", allocatedBytes);
+      details.put("allocatedBytesPerOp", (allocatedBytes == null) || (iterations <= 0) ? null : allocatedBytes / iterations);
+      details.put("gcCount", gcEnd[0] - gcStart[0]);
+      details.put("gcTimeMs", gcEnd[1] - gcStart[1]);
+      details.put("gcScope", gcScope);
+      details.put("warmupIterations", warmupResult.getLeft());
+      details.put("warmupConverged", warmupResult.getRight());
       results.put(testFunction.getId(), details);
       if (betweenFunction != null) {
         betweenFunction.acceptWithSneakyThrow(functionPos);
@@ -276,6 +316,31 @@ public class SpeedTest {
     return this;
   }
 
+  private static long[] getGcCountAndTime() {
+    long count = 0;
+    long time = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0L, gc.getCollectionCount());
+      time += Math.max(0L, gc.getCollectionTime());
+    }
+    return new long[]{count, time};
+  }
+
+  private static long getThreadAllocatedBytes(long threadId) {
+    ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    if (threadBean instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+      if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+        return allocationBean.getThreadAllocatedBytes(threadId);
+      }
+    }
+    return -1L;
+  }
+
+  private static BigDecimal toMillis(double nanos) {
+    return BigDecimal.valueOf(nanos / Timing.NANO_2_MILLIS);
+  }
+
   private IntStream createIntStream(long limit) {
     IntStream stream = IntStream.iterate(0, idx -> idx + 1).limit(limit);
     return stream;
@@ -285,4 +350,40 @@ public class SpeedTest {
     return String.valueOf(testCount.getAndIncrement());
   }
 
+  private void recordIteration(SpeedTestFunction testFunction, int idx, LatencyHistogram histogram) {
+    final long start = System.nanoTime();
+    Long customTimer = testFunction.getFunction().applyWithSneakyThrow(idx);
+    final long elapsed = System.nanoTime() - start;
+    histogram.record(customTimer != null ? customTimer * Timing.NANO_2_MILLIS : elapsed);
+  }
+
+  private Pair<Long, Boolean> runWarmup(SpeedTestFunction testFunction, LatencyHistogram histogram) {
+    if (warmup <= 0) {
+      return Pair.of(0L, false);
+    }
+    long batchSize = Math.max(1L, warmup / WARMUP_BATCHES);
+    long count = 0;
+    int stableBatches = 0;
+    double previousMean = -1d;
+    while (count < warmup) {
+      histogram.reset();
+      long batchEnd = Math.min(warmup, count + batchSize);
+      for (long idx = count; idx < batchEnd; idx++) {
+        recordIteration(testFunction, (int) idx, histogram);
+      }
+      count = batchEnd;
+      double mean = histogram.getMean();
+      if ((previousMean > 0d) && (Math.abs(mean - previousMean) / previousMean <= warmupConvergenceThreshold)) {
+        stableBatches++;
+      } else {
+        stableBatches = 0;
+      }
+      previousMean = mean;
+      if ((stableBatches >= WARMUP_STABLE_BATCHES) && stopWarmupWhenConverged) {
+        break;
+      }
+    }
+    return Pair.of(count, stableBatches >= WARMUP_STABLE_BATCHES);
+  }
+
 }
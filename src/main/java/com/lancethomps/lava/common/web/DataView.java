@@ -1,5 +1,6 @@
 package com.lancethomps.lava.common.web;
 
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
@@ -9,28 +10,42 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.web.servlet.view.AbstractView;
 
+import com.lancethomps.lava.common.lambda.ThrowingConsumer;
+
 public class DataView extends AbstractView {
 
   private final String data;
 
   private final byte[] dataBytes;
 
+  private final ThrowingConsumer<OutputStream> dataWriter;
+
   public DataView() {
     super();
     data = null;
     dataBytes = null;
+    dataWriter = null;
   }
 
   public DataView(byte[] dataBytes) {
     super();
     data = null;
     this.dataBytes = dataBytes;
+    dataWriter = null;
   }
 
   public DataView(String data) {
     super();
     this.data = data;
     dataBytes = null;
+    dataWriter = null;
+  }
+
+  public DataView(ThrowingConsumer<OutputStream> dataWriter) {
+    super();
+    data = null;
+    dataBytes = null;
+    this.dataWriter = dataWriter;
   }
 
   public static void writeDataToResponse(String data, HttpServletResponse response) throws Exception {
@@ -56,6 +71,11 @@ public class DataView extends AbstractView {
         os.write(dataBytes);
         os.flush();
       }
+    } else if (dataWriter != null) {
+      try (ServletOutputStream os = response.getOutputStream()) {
+        dataWriter.accept(os);
+        os.flush();
+      }
     }
   }
 
@@ -26,6 +26,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,8 +35,10 @@ import org.owasp.esapi.reference.DefaultHTTPUtilities;
 import com.lancethomps.lava.common.Checks;
 import com.lancethomps.lava.common.Collect;
 import com.lancethomps.lava.common.ContextUtil;
-import com.lancethomps.lava.common.cache.SimpleLruCache;
+import com.lancethomps.lava.common.cache.ConcurrentCache;
 import com.lancethomps.lava.common.logging.Logs;
+import com.lancethomps.lava.common.metrics.CacheMetricSet;
+import com.lancethomps.lava.common.metrics.StatusMonitor;
 import com.lancethomps.lava.common.properties.PropertyParser;
 import com.lancethomps.lava.common.ser.Serializer;
 import com.lancethomps.lava.common.time.Stopwatch;
@@ -44,13 +47,19 @@ import com.lancethomps.lava.common.web.ua.UserAgent;
 import com.lancethomps.lava.common.web.ua.UserAgentParser;
 import com.lancethomps.lava.common.web.ua.UserAgentParserConfig;
 
+import io.dropwizard.metrics5.Gauge;
+import io.dropwizard.metrics5.MetricName;
+import io.dropwizard.metrics5.MetricRegistry;
 import ua_parser.Client;
 import ua_parser.Parser;
 
 public class WebRequests {
 
   public static final String DEFAULT_UA_REGEX_YAML = "/com/lancethomps/lava/common/web/ua-regexes.yaml";
-  private static final SimpleLruCache<String, UserAgent> CACHED_USER_AGENTS = new SimpleLruCache<>(500);
+  public static final String USER_AGENT_PARSER_METRIC = "userAgentParser";
+  private static final ConcurrentCache<String, UserAgent> CACHED_USER_AGENTS = CacheMetricSet.register(
+    new ConcurrentCache<>("userAgents", NumberUtils.toInt(System.getProperty("wtp.userAgentCacheSize"), 10000), null, 0, null)
+  );
   private static final Logger LOG = LogManager.getLogger(WebRequests.class);
   private static Parser uaParser;
   private static UserAgentParser userAgentParser;
@@ -58,6 +67,7 @@ public class WebRequests {
 
   static {
     initializeUserAgentParser();
+    registerUserAgentParserMetrics();
   }
 
   public static void doFilterAndPauseTimer(ServletRequest sreq, ServletResponse sresp, FilterChain chain, WebRequestContext context, String timer)
@@ -113,6 +123,7 @@ public class WebRequests {
 
   public static void setUserAgentParser(UserAgentParser userAgentParser) {
     WebRequests.userAgentParser = userAgentParser;
+    CACHED_USER_AGENTS.dispose();
   }
 
   public static String getUserAgentRegexFile() {
@@ -149,15 +160,10 @@ public class WebRequests {
   }
 
   public static UserAgent parseUserAgent(String userAgent) {
-    return CACHED_USER_AGENTS.computeIfAbsent(userAgent, k -> {
-      if (userAgentParser != null) {
-        return parseUserAgentCustom(userAgent);
-      }
-      if (uaParser != null) {
-        return UserAgent.fromUaParser(uaParser.parse(userAgent), userAgent);
-      }
-      return parseUserAgentUsingUserAgentUtils(userAgent);
-    });
+    if (userAgent == null) {
+      return parseUserAgentUncached(null);
+    }
+    return CACHED_USER_AGENTS.computeIfAbsent(userAgent, WebRequests::parseUserAgentUncached);
   }
 
   public static Client parseUserAgentClient(String userAgent) {
@@ -266,6 +272,7 @@ public class WebRequests {
   }
 
   private static void initializeUserAgentParser() {
+    CACHED_USER_AGENTS.dispose();
     Parser parser = null;
     try {
       File file = null;
@@ -288,4 +295,21 @@ public class WebRequests {
     }
   }
 
+  private static UserAgent parseUserAgentUncached(String userAgent) {
+    if (userAgentParser != null) {
+      return parseUserAgentCustom(userAgent);
+    }
+    if (uaParser != null) {
+      return UserAgent.fromUaParser(uaParser.parse(userAgent), userAgent);
+    }
+    return parseUserAgentUsingUserAgentUtils(userAgent);
+  }
+
+  private static void registerUserAgentParserMetrics() {
+    MetricRegistry metrics = StatusMonitor.registry(CacheMetricSet.METRIC_REGISTRY);
+    MetricName name = MetricName.build(USER_AGENT_PARSER_METRIC);
+    metrics.remove(name);
+    metrics.register(name, (Gauge<Map<String, Object>>) () -> userAgentParser == null ? Collections.emptyMap() : userAgentParser.getStats());
+  }
+
 }
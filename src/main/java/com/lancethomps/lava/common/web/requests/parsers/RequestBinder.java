@@ -0,0 +1,132 @@
+package com.lancethomps.lava.common.web.requests.parsers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import com.lancethomps.lava.common.lambda.ThrowingBiFunction;
+
+@SuppressWarnings("unchecked")
+final class RequestBinder<T> {
+
+  private final boolean[] alwaysProcess;
+  private final Map<String, int[]> fieldsByParamName;
+  private final RequestFieldInfo<?>[] infos;
+  private final RequestParserInfo parserInfo;
+  private final List<ThrowingBiFunction<Map<String, String[]>, Object, ?>> postProcessMethods;
+  private final Class<T> type;
+  private final int[] wildcardFields;
+  private final String[] wildcardPrefixes;
+
+  RequestBinder(
+    @Nonnull Class<T> type,
+    @Nonnull RequestParserInfo parserInfo,
+    @Nonnull List<ThrowingBiFunction<Map<String, String[]>, Object, ?>> postProcessMethods
+  ) {
+    this.type = type;
+    this.parserInfo = parserInfo;
+    this.postProcessMethods = postProcessMethods;
+    infos = parserInfo.getInfos().toArray(new RequestFieldInfo<?>[0]);
+    alwaysProcess = new boolean[infos.length];
+    Map<String, List<Integer>> byName = new HashMap<>();
+    List<String> prefixes = new ArrayList<>();
+    List<Integer> prefixFields = new ArrayList<>();
+    for (int pos = 0; pos < infos.length; pos++) {
+      RequestFieldInfo<?> info = infos[pos];
+      if (!info.isParamPresenceRequired()) {
+        alwaysProcess[pos] = true;
+        continue;
+      }
+      for (String name : info.getUnprefixedParamNames()) {
+        if (name.endsWith("*")) {
+          prefixes.add(name.substring(0, name.length() - 1));
+          prefixFields.add(pos);
+        } else {
+          byName.computeIfAbsent(name, k -> new ArrayList<>()).add(pos);
+        }
+      }
+    }
+    fieldsByParamName = new HashMap<>(byName.size() * 2);
+    byName.forEach((name, fields) -> fieldsByParamName.put(name, fields.stream().mapToInt(Integer::intValue).distinct().toArray()));
+    wildcardPrefixes = prefixes.toArray(new String[0]);
+    wildcardFields = prefixFields.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  T bind(
+    @Nonnull T request,
+    @Nonnull Map<String, String[]> req,
+    @Nullable Map<String, String[]> httpReq,
+    @Nullable String prefix,
+    boolean includeSuperClass,
+    @Nullable RequestFieldInfo<?> currentField
+  ) throws Exception {
+    boolean[] present = findPresentFields(req, prefix);
+    for (int pos = 0; pos < infos.length; pos++) {
+      RequestFieldInfo<?> info = infos[pos];
+      if ((info == currentField) || (!includeSuperClass && info.isFromSuperClass())) {
+        continue;
+      }
+      if (alwaysProcess[pos] || present[pos]) {
+        info.process(request, req, prefix);
+      }
+    }
+    if (request.getClass() == type) {
+      for (ThrowingBiFunction<Map<String, String[]>, Object, ?> method : postProcessMethods) {
+        method.apply(req, request);
+      }
+    } else {
+      RequestFactory.applyDefaultPostProcessMethods(req, request);
+    }
+    RequestFieldInfo<?> requestBeanInfo = parserInfo.getRequestBeanInfo();
+    return requestBeanInfo == null ? request : requestBeanInfo.postProcess(httpReq, request);
+  }
+
+  Class<T> getType() {
+    return type;
+  }
+
+  private boolean[] findPresentFields(Map<String, String[]> req, String prefix) {
+    boolean[] present = new boolean[infos.length];
+    if (fieldsByParamName.isEmpty() && (wildcardPrefixes.length == 0)) {
+      return present;
+    }
+    int prefixLength = prefix == null ? 0 : prefix.length();
+    for (String key : req.keySet()) {
+      if ((key == null) || ((prefix != null) && !key.startsWith(prefix))) {
+        continue;
+      }
+      String name = prefixLength == 0 ? key : key.substring(prefixLength);
+      for (int pos = 0; pos < wildcardPrefixes.length; pos++) {
+        if (name.startsWith(wildcardPrefixes[pos])) {
+          present[wildcardFields[pos]] = true;
+        }
+      }
+      int end = name.length();
+      while (end > 0) {
+        int[] fields = fieldsByParamName.get(end == name.length() ? name : name.substring(0, end));
+        if (fields != null) {
+          for (int field : fields) {
+            present[field] = true;
+          }
+        }
+        end = lastSeparator(name, end);
+      }
+    }
+    return present;
+  }
+
+  private int lastSeparator(String name, int end) {
+    for (int pos = end - 1; pos > 0; pos--) {
+      char ch = name.charAt(pos);
+      if ((ch == '.') || (ch == '[')) {
+        return pos;
+      }
+    }
+    return -1;
+  }
+
+}
@@ -37,6 +37,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -99,10 +100,7 @@ public class RequestFactory {
   public static final String REQUEST_KEYS_PARAM = "requestKeys";
   private static final Set<Class<?>> ALLOW_JSON_PARAM_TYPES = Sets.newConcurrentHashSet();
   private static final FastHashMap<Class<?>, ThrowingBiFunction<Map<String, String[]>, ?, ?>> DEFAULT_POST_PROCESS_METHODS = new FastHashMap<>(true);
-  private static final Map<String, RequestParserInfo> INFO_CACHE = new HashMap<>();
-  private static final Logger LOG = LogManager.getLogger(RequestFactory.class);
-  private static final FastHashMap<Class<?>, ThrowingBiFunction<Map<String, String[]>, ?, ?>> POST_PROCESS_METHODS = new FastHashMap<>(true);
-  private static final FastHashMap<String, ThrowingBiFunction<Map<String, String[]>, String, ?>> PROCESS_METHODS = new FastHashMap<>(
+  private static final Map<String, ThrowingBiFunction<Map<String, String[]>, String, ?>> DEFAULT_PROCESS_METHODS =
     ImmutableMap.<String, ThrowingBiFunction<Map<String, String[]>, String, ?>>builder()
       .put("BigDecimal", RequestFactory::getBigDecimalParam)
       .put("Boolean", RequestFactory::getBooleanParam)
@@ -142,11 +140,18 @@ public class RequestFactory {
       .put("Set<String>", RequestFactory::getStringSetParam)
 
       .put("MergeConfig", RequestFactory::getMergeConfig)
-      .build(),
+      .build();
+  private static final Map<String, RequestParserInfo> INFO_CACHE = new ConcurrentHashMap<>();
+  private static final Logger LOG = LogManager.getLogger(RequestFactory.class);
+  private static final FastHashMap<Class<?>, ThrowingBiFunction<Map<String, String[]>, ?, ?>> POST_PROCESS_METHODS = new FastHashMap<>(true);
+  private static final FastHashMap<String, ThrowingBiFunction<Map<String, String[]>, String, ?>> PROCESS_METHODS = new FastHashMap<>(
+    DEFAULT_PROCESS_METHODS,
     true
   );
+  private static final Map<Pair<Class<?>, Boolean>, RequestBinder<?>> REQUEST_BINDERS = new ConcurrentHashMap<>();
   private static ThrowingBiFunction<RequestWrapper, String, Map<String, String[]>> requestDefaultsConfigApplier;
   private static boolean useNewRequestParser;
+  private static boolean useRequestBinders = BooleanUtils.toBoolean(System.getProperty("wtp.useRequestBinders"));
 
   public static boolean addAllowJsonParamTypes(@Nonnull Class<?>... types) {
     assert Checks.isNotEmpty(types);
@@ -158,7 +163,11 @@ public class RequestFactory {
     @Nonnull ThrowingBiFunction<Map<String, String[]>, T, T> method
   ) {
     assert ((type != null) && (method != null));
-    return (ThrowingBiFunction<Map<String, String[]>, T, T>) DEFAULT_POST_PROCESS_METHODS.put(type, method);
+    try {
+      return (ThrowingBiFunction<Map<String, String[]>, T, T>) DEFAULT_POST_PROCESS_METHODS.put(type, method);
+    } finally {
+      REQUEST_BINDERS.clear();
+    }
   }
 
   public static <T> ThrowingBiFunction<Map<String, String[]>, T, T> addPostProcessMethod(
@@ -169,9 +178,7 @@ public class RequestFactory {
     try {
       return (ThrowingBiFunction<Map<String, String[]>, T, T>) POST_PROCESS_METHODS.put(type, method);
     } finally {
-      synchronized (INFO_CACHE) {
-        INFO_CACHE.clear();
-      }
+      clearInfoCache();
     }
   }
 
@@ -183,15 +190,14 @@ public class RequestFactory {
     try {
       return PROCESS_METHODS.put(fieldDisplay, method);
     } finally {
-      synchronized (INFO_CACHE) {
-        INFO_CACHE.clear();
-      }
+      clearInfoCache();
     }
   }
 
   public static void clearInfoCache() {
     synchronized (INFO_CACHE) {
       INFO_CACHE.clear();
+      REQUEST_BINDERS.clear();
     }
   }
 
@@ -291,6 +297,9 @@ public class RequestFactory {
         Logs.logWarn(LOG, "Trying to deserialize instance of bean from JSON request param, but this type is not enabled: type=%s", clazz);
       }
       T request = current == null ? ClassUtil.createInstance(clazz, false) : current;
+      if (useRequestBinders && !useNewRequestParser) {
+        return getRequestBinder(clazz, requireAnnotation).bind(request, req, httpReq, prefix, includeSuperClass, currentField);
+      }
       RequestParserInfo parserInfo = getRequestParserInfo(clazz, requireAnnotation);
       if (useNewRequestParser) {
         Map<String, RequestFieldInfo<?>> infos = parserInfo.getInfosMap();
@@ -313,16 +322,7 @@ public class RequestFactory {
           }
         }
       }
-      if (!DEFAULT_POST_PROCESS_METHODS.isEmpty()) {
-        for (Entry<Class<?>, ThrowingBiFunction<Map<String, String[]>, ?, ?>> e : DEFAULT_POST_PROCESS_METHODS
-          .entrySet()
-          .stream()
-          .filter(e -> e.getKey().isAssignableFrom(request.getClass()))
-          .collect(Collectors.toList())) {
-          ThrowingBiFunction<Map<String, String[]>, T, T> method = (ThrowingBiFunction<Map<String, String[]>, T, T>) e.getValue();
-          method.apply(req, request);
-        }
-      }
+      applyDefaultPostProcessMethods(req, request);
       return Lambdas
         .functionIfNonNull(parserInfo.getRequestBeanInfo(), requestBeanInfo -> requestBeanInfo.postProcess(httpReq, request))
         .orElse(request);
@@ -1630,6 +1630,14 @@ public class RequestFactory {
     RequestFactory.useNewRequestParser = useNewRequestParser;
   }
 
+  public static boolean isUseRequestBinders() {
+    return useRequestBinders;
+  }
+
+  public static void setUseRequestBinders(boolean useRequestBinders) {
+    RequestFactory.useRequestBinders = useRequestBinders;
+  }
+
   public static <T> T parseFromPossiblePathKeyParams(Map<String, String[]> request, String paramName, Class<T> type, T data) {
     return parseFromPossiblePathKeyParams(request, paramName, Serializer.constructType(type), data);
   }
@@ -1698,10 +1706,42 @@ public class RequestFactory {
     try {
       return PROCESS_METHODS.remove(fieldDisplay);
     } finally {
-      synchronized (INFO_CACHE) {
-        INFO_CACHE.clear();
+      clearInfoCache();
+    }
+  }
+
+  static void applyDefaultPostProcessMethods(Map<String, String[]> req, Object request) throws Exception {
+    if (!DEFAULT_POST_PROCESS_METHODS.isEmpty()) {
+      for (ThrowingBiFunction<Map<String, String[]>, Object, ?> method : getDefaultPostProcessMethods(request.getClass())) {
+        method.apply(req, request);
+      }
+    }
+  }
+
+  static boolean isDefaultProcessMethod(@Nonnull String fieldDisplay, @Nullable Object method) {
+    return (method != null) && (DEFAULT_PROCESS_METHODS.get(fieldDisplay) == method);
+  }
+
+  private static List<ThrowingBiFunction<Map<String, String[]>, Object, ?>> getDefaultPostProcessMethods(Class<?> type) {
+    return DEFAULT_POST_PROCESS_METHODS
+      .entrySet()
+      .stream()
+      .filter(e -> e.getKey().isAssignableFrom(type))
+      .map(e -> (ThrowingBiFunction<Map<String, String[]>, Object, ?>) e.getValue())
+      .collect(Collectors.toList());
+  }
+
+  private static <T> RequestBinder<T> getRequestBinder(Class<T> clazz, boolean requireAnnotation) {
+    Pair<Class<?>, Boolean> key = Pair.of(clazz, requireAnnotation);
+    RequestBinder<T> binder = (RequestBinder<T>) REQUEST_BINDERS.get(key);
+    if (binder == null) {
+      binder = new RequestBinder<>(clazz, getRequestParserInfo(clazz, requireAnnotation), getDefaultPostProcessMethods(clazz));
+      RequestBinder<T> existing = (RequestBinder<T>) REQUEST_BINDERS.putIfAbsent(key, binder);
+      if (existing != null) {
+        binder = existing;
       }
     }
+    return binder;
   }
 
   private static <T extends Collection<E>, E> T parseCollectionParamVal(
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -55,12 +56,14 @@ public class RequestFieldInfo<V> {
   private boolean hasAdditionalParameterNames;
   private Parameter param;
   private String paramName;
+  private boolean paramPresenceRequired;
   private Class<?> parentClass;
   private RequestParameterParser<V> parser;
   private ThrowingBiFunction<Map<String, String[]>, Object, ?> postProcessFunction;
   private List<String> prefixes;
   private ThrowingBiFunction<Map<String, String[]>, String, V> processFunction;
   private ThrowingTriFunction<Map<String, String[]>, String, String, V> processFunctionWithPrefix;
+  private BiConsumer<Object, Object> setterFunction;
   private Method setterMethod;
   private Class<V> type;
   private boolean validField = true;
@@ -116,17 +119,7 @@ public class RequestFieldInfo<V> {
   }
 
   public List<String> getParamNames() {
-    List<String> paramNames = new ArrayList<>();
-    if (customPojoField) {
-      return paramNames;
-    }
-    Lambdas.functionIfNonNull(paramName, paramNames::add);
-    Lambdas.functionIfNonNull(hasAdditionalParameterNames ? Arrays.asList(annotation.additionalParameterNames()) : null, paramNames::addAll);
-    Lambdas.functionIfTrue(
-      paramNames.stream().map(WordUtil::getSingularVersionOfWord).filter(Objects::nonNull).collect(Collectors.toList()),
-      Checks::isNotEmpty,
-      paramNames::addAll
-    );
+    List<String> paramNames = getUnprefixedParamNames();
     return isNotEmpty(prefixes) && isNotEmpty(paramNames) ?
       paramNames.stream().flatMap(name -> prefixes.stream().map(prefix -> prefix.concat(name))).collect(Collectors.toList())
       : paramNames;
@@ -152,6 +145,21 @@ public class RequestFieldInfo<V> {
     return type;
   }
 
+  public List<String> getUnprefixedParamNames() {
+    List<String> paramNames = new ArrayList<>();
+    if (customPojoField) {
+      return paramNames;
+    }
+    Lambdas.functionIfNonNull(paramName, paramNames::add);
+    Lambdas.functionIfNonNull(hasAdditionalParameterNames ? Arrays.asList(annotation.additionalParameterNames()) : null, paramNames::addAll);
+    Lambdas.functionIfTrue(
+      paramNames.stream().map(WordUtil::getSingularVersionOfWord).filter(Objects::nonNull).collect(Collectors.toList()),
+      Checks::isNotEmpty,
+      paramNames::addAll
+    );
+    return paramNames;
+  }
+
   public <T> T getVal(Object request, Map<String, String[]> req) {
     return getVal(request, req, null);
   }
@@ -212,6 +220,10 @@ public class RequestFieldInfo<V> {
     return hasAdditionalParameterNames;
   }
 
+  public boolean isParamPresenceRequired() {
+    return paramPresenceRequired;
+  }
+
   public boolean isValidField() {
     return validField;
   }
@@ -234,7 +246,7 @@ public class RequestFieldInfo<V> {
   public <T> void process(T request, Map<String, String[]> req, String prefix) {
     Object val = getVal(request, req, prefix);
     try {
-      setterMethod.invoke(request, val);
+      setterFunction.accept(request, val);
     } catch (Throwable e) {
       Logs.logError(
         LOG,
@@ -269,6 +281,7 @@ public class RequestFieldInfo<V> {
       if (fieldDisplay != null) {
         processFunction = (ThrowingBiFunction<Map<String, String[]>, String, V>) RequestFactory.getProcessMethod(fieldDisplay);
         if (processFunction != null) {
+          paramPresenceRequired = RequestFactory.isDefaultProcessMethod(fieldDisplay, processFunction);
           Logs.logDebug(LOG, "Found @RequestField field processing function via field display: fieldDisplay=%s", fieldDisplay);
           return;
         }
@@ -276,6 +289,7 @@ public class RequestFieldInfo<V> {
           Logs.logInfo(LOG, "Missing @RequestField field processing function via field display: fieldDisplay=%s", fieldDisplay);
         }
       }
+      paramPresenceRequired = !checkIfCustomPojoField();
       if (type.isEnum()) {
         processFunction = (request, paramName) -> (V) RequestFactory.getEnumParam(request, paramName, (Class<? extends Enum>) type);
       } else if (Collection.class.isAssignableFrom(type)) {
@@ -393,6 +407,7 @@ public class RequestFieldInfo<V> {
       setterMethod = Reflections.getSetterForField(parentClass, name);
       if (setterMethod != null) {
         setterMethod.setAccessible(true);
+        setterFunction = Reflections.createSetterFunction(setterMethod);
       } else {
         validField = false;
         return;
@@ -0,0 +1,103 @@
+package com.lancethomps.lava.common.web.throttle;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RateLimitBucket {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+  private final AtomicLong theoreticalArrivalTime;
+
+  public RateLimitBucket() {
+    this(System.nanoTime());
+  }
+
+  public RateLimitBucket(long now) {
+    super();
+    this.theoreticalArrivalTime = new AtomicLong(now);
+  }
+
+  public static long getEmissionInterval(double requestsPerSecond) {
+    if (requestsPerSecond <= 0) {
+      throw new IllegalArgumentException("requestsPerSecond must be greater than 0");
+    }
+    return Math.max(1L, (long) (NANOS_PER_SECOND / requestsPerSecond));
+  }
+
+  public boolean isIdle(long now, long idleNanos) {
+    return (now - theoreticalArrivalTime.get()) >= idleNanos;
+  }
+
+  public Result tryAcquire(double requestsPerSecond, int burst) {
+    return tryAcquire(System.nanoTime(), requestsPerSecond, burst);
+  }
+
+  public Result tryAcquire(long now, double requestsPerSecond, int burst) {
+    int limit = Math.max(1, burst);
+    long interval = getEmissionInterval(requestsPerSecond);
+    long tolerance = interval * limit;
+    while (true) {
+      long tat = theoreticalArrivalTime.get();
+      long start = (tat - now) > 0 ? tat : now;
+      long newTat = start + interval;
+      long allowAt = newTat - tolerance;
+      if ((allowAt - now) > 0) {
+        return new Result(false, limit, 0, start - now, allowAt - now);
+      }
+      if (theoreticalArrivalTime.compareAndSet(tat, newTat)) {
+        return new Result(true, limit, (int) ((tolerance - (newTat - now)) / interval), newTat - now, 0L);
+      }
+    }
+  }
+
+  public static final class Result {
+
+    private final boolean allowed;
+    private final int limit;
+    private final int remaining;
+    private final long resetNanos;
+    private final long retryAfterNanos;
+
+    Result(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+      this.allowed = allowed;
+      this.limit = limit;
+      this.remaining = remaining;
+      this.resetNanos = resetNanos;
+      this.retryAfterNanos = retryAfterNanos;
+    }
+
+    private static long toSeconds(long nanos) {
+      return nanos <= 0 ? 0L : ((nanos + NANOS_PER_SECOND) - 1) / NANOS_PER_SECOND;
+    }
+
+    public int getLimit() {
+      return limit;
+    }
+
+    public int getRemaining() {
+      return remaining;
+    }
+
+    public long getResetNanos() {
+      return resetNanos;
+    }
+
+    public long getResetSeconds() {
+      return toSeconds(resetNanos);
+    }
+
+    public long getRetryAfterNanos() {
+      return retryAfterNanos;
+    }
+
+    public long getRetryAfterSeconds() {
+      return Math.max(1L, toSeconds(retryAfterNanos));
+    }
+
+    public boolean isAllowed() {
+      return allowed;
+    }
+
+  }
+
+}
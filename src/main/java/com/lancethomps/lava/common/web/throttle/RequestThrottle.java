@@ -1,11 +1,16 @@
 package com.lancethomps.lava.common.web.throttle;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
@@ -27,6 +32,7 @@ import org.springframework.web.servlet.ModelAndView;
 
 import com.lancethomps.lava.common.Checks;
 import com.lancethomps.lava.common.DynamicDataSetter;
+import com.lancethomps.lava.common.concurrent.CustomNamingThreadFactory;
 import com.lancethomps.lava.common.logging.Logs;
 import com.lancethomps.lava.common.ser.OutputFormat;
 import com.lancethomps.lava.common.ser.Serializer;
@@ -34,7 +40,7 @@ import com.lancethomps.lava.common.web.DataView;
 import com.lancethomps.lava.common.web.RequestThrottleContextInitializer;
 import com.lancethomps.lava.common.web.WebRequestContext;
 
-public class RequestThrottle implements HandlerInterceptor {
+public class RequestThrottle implements AutoCloseable, HandlerInterceptor {
 
   public static final AtomicLong OPEN_REQUEST_COUNT = new AtomicLong(0);
 
@@ -42,8 +48,12 @@ public class RequestThrottle implements HandlerInterceptor {
 
   public static final String RATE_LIMIT_REMAINING_HEADER = "X-RateLimit-Remaining";
 
+  public static final String RATE_LIMIT_RESET_HEADER = "X-RateLimit-Reset";
+
   public static final AtomicLong REQUEST_COUNT = new AtomicLong(0);
 
+  public static final String RETRY_AFTER_HEADER = "Retry-After";
+
   private static final String IP_PREFIX = "ip.";
 
   private static final Logger LOG = LogManager.getLogger(RequestThrottle.class);
@@ -53,10 +63,13 @@ public class RequestThrottle implements HandlerInterceptor {
   private static final String UNKNOWN = "unknown";
 
   private static final String USER_PREFIX = "user.";
+  private static ScheduledThreadPoolExecutor sweeperExecutor;
+  private final Map<String, RateLimitBucket> buckets = new ConcurrentHashMap<>();
   private final Map<String, AtomicInteger> throttle = new ConcurrentHashMap<>();
   private RequestThrottleConfig config = new RequestThrottleConfig();
   @Autowired(required = false)
   private RequestThrottleContextInitializer requestInitializer;
+  private volatile ScheduledFuture<?> sweeper;
 
   public static Map<String, Integer> getThrottleCounts(Map<String, AtomicInteger> throttle, boolean includeZeroOpenRequests) {
     return new ArrayList<>(throttle.entrySet())
@@ -65,6 +78,21 @@ public class RequestThrottle implements HandlerInterceptor {
       .collect(Collectors.toMap(Entry::getKey, e -> e.getValue().get(), (a, b) -> a, TreeMap::new));
   }
 
+  public static synchronized void shutdownSweeper() {
+    if (sweeperExecutor != null) {
+      sweeperExecutor.shutdownNow().forEach(task -> ((Future<?>) task).cancel(false));
+      sweeperExecutor = null;
+    }
+  }
+
+  private static synchronized ScheduledThreadPoolExecutor getSweeperExecutor() {
+    if (sweeperExecutor == null) {
+      sweeperExecutor = new ScheduledThreadPoolExecutor(1, new CustomNamingThreadFactory("request-throttle-sweeper", null, true));
+      sweeperExecutor.setRemoveOnCancelPolicy(true);
+    }
+    return sweeperExecutor;
+  }
+
   public void afterCompletion(HttpServletRequest request) {
     if (shouldDecrementRequestCount(request)) {
       String throttledUserId = (String) request.getAttribute(THROTTLED_USER_KEY);
@@ -77,10 +105,19 @@ public class RequestThrottle implements HandlerInterceptor {
     afterCompletion(request);
   }
 
+  @Override
+  public void close() {
+    stopSweeper();
+  }
+
   public int decrementRequestCount(String user) {
     return Optional.ofNullable(throttle.get(user)).map(count -> count.decrementAndGet()).orElse(0);
   }
 
+  public int getBucketCount() {
+    return buckets.size();
+  }
+
   public RequestThrottleConfig getConfig() {
     return config;
   }
@@ -90,8 +127,16 @@ public class RequestThrottle implements HandlerInterceptor {
   }
 
   public int getRequestCount(String user, boolean addToCount) {
-    AtomicInteger requestCount = throttle.computeIfAbsent(user, k -> new AtomicInteger(0));
-    return addToCount ? requestCount.getAndAdd(1) : requestCount.get();
+    if (!addToCount) {
+      return Optional.ofNullable(throttle.get(user)).map(AtomicInteger::get).orElse(0);
+    }
+    int[] previous = new int[1];
+    throttle.compute(user, (key, count) -> {
+      AtomicInteger requestCount = count == null ? new AtomicInteger(0) : count;
+      previous[0] = requestCount.getAndIncrement();
+      return requestCount;
+    });
+    return previous[0];
   }
 
   public Map<String, Integer> getThrottleCounts() {
@@ -102,6 +147,11 @@ public class RequestThrottle implements HandlerInterceptor {
     return getThrottleCounts(throttle, includeZeroOpenRequests);
   }
 
+  public boolean isSweeperRunning() {
+    ScheduledFuture<?> current = sweeper;
+    return (current != null) && !current.isDone();
+  }
+
   @Override
   public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) throws Exception {
   }
@@ -118,6 +168,39 @@ public class RequestThrottle implements HandlerInterceptor {
     this.requestInitializer = requestInitializer;
   }
 
+  public synchronized void startSweeper() {
+    long interval = config.getSweepIntervalSeconds();
+    if (!isSweeperRunning() && (interval > 0)) {
+      SweepTask task = new SweepTask(this);
+      sweeper = getSweeperExecutor().scheduleWithFixedDelay(task, interval, interval, TimeUnit.SECONDS);
+      task.future = sweeper;
+    }
+  }
+
+  public synchronized void stopSweeper() {
+    if (sweeper != null) {
+      sweeper.cancel(false);
+      sweeper = null;
+    }
+  }
+
+  public int sweep() {
+    long idleNanos = TimeUnit.SECONDS.toNanos(Math.max(0L, config.getIdleKeyTimeoutSeconds()));
+    long now = System.nanoTime();
+    int removed = 0;
+    for (String user : throttle.keySet()) {
+      if (throttle.computeIfPresent(user, (key, count) -> count.get() <= 0 ? null : count) == null) {
+        removed++;
+      }
+    }
+    for (Entry<String, RateLimitBucket> entry : buckets.entrySet()) {
+      if (entry.getValue().isIdle(now, idleNanos) && buckets.remove(entry.getKey(), entry.getValue())) {
+        removed++;
+      }
+    }
+    return removed;
+  }
+
   public boolean shouldDecrementRequestCount(HttpServletRequest request) {
     return request.getAttribute(THROTTLED_USER_KEY) != null;
   }
@@ -155,6 +238,10 @@ public class RequestThrottle implements HandlerInterceptor {
     return throttle(context, data, null);
   }
 
+  public RateLimitBucket.Result tryAcquire(String user) {
+    return buckets.computeIfAbsent(user, k -> new RateLimitBucket()).tryAcquire(config.getRequestsPerSecond(user), config.getBurst(user));
+  }
+
   private Pair<String, Integer> getRequestCount(RequestThrottleContext context, boolean addToCount) {
     String user = getUser(context);
     return Pair.of(user, getRequestCount(user, addToCount));
@@ -171,8 +258,25 @@ public class RequestThrottle implements HandlerInterceptor {
       });
   }
 
+  private void sweepSafely() {
+    try {
+      int removed = sweep();
+      if (removed > 0) {
+        Logs.logTrace(LOG, "Removed [%s] idle request throttle keys", removed);
+      }
+    } catch (Throwable e) {
+      Logs.logError(LOG, e, "Error sweeping idle request throttle keys");
+    }
+  }
+
   private String throttle(@Nonnull RequestThrottleContext context, @Nonnull DynamicDataSetter data, @Nullable HttpServletResponse response)
     throws RequestThrottleException {
+    if (!isSweeperRunning()) {
+      startSweeper();
+    }
+    if (config.getMode() == RequestThrottleMode.RATE) {
+      return throttleRate(context, data, response);
+    }
     Pair<String, Integer> openRequests = getRequestCount(context, true);
     int maxRequests = config.getMaxRequestsByUser().getOrDefault(openRequests.getLeft(), config.getDefaultMaxRequests());
     int remaining = maxRequests - openRequests.getRight().intValue();
@@ -180,22 +284,61 @@ public class RequestThrottle implements HandlerInterceptor {
     data.setDataPoint(RATE_LIMIT_REMAINING_HEADER, remaining);
     if (remaining <= 0) {
       decrementRequestCount(openRequests.getLeft());
-      if (response != null) {
-        response.setStatus(429);
-        response.setContentType(OutputFormat.CONTENT_TYPE_JSON);
-      }
-      Map<String, Object> errorData = new TreeMap<>();
-      errorData.put("message", String.format("Rate limit exceeded for '%s'.", openRequests.getLeft()));
-      if (response != null) {
-        try {
-          new DataView(Serializer.toPrettyJson(errorData)).writeData(null, response);
-        } catch (Exception e) {
-          Logs.logError(LOG, e, "Could not write request throttle error data to response.");
-        }
-      }
+      writeThrottledResponse(openRequests.getLeft(), response);
       throw new RequestThrottleException(openRequests.getLeft(), maxRequests);
     }
     return openRequests.getLeft();
   }
 
+  private String throttleRate(@Nonnull RequestThrottleContext context, @Nonnull DynamicDataSetter data, @Nullable HttpServletResponse response)
+    throws RequestThrottleException {
+    String user = getUser(context);
+    RateLimitBucket.Result result = tryAcquire(user);
+    data.setDataPoint(RATE_LIMIT_HEADER, result.getLimit());
+    data.setDataPoint(RATE_LIMIT_REMAINING_HEADER, result.getRemaining());
+    data.setDataPoint(RATE_LIMIT_RESET_HEADER, result.getResetSeconds());
+    if (!result.isAllowed()) {
+      data.setDataPoint(RETRY_AFTER_HEADER, result.getRetryAfterSeconds());
+      writeThrottledResponse(user, response);
+      throw new RequestThrottleException(user, result.getLimit()).setRetryAfterSeconds(result.getRetryAfterSeconds());
+    }
+    return user;
+  }
+
+  private void writeThrottledResponse(String user, @Nullable HttpServletResponse response) {
+    if (response == null) {
+      return;
+    }
+    response.setStatus(429);
+    response.setContentType(OutputFormat.CONTENT_TYPE_JSON);
+    Map<String, Object> errorData = new TreeMap<>();
+    errorData.put("message", String.format("Rate limit exceeded for '%s'.", user));
+    try {
+      new DataView(Serializer.toPrettyJson(errorData)).writeData(null, response);
+    } catch (Exception e) {
+      Logs.logError(LOG, e, "Could not write request throttle error data to response.");
+    }
+  }
+
+  private static final class SweepTask implements Runnable {
+
+    private volatile ScheduledFuture<?> future;
+    private final WeakReference<RequestThrottle> throttle;
+
+    SweepTask(RequestThrottle throttle) {
+      this.throttle = new WeakReference<>(throttle);
+    }
+
+    @Override
+    public void run() {
+      RequestThrottle current = throttle.get();
+      if (current != null) {
+        current.sweepSafely();
+      } else if (future != null) {
+        future.cancel(false);
+      }
+    }
+
+  }
+
 }
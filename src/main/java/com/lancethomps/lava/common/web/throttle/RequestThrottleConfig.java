@@ -11,12 +11,26 @@ public class RequestThrottleConfig {
 
   private List<Pattern> blackList;
 
+  private Map<String, Integer> burstByUser = new HashMap<>();
+
   private boolean byUser = true;
 
+  private int defaultBurst = 20;
+
   private int defaultMaxRequests = 20;
 
+  private double defaultRequestsPerSecond = 10d;
+
+  private long idleKeyTimeoutSeconds = 300L;
+
   private Map<String, Integer> maxRequestsByUser = new HashMap<>();
 
+  private RequestThrottleMode mode = RequestThrottleMode.CONCURRENT;
+
+  private Map<String, Double> requestsPerSecondByUser = new HashMap<>();
+
+  private long sweepIntervalSeconds = 60L;
+
   private List<Pattern> whiteList;
 
   public List<Pattern> getBlackList() {
@@ -28,6 +42,28 @@ public class RequestThrottleConfig {
     return this;
   }
 
+  public int getBurst(String user) {
+    return burstByUser.getOrDefault(user, defaultBurst);
+  }
+
+  public Map<String, Integer> getBurstByUser() {
+    return burstByUser;
+  }
+
+  public RequestThrottleConfig setBurstByUser(@Nonnull Map<String, Integer> burstByUser) {
+    this.burstByUser = burstByUser;
+    return this;
+  }
+
+  public int getDefaultBurst() {
+    return defaultBurst;
+  }
+
+  public RequestThrottleConfig setDefaultBurst(int defaultBurst) {
+    this.defaultBurst = defaultBurst;
+    return this;
+  }
+
   public int getDefaultMaxRequests() {
     return defaultMaxRequests;
   }
@@ -37,6 +73,24 @@ public class RequestThrottleConfig {
     return this;
   }
 
+  public double getDefaultRequestsPerSecond() {
+    return defaultRequestsPerSecond;
+  }
+
+  public RequestThrottleConfig setDefaultRequestsPerSecond(double defaultRequestsPerSecond) {
+    this.defaultRequestsPerSecond = defaultRequestsPerSecond;
+    return this;
+  }
+
+  public long getIdleKeyTimeoutSeconds() {
+    return idleKeyTimeoutSeconds;
+  }
+
+  public RequestThrottleConfig setIdleKeyTimeoutSeconds(long idleKeyTimeoutSeconds) {
+    this.idleKeyTimeoutSeconds = idleKeyTimeoutSeconds;
+    return this;
+  }
+
   public Map<String, Integer> getMaxRequestsByUser() {
     return maxRequestsByUser;
   }
@@ -46,6 +100,37 @@ public class RequestThrottleConfig {
     return this;
   }
 
+  public RequestThrottleMode getMode() {
+    return mode;
+  }
+
+  public RequestThrottleConfig setMode(@Nonnull RequestThrottleMode mode) {
+    this.mode = mode;
+    return this;
+  }
+
+  public double getRequestsPerSecond(String user) {
+    return requestsPerSecondByUser.getOrDefault(user, defaultRequestsPerSecond);
+  }
+
+  public Map<String, Double> getRequestsPerSecondByUser() {
+    return requestsPerSecondByUser;
+  }
+
+  public RequestThrottleConfig setRequestsPerSecondByUser(@Nonnull Map<String, Double> requestsPerSecondByUser) {
+    this.requestsPerSecondByUser = requestsPerSecondByUser;
+    return this;
+  }
+
+  public long getSweepIntervalSeconds() {
+    return sweepIntervalSeconds;
+  }
+
+  public RequestThrottleConfig setSweepIntervalSeconds(long sweepIntervalSeconds) {
+    this.sweepIntervalSeconds = sweepIntervalSeconds;
+    return this;
+  }
+
   public List<Pattern> getWhiteList() {
     return whiteList;
   }
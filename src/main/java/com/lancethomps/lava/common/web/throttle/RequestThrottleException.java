@@ -10,6 +10,8 @@ public class RequestThrottleException extends Exception {
 
   private Integer maxRequests;
 
+  private Long retryAfterSeconds;
+
   private String user;
 
   public RequestThrottleException(String message) {
@@ -49,6 +51,15 @@ public class RequestThrottleException extends Exception {
     return this;
   }
 
+  public Long getRetryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  public RequestThrottleException setRetryAfterSeconds(Long retryAfterSeconds) {
+    this.retryAfterSeconds = retryAfterSeconds;
+    return this;
+  }
+
   public String getUser() {
     return user;
   }
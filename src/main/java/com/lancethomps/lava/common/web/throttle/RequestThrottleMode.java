@@ -0,0 +1,19 @@
+package com.lancethomps.lava.common.web.throttle;
+
+import com.lancethomps.lava.common.Enums;
+
+public enum RequestThrottleMode {
+
+  CONCURRENT,
+
+  RATE;
+
+  static {
+    Enums.createStringToTypeMap(RequestThrottleMode.class);
+  }
+
+  public static RequestThrottleMode fromString(String val) {
+    return Enums.fromString(RequestThrottleMode.class, val);
+  }
+
+}
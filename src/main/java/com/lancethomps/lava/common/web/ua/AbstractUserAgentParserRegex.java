@@ -1,7 +1,9 @@
 package com.lancethomps.lava.common.web.ua;
 
+import java.util.Locale;
 import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.lancethomps.lava.common.Patterns;
 import com.lancethomps.lava.common.ser.ExternalizableBean;
 
@@ -13,11 +15,17 @@ public abstract class AbstractUserAgentParserRegex extends ExternalizableBean {
 
   private String regexFlag;
 
+  @JsonIgnore
+  private transient String requiredLiteral;
+
+  @JsonIgnore
+  private transient boolean requiredLiteralIgnoreCase;
+
   @Override
   public void afterDeserialization() {
     super.afterDeserialization();
     if (regex != null) {
-      parsedRegex = Pattern.compile(regex, Patterns.asOptions(regexFlag));
+      setParsedRegex(Pattern.compile(regex, Patterns.asOptions(regexFlag)));
     }
   }
 
@@ -27,6 +35,7 @@ public abstract class AbstractUserAgentParserRegex extends ExternalizableBean {
 
   public void setParsedRegex(Pattern parsedRegex) {
     this.parsedRegex = parsedRegex;
+    updateRequiredLiteral();
   }
 
   public String getRegex() {
@@ -45,4 +54,25 @@ public abstract class AbstractUserAgentParserRegex extends ExternalizableBean {
     this.regexFlag = regexFlag;
   }
 
+  public String getRequiredLiteral() {
+    return requiredLiteral;
+  }
+
+  public boolean isRequiredLiteralIgnoreCase() {
+    return requiredLiteralIgnoreCase;
+  }
+
+  private void updateRequiredLiteral() {
+    String literal = parsedRegex == null ? null : Patterns.findRequiredLiteral(parsedRegex.pattern());
+    boolean ignoreCase = (parsedRegex != null) && ((parsedRegex.flags() & Pattern.CASE_INSENSITIVE) != 0);
+    if ((literal != null) && ignoreCase) {
+      literal = literal.chars().allMatch(ch -> ch < 128) ? literal.toLowerCase(Locale.ROOT) : null;
+    }
+    if ((literal != null) && ((parsedRegex.flags() & (Pattern.COMMENTS | Pattern.LITERAL)) != 0)) {
+      literal = null;
+    }
+    requiredLiteral = literal;
+    requiredLiteralIgnoreCase = ignoreCase;
+  }
+
 }
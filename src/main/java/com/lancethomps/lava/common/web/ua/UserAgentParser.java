@@ -2,6 +2,14 @@ package com.lancethomps.lava.common.web.ua;
 
 import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 
 import org.apache.commons.lang3.StringUtils;
@@ -19,6 +27,12 @@ public class UserAgentParser {
   private static final String DEFAULT_VALUE = "Other";
   private static final Logger LOG = LogManager.getLogger(UserAgentParser.class);
   private UserAgentParserConfig config;
+  private ParserIndex<DeviceParserRegex> deviceIndex;
+  private ParserIndex<OsParserRegex> osIndex;
+  private final LongAdder parseCount = new LongAdder();
+  private final LongAdder regexesSkipped = new LongAdder();
+  private final LongAdder regexesTried = new LongAdder();
+  private ParserIndex<UserAgentParserRegex> userAgentIndex;
 
   public UserAgentParser() {
     this(
@@ -31,64 +45,133 @@ public class UserAgentParser {
 
   public UserAgentParser(UserAgentParserConfig config) {
     super();
-    this.config = config;
+    setConfig(config);
+  }
+
+  public double getAverageRegexesTried() {
+    long parses = parseCount.sum();
+    return parses == 0 ? 0d : regexesTried.sum() / (double) parses;
   }
 
   public UserAgentParserConfig getConfig() {
     return config;
   }
 
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new TreeMap<>();
+    long parses = parseCount.sum();
+    stats.put("average_regexes_skipped", parses == 0 ? 0d : regexesSkipped.sum() / (double) parses);
+    stats.put("average_regexes_tried", getAverageRegexesTried());
+    stats.put("parse_count", parses);
+    stats.put("regexes_skipped_count", regexesSkipped.sum());
+    stats.put("regexes_tried_count", regexesTried.sum());
+    return stats;
+  }
+
+  public void resetStats() {
+    parseCount.reset();
+    regexesSkipped.reset();
+    regexesTried.reset();
+  }
+
   public void setConfig(UserAgentParserConfig config) {
     this.config = config;
+    userAgentIndex = new ParserIndex<>(config == null ? null : config.getUserAgentParsers());
+    osIndex = new ParserIndex<>(config == null ? null : config.getOsParsers());
+    deviceIndex = new ParserIndex<>(config == null ? null : config.getDeviceParsers());
   }
 
   public UserAgent parse(String agentString) {
     UserAgent ua = new UserAgent().setBrowser(DEFAULT_VALUE);
+    parseCount.increment();
     try {
-      for (UserAgentParserRegex parser : config.getUserAgentParsers()) {
-        Matcher matcher = parser.getParsedRegex().matcher(agentString);
-
-        if (matcher.find()) {
-          ua.setBrowser(defaultIfBlank(Patterns.replace(matcher, Checks.defaultIfNull(parser.getFamilyReplacement(), "$1")), DEFAULT_VALUE));
-          ua.setBrowserVersionMajor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getV1Replacement(), "$2"))));
-          ua.setBrowserVersionMinor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getV2Replacement(), "$3"))));
-          ua.setBrowserVersionPatch(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getV3Replacement(), "$4"))));
-          break;
+      String lowerAgent = agentString.toLowerCase(Locale.ROOT);
+      userAgentIndex.find(agentString, lowerAgent, (parser, matcher) -> {
+        ua.setBrowser(defaultIfBlank(Patterns.replace(matcher, Checks.defaultIfNull(parser.getFamilyReplacement(), "$1")), DEFAULT_VALUE));
+        ua.setBrowserVersionMajor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getV1Replacement(), "$2"))));
+        ua.setBrowserVersionMinor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getV2Replacement(), "$3"))));
+        ua.setBrowserVersionPatch(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getV3Replacement(), "$4"))));
+      });
+
+      osIndex.find(agentString, lowerAgent, (parser, matcher) -> {
+        ua.setOs(StringUtils.defaultIfBlank(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsReplacement(), "$1")), DEFAULT_VALUE));
+        ua.setOsVersionMajor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV1Replacement(), "$2"))));
+        ua.setOsVersionMinor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV2Replacement(), "$3"))));
+        ua.setOsVersionPatch(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV3Replacement(), "$4"))));
+        ua.setOsVersionPatchMinor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV4Replacement(), "$5"))));
+      });
+
+      deviceIndex.find(agentString, lowerAgent, (parser, matcher) -> {
+        ua.setDeviceFamily(StringUtils.defaultIfBlank(
+          Patterns.replace(matcher, Checks.defaultIfNull(parser.getDeviceReplacement(), "$1")),
+          DEFAULT_VALUE
+        ));
+        if (parser.getBrandReplacement() != null) {
+          ua.setDeviceBrand(StringUtils.trimToNull(Patterns.replace(matcher, parser.getBrandReplacement())));
         }
-      }
-
-      for (OsParserRegex parser : config.getOsParsers()) {
-        Matcher matcher = parser.getParsedRegex().matcher(agentString);
+        ua.setDeviceModel(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getModelReplacement(), "$1"))));
+      });
+    } catch (Throwable e) {
+      Logs.logError(LOG, e, "Issue while parsing User-Agent [%s]", agentString);
+    }
+    return ua;
+  }
 
-        if (matcher.find()) {
-          ua.setOs(StringUtils.defaultIfBlank(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsReplacement(), "$1")), DEFAULT_VALUE));
-          ua.setOsVersionMajor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV1Replacement(), "$2"))));
-          ua.setOsVersionMinor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV2Replacement(), "$3"))));
-          ua.setOsVersionPatch(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV3Replacement(), "$4"))));
-          ua.setOsVersionPatchMinor(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getOsV4Replacement(), "$5"))));
-          break;
-        }
+  private final class ParserIndex<T extends AbstractUserAgentParserRegex> {
+
+    private final int[] literalIds;
+    private final boolean[] literalIgnoreCase;
+    private final String[] literals;
+    private final List<T> parsers;
+
+    ParserIndex(List<T> parsers) {
+      this.parsers = parsers == null ? Collections.emptyList() : parsers;
+      literalIds = new int[this.parsers.size()];
+      Map<String, Integer> ids = new HashMap<>();
+      for (int pos = 0; pos < literalIds.length; pos++) {
+        T parser = this.parsers.get(pos);
+        String literal = parser.getRequiredLiteral();
+        literalIds[pos] = literal == null ? -1 : ids.computeIfAbsent((parser.isRequiredLiteralIgnoreCase() ? 'i' : 'c') + literal, k -> ids.size());
       }
+      literals = new String[ids.size()];
+      literalIgnoreCase = new boolean[ids.size()];
+      ids.forEach((key, id) -> {
+        literals[id] = key.substring(1);
+        literalIgnoreCase[id] = key.charAt(0) == 'i';
+      });
+    }
 
-      for (DeviceParserRegex parser : config.getDeviceParsers()) {
-        Matcher matcher = parser.getParsedRegex().matcher(agentString);
-
-        if (matcher.find()) {
-          ua.setDeviceFamily(StringUtils.defaultIfBlank(
-            Patterns.replace(matcher, Checks.defaultIfNull(parser.getDeviceReplacement(), "$1")),
-            DEFAULT_VALUE
-          ));
-          if (parser.getBrandReplacement() != null) {
-            ua.setDeviceBrand(StringUtils.trimToNull(Patterns.replace(matcher, parser.getBrandReplacement())));
+    boolean find(String agent, String lowerAgent, BiConsumer<T, Matcher> onMatch) {
+      byte[] present = new byte[literals.length];
+      int tried = 0;
+      int skipped = 0;
+      try {
+        for (int pos = 0; pos < literalIds.length; pos++) {
+          int id = literalIds[pos];
+          if (id >= 0) {
+            if (present[id] == 0) {
+              present[id] = (literalIgnoreCase[id] ? lowerAgent : agent).contains(literals[id]) ? (byte) 1 : (byte) -1;
+            }
+            if (present[id] < 0) {
+              skipped++;
+              continue;
+            }
+          }
+          T parser = parsers.get(pos);
+          Matcher matcher = parser.getParsedRegex().matcher(agent);
+          tried++;
+          if (matcher.find()) {
+            onMatch.accept(parser, matcher);
+            return true;
           }
-          ua.setDeviceModel(StringUtils.trimToNull(Patterns.replace(matcher, Checks.defaultIfNull(parser.getModelReplacement(), "$1"))));
-          break;
         }
+        return false;
+      } finally {
+        regexesTried.add(tried);
+        regexesSkipped.add(skipped);
       }
-    } catch (Throwable e) {
-      Logs.logError(LOG, e, "Issue while parsing User-Agent [%s]", agentString);
     }
-    return ua;
+
   }
 
 }
@@ -2,12 +2,27 @@ package com.lancethomps.lava.common;
 
 import java.util.Arrays;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.google.common.collect.Sets;
 
 public class PatternsTest extends BaseTest {
 
+  @Test
+  public void testFindRequiredLiteral() {
+    Assert.assertEquals("Firefox/", Patterns.findRequiredLiteral("(?:Mobile|Tablet); rv:.*Firefox/(\\d+)\\.(\\d+)"));
+    Assert.assertNull(Patterns.findRequiredLiteral("(Firefox|Chrome)/(\\d+)|Safari"));
+    Assert.assertEquals(" Mobile Safari/", Patterns.findRequiredLiteral("(Chrome)/(\\d+)\\.(\\d+) Mobile Safari/"));
+    Assert.assertEquals("Opera Mini", Patterns.findRequiredLiteral("Opera Mini(?:/att|)/?(\\d+)?(?:\\.(\\d+))?"));
+    Assert.assertEquals("Windows NT 6.2; ARM;", Patterns.findRequiredLiteral("Windows NT 6\\.2; ARM;(?:.*)"));
+    Assert.assertEquals("Kindle/", Patterns.findRequiredLiteral("\\bKindle/(\\d+)\\.(\\d+)"));
+    Assert.assertEquals("ab", Patterns.findRequiredLiteral("abc?[de]+x{2}f*"));
+    Assert.assertEquals("CrMo/", Patterns.findRequiredLiteral("\\x41BC (CrMo)x+CrMo/"));
+    Assert.assertNull(Patterns.findRequiredLiteral("(?i)iphone"));
+    Assert.assertNull(Patterns.findRequiredLiteral("\\d+[.]\\d+"));
+  }
+
   @Test
   public void testSimpleAcronymAndPossibleAcronymsMatcher() {
     TestingCommon.assertEqualsViaJsonDiff(
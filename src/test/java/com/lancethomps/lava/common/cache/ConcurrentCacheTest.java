@@ -0,0 +1,138 @@
+package com.lancethomps.lava.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+
+import io.dropwizard.metrics5.Histogram;
+
+public class ConcurrentCacheTest extends BaseTest {
+
+  @Test
+  public void testComputeIfAbsentIsSingleFlight() throws Exception {
+    ConcurrentCache<String, Integer> cache = new ConcurrentCache<>(10);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return cache.computeIfAbsent("key", k -> {
+            loads.incrementAndGet();
+            try {
+              Thread.sleep(50L);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return 42;
+          });
+        }));
+      }
+      start.countDown();
+      for (Future<Integer> future : futures) {
+        Assert.assertEquals(Integer.valueOf(42), future.get(5, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testEvictsToCapacity() throws Exception {
+    List<Integer> removed = new ArrayList<>();
+    ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(100, removed::add);
+    for (int i = 0; i < 1000; i++) {
+      cache.put(i, i);
+      cache.get(0);
+    }
+    Assert.assertEquals(100, cache.size());
+    Assert.assertEquals(100L, cache.getWeightedSize());
+    Assert.assertEquals(900, removed.size());
+    Assert.assertEquals(Integer.valueOf(0), cache.get(0));
+  }
+
+  @Test
+  public void testSnapshot() throws Exception {
+    ConcurrentCache<String, String> cache = new ConcurrentCache<>(10);
+    cache.put("ttl", "value", 1);
+    cache.put("forever", "value");
+    Map<String, String> snapshot = cache.snapshot();
+    Assert.assertEquals(2, snapshot.size());
+    Thread.sleep(1100L);
+    Assert.assertEquals(Collections.singletonMap("forever", "value"), cache.snapshot());
+    Assert.assertEquals(2, snapshot.size());
+  }
+
+  @Test
+  public void testStats() throws Exception {
+    ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(2);
+    cache.computeIfAbsent(1, k -> k);
+    cache.computeIfAbsent(1, k -> k);
+    cache.get(2);
+    cache.put(2, 2);
+    cache.put(3, 3);
+    CacheStats stats = cache.getStats();
+    Assert.assertEquals(1L, stats.getHitCount());
+    Assert.assertEquals(2L, stats.getMissCount());
+    Assert.assertEquals(1L, stats.getLoadSuccessCount());
+    Assert.assertEquals(1L, stats.getEvictionCount());
+    Assert.assertEquals(2L, stats.getEstimatedSize());
+    Assert.assertEquals(1d / 3d, stats.getHitRatio(), 0.0001d);
+  }
+
+  @Test
+  public void testStatsResetClearsLoadTimes() throws Exception {
+    ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<>(2);
+    cache.computeIfAbsent(1, k -> k);
+    Histogram loadTimes = cache.getStatsRecorder().getLoadTimes();
+    Assert.assertEquals(1L, loadTimes.getCount());
+    cache.getStatsRecorder().reset();
+    Assert.assertSame(loadTimes, cache.getStatsRecorder().getLoadTimes());
+    Assert.assertEquals(0L, loadTimes.getCount());
+    Assert.assertEquals(0, loadTimes.getSnapshot().size());
+    Assert.assertEquals(0L, cache.getStats().getLoadSuccessCount());
+    cache.computeIfAbsent(2, k -> k);
+    Assert.assertEquals(1L, loadTimes.getCount());
+  }
+
+  @Test
+  public void testTimeToLive() throws Exception {
+    ConcurrentCache<String, String> cache = new ConcurrentCache<>(10);
+    cache.put("ttl", "value", 1);
+    cache.put("forever", "value");
+    Assert.assertEquals("value", cache.get("ttl"));
+    Thread.sleep(1100L);
+    Assert.assertNull(cache.get("ttl"));
+    Assert.assertEquals("value", cache.get("forever"));
+    Assert.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testWeightedBound() throws Exception {
+    ConcurrentCache<String, String> cache = new ConcurrentCache<>("weighted", 10, (k, v) -> v.length(), 0, null);
+    cache.put("a", "12345");
+    cache.put("b", "12345");
+    Assert.assertEquals(10L, cache.getWeightedSize());
+    cache.put("c", "123");
+    Assert.assertTrue(cache.getWeightedSize() <= 10L);
+    Assert.assertEquals("123", cache.get("c"));
+    cache.remove("c");
+    Assert.assertNull(cache.get("c"));
+  }
+
+}
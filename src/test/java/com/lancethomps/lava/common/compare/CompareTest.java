@@ -2,23 +2,49 @@ package com.lancethomps.lava.common.compare;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.lancethomps.lava.common.BaseTest;
+import com.lancethomps.lava.common.Checks;
 import com.lancethomps.lava.common.TestingCommon;
 import com.lancethomps.lava.common.merge.Merges;
 
 public class CompareTest extends BaseTest {
 
+  @Test
+  public void testDirectCompareMatchesTreeCompare() throws Exception {
+    CompareConfig directConfig = new CompareConfig().setCalculateNumericValueChange(true).setDeep(true).setNumericNullsEqualZero(true);
+    CompareConfig treeConfig = new CompareConfig().setCalculateNumericValueChange(true).setDeep(true).setNumericNullsEqualZero(true)
+      .setDirectCompare(false);
+    CompareResult direct = Compare.compare(getDiffFieldsOriginal(), getDiffFieldsRevised(), directConfig, true);
+    CompareResult tree = Compare.compare(getDiffFieldsOriginal(), getDiffFieldsRevised(), treeConfig, true);
+    Assert.assertEquals(new ArrayList<>(tree.getFieldsWithDifferences()), new ArrayList<>(direct.getFieldsWithDifferences()));
+    Assert.assertEquals(tree.getAddedFields(), direct.getAddedFields());
+    Assert.assertEquals(tree.getRemovedFields(), direct.getRemovedFields());
+    Assert.assertEquals(tree.getUpdatedFields(), direct.getUpdatedFields());
+    Assert.assertEquals(tree.getDifferences(), direct.getDifferences());
+
+    Assert.assertTrue(Compare.hasDifferences(getDiffFieldsOriginal(), getDiffFieldsRevised()));
+    Object original = getDiffFieldsOriginal();
+    Assert.assertFalse(Compare.hasDifferences(original, getDiffFieldsOriginal()));
+    Assert.assertFalse(Compare.hasDifferences(original, original));
+  }
+
   @Test
   public void testGenerateDiffObject() throws Exception {
     final ObjectNode diffs = Compare.generateDifferences(
@@ -51,6 +77,85 @@ public class CompareTest extends BaseTest {
     TestingCommon.assertEqualsViaJsonDiff("Compare.getFieldsWithDifferences", correctFields, fields);
   }
 
+  @Test
+  public void testMapperPlansDoNotRetainMapper() throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+    ComparePlan plan = ComparePlan.forClass(mapper, CompareResult.class);
+    Assert.assertSame(plan, ComparePlan.forClass(mapper, CompareResult.class));
+    WeakReference<ObjectMapper> ref = new WeakReference<>(mapper);
+    mapper = null;
+    for (int attempt = 0; (attempt < 50) && (ref.get() != null); attempt++) {
+      System.gc();
+      Thread.sleep(20L);
+    }
+    Assert.assertNull("ObjectMapper was retained by its cached compare plans", ref.get());
+  }
+
+  @Test
+  public void testMatchArrayElementsByField() throws Exception {
+    List<Map<String, Object>> original = new ArrayList<>();
+    List<Map<String, Object>> revised = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      original.add(createElement(i, "value" + i));
+      revised.add(0, createElement(i, i == 5 ? "changed" : "value" + i));
+    }
+    original.add(createElement(10, "removed"));
+    revised.add(createElement(11, "added"));
+    CompareConfig config = new CompareConfig().setDeep(true).setArrayElementsMatchField("id");
+    CompareResult result = Compare.compare(
+      Collections.singletonMap("data", original),
+      Collections.singletonMap("data", revised),
+      config,
+      true
+    );
+    Assert.assertEquals(
+      Arrays.asList("data[id=5].value", "data[id=10]", "data[id=11]"),
+      new ArrayList<>(result.getFieldsWithDifferences())
+    );
+    Assert.assertEquals(Collections.singleton("data[id=11]"), result.getAddedFields());
+    Assert.assertEquals(Collections.singleton("data[id=10]"), result.getRemovedFields());
+    Assert.assertEquals(5, result.getDifferences().path("data").path(0).path("id").asInt());
+  }
+
+  @Test
+  public void testMatchArrayElementsByTypedField() throws Exception {
+    List<Map<String, Object>> original = Arrays.asList(createElement(1, "number"), createElement("1", "text"));
+    List<Map<String, Object>> revised = Arrays.asList(createElement("1", "text"), createElement(1, "changed"));
+    CompareConfig config = new CompareConfig().setDeep(true).setArrayElementsMatchField("id");
+    CompareResult result = Compare.compare(
+      Collections.singletonMap("data", original),
+      Collections.singletonMap("data", revised),
+      config,
+      true
+    );
+    Assert.assertEquals(Collections.singletonList("data[id=1].value"), new ArrayList<>(result.getFieldsWithDifferences()));
+    Assert.assertTrue(Checks.isEmpty(result.getAddedFields()));
+    Assert.assertTrue(Checks.isEmpty(result.getRemovedFields()));
+    Assert.assertTrue(result.getDifferences().path("data").path(0).path("id").isNumber());
+    Assert.assertEquals("changed", result.getDifferences().path("data").path(0).path("value").asText());
+  }
+
+  @Test
+  public void testParallelCompareMatchesSequential() throws Exception {
+    CompareConfig sequentialConfig = new CompareConfig().setCalculateNumericValueChange(true).setDeep(true).setNumericNullsEqualZero(true);
+    CompareConfig parallelConfig = new CompareConfig().setCalculateNumericValueChange(true).setDeep(true).setNumericNullsEqualZero(true)
+      .setParallel(true)
+      .setParallelThreshold(1);
+    CompareResult sequential = Compare.compare(getDiffFieldsOriginal(), getDiffFieldsRevised(), sequentialConfig, true);
+    CompareResult parallel = Compare.compare(getDiffFieldsOriginal(), getDiffFieldsRevised(), parallelConfig, true);
+    Assert.assertEquals(new ArrayList<>(sequential.getFieldsWithDifferences()), new ArrayList<>(parallel.getFieldsWithDifferences()));
+    Assert.assertEquals(new ArrayList<>(sequential.getUpdatedFields()), new ArrayList<>(parallel.getUpdatedFields()));
+    Assert.assertEquals(sequential.getDifferences(), parallel.getDifferences());
+    Assert.assertTrue(Compare.hasDifferences(getDiffFieldsOriginal(), getDiffFieldsRevised(), parallelConfig));
+  }
+
+  private Map<String, Object> createElement(Object id, String value) {
+    Map<String, Object> element = new LinkedHashMap<>();
+    element.put("id", id);
+    element.put("value", value);
+    return element;
+  }
+
   private List<String> getCorrectResultFields(final @Nonnull String... ids) throws IOException {
     List<String> correctFields = Merges.MERGE_MAPPER.readValue(
       getResultFileStream(ids),
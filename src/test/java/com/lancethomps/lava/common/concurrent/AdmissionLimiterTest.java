@@ -0,0 +1,167 @@
+package com.lancethomps.lava.common.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+import com.lancethomps.lava.common.metrics.StatusMonitor;
+
+import io.dropwizard.metrics5.Timer;
+
+public class AdmissionLimiterTest extends BaseTest {
+
+  @Test
+  public void testAimdBacksOffOnDrop() throws Exception {
+    AdmissionLimiter limiter = new AdmissionLimiter(
+      "test-aimd",
+      new AdmissionLimitConfig().setMode(AdmissionLimitMode.AIMD).setInitialLimit(10).setMaxLimit(20).setBackoffRatio(0.5d)
+    );
+    try {
+      limiter.exec(() -> {
+        throw new TimeoutException();
+      });
+      Assert.fail("Expected timeout");
+    } catch (TimeoutException e) {
+      Assert.assertEquals(5, limiter.getLimit());
+      Assert.assertEquals(1L, limiter.getDroppedCount());
+    }
+    try {
+      limiter.exec(() -> {
+        throw new IllegalStateException();
+      });
+      Assert.fail("Expected exception");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals(5, limiter.getLimit());
+    }
+    for (int pos = 0; pos < 10; pos++) {
+      try (AdmissionLimiter.Permit first = limiter.acquire(); AdmissionLimiter.Permit second = limiter.acquire();
+        AdmissionLimiter.Permit third = limiter.acquire()) {
+        Assert.assertEquals(3, limiter.getInFlight());
+      }
+    }
+    Assert.assertTrue(limiter.getLimit() > 5);
+    Assert.assertEquals(0, limiter.getInFlight());
+    limiter.unregisterMetrics();
+  }
+
+  @Test
+  public void testConfigMismatchWarnsOnce() throws Exception {
+    AdmissionLimitConfig config = new AdmissionLimitConfig().setInitialLimit(4);
+    AdmissionLimiter limiter = ConcurrencyUtil.getAdmissionLimiter("test-config-mismatch", config);
+    try {
+      Assert.assertSame(limiter, ConcurrencyUtil.getAdmissionLimiter("test-config-mismatch", new AdmissionLimitConfig().setInitialLimit(4)));
+      Assert.assertFalse(limiter.warnConfigMismatch(new AdmissionLimitConfig().setInitialLimit(4)));
+      Assert.assertTrue(limiter.warnConfigMismatch(new AdmissionLimitConfig().setInitialLimit(8)));
+      Assert.assertFalse(limiter.warnConfigMismatch(new AdmissionLimitConfig().setInitialLimit(8)));
+      Assert.assertEquals(4, limiter.getLimit());
+    } finally {
+      ConcurrencyUtil.removeAdmissionLimiter("test-config-mismatch");
+    }
+  }
+
+  @Test
+  public void testLimitQueueAndReject() throws Exception {
+    AdmissionLimiter limiter = new AdmissionLimiter(
+      "test-fixed",
+      new AdmissionLimitConfig().setInitialLimit(2).setMaxQueueSize(1).setMaxWaitMillis(5000L)
+    );
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch finish = new CountDownLatch(1);
+    AtomicInteger maxActive = new AtomicInteger();
+    AtomicInteger active = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      Future<?> first = executor.submit(() -> runBlocked(limiter, started, finish, active, maxActive));
+      Future<?> second = executor.submit(() -> runBlocked(limiter, started, finish, active, maxActive));
+      Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+      Future<?> queued = executor.submit(() -> runBlocked(limiter, started, finish, active, maxActive));
+      long deadline = System.currentTimeMillis() + 10000L;
+      while ((limiter.getQueueDepth() == 0) && (System.currentTimeMillis() < deadline)) {
+        Thread.sleep(5L);
+      }
+      Assert.assertEquals(1, limiter.getQueueDepth());
+      try {
+        limiter.acquire();
+        Assert.fail("Expected rejection");
+      } catch (RejectedExecutionException e) {
+        Assert.assertEquals(1L, limiter.getRejectedCount());
+      }
+      finish.countDown();
+      first.get(10, TimeUnit.SECONDS);
+      second.get(10, TimeUnit.SECONDS);
+      queued.get(10, TimeUnit.SECONDS);
+      Assert.assertEquals(2, maxActive.get());
+      Assert.assertEquals(0, limiter.getInFlight());
+      Assert.assertEquals(2, limiter.getLimit());
+    } finally {
+      executor.shutdownNow();
+      limiter.unregisterMetrics();
+    }
+  }
+
+  @Test
+  public void testTimeoutWhileQueued() throws Exception {
+    AdmissionLimiter limiter = new AdmissionLimiter("test-timeout", new AdmissionLimitConfig().setInitialLimit(1).setMaxWaitMillis(20L));
+    Timer waitTimer = StatusMonitor.timer(AdmissionLimiter.METRIC_REGISTRY, "test-timeout", "wait");
+    long waits = waitTimer.getCount();
+    try (AdmissionLimiter.Permit permit = limiter.acquire()) {
+      limiter.acquire();
+      Assert.fail("Expected timeout");
+    } catch (RejectedExecutionException e) {
+      Assert.assertEquals(1L, limiter.getTimeoutCount());
+      Assert.assertEquals(waits + 2, waitTimer.getCount());
+    }
+    limiter.setLimit(3);
+    Assert.assertEquals(3, limiter.getStats().get("available_permits"));
+    limiter.unregisterMetrics();
+  }
+
+  @Test
+  public void testVegasProbeUsesWindowMinimum() throws Exception {
+    AdmissionLimiter limiter = new AdmissionLimiter(
+      "test-vegas-probe",
+      new AdmissionLimitConfig().setMode(AdmissionLimitMode.VEGAS).setProbeInterval(3)
+    );
+    try {
+      holdPermit(limiter, 20L);
+      holdPermit(limiter, 5L);
+      holdPermit(limiter, 40L);
+      Assert.assertTrue((Double) limiter.getStats().get("min_latency_ms") < 40d);
+      for (int pos = 0; pos < 3; pos++) {
+        holdPermit(limiter, 30L);
+      }
+      Assert.assertTrue((Double) limiter.getStats().get("min_latency_ms") >= 30d);
+    } finally {
+      limiter.unregisterMetrics();
+    }
+  }
+
+  private void holdPermit(AdmissionLimiter limiter, long millis) throws Exception {
+    try (AdmissionLimiter.Permit permit = limiter.acquire()) {
+      Thread.sleep(millis);
+    }
+  }
+
+  private Object runBlocked(AdmissionLimiter limiter, CountDownLatch started, CountDownLatch finish, AtomicInteger active, AtomicInteger maxActive)
+    throws Exception {
+    return limiter.exec(() -> {
+      maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+      started.countDown();
+      try {
+        return finish.await(10, TimeUnit.SECONDS);
+      } finally {
+        active.decrementAndGet();
+      }
+    });
+  }
+
+}
@@ -0,0 +1,93 @@
+package com.lancethomps.lava.common.concurrent;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+
+public class ExecutorFactoryTest extends BaseTest {
+
+  @Test
+  public void testVirtualThreadPerTaskExecutorOrCachedThreadPool() throws Exception {
+    ExecutorService exec = ExecutorFactory.getVirtualThreadPerTaskExecutorOrCachedThreadPool(2, "test-virtual-or-cached");
+    try {
+      if (ExecutorFactory.isVirtualThreadsSupported()) {
+        Assert.assertTrue(exec instanceof VirtualThreadPerTaskExecutor);
+      } else {
+        Assert.assertTrue(exec instanceof CachedAndQueuedThreadPoolExecutor);
+        Assert.assertNull(ExecutorFactory.getVirtualThreadPerTaskExecutor("test-virtual-unsupported"));
+      }
+      Assert.assertEquals(Boolean.TRUE, exec.submit(() -> true).get(10, TimeUnit.SECONDS));
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testVirtualThreadPerTaskExecutorPropagatesThreadName() throws Exception {
+    VirtualThreadPerTaskExecutor exec = new VirtualThreadPerTaskExecutor("test-virtual-names", Executors.newCachedThreadPool());
+    try {
+      assertThreadNamePropagated(exec);
+      Assert.assertEquals(3L, exec.getSubmittedCount());
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testWorkStealingPoolPropagatesThreadName() throws Exception {
+    WorkStealingPool exec = ExecutorFactory.getWorkStealingPool(2, "test-work-stealing-names");
+    try {
+      assertThreadNamePropagated(exec);
+      String caller = Thread.currentThread().getName();
+      Callable<String> task = () -> Thread.currentThread().getName();
+      String invoked = exec.invokeAll(Collections.singletonList(task)).get(0).get(10, TimeUnit.SECONDS);
+      Assert.assertTrue(invoked, invoked.startsWith(caller + '#'));
+      invoked = exec.invokeAny(Collections.singletonList(task));
+      Assert.assertTrue(invoked, invoked.startsWith(caller + '#'));
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testWorkStealingPoolStats() throws Exception {
+    WorkStealingPool exec = ExecutorFactory.getWorkStealingPool(3, "test-work-stealing-stats");
+    try {
+      exec.submit(() -> true).get(10, TimeUnit.SECONDS);
+      Map<String, Object> stats = ExecutorFactory.getInitializedExecutorsStats();
+      Assert.assertEquals(3, stats.get("test-work-stealing-stats_parallelism"));
+      Assert.assertTrue(stats.containsKey("test-work-stealing-stats_stealCount"));
+      Assert.assertTrue(stats.containsKey("test-work-stealing-stats_queuedSubmissions"));
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  private void assertThreadNamePropagated(ExecutorService exec) throws Exception {
+    String caller = Thread.currentThread().getName();
+    CompletableFuture<String> executed = new CompletableFuture<>();
+    exec.execute(() -> executed.complete(Thread.currentThread().getName()));
+    String name = executed.get(10, TimeUnit.SECONDS);
+    Assert.assertTrue(name, name.startsWith(caller + '#'));
+
+    CompletableFuture<String> submitted = new CompletableFuture<>();
+    exec.submit(() -> {
+      submitted.complete(Thread.currentThread().getName());
+    }).get(10, TimeUnit.SECONDS);
+    name = submitted.get(10, TimeUnit.SECONDS);
+    Assert.assertTrue(name, name.startsWith(caller + '#'));
+
+    name = exec.submit(() -> Thread.currentThread().getName()).get(10, TimeUnit.SECONDS);
+    Assert.assertTrue(name, name.startsWith(caller + '#'));
+  }
+
+}
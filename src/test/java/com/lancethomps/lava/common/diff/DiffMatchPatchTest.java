@@ -0,0 +1,68 @@
+package com.lancethomps.lava.common.diff;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+import com.lancethomps.lava.common.diff.DiffMatchPatch.Diff;
+import com.lancethomps.lava.common.diff.DiffMatchPatch.DiffOperation;
+
+public class DiffMatchPatchTest extends BaseTest {
+
+  @Test
+  public void testDiffMainCheckLinesKeepsText() {
+    DiffMatchPatch dmp = new DiffMatchPatch();
+    String original = createText(500, 0);
+    String revised = createText(500, 7);
+    List<Diff> diffs = dmp.diffMain(original, revised, true);
+    Assert.assertEquals(original, dmp.diffText1(diffs));
+    Assert.assertEquals(revised, dmp.diffText2(diffs));
+  }
+
+  @Test
+  public void testDiffMainLines() {
+    DiffMatchPatch dmp = new DiffMatchPatch();
+    List<Diff> diffs = dmp.diffMainLines("a\nb\nc\nd\n", "a\nc\nd\ne");
+    Assert.assertEquals(4, diffs.size());
+    Assert.assertEquals(new Diff(DiffOperation.EQUAL, "a\n"), diffs.get(0));
+    Assert.assertEquals(new Diff(DiffOperation.DELETE, "b\n"), diffs.get(1));
+    Assert.assertEquals(new Diff(DiffOperation.EQUAL, "c\nd\n"), diffs.get(2));
+    Assert.assertEquals(new Diff(DiffOperation.INSERT, "e"), diffs.get(3));
+
+    Random random = new Random(42L);
+    for (int pos = 0; pos < 200; pos++) {
+      String original = createText(random.nextInt(200), random.nextInt(10));
+      String revised = createText(random.nextInt(200), random.nextInt(10));
+      for (boolean patience : new boolean[]{false, true}) {
+        dmp.setDiffLinePatience(patience);
+        dmp.setDiffLineParallelThreshold(patience ? 1 : 0);
+        diffs = dmp.diffMainLines(original, revised);
+        Assert.assertEquals(original, dmp.diffText1(diffs));
+        Assert.assertEquals(revised, dmp.diffText2(diffs));
+      }
+    }
+  }
+
+  @Test
+  public void testDiffToUnified() {
+    DiffMatchPatch dmp = new DiffMatchPatch();
+    String unified = dmp.diffToUnified(dmp.diffMainLines("a\nb\nc\nd\ne\nf\ng\nh\n", "a\nB\nc\nd\ne\nf\ng\nH\n"), "original", "revised", 1);
+    Assert.assertEquals(
+      "--- original\n+++ revised\n@@ -1,3 +1,3 @@\n a\n-b\n+B\n c\n@@ -7,2 +7,2 @@\n g\n-h\n+H\n",
+      unified
+    );
+  }
+
+  private String createText(int lines, int seed) {
+    Random random = new Random(seed);
+    StringBuilder text = new StringBuilder();
+    for (int pos = 0; pos < lines; pos++) {
+      text.append("line ").append(random.nextInt((lines / 4) + 1)).append('\n');
+    }
+    return text.toString();
+  }
+
+}
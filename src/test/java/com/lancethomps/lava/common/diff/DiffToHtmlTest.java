@@ -0,0 +1,81 @@
+package com.lancethomps.lava.common.diff;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+import com.lancethomps.lava.common.diff.domain.DiffFile;
+
+public class DiffToHtmlTest extends BaseTest {
+
+  private static final String DIFF_INPUT = "diff --git a/one.txt b/one.txt\n"
+    + "index 1111111..2222222 100644\n"
+    + "--- a/one.txt\n"
+    + "+++ b/one.txt\n"
+    + "@@ -1,3 +1,3 @@\n"
+    + " a\n"
+    + "-b\n"
+    + "+B\n"
+    + " c\n"
+    + "\\ No newline at end of file\n"
+    + "diff --git a/old.txt b/new.txt\n"
+    + "similarity index 90%\n"
+    + "rename from old.txt\n"
+    + "rename to new.txt\n"
+    + "diff --git a/added.txt b/added.txt\n"
+    + "new file mode 100644\n"
+    + "index 0000000..3333333\n"
+    + "--- /dev/null\n"
+    + "+++ b/added.txt\n"
+    + "@@ -0,0 +1,2 @@\n"
+    + "+x\n"
+    + "+y\n";
+
+  @Test
+  public void testSinglePassStreamingHtmlWritesSummaryAfterDiffs() throws Exception {
+    StringWriter summaryFirst = new StringWriter();
+    new DiffToHtml().generateHtml(() -> new StringReader(DIFF_INPUT), summaryFirst);
+    StringWriter streamed = new StringWriter();
+    new DiffToHtml().generateHtml(new StringReader(DIFF_INPUT), streamed);
+    Assert.assertEquals(summaryFirst.toString().length(), streamed.toString().length());
+    Assert.assertNotEquals(summaryFirst.toString(), streamed.toString());
+    for (String name : new String[]{"one.txt", "new.txt", "added.txt"}) {
+      Assert.assertTrue(name, streamed.toString().contains(name));
+    }
+  }
+
+  @Test
+  public void testStreamingHtmlMatchesStringHtml() throws Exception {
+    String expected = new DiffToHtml().setDiffInput(DIFF_INPUT).generateHtml().getHtml();
+    StringWriter streamed = new StringWriter();
+    new DiffToHtml().generateHtml(() -> new StringReader(DIFF_INPUT), streamed);
+    Assert.assertEquals(expected, streamed.toString());
+  }
+
+  @Test
+  public void testStreamingParseMatchesStringParse() throws Exception {
+    List<DiffFile> expected = new DiffToHtml().setDiffInput(DIFF_INPUT).parseDiff().getDiffFiles();
+    List<DiffFile> streamed = new ArrayList<>();
+    DiffToHtml diffToHtml = new DiffToHtml().parseDiff(new StringReader(DIFF_INPUT), streamed::add);
+    Assert.assertTrue(diffToHtml.getDiffFiles().isEmpty());
+    Assert.assertEquals(3, expected.size());
+    Assert.assertEquals(expected.size(), streamed.size());
+    for (int pos = 0; pos < expected.size(); pos++) {
+      Assert.assertEquals(expected.get(pos).getOldName(), streamed.get(pos).getOldName());
+      Assert.assertEquals(expected.get(pos).getNewName(), streamed.get(pos).getNewName());
+      Assert.assertEquals(expected.get(pos).getRename(), streamed.get(pos).getRename());
+      Assert.assertEquals(expected.get(pos).getNewFile(), streamed.get(pos).getNewFile());
+      Assert.assertEquals(expected.get(pos).getAddedLines().get(), streamed.get(pos).getAddedLines().get());
+      Assert.assertEquals(expected.get(pos).getDeletedLines().get(), streamed.get(pos).getDeletedLines().get());
+      Assert.assertEquals(expected.get(pos).getBlocks().size(), streamed.get(pos).getBlocks().size());
+    }
+    Assert.assertEquals("new.txt", streamed.get(1).getNewName());
+    Assert.assertEquals(2, streamed.get(2).getAddedLines().get());
+  }
+
+}
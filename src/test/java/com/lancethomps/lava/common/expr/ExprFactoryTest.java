@@ -2,9 +2,12 @@ package com.lancethomps.lava.common.expr;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -14,11 +17,15 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 import org.junit.Assert;
 import org.junit.Test;
+import org.springframework.expression.spel.standard.SpelExpression;
 
 import com.lancethomps.lava.common.BaseTest;
 import com.lancethomps.lava.common.Randoms;
 import com.lancethomps.lava.common.collections.MapUtil;
+import com.lancethomps.lava.common.expr.spel.CompilingSpelExpression;
+import com.lancethomps.lava.common.expr.spel.SpelCompileMode;
 import com.lancethomps.lava.common.logging.Logs;
+import com.lancethomps.lava.common.ser.OutputExpression;
 
 public class ExprFactoryTest extends BaseTest {
 
@@ -79,6 +86,32 @@ public class ExprFactoryTest extends BaseTest {
     );
   }
 
+  @Test
+  public void testOutputExpressionBatch() throws Exception {
+    List<OutputExpression> expressions = Arrays.asList(
+      new OutputExpression().setPath("a.b").setExpression("data['x'] + 1"),
+      new OutputExpression().setPath("c").setExpression("data['y']"),
+      new OutputExpression().setPath("list[*]").setExpression("data['x']")
+    );
+    List<Map<String, Object>> rows = new ArrayList<>();
+    for (int pos = 0; pos < 50; pos++) {
+      rows.add(MapUtil.createFrom("x", pos, "y", "row" + pos));
+    }
+    List<Map<String, Object>> expected = rows
+      .stream()
+      .map(row -> ExprFactory.evaluateOutputExpressions(expressions, row, true, null, ExprParser.SPEL))
+      .collect(Collectors.toList());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      OutputExpressionBatch batch = new OutputExpressionBatch(expressions, true, null, ExprParser.SPEL);
+      Assert.assertEquals(expected, batch.evaluate(rows));
+      Assert.assertEquals(expected, batch.evaluate(rows, executor, 7));
+      Assert.assertEquals(expected, batch.stream(rows.stream()).collect(Collectors.toList()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void testPyEngineVariableAccess() throws Exception {
     Map<String, Object> root = getExprRoot();
@@ -90,6 +123,32 @@ public class ExprFactoryTest extends BaseTest {
       );
   }
 
+  @Test
+  public void testSpelCompileModes() throws Exception {
+    Map<String, Object> root = getExprRoot();
+    for (SpelCompileMode mode : SpelCompileMode.values()) {
+      SpelExpression expr = ExprFactory.getSpelExpression("['x'] == 1 ? 'one' : 'other'", true, true, mode);
+      Assert.assertEquals(mode != SpelCompileMode.OFF, expr instanceof CompilingSpelExpression);
+      for (int i = 0; i <= CompilingSpelExpression.INTERPRETED_COUNT_THRESHOLD + 1; i++) {
+        Assert.assertEquals("one", ExprFactory.evalSpel(root, expr));
+      }
+      if (mode != SpelCompileMode.OFF) {
+        Assert.assertTrue(ExprFactory.getSpelCompileResults().containsKey(expr.getExpressionString()));
+      }
+    }
+  }
+
+  @Test
+  public void testSpelCompileFallbackCountedOnce() throws Exception {
+    SpelExpression expr = ExprFactory.getSpelExpression("{1, 2}.![#this * 2]", false, true, SpelCompileMode.IMMEDIATE);
+    long fallbacks = CompilingSpelExpression.getCompileFallbackCount();
+    for (int i = 0; i <= CompilingSpelExpression.FAILED_ATTEMPTS_THRESHOLD + 5; i++) {
+      Assert.assertEquals(Arrays.asList(2, 4), ExprFactory.evalSpel(getExprRoot(), expr));
+    }
+    Assert.assertFalse(((CompilingSpelExpression) expr).isCompiled());
+    Assert.assertEquals(fallbacks + 1, CompilingSpelExpression.getCompileFallbackCount());
+  }
+
   @Test
   public void testSpelExprFunctions() throws Exception {
     Map<String, Object> root = getExprRoot();
@@ -0,0 +1,137 @@
+package com.lancethomps.lava.common.expr;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+import com.lancethomps.lava.common.expr.ScriptEnginePool.PooledScriptEngine;
+
+public class ScriptEnginePoolTest extends BaseTest {
+
+  @Test
+  public void testAcquireOverflowsOrTimesOutWhenExhausted() throws Exception {
+    ScriptEnginePool pool = new ScriptEnginePool(ExprParser.OGNL, 1, () -> createEngine(null)).setMaxWaitMillis(20L);
+    PooledScriptEngine first = pool.acquire();
+    PooledScriptEngine overflow = pool.acquire();
+    Assert.assertTrue(first.isPooled());
+    Assert.assertFalse(overflow.isPooled());
+    Assert.assertEquals(1L, pool.getStats().get("overflow"));
+    pool.release(overflow);
+
+    pool.setOverflowOnTimeout(false);
+    try {
+      pool.acquire();
+      Assert.fail("Expected timeout");
+    } catch (ScriptException e) {
+      Assert.assertEquals(1, pool.getInUseCount());
+    }
+    pool.release(first);
+    Assert.assertSame(first, pool.acquire());
+    Assert.assertEquals(1, pool.getCreatedCount());
+  }
+
+  @Test
+  public void testClearWakesWaitingAcquire() throws Exception {
+    ScriptEnginePool pool = new ScriptEnginePool(ExprParser.OGNL, 1, () -> createEngine(null))
+      .setMaxWaitMillis(TimeUnit.SECONDS.toMillis(30))
+      .setOverflowOnTimeout(false);
+    PooledScriptEngine held = pool.acquire();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<PooledScriptEngine> waiting = executor.submit(pool::acquire);
+      Thread.sleep(50L);
+      Assert.assertFalse(waiting.isDone());
+      pool.clear();
+      PooledScriptEngine acquired = waiting.get(5, TimeUnit.SECONDS);
+      Assert.assertTrue(acquired.isPooled());
+      Assert.assertNotSame(held, acquired);
+      pool.release(held);
+      Assert.assertEquals(0, pool.getIdleCount());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testCompiledScriptsEvictLeastRecentlyUsed() throws Exception {
+    AtomicInteger compiles = new AtomicInteger();
+    ScriptEnginePool pool = new ScriptEnginePool(ExprParser.OGNL, 1, () -> createEngine(compiles)).setMaxCompiledScripts(2);
+    PooledScriptEngine engine = pool.acquire();
+    CompiledScript a = engine.getCompiledScript("a");
+    engine.getCompiledScript("b");
+    Assert.assertSame(a, engine.getCompiledScript("a"));
+    engine.getCompiledScript("c");
+    Assert.assertEquals(3, compiles.get());
+    Assert.assertSame(a, engine.getCompiledScript("a"));
+    Assert.assertEquals(3, compiles.get());
+    engine.getCompiledScript("b");
+    Assert.assertEquals(4, compiles.get());
+  }
+
+  @Test
+  public void testMetricsAreKeyedByPoolName() throws Exception {
+    ScriptEnginePool first = new ScriptEnginePool("metricsFirst", ExprParser.OGNL, 1, () -> createEngine(null)).setMaxWaitMillis(1L);
+    ScriptEnginePool second = new ScriptEnginePool("metricsSecond", ExprParser.OGNL, 1, () -> createEngine(null)).setMaxWaitMillis(1L);
+    first.acquire();
+    first.acquire();
+    Assert.assertEquals(1L, first.getStats().get("overflow"));
+    Assert.assertEquals(0L, second.getStats().get("overflow"));
+    Assert.assertEquals("metricsSecond", second.getName());
+  }
+
+  @Test
+  public void testPrewarmKeepsMinIdle() throws Exception {
+    ScriptEnginePool pool = new ScriptEnginePool("prewarm", ExprParser.OGNL, 4, () -> createEngine(null))
+      .setMinIdle(2)
+      .setIdleTimeoutMillis(1L);
+    Assert.assertEquals(2, pool.prewarm());
+    Assert.assertEquals(pool.getMinIdle(), pool.getIdleCount());
+    Assert.assertEquals(0, pool.prewarm());
+    Assert.assertEquals(2, pool.prewarm(3));
+    Assert.assertEquals(4, pool.getIdleCount());
+    Thread.sleep(10L);
+    pool.release(pool.acquire());
+    Assert.assertEquals(pool.getMinIdle(), pool.getIdleCount());
+    Assert.assertEquals(2, pool.getCreatedCount());
+    Assert.assertEquals(2L, pool.getStats().get("evicted"));
+  }
+
+  private ScriptEngine createEngine(AtomicInteger compiles) {
+    return (ScriptEngine) Proxy.newProxyInstance(
+      getClass().getClassLoader(),
+      new Class<?>[]{ScriptEngine.class, Compilable.class},
+      (proxy, method, args) -> {
+        if ("compile".equals(method.getName())) {
+          compiles.incrementAndGet();
+          return new CompiledScript() {
+
+            @Override
+            public Object eval(ScriptContext context) {
+              return args[0];
+            }
+
+            @Override
+            public ScriptEngine getEngine() {
+              return (ScriptEngine) proxy;
+            }
+          };
+        }
+        return null;
+      }
+    );
+  }
+
+}
@@ -0,0 +1,47 @@
+package com.lancethomps.lava.common.file;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+
+public class CsvFileChunkerTest extends BaseTest {
+
+  @Test
+  public void testSplitIsQuoteAware() throws Exception {
+    String csv = "key,value\n"
+      + "A,\"multi\nline\"\n"
+      + "# comment with \" quote\n"
+      + "B,\"escaped \\\" quote\nstill quoted\"\n"
+      + "C,3\n"
+      + "\n"
+      + "D,ignored after blank line\n";
+    File file = File.createTempFile("chunker", ".csv");
+    try {
+      Files.write(file.toPath(), csv.getBytes(StandardCharsets.UTF_8));
+      try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+        CsvFileChunker chunker = new CsvFileChunker(channel, StandardCharsets.UTF_8, '"', '\\', Collections.singleton("#"));
+        Assert.assertEquals("key,value", chunker.readLine(0));
+        long start = chunker.nextLineStart(0);
+        List<long[]> chunks = chunker.split(start, 1);
+        Assert.assertEquals(4, chunks.size());
+        Assert.assertEquals("A,\"multi\nline\"\n", chunker.decode(chunks.get(0)[0], chunks.get(0)[1]));
+        Assert.assertEquals("# comment with \" quote\n", chunker.decode(chunks.get(1)[0], chunks.get(1)[1]));
+        Assert.assertEquals("B,\"escaped \\\" quote\nstill quoted\"\n", chunker.decode(chunks.get(2)[0], chunks.get(2)[1]));
+        Assert.assertEquals("C,3\n", chunker.decode(chunks.get(3)[0], chunks.get(3)[1]));
+        Assert.assertEquals(1, chunker.split(start, Integer.MAX_VALUE).size());
+      }
+    } finally {
+      file.delete();
+    }
+  }
+
+}
@@ -1,10 +1,22 @@
 package com.lancethomps.lava.common.file;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.junit.Assert;
 import org.junit.Test;
 
+import com.google.common.collect.Sets;
 import com.lancethomps.lava.common.TestingCommon;
 import com.lancethomps.lava.common.ser.Serializer;
 
@@ -21,4 +33,98 @@ public class FileParserTest {
     TestingCommon.assertEqualsViaJsonDiff("fromCsv_multiLineField", expected, deserializedCsv);
   }
 
-}
\ No newline at end of file
+  @Test
+  public void parseFileWithConsumer_honorsOptions() throws FileParsingException {
+    String csv = "key,secret,value\n#comment\nA,s1,1\nB,s2,2\nC,s3,3\n";
+    List<Map<String, Object>> expected = new FileParser<Map<String, Object>>(csv, null, createFilteringOptions()).parseFile().getResultList();
+    List<Map<String, Object>> streamed = new ArrayList<>();
+    int count = new FileParser<Map<String, Object>>(csv, null, createFilteringOptions()).parseFile(streamed::add);
+
+    Assert.assertEquals(3, count);
+    Assert.assertEquals(expected, streamed);
+    Assert.assertFalse(streamed.get(0).containsKey("secret"));
+    Assert.assertFalse(streamed.get(1).containsKey("key"));
+    Assert.assertEquals("true", streamed.get(0).get("processed"));
+  }
+
+  @Test
+  public void parseFileParallelWithConsumer_unorderedCallsAreSerialized() throws Exception {
+    StringBuilder csv = new StringBuilder("key,value\n");
+    for (int i = 0; i < 5000; i++) {
+      csv.append("KEY-").append(i).append(',').append(i % 7).append('\n');
+    }
+    File file = File.createTempFile("parallel-consumer", ".csv");
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Files.write(file.toPath(), csv.toString().getBytes());
+      List<Map<String, Object>> expected = new FileParser<Map<String, Object>>(file, null, new FileParserOptions()).parseFile().getResultList();
+      FileParserOptions options = new FileParserOptions().setParallel(true).setParallelOrdered(false).setParallelChunkSize(256);
+      List<Map<String, Object>> rows = new ArrayList<>();
+      AtomicInteger active = new AtomicInteger();
+      AtomicBoolean overlapped = new AtomicBoolean();
+      int count = new FileParser<Map<String, Object>>(file, null, options).parseFileParallel(pool, row -> {
+        if (active.incrementAndGet() > 1) {
+          overlapped.set(true);
+        }
+        rows.add(row);
+        active.decrementAndGet();
+      });
+
+      Assert.assertEquals(5000, count);
+      Assert.assertFalse(overlapped.get());
+      Assert.assertEquals(expected.size(), rows.size());
+      Assert.assertEquals(Sets.newHashSet(expected), Sets.newHashSet(rows));
+    } finally {
+      pool.shutdownNow();
+      file.delete();
+    }
+  }
+
+  @Test
+  public void parseFileParallel_matchesSequential() throws Exception {
+    StringBuilder csv = new StringBuilder("key,description,value\n");
+    for (int i = 0; i < 2000; i++) {
+      csv.append("KEY-").append(i).append(",\"line one\nline two, ").append(i).append("\",").append(i % 7).append('\n');
+    }
+    File file = File.createTempFile("parallel", ".csv");
+    try {
+      Files.write(file.toPath(), csv.toString().getBytes());
+      List<Map<String, Object>> expected = new FileParser<Map<String, Object>>(file, null, new FileParserOptions()).parseFile().getResultList();
+      FileParserOptions options = new FileParserOptions().setParallel(true).setParallelChunkSize(1024);
+      List<Map<String, Object>> ordered = new FileParser<Map<String, Object>>(file, null, options).parseFile().getResultList();
+      List<Map<String, Object>> unordered = new FileParser<Map<String, Object>>(file, null, options.copy().setParallelOrdered(false))
+        .parseFile()
+        .getResultList();
+
+      Assert.assertEquals(2000, expected.size());
+      Assert.assertEquals(expected, ordered);
+      Assert.assertEquals(Sets.newHashSet(expected), Sets.newHashSet(unordered));
+    } finally {
+      file.delete();
+    }
+  }
+
+  @Test
+  public void stream_multiLineField() throws FileParsingException {
+    FileParser<Map<String, Object>> parser = new FileParser<>(getClass().getResourceAsStream("/serializer/fromCsv_multiLineField.csv"), null, null);
+    List<Map<String, Object>> deserializedCsv;
+    try (Stream<Map<String, Object>> stream = parser.stream()) {
+      deserializedCsv = stream.collect(Collectors.toList());
+    }
+    List<Map<String, Object>> expected = Serializer.readJsonAsList(getClass().getResourceAsStream("/serializer/fromCsv_multiLineField.json"));
+
+    TestingCommon.assertEqualsViaJsonDiff("stream_multiLineField", expected, deserializedCsv);
+  }
+
+  private FileParserOptions createFilteringOptions() {
+    return new FileParserOptions()
+      .setRemoveLinesWithPrefixes(Sets.newHashSet("#"))
+      .setHeadersBlackList(Sets.newHashSet(Pattern.compile("^secret$")))
+      .setFieldValuesBlackListByColumn(Collections.singletonMap("key", Sets.newHashSet(Pattern.compile("^B$"))))
+      .setPostProcessor(dataMap -> {
+        dataMap.put("processed", "true");
+        return dataMap;
+      });
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.lancethomps.lava.common.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+
+public class SavedErrorMessageBufferTest extends BaseTest {
+
+  @Test
+  public void testConcurrentAddAndDrain() throws Exception {
+    SavedErrorMessageBuffer buffer = new SavedErrorMessageBuffer(64);
+    AtomicInteger drained = new AtomicInteger();
+    AtomicInteger occurrences = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    for (int thread = 0; thread < 4; thread++) {
+      final int offset = thread * 10000;
+      executor.execute(() -> {
+        for (int pos = 0; pos < 10000; pos++) {
+          buffer.add(createMessage(new IllegalStateException(), "message " + (char) ('a' + ((offset + pos) % 26))));
+          if ((pos % 100) == 0) {
+            buffer.drain(message -> {
+              drained.incrementAndGet();
+              occurrences.addAndGet(message.getOccurrences());
+            });
+          }
+        }
+      });
+    }
+    executor.shutdown();
+    Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    buffer.drain(message -> {
+      drained.incrementAndGet();
+      occurrences.addAndGet(message.getOccurrences());
+    });
+    Assert.assertEquals(0, buffer.getSize());
+    Assert.assertEquals(0L, buffer.getDroppedCount());
+    Assert.assertEquals(40000L - drained.get(), buffer.getDuplicateCount());
+    Assert.assertEquals(40000, occurrences.get());
+  }
+
+  @Test
+  public void testConcurrentAddAndPollKeepsAllOccurrences() throws Exception {
+    SavedErrorMessageBuffer buffer = new SavedErrorMessageBuffer(8);
+    AtomicInteger occurrences = new AtomicInteger();
+    AtomicBoolean producing = new AtomicBoolean(true);
+    ExecutorService executor = Executors.newFixedThreadPool(5);
+    Future<?> consumer = executor.submit(() -> {
+      while (producing.get()) {
+        buffer.drain(message -> occurrences.addAndGet(message.getOccurrences()));
+      }
+    });
+    List<Future<?>> producers = new ArrayList<>();
+    for (int thread = 0; thread < 4; thread++) {
+      producers.add(executor.submit(() -> {
+        for (int pos = 0; pos < 20000; pos++) {
+          buffer.add(createMessage(null, "message " + (char) ('a' + (pos % 4))));
+        }
+      }));
+    }
+    for (Future<?> producer : producers) {
+      producer.get(1, TimeUnit.MINUTES);
+    }
+    producing.set(false);
+    consumer.get(1, TimeUnit.MINUTES);
+    executor.shutdown();
+    buffer.drain(message -> occurrences.addAndGet(message.getOccurrences()));
+    Assert.assertEquals(0L, buffer.getDroppedCount());
+    Assert.assertEquals(80000, occurrences.get());
+  }
+
+  @Test
+  public void testDedupAndDrop() {
+    SavedErrorMessageBuffer buffer = new SavedErrorMessageBuffer(2);
+    Assert.assertTrue(buffer.add(createMessage(new IllegalStateException("first"), "Issue with id 123")));
+    Assert.assertTrue(buffer.add(createMessage(new RuntimeException(new IllegalStateException("second")), "Issue with id 456")));
+    Assert.assertTrue(buffer.add(createMessage(new IllegalArgumentException(), "Issue with id 789")));
+    Assert.assertFalse(buffer.add(createMessage(null, "Other issue")));
+    Assert.assertTrue(buffer.isFull());
+    Assert.assertEquals(1L, buffer.getDroppedCount());
+    Assert.assertEquals(1L, buffer.getDuplicateCount());
+
+    List<SavedErrorMessage> messages = buffer.drain();
+    Assert.assertEquals(2, messages.size());
+    Assert.assertEquals(2, messages.get(0).getOccurrences());
+    Assert.assertEquals("Issue with id 456", messages.get(0).getMessage());
+    Assert.assertEquals(IllegalStateException.class.getName() + "|Issue with id #", messages.get(0).getFingerprint());
+    Assert.assertEquals(1, messages.get(1).getOccurrences());
+    Assert.assertTrue(buffer.drain().isEmpty());
+
+    List<SavedErrorMessage> added = new ArrayList<>();
+    for (int pos = 0; pos < 5; pos++) {
+      SavedErrorMessage message = createMessage(null, "Issue " + (char) ('a' + pos));
+      if (buffer.add(message)) {
+        added.add(message);
+      }
+    }
+    Assert.assertEquals(added, buffer.drain());
+    Assert.assertEquals(4L, buffer.getDroppedCount());
+  }
+
+  private SavedErrorMessage createMessage(Throwable e, String message) {
+    return new SavedErrorMessage(e, message, getClass().getSimpleName());
+  }
+
+}
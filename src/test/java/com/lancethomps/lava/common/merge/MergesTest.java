@@ -2,6 +2,7 @@ package com.lancethomps.lava.common.merge;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Assert;
@@ -19,6 +20,37 @@ public class MergesTest extends BaseTest {
 
   private MergesTestData baseData;
 
+  @Test
+  public void testBeanMergeMatchesTreeMerge() throws Exception {
+    MergesTestData src = getBaseDataCopy().setStrVal(null).setChildrenVal(Lists.newArrayList(new MergesTestData().setId("new")));
+    for (boolean overwrite : new boolean[]{false, true}) {
+      MergeConfig config = Merges.getDefaultMergeConfig().setCreateNewBean(true).setOverwriteExisting(overwrite);
+      MergesTestData target = getBaseDataCopy().setIntVal(null);
+      MergesTestData beanMerged = Merges.deepMerge(src, target, config);
+      MergesTestData treeMerged = Merges.deepMerge(src, target, config.setTreeMerge(true));
+      Assert.assertNotSame(target, beanMerged);
+      Assert.assertNull(target.getIntVal());
+      TestingCommon.assertEqualsViaJsonDiff("Bean merge did not match tree merge: overwrite=" + overwrite, treeMerged, beanMerged);
+    }
+  }
+
+  @Test
+  public void testBeanWithUncoveredPropertiesFallsBackToTreeMerge() throws Exception {
+    Assert.assertTrue(BeanMergePlan.forClass(MergesTestData.class).isSupported());
+    Assert.assertFalse(BeanMergePlan.forClass(PartialAccessorData.class).isSupported());
+    PartialAccessorData src = new PartialAccessorData("src", "src", "src");
+    PartialAccessorData target = new PartialAccessorData(null, null, "target");
+    MergeConfig config = Merges.getDefaultMergeConfig().setCreateNewBean(true);
+    PartialAccessorData merged = Merges.deepMerge(src, target, config);
+    TestingCommon.assertEqualsViaJsonDiff(
+      "Bean merge did not match tree merge for uncovered properties",
+      Merges.deepMerge(src, target, config.setTreeMerge(true)),
+      merged
+    );
+    Assert.assertEquals("src", merged.getNoSetter());
+    Assert.assertEquals("src", merged.noAccessors);
+  }
+
   @Test
   public void testIgnoreFieldsPatterns() throws Exception {
     Map<String, Object> src = MapUtil.createFrom("dontignore", "dontignore", "ignore", "ignore");
@@ -69,6 +101,53 @@ public class MergesTest extends BaseTest {
     );
   }
 
+  @Test
+  public void testMergeArrayWithTypedMatchField() throws Exception {
+    MergesTestData src = new MergesTestData().setChildrenVal(
+      Lists.newArrayList(
+        new MergesTestData().setIntVal(1).setDoubleVal(1d),
+        new MergesTestData().setStrVal("src").setDoubleVal(2d)
+      )
+    );
+    MergesTestData target = new MergesTestData().setChildrenVal(
+      Lists.newArrayList(new MergesTestData().setIntVal(1).setStrVal("target"), new MergesTestData().setStrVal("target"))
+    );
+    MergeConfig mergeConfig = Merges.getDefaultMergeConfig().setCreateNewBean(true).addField(
+      "childrenVal",
+      new MergeFieldConfig().setMergeArrayElements(true).setMergeArrayElementsMatchField("intVal")
+    );
+    MergesTestData expected = new MergesTestData()
+      .setChildrenVal(Lists.newArrayList(
+        new MergesTestData().setIntVal(1).setStrVal("target").setDoubleVal(1d),
+        new MergesTestData().setStrVal("target"),
+        new MergesTestData().setStrVal("src").setDoubleVal(2d)
+      ));
+    TestingCommon.assertEqualsViaJsonDiff("MergesTest.testMergeArrayWithTypedMatchField", expected, Merges.deepMerge(src, target, mergeConfig));
+  }
+
+  @Test
+  public void testMergeDoesNotMutateNestedTargetValues() throws Exception {
+    MergesTestData targetChild = new MergesTestData().setId("1").setStrVal("target");
+    List<MergesTestData> targetChildren = Lists.newArrayList(targetChild);
+    MergesTestData target = new MergesTestData().setChildrenVal(targetChildren);
+    MergesTestData src = new MergesTestData().setChildrenVal(Lists.newArrayList(new MergesTestData().setId("1").setIntVal(1)));
+    MergeConfig mergeConfig = Merges.getDefaultMergeConfig().addField(
+      "childrenVal",
+      new MergeFieldConfig().setMergeArrayElements(true).setMergeArrayElementsMatchField("id")
+    );
+    Merges.deepMerge(src, target, mergeConfig);
+    Assert.assertNotSame(targetChildren, target.getChildrenVal());
+    Assert.assertEquals(1, targetChildren.size());
+    Assert.assertNull(targetChild.getIntVal());
+    Assert.assertEquals(Integer.valueOf(1), target.getChildrenVal().get(0).getIntVal());
+    Assert.assertEquals("target", target.getChildrenVal().get(0).getStrVal());
+
+    MergesTestData aliased = new MergesTestData().setChildrenVal(targetChildren);
+    Merges.deepMerge(aliased, new MergesTestData().setChildrenVal(targetChildren), Merges.getDefaultMergeConfig().setMergeArrayElements(true));
+    Assert.assertEquals(1, targetChildren.size());
+    Assert.assertSame(targetChild, targetChildren.get(0));
+  }
+
   @Test
   public void testMergeArraysWithoutJacksonMergeConfig() throws Exception {
     Map<String, String[]> src = MapUtil.createFromQueryString("x=1&x=2");
@@ -96,4 +175,36 @@ public class MergesTest extends BaseTest {
     return Merges.MERGE_MAPPER.readValue(Merges.MERGE_MAPPER.writeValueAsBytes(baseData), MergesTestData.class);
   }
 
+
+  public static class PartialAccessorData {
+
+    private String noAccessors;
+    private String noSetter;
+    private String strVal;
+
+    public PartialAccessorData() {
+      super();
+    }
+
+    public PartialAccessorData(String noAccessors, String noSetter, String strVal) {
+      this.noAccessors = noAccessors;
+      this.noSetter = noSetter;
+      this.strVal = strVal;
+    }
+
+    public String getNoSetter() {
+      return noSetter;
+    }
+
+    public String getStrVal() {
+      return strVal;
+    }
+
+    public PartialAccessorData setStrVal(String strVal) {
+      this.strVal = strVal;
+      return this;
+    }
+
+  }
+
 }
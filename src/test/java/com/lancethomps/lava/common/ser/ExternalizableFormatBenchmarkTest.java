@@ -0,0 +1,61 @@
+package com.lancethomps.lava.common.ser;
+
+import static com.lancethomps.lava.common.logging.Logs.println;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseIntegrationTest;
+import com.lancethomps.lava.common.Randoms;
+import com.lancethomps.lava.common.testing.SpeedTest;
+
+public class ExternalizableFormatBenchmarkTest extends BaseIntegrationTest {
+
+  @Test
+  public void compareExternalizableFormats() throws Exception {
+    ExternalizableFormat original = Serializer.getExternalizableFormat();
+    try {
+      Map<String, Object> value = new LinkedHashMap<>();
+      for (int i = 0; i < 100; i++) {
+        value.put("field" + i, Randoms.createRandomValue(String.class));
+      }
+      ExternalizableBeanTest bean = new ExternalizableBeanTest(value);
+      Map<ExternalizableFormat, Integer> sizes = new LinkedHashMap<>();
+      SpeedTest test = new SpeedTest().setIterations(10000).setWarmup(2000);
+      for (ExternalizableFormat format : ExternalizableFormat.values()) {
+        Serializer.setExternalizableFormat(format);
+        sizes.put(format, roundTrip(bean));
+        test.addTest(format.name(), () -> {
+          Serializer.setExternalizableFormat(format);
+          roundTrip(bean);
+        });
+      }
+      test.run();
+      println("EXTERNALIZABLE_FORMAT_SIZES: %s", sizes);
+      println("EXTERNALIZABLE_FORMAT_RANKING: %s", Serializer.toPrettyJson(test.getSpeedRanking()));
+      Assert.assertTrue(sizes.get(ExternalizableFormat.SMILE) < sizes.get(ExternalizableFormat.JSON));
+    } finally {
+      Serializer.setExternalizableFormat(original);
+    }
+  }
+
+  private int roundTrip(ExternalizableBeanTest bean) throws Exception {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+      oos.writeObject(bean);
+    }
+    byte[] data = baos.toByteArray();
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(data))) {
+      ois.readObject();
+    }
+    return data.length;
+  }
+
+}
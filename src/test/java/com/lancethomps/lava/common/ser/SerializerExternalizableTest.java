@@ -8,6 +8,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
 import org.apache.commons.jcs.io.ObjectInputStreamClassLoaderAware;
+import org.junit.Assert;
 import org.junit.Test;
 
 import com.lancethomps.lava.common.BaseTest;
@@ -43,6 +44,55 @@ public class SerializerExternalizableTest extends BaseTest {
     }
   }
 
+  @Test
+  public void readsMultipleLegacyJsonBeansFromOneStream() throws Exception {
+    FailOnLogErrorAppender.attach();
+    ExternalizableFormat original = Serializer.getExternalizableFormat();
+    try {
+      Serializer.setExternalizableFormat(ExternalizableFormat.JSON);
+      ExternalizableBeanTest first = new ExternalizableBeanTest(Randoms.createRandomValue(String.class));
+      ExternalizableBeanTest second = new ExternalizableBeanTest(Randoms.createRandomValue(String.class));
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+        oos.writeObject(first);
+        oos.writeObject(second);
+        oos.writeInt(42);
+      }
+      try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+        TestingCommon.assertEqualsViaJsonDiff("First externalized bean does not match original.", first, ois.readObject());
+        TestingCommon.assertEqualsViaJsonDiff("Second externalized bean does not match original.", second, ois.readObject());
+        Assert.assertEquals(42, ois.readInt());
+      }
+    } finally {
+      Serializer.setExternalizableFormat(original);
+      FailOnLogErrorAppender.detach();
+    }
+  }
+
+  @Test
+  public void roundTripsEachExternalizableFormat() throws Exception {
+    FailOnLogErrorAppender.attach();
+    ExternalizableFormat original = Serializer.getExternalizableFormat();
+    try {
+      byte[] legacy = null;
+      for (ExternalizableFormat format : ExternalizableFormat.values()) {
+        Serializer.setExternalizableFormat(format);
+        ExternalizableBeanTest bean = new ExternalizableBeanTest(Randoms.createRandomValue(String.class));
+        byte[] ser = serialize(bean);
+        if (format == ExternalizableFormat.JSON) {
+          legacy = ser;
+        }
+        ExternalizableBeanTest deser = deSerialize(ser, null);
+        TestingCommon.assertEqualsViaJsonDiff("Externalized bean does not match original for format " + format, bean, deser);
+      }
+      Serializer.setExternalizableFormat(ExternalizableFormat.SMILE_LZ4);
+      Assert.assertNotNull("Legacy JSON payload should still be readable", deSerialize(legacy, null));
+    } finally {
+      Serializer.setExternalizableFormat(original);
+      FailOnLogErrorAppender.detach();
+    }
+  }
+
   public <T> byte[] serialize(T obj)
     throws IOException {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -1,5 +1,6 @@
 package com.lancethomps.lava.common.ser;
 
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -9,6 +10,7 @@ import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.Workbook;
 import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
@@ -22,6 +24,16 @@ public class SerializerTest extends BaseTest {
   @Rule
   public final FailedTestDataLogger dataLogger = new FailedTestDataLogger();
 
+  @Test
+  public void testCsvSerializerCreatesBookLazily() throws Exception {
+    Assert.assertNull(new CsvSerializer(getCsvTestData()).getBook());
+    CsvSerializer csv = new CsvSerializer(getCsvTestData()).setOutputFormat(OutputFormat.xlsx);
+    Workbook book = csv.getBook();
+    Assert.assertNotNull(book);
+    Assert.assertSame(book, csv.toBook());
+    Assert.assertEquals(2, book.getSheetAt(0).getPhysicalNumberOfRows());
+  }
+
   @Test
   public void testDeserializeCsv() throws Exception {
     final List<Map<String, Object>> csvData = getCsvTestData();
@@ -31,6 +43,37 @@ public class SerializerTest extends BaseTest {
     TestingCommon.assertEqualsViaJsonDiff("Serializer.fromCsv", csvData, deserialized);
   }
 
+  @Test
+  public void testFrozenObjectMapperCacheKeyTracksMutations() throws Exception {
+    OutputParams params = new OutputParams().setOutputFormat(OutputFormat.json).addSkipFields("a").disableModifications();
+    String cacheKey = params.toObjectMapperCacheKey();
+    params.getSkipFields().add("b");
+    Assert.assertNotEquals(cacheKey, params.toObjectMapperCacheKey());
+
+    OutputParams frozen = new OutputParams().setOutputFormat(OutputFormat.json).disableModifications();
+    cacheKey = frozen.toObjectMapperCacheKey();
+    frozen.setQuoteFieldNames(false);
+    Assert.assertNotEquals(cacheKey, frozen.toObjectMapperCacheKey());
+  }
+
+  @Test
+  public void testPreWarmObjectMappers() throws Exception {
+    OutputParams params = new OutputParams().setOutputFormat(OutputFormat.json).setPrettifyJson(true).setOrderKeys(true);
+    String cacheKey = params.toObjectMapperCacheKey();
+    Assert.assertNotSame(cacheKey, params.toObjectMapperCacheKey());
+    params.disableModifications();
+    Assert.assertEquals(cacheKey, params.toObjectMapperCacheKey());
+    Assert.assertSame(params.toObjectMapperCacheKey(), params.toObjectMapperCacheKey());
+    Assert.assertNotEquals(cacheKey, params.copy().setQuoteFieldNames(false).toObjectMapperCacheKey());
+
+    SerializerFactory.clearObjectMapperCache();
+    Assert.assertEquals(1, SerializerFactory.preWarmObjectMappers(params));
+    OutputParams copied = params.copy();
+    long hits = SerializerFactory.getObjectMapperCacheStats().getHitCount();
+    Assert.assertSame(SerializerFactory.resolveObjectMapper(params), SerializerFactory.resolveObjectMapper(copied));
+    Assert.assertEquals(hits + 2, SerializerFactory.getObjectMapperCacheStats().getHitCount());
+  }
+
   @Test
   public void testSerializeCsv() throws Exception {
     final String serialized = Serializer.toCsv(getCsvTestData());
@@ -44,6 +87,29 @@ public class SerializerTest extends BaseTest {
     Assert.assertEquals("Serializer.toCsv", csv, serialized);
   }
 
+  @Test
+  public void testWriteCsvStreaming() throws Exception {
+    StringWriter writer = new StringWriter();
+    long count = Serializer.writeCsv(getCsvTestData().iterator(), null, writer);
+    Assert.assertEquals(1L, count);
+    Assert.assertEquals("Serializer.writeCsv", Serializer.toCsv(getCsvTestData()), writer.toString());
+  }
+
+  @Test
+  public void testWriteCsvStreamingMatchesBufferedWithEscapedHeaders() throws Exception {
+    Map<String, Object> row = new HashMap<>();
+    row.put("a,b", "1");
+    row.put("Zed", "2");
+    row.put("a", "3");
+    row.put("b", "4");
+    List<Map<String, Object>> rows = Arrays.asList(row);
+    String buffered = Serializer.toCsv(rows);
+    Assert.assertEquals("\"a,b\",Zed,a,b" + System.lineSeparator() + "1,2,3,4" + System.lineSeparator(), buffered);
+    StringWriter writer = new StringWriter();
+    Serializer.writeCsv(rows.iterator(), null, writer);
+    Assert.assertEquals("Serializer.writeCsv", buffered, writer.toString());
+  }
+
   public void testXlsDeserialization() throws Exception {
     // TODO: add test
   }
@@ -0,0 +1,97 @@
+package com.lancethomps.lava.common.sorting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+
+public class SortingTest extends BaseTest {
+
+  @Test
+  public void testDecoratedSortMatchesComparatorSort() throws Exception {
+    List<SortClause> sorts = Arrays.asList(
+      new SortClause("group", SortOrder.asc, null, Arrays.asList("c", "a")),
+      new SortClause("value", SortOrder.desc),
+      new SortClause("name", null)
+    );
+    List<Item> items = createItems();
+    List<Item> decorated = new ArrayList<>(items);
+    Sorting.sort(items, sorts);
+    Sorting.sortDecorated(decorated, sorts);
+    Assert.assertEquals(names(items), names(decorated));
+    Assert.assertEquals(Arrays.asList("c1", "c0", "a1", "a0", "b1", "b0", "null"), names(items));
+  }
+
+  @Test
+  public void testSortListOfMapsAsType() throws Exception {
+    List<Map<String, Object>> list = new ArrayList<>();
+    for (String value : Arrays.asList("10", "9", null, "100")) {
+      Map<String, Object> map = new LinkedHashMap<>();
+      map.put("value", value);
+      list.add(map);
+    }
+    Sorting.sortListOfMaps(list, "value", true, Integer.class);
+    Assert.assertEquals(
+      Arrays.asList("9", "10", "100", null),
+      list.stream().map(map -> map.get("value")).collect(Collectors.toList())
+    );
+  }
+
+  @Test
+  public void testSortPublicFieldsAndGetters() throws Exception {
+    List<Item> items = createItems();
+    Sorting.sort(items, "publicValue,name desc");
+    Assert.assertEquals(Arrays.asList("c0", "b0", "a0", "c1", "b1", "a1", "null"), names(items));
+  }
+
+  private List<Item> createItems() {
+    List<Item> items = new ArrayList<>();
+    for (String group : Arrays.asList("b", "a", "c")) {
+      for (int i = 0; i < 2; i++) {
+        items.add(new Item(group, group + i, i));
+      }
+    }
+    items.add(new Item(null, "null", null));
+    return items;
+  }
+
+  private List<String> names(List<Item> items) {
+    return items.stream().map(Item::getName).collect(Collectors.toList());
+  }
+
+  public static class Item {
+
+    public Integer publicValue;
+    private final String group;
+    private final String name;
+    private final Integer value;
+
+    public Item(String group, String name, Integer value) {
+      this.group = group;
+      this.name = name;
+      this.value = value;
+      this.publicValue = value;
+    }
+
+    public String getGroup() {
+      return group;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Integer getValue() {
+      return value;
+    }
+
+  }
+
+}
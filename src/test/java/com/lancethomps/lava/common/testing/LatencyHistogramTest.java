@@ -0,0 +1,61 @@
+package com.lancethomps.lava.common.testing;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+
+public class LatencyHistogramTest extends BaseTest {
+
+  private static final double MAX_RELATIVE_ERROR = 0.01d;
+
+  @Test
+  public void testEmpty() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    Assert.assertEquals(0L, histogram.getCount());
+    Assert.assertEquals(0L, histogram.getMax());
+    Assert.assertEquals(0L, histogram.valueAtPercentile(50d));
+  }
+
+  @Test
+  public void testSingleValue() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 0; i < 1000; i++) {
+      histogram.record(123456L);
+    }
+    Assert.assertEquals(1000L, histogram.getCount());
+    Assert.assertEquals(123456L, histogram.valueAtPercentile(50d));
+    Assert.assertEquals(123456L, histogram.valueAtPercentile(99d));
+    Assert.assertEquals(123456L, histogram.getMin());
+    Assert.assertEquals(123456L, histogram.getMax());
+    Assert.assertEquals(123456d, histogram.getMean(), 0d);
+    Assert.assertEquals(0d, histogram.getStdDev(), 0d);
+  }
+
+  @Test
+  public void testUniformDistribution() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long value = 1; value <= 100000; value++) {
+      histogram.record(value);
+    }
+    Assert.assertEquals(100000L, histogram.getCount());
+    Assert.assertEquals(1L, histogram.getMin());
+    Assert.assertEquals(100000L, histogram.getMax());
+    Assert.assertEquals(50000.5d, histogram.getMean(), 0d);
+    assertWithinRelativeError(50000L, histogram.valueAtPercentile(50d));
+    assertWithinRelativeError(90000L, histogram.valueAtPercentile(90d));
+    assertWithinRelativeError(99000L, histogram.valueAtPercentile(99d));
+    Assert.assertEquals(100000L, histogram.valueAtPercentile(100d));
+    Assert.assertTrue(histogram.valueAtPercentile(99d) >= 99000L);
+
+    histogram.reset();
+    Assert.assertEquals(0L, histogram.getCount());
+    histogram.record(7L);
+    Assert.assertEquals(7L, histogram.valueAtPercentile(99d));
+  }
+
+  private void assertWithinRelativeError(long expected, long actual) {
+    Assert.assertEquals(expected, actual, expected * MAX_RELATIVE_ERROR);
+  }
+
+}
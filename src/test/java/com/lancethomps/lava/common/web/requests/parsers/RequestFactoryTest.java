@@ -1,6 +1,7 @@
 package com.lancethomps.lava.common.web.requests.parsers;
 
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -8,6 +9,7 @@ import java.util.Map;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
+import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 
@@ -62,4 +64,29 @@ public class RequestFactoryTest extends BaseTest {
     );
   }
 
+  @Test
+  public void createWithRequestBinders() throws Exception {
+    Map<String, String[]> params = MapUtil.createFromQueryString(
+      "fromDate=2020-01-02&groupByFields=a,b&requestKey=key&responseField=c&other=ignored"
+    );
+    MockRequestWithAllowedJsonParam expected = RequestFactory.createBeanFromRequest(MockRequestWithAllowedJsonParam.class, params, true, true);
+    boolean original = RequestFactory.isUseRequestBinders();
+    try {
+      RequestFactory.setUseRequestBinders(true);
+      MockRequestWithAllowedJsonParam bound = RequestFactory.createBeanFromRequest(MockRequestWithAllowedJsonParam.class, params, true, true);
+      TestingCommon.assertEqualsViaJsonDiff("Request parsed with binder did not match reflective parsing.", expected, bound);
+      Assert.assertEquals(Arrays.asList("a", "b"), bound.getGroupByFields());
+      Assert.assertEquals(Arrays.asList("c"), bound.getResponseFields());
+      Assert.assertNull(bound.getToDate());
+
+      MockRequestWithAllowedJsonParam current = new MockRequestWithAllowedJsonParam().setToDate(LocalDateTime.of(2020, 1, 3, 0, 0));
+      bound = RequestFactory.createBeanFromRequest(current, MockRequestWithAllowedJsonParam.class, params, true, true);
+      Assert.assertSame(current, bound);
+      Assert.assertEquals(LocalDateTime.of(2020, 1, 3, 0, 0), bound.getToDate());
+      Assert.assertEquals("key", bound.getRequestKey());
+    } finally {
+      RequestFactory.setUseRequestBinders(original);
+    }
+  }
+
 }
@@ -0,0 +1,44 @@
+package com.lancethomps.lava.common.web.throttle;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.lancethomps.lava.common.BaseTest;
+
+public class RateLimitBucketTest extends BaseTest {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  public void testBurstThenRefill() throws Exception {
+    long now = 1000L * SECOND;
+    RateLimitBucket bucket = new RateLimitBucket(now);
+    for (int i = 0; i < 5; i++) {
+      RateLimitBucket.Result result = bucket.tryAcquire(now, 2d, 5);
+      Assert.assertTrue(result.isAllowed());
+      Assert.assertEquals(4 - i, result.getRemaining());
+    }
+    RateLimitBucket.Result rejected = bucket.tryAcquire(now, 2d, 5);
+    Assert.assertFalse(rejected.isAllowed());
+    Assert.assertEquals(0, rejected.getRemaining());
+    Assert.assertEquals(SECOND / 2, rejected.getRetryAfterNanos());
+    Assert.assertEquals(1L, rejected.getRetryAfterSeconds());
+    Assert.assertEquals(3L, rejected.getResetSeconds());
+    Assert.assertTrue(bucket.tryAcquire(now + (SECOND / 2), 2d, 5).isAllowed());
+    Assert.assertFalse(bucket.tryAcquire(now + (SECOND / 2), 2d, 5).isAllowed());
+  }
+
+  @Test
+  public void testIdleAfterFullRefill() throws Exception {
+    long now = 1000L * SECOND;
+    RateLimitBucket bucket = new RateLimitBucket(now);
+    bucket.tryAcquire(now, 1d, 3);
+    bucket.tryAcquire(now, 1d, 3);
+    Assert.assertFalse(bucket.isIdle(now + SECOND, 0L));
+    Assert.assertTrue(bucket.isIdle(now + (2 * SECOND), 0L));
+    Assert.assertFalse(bucket.isIdle(now + (2 * SECOND), 10 * SECOND));
+  }
+
+}
@@ -94,6 +94,22 @@ public class RequestThrottleTest extends BaseSpringTest {
     testMultipleRequests(requestCountForLimit, WHITE_LISTED_URI);
   }
 
+  @Test
+  public void testSweeperStopsOnCloseAndShutdown() throws Exception {
+    RequestThrottle sweeping = new RequestThrottle();
+    sweeping.startSweeper();
+    Assert.assertTrue(sweeping.isSweeperRunning());
+    sweeping.close();
+    Assert.assertFalse(sweeping.isSweeperRunning());
+    sweeping.startSweeper();
+    Assert.assertTrue(sweeping.isSweeperRunning());
+    RequestThrottle.shutdownSweeper();
+    Assert.assertFalse(sweeping.isSweeperRunning());
+    sweeping.startSweeper();
+    Assert.assertTrue(sweeping.isSweeperRunning());
+    sweeping.close();
+  }
+
   private void removeBlackList() {
     throttle.getConfig().setBlackList(null);
   }